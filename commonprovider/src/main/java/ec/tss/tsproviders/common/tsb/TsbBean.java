@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.tsb;
+
+import ec.tss.tsproviders.DataSource;
+import ec.tss.tsproviders.IDataSourceBean;
+import ec.tss.tsproviders.IFileBean;
+import ec.tss.tsproviders.utils.IParam;
+import ec.tss.tsproviders.utils.Params;
+import java.io.File;
+
+/**
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public class TsbBean implements IFileBean, IDataSourceBean {
+
+    static final IParam<DataSource, File> X_FILE = Params.onFile(new File(""), "file");
+    static final IParam<DataSource, Boolean> X_CLEAN_MISSING = Params.onBoolean(false, "cleanMissing");
+    private File file;
+    private boolean cleanMissing;
+
+    public TsbBean() {
+        this.file = X_FILE.defaultValue();
+        this.cleanMissing = X_CLEAN_MISSING.defaultValue();
+    }
+
+    public TsbBean(DataSource dataSource) {
+        this.file = X_FILE.get(dataSource);
+        this.cleanMissing = X_CLEAN_MISSING.get(dataSource);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Getters/Setters">
+    @Override
+    public File getFile() {
+        return file;
+    }
+
+    @Override
+    public void setFile(File file) {
+        this.file = file;
+    }
+
+    public boolean isCleanMissing() {
+        return cleanMissing;
+    }
+
+    public void setCleanMissing(boolean cleanMissing) {
+        this.cleanMissing = cleanMissing;
+    }
+    //</editor-fold>
+
+    @Override
+    public DataSource toDataSource(String providerName, String version) {
+        DataSource.Builder builder = DataSource.builder(providerName, version);
+        X_FILE.set(builder, file);
+        X_CLEAN_MISSING.set(builder, cleanMissing);
+        return builder.build();
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.tsb;
+
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Binary format of time series files (.tsb).
+ * <p>
+ * A file starts with a fixed header (magic number, flags, number of series
+ * and position of the directory), followed by the values of the series (one
+ * contiguous block of big-endian doubles per series, optionally deflated) and
+ * ends with a directory that describes each series: name, frequency, start
+ * period, length and position of its block.
+ * <p>
+ * Files are read by mapping them in memory; only the directory is decoded
+ * when a file is opened, the values being read on demand.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public final class TsbFormat {
+
+    private TsbFormat() {
+        // static class
+    }
+
+    public static final String EXTENSION = "tsb";
+
+    /**
+     * Writes a file sequentially. The directory and the header are written on
+     * close.
+     */
+    public static final class Writer implements Closeable {
+
+        @NonNull
+        public static Writer create(@NonNull Path file, boolean compressed) throws IOException {
+            return new Writer(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), compressed);
+        }
+
+        private final FileChannel channel;
+        private final boolean compressed;
+        private final ByteBuffer buffer;
+        private final List<Entry> entries;
+        private final Deflater deflater;
+        private long position;
+
+        private Writer(FileChannel channel, boolean compressed) throws IOException {
+            this.channel = channel;
+            this.compressed = compressed;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.entries = new ArrayList<>();
+            this.deflater = compressed ? new Deflater(Deflater.BEST_SPEED) : null;
+            this.position = HEADER_SIZE;
+            channel.position(HEADER_SIZE);
+        }
+
+        public void write(@NonNull String name, @NonNull TsData data) throws IOException {
+            TsPeriod start = data.getStart();
+            double[] values = data.internalStorage();
+            int length = data.getLength();
+            long offset = position;
+            if (compressed) {
+                byte[] raw = new byte[length * Double.BYTES];
+                ByteBuffer.wrap(raw).asDoubleBuffer().put(values, 0, length);
+                deflater.reset();
+                deflater.setInput(raw);
+                deflater.finish();
+                byte[] chunk = new byte[BUFFER_SIZE];
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(chunk);
+                    put(chunk, n);
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    ensure(Double.BYTES);
+                    buffer.putDouble(values[i]);
+                }
+            }
+            entries.add(new Entry(name, start.getFrequency().intValue(), start.getYear(), start.getPosition(), length, offset, (int) (position - offset)));
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                long directory = position;
+                for (Entry o : entries) {
+                    byte[] name = o.name.getBytes(StandardCharsets.UTF_8);
+                    ensure(Integer.BYTES);
+                    buffer.putInt(name.length);
+                    put(name, name.length);
+                    ensure(ENTRY_SIZE);
+                    buffer.putInt(o.frequency).putInt(o.year).putInt(o.position).putInt(o.length).putLong(o.offset).putInt(o.size);
+                }
+                flush();
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(compressed ? FLAG_COMPRESSED : 0).putInt(entries.size()).putInt(0).putLong(directory);
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+                channel.close();
+            }
+        }
+
+        private void put(byte[] bytes, int length) throws IOException {
+            int offset = 0;
+            while (offset < length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int n = Math.min(buffer.remaining(), length - offset);
+                buffer.put(bytes, offset, n);
+                offset += n;
+                position += n;
+            }
+        }
+
+        /**
+         * Makes room in the buffer for a fixed-size put.
+         */
+        private void ensure(int size) throws IOException {
+            if (buffer.remaining() < size) {
+                flush();
+            }
+            position += size;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Reads a file mapped in memory. This class is thread-safe.
+     */
+    public static final class Reader {
+
+        @NonNull
+        public static Reader open(@NonNull Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IOException("File too large '" + file + "'");
+                }
+                if (size < HEADER_SIZE) {
+                    throw new IOException("Invalid file '" + file + "'");
+                }
+                return new Reader(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            }
+        }
+
+        private final ByteBuffer content;
+        private final boolean compressed;
+        private final Entry[] entries;
+
+        private Reader(Path file, ByteBuffer content) throws IOException {
+            this.content = content;
+            if (content.getInt(0) != MAGIC) {
+                throw new IOException("Invalid file '" + file + "'");
+            }
+            this.compressed = (content.getInt(4) & FLAG_COMPRESSED) != 0;
+            this.entries = new Entry[content.getInt(8)];
+            ByteBuffer directory = content.duplicate();
+            directory.position((int) content.getLong(16));
+            for (int i = 0; i < entries.length; i++) {
+                byte[] name = new byte[directory.getInt()];
+                directory.get(name);
+                entries[i] = new Entry(new String(name, StandardCharsets.UTF_8), directory.getInt(), directory.getInt(), directory.getInt(), directory.getInt(), directory.getLong(), directory.getInt());
+            }
+        }
+
+        public int getCount() {
+            return entries.length;
+        }
+
+        @NonNull
+        public String getName(int index) throws IndexOutOfBoundsException {
+            return entries[index].name;
+        }
+
+        @NonNull
+        public TsData getData(int index) throws IndexOutOfBoundsException, IOException {
+            Entry entry = entries[index];
+            double[] values = new double[entry.length];
+            ByteBuffer block = content.duplicate();
+            block.position((int) entry.offset);
+            block.limit((int) entry.offset + entry.size);
+            if (compressed) {
+                byte[] input = new byte[entry.size];
+                block.get(input);
+                byte[] raw = new byte[entry.length * Double.BYTES];
+                Inflater inflater = new Inflater();
+                try {
+                    inflater.setInput(input);
+                    if (inflater.inflate(raw) != raw.length) {
+                        throw new IOException("Invalid block of series '" + entry.name + "'");
+                    }
+                } catch (DataFormatException ex) {
+                    throw new IOException(ex);
+                } finally {
+                    inflater.end();
+                }
+                ByteBuffer.wrap(raw).asDoubleBuffer().get(values);
+            } else {
+                block.asDoubleBuffer().get(values);
+            }
+            return new TsData(TsFrequency.valueOf(entry.frequency), entry.year, entry.position, values, false);
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final int MAGIC = 0x54534231; // "TSB1"
+    private static final int FLAG_COMPRESSED = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int ENTRY_SIZE = 5 * Integer.BYTES + Long.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final class Entry {
+
+        final String name;
+        final int frequency;
+        final int year;
+        final int position;
+        final int length;
+        final long offset;
+        final int size;
+
+        Entry(String name, int frequency, int year, int position, int length, long offset, int size) {
+            this.name = name;
+            this.frequency = frequency;
+            this.year = year;
+            this.position = position;
+            this.length = length;
+            this.offset = offset;
+            this.size = size;
+        }
+    }
+    //</editor-fold>
+}
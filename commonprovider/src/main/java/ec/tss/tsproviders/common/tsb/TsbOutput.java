@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.tsb;
+
+import ec.satoolkit.ISaSpecification;
+import ec.tss.formatters.StringFormatter;
+import ec.tss.sa.documents.SaDocument;
+import ec.tss.sa.output.BasicConfiguration;
+import ec.tss.tsproviders.utils.MultiLineNameUtil;
+import ec.tstoolkit.algorithm.IOutput;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.utilities.Paths;
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the series of the processing in binary files (one file by item), as
+ * soon as they are processed.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public class TsbOutput implements IOutput<SaDocument<ISaSpecification>> {
+
+    private final TsbOutputConfiguration config_;
+    private final Map<String, TsbFormat.Writer> writers_;
+    private File folder_;
+    private int id_;
+
+    public TsbOutput(TsbOutputConfiguration config) {
+        config_ = config.clone();
+        writers_ = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void process(SaDocument<ISaSpecification> document) throws Exception {
+        String name = document.getInput().getRawName();
+        ++id_;
+        if (document.getResults() == null) {
+            return;
+        }
+        if (name == null) {
+            name = "series" + Integer.toString(id_);
+        }
+        name = config_.isFullName() ? MultiLineNameUtil.join(name, " * ") : MultiLineNameUtil.last(name);
+        boolean done = false;
+        try {
+            for (String item : config_.getSeries()) {
+                TsData s = document.getResults().getData(item, TsData.class);
+                if (s != null) {
+                    getWriter(item).write(name, s);
+                }
+            }
+            done = true;
+        } finally {
+            if (!done) {
+                // the processing is aborted: end() won't be called
+                closeWriters();
+            }
+        }
+    }
+
+    @Override
+    public void start(Object context) throws IOException {
+        id_ = 0;
+        // writers left open by a previous processing
+        IOException error = closeWriters();
+        folder_ = BasicConfiguration.folderFromContext(config_.getFolder(), context);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public void end(Object context) throws Exception {
+        IOException error = closeWriters();
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "tsb";
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    private IOException closeWriters() {
+        IOException error = null;
+        for (TsbFormat.Writer o : writers_.values()) {
+            try {
+                o.close();
+            } catch (IOException ex) {
+                if (error == null) {
+                    error = ex;
+                } else {
+                    error.addSuppressed(ex);
+                }
+            }
+        }
+        writers_.clear();
+        return error;
+    }
+
+    private TsbFormat.Writer getWriter(String item) throws IOException {
+        TsbFormat.Writer result = writers_.get(item);
+        if (result == null) {
+            String nfile = config_.getFilePrefix();
+            nfile += "_" + StringFormatter.cleanup(item.replace('.', '_'));
+            nfile = Paths.changeExtension(nfile, TsbFormat.EXTENSION);
+            result = TsbFormat.Writer.create(new File(BasicConfiguration.folder(folder_), nfile).toPath(), config_.isCompressed());
+            writers_.put(item, result);
+        }
+        return result;
+    }
+}
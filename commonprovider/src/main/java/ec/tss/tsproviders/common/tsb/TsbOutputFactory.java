@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.tsb;
+
+import ec.tss.sa.ISaOutputFactory;
+import nbbrd.service.ServiceProvider;
+
+/**
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+@ServiceProvider(ISaOutputFactory.class)
+public class TsbOutputFactory implements ISaOutputFactory {
+
+    public static final String NAME = "Tsb";
+    private TsbOutputConfiguration config_;
+    private boolean enabled_ = true;
+
+    public TsbOutputFactory() {
+        config_ = new TsbOutputConfiguration();
+    }
+
+    public TsbOutputFactory(TsbOutputConfiguration config) {
+        config_ = config;
+    }
+
+    public TsbOutputConfiguration getConfiguration() {
+        return config_;
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getDescription() {
+        return "Binary time series output";
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled_;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        enabled_ = enabled;
+    }
+
+    @Override
+    public Object getProperties() {
+        try {
+            return config_.clone();
+        }
+        catch (Exception ex) {
+            return null;
+        }
+    }
+
+    @Override
+    public void setProperties(Object obj) {
+        TsbOutputConfiguration config = (TsbOutputConfiguration) obj;
+        if (config != null) {
+            try {
+                config_ = (TsbOutputConfiguration) config.clone();
+            }
+            catch (Exception ex) {
+                config_ = null;
+            }
+        }
+    }
+
+    @Override
+    public TsbOutput create() {
+        return new TsbOutput(config_);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.tsb;
+
+import ec.tss.ITsProvider;
+import ec.tss.TsAsyncMode;
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.tsproviders.DataSet;
+import ec.tss.tsproviders.DataSource;
+import static ec.tss.tsproviders.common.tsb.TsbBean.X_CLEAN_MISSING;
+import ec.tss.tsproviders.utils.AbstractFileLoader;
+import ec.tss.tsproviders.utils.IParam;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import ec.tss.tsproviders.utils.Params;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import nbbrd.service.ServiceProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provider of the binary time series files written by the tsb output (see
+ * {@link TsbFormat}).
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+@ServiceProvider(ITsProvider.class)
+public class TsbProvider extends AbstractFileLoader<TsbFormat.Reader, TsbBean> {
+
+    public static final String SOURCE = "Tsb";
+    public static final String VERSION = "20200101";
+    static final IParam<DataSet, Integer> Z_SERIESINDEX = Params.onInteger(-1, "seriesIndex");
+    private static final Logger LOGGER = LoggerFactory.getLogger(TsbProvider.class);
+
+    public TsbProvider() {
+        super(LOGGER, SOURCE, TsAsyncMode.Once);
+    }
+
+    @Override
+    protected TsbFormat.Reader loadFromBean(TsbBean bean) throws Exception {
+        File realFile = getRealFile(bean.getFile());
+        return TsbFormat.Reader.open(realFile.toPath());
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Tsb files";
+    }
+
+    @Override
+    public String getDisplayName(DataSource dataSource) {
+        return decodeBean(dataSource).getFile().getPath();
+    }
+
+    @Override
+    public String getDisplayName(DataSet dataSet) {
+        support.check(dataSet);
+        Integer index = Z_SERIESINDEX.get(dataSet);
+        TsbFormat.Reader tmp = cache.getIfPresent(dataSet.getDataSource());
+        if (tmp == null) {
+            return "Series " + index;
+        }
+        return tmp.getName(index);
+    }
+
+    @Override
+    public String getDisplayNodeName(DataSet dataSet) throws IllegalArgumentException {
+        return getDisplayName(dataSet);
+    }
+
+    @Override
+    public List<DataSet> children(DataSource dataSource) throws IOException {
+        support.check(dataSource);
+        TsbFormat.Reader tmp = getSource(dataSource);
+        if (tmp.getCount() == 0) {
+            return Collections.emptyList();
+        }
+
+        DataSet[] children = new DataSet[tmp.getCount()];
+        DataSet.Builder builder = DataSet.builder(dataSource, DataSet.Kind.SERIES);
+        for (int i = 0; i < children.length; i++) {
+            children[i] = builder.put(Z_SERIESINDEX, i).build();
+        }
+        return Arrays.asList(children);
+    }
+
+    @Override
+    public List<DataSet> children(DataSet parent) throws IllegalArgumentException, IOException {
+        Objects.requireNonNull(parent);
+        throw new IllegalArgumentException("Not supported yet.");
+    }
+
+    @Override
+    protected void fillCollection(TsCollectionInformation info, DataSource dataSource) throws IOException {
+        TsbFormat.Reader source = getSource(dataSource);
+        boolean clean = X_CLEAN_MISSING.get(dataSource);
+        info.type = TsInformationType.All;
+        DataSet.Builder builder = DataSet.builder(dataSource, DataSet.Kind.SERIES);
+        for (int i = 0; i < source.getCount(); i++) {
+            DataSet child = builder.put(Z_SERIESINDEX, i).build();
+            TsInformation item = support.fillSeries(newTsInformation(child, TsInformationType.All), OptionalTsData.present(source.getData(i)), clean);
+            item.name = source.getName(i);
+            info.items.add(item);
+        }
+    }
+
+    @Override
+    protected void fillCollection(TsCollectionInformation info, DataSet dataSet) throws IOException {
+        throw new IOException("No hierarchy");
+    }
+
+    @Override
+    protected void fillSeries(TsInformation info, DataSet dataSet) throws IOException {
+        TsbFormat.Reader source = getSource(dataSet.getDataSource());
+        int index = Z_SERIESINDEX.get(dataSet);
+        support.fillSeries(info, OptionalTsData.present(source.getData(index)), X_CLEAN_MISSING.get(dataSet.getDataSource()));
+        info.name = source.getName(index);
+        info.type = TsInformationType.All;
+    }
+
+    public TsbFormat.Reader getSource(DataSource dataSource) throws IOException {
+        return support.getValue(cache, dataSource);
+    }
+
+    @Override
+    public TsbBean newBean() {
+        return new TsbBean();
+    }
+
+    @Override
+    public DataSource encodeBean(Object bean) throws IllegalArgumentException {
+        try {
+            return ((TsbBean) bean).toDataSource(SOURCE, VERSION);
+        } catch (ClassCastException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    @Override
+    public TsbBean decodeBean(DataSource dataSource) {
+        return new TsbBean(support.check(dataSource));
+    }
+
+    @Override
+    public boolean accept(File pathname) {
+        return pathname.getPath().toLowerCase(Locale.ENGLISH).endsWith("." + TsbFormat.EXTENSION);
+    }
+
+    @Override
+    public String getFileDescription() {
+        return "Tsb file";
+    }
+}
@@ -48,6 +48,12 @@ final class TxtLoader {
     }
 
     public static TxtSource load(File realFile, TxtBean bean) throws IOException {
+        if (realFile.length() >= MAPPED_THRESHOLD) {
+            TxtSource result = TxtMappedLoader.load(realFile, bean, TxtMappedLoader.DEFAULT_CHUNK_SIZE);
+            if (result != null) {
+                return result;
+            }
+        }
         try (Reader reader = Files.newBufferedReader(realFile.toPath(), bean.charset)) {
             return load(reader, bean);
         }
@@ -76,7 +82,7 @@ final class TxtLoader {
         int nbrRows = 0;
         int nbrUselessRows = 0;
         String[] titles = new String[0];
-        IParser<Date> dateParser = obsFormat.dateParser().orElse(FALLBACK_PARSER.get());
+        IParser<Date> dateParser = dateParser(obsFormat);
         Parsers.Parser<Number> numberParser = obsFormat.numberParser();
         GregorianCalendar cal = new GregorianCalendar();
         List<OptionalTsData.Builder2<Date>> dataCollectors = new ArrayList<>();
@@ -113,6 +119,10 @@ final class TxtLoader {
         return new TxtSource(nbrRows, nbrUselessRows, Arrays.asList(data));
     }
 
+    static IParser<Date> dateParser(DataFormat obsFormat) {
+        return obsFormat.dateParser().orElse(FALLBACK_PARSER.get());
+    }
+
     static String[] generateTitles(int size) {
         return IntStream.range(0, size)
                 .mapToObj(i -> "Column " + i)
@@ -172,6 +182,9 @@ final class TxtLoader {
         };
     }
 
+    // small files are not worth mapping
+    private static final long MAPPED_THRESHOLD = 1024 * 1024;
+
     // needed by the use of SimpleDateFormat in the subparsers
     private static final ThreadLocal<IParser<Date>> FALLBACK_PARSER = new ThreadLocal<IParser<Date>>() {
         @Override
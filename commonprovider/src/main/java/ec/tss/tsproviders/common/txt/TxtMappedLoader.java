@@ -0,0 +1,510 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.txt;
+
+import au.com.bytecode.opencsv.CSVParser;
+import ec.tstoolkit.algorithm.ProcessingExecutor;
+import ec.tss.tsproviders.utils.DataFormat;
+import ec.tss.tsproviders.utils.IParser;
+import ec.tss.tsproviders.utils.ObsGathering;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Loads a text file by memory-mapping it and by parsing line-aligned chunks
+ * in parallel (see ProcessingExecutor). The values of each chunk are kept in
+ * primitive arrays and the series are then built column by column, also in
+ * parallel.
+ * <p>
+ * The result is the same as the one of {@link TxtLoader} but this loader
+ * gives up (and returns null) if the charset is not ASCII-compatible or if a
+ * quoted field spans several lines.
+ *
+ * @author agent
+ */
+final class TxtMappedLoader {
+
+    private TxtMappedLoader() {
+        // static class
+    }
+
+    static final long DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    @Nullable
+    static TxtSource load(File file, TxtBean bean, long chunkSize) throws IOException {
+        if (!isAsciiCompatible(bean.charset)) {
+            return null;
+        }
+        ObsGathering gathering = bean.cleanMissing
+                ? ObsGathering.excludingMissingValues(bean.frequency, bean.aggregationType)
+                : ObsGathering.includingMissingValues(bean.frequency, bean.aggregationType);
+        Context context = new Context(bean);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            LineReader lines = new LineReader(channel);
+            long size = channel.size();
+
+            long pos = 0;
+            for (int i = 0; i < bean.skipLines && pos < size; i++) {
+                pos = lines.nextLine(pos);
+            }
+            if (pos >= size) {
+                return null;
+            }
+            long firstEnd = lines.nextLine(pos);
+            String[] first = new ChunkParser(context, 0).parseRecord(channel.map(FileChannel.MapMode.READ_ONLY, pos, firstEnd - pos));
+            if (first == null) {
+                return null;
+            }
+            String[] titles = bean.isHeaders() ? first : TxtLoader.generateTitles(first.length);
+
+            List<long[]> ranges = new ArrayList<>();
+            long start = bean.isHeaders() ? firstEnd : pos;
+            while (start < size) {
+                long end = size - start <= chunkSize ? size : lines.nextLine(start + chunkSize);
+                ranges.add(new long[]{start, end});
+                start = end;
+            }
+
+            Chunk[] chunks = parseChunks(channel, ranges, context, titles.length - 1);
+            if (chunks == null) {
+                return null;
+            }
+
+            int nbrRows = bean.isHeaders() ? 1 : 0;
+            int nbrUselessRows = 0;
+            for (Chunk o : chunks) {
+                nbrRows += o.records;
+                nbrUselessRows += o.invalid;
+            }
+            TxtSeries[] data = new TxtSeries[titles.length - 1];
+            ProcessingExecutor.getInstance().forEachBlock(data.length, 1, (i0, i1) -> {
+                for (int i = i0; i < i1; i++) {
+                    data[i] = new TxtSeries(i, titles[i + 1], buildColumn(chunks, i, gathering));
+                }
+            });
+            return new TxtSource(nbrRows, nbrUselessRows, Arrays.asList(data));
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    private static boolean isAsciiCompatible(Charset charset) {
+        // the bytes of the separators and of the line terminators never appear in multi-byte sequences
+        String name = charset.name();
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.US_ASCII)
+                || name.startsWith("ISO-8859-")
+                || name.startsWith("windows-125");
+    }
+
+    @Nullable
+    private static Chunk[] parseChunks(FileChannel channel, List<long[]> ranges, Context context, int nbrColumns) throws IOException {
+        Chunk[] result = new Chunk[ranges.size()];
+        try {
+            ProcessingExecutor.getInstance().forEachBlock(result.length, 1, (start, end) -> {
+                for (int i = start; i < end; i++) {
+                    long[] o = ranges.get(i);
+                    try {
+                        result[i] = new ChunkParser(context, nbrColumns).parseChunk(channel.map(FileChannel.MapMode.READ_ONLY, o[0], o[1] - o[0]));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+            });
+            return Arrays.stream(result).anyMatch(o -> o == null) ? null : result;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static OptionalTsData buildColumn(Chunk[] chunks, int column, ObsGathering gathering) {
+        OptionalTsData.Builder2<Date> result = OptionalTsData.builderByDate(new GregorianCalendar(), gathering);
+        for (Chunk o : chunks) {
+            o.addTo(result, column);
+        }
+        return result.build();
+    }
+
+    /**
+     * Immutable settings shared by the chunk parsers.
+     */
+    private static final class Context {
+
+        final Charset charset;
+        final byte separator;
+        final byte quote;
+        final DataFormat obsFormat;
+        final byte decimalSeparator;
+
+        Context(TxtBean bean) {
+            this.charset = bean.charset;
+            this.separator = (byte) TxtLoader.toChar(bean.delimiter);
+            this.quote = (byte) TxtLoader.toChar(bean.textQualifier);
+            this.obsFormat = bean.getDataFormat();
+            this.decimalSeparator = getDecimalSeparator(obsFormat);
+        }
+
+        /**
+         * Gets the decimal separator if the number format of the data format
+         * can be bypassed on plain decimal numbers, 0 otherwise.
+         */
+        private static byte getDecimalSeparator(DataFormat obsFormat) {
+            if (!obsFormat.getNumberPattern().isEmpty()) {
+                return 0;
+            }
+            NumberFormat numberFormat;
+            try {
+                numberFormat = obsFormat.newNumberFormat();
+            } catch (IllegalArgumentException ex) {
+                return 0;
+            }
+            if (!(numberFormat instanceof DecimalFormat)) {
+                return 0;
+            }
+            DecimalFormat format = (DecimalFormat) numberFormat;
+            DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+            char decimal = symbols.getDecimalSeparator();
+            boolean plain = format.getMultiplier() == 1
+                    && !format.isParseIntegerOnly()
+                    && !format.isParseBigDecimal()
+                    && format.getPositivePrefix().isEmpty()
+                    && format.getPositiveSuffix().isEmpty()
+                    && format.getNegativePrefix().equals("-")
+                    && format.getNegativeSuffix().isEmpty()
+                    && symbols.getZeroDigit() == '0'
+                    && decimal < 128 && decimal != '-' && (decimal < '0' || decimal > '9');
+            return plain ? (byte) decimal : 0;
+        }
+    }
+
+    /**
+     * Values of a chunk, stored by column.
+     */
+    private static final class Chunk {
+
+        int records = 0;
+        int invalid = 0;
+        int rows = 0;
+        Date[] periods;
+        // number of fields of each row, including the period
+        int[] widths;
+        double[][] values;
+        BitSet[] missing;
+
+        Chunk(int nbrColumns) {
+            int capacity = 64;
+            this.periods = new Date[capacity];
+            this.widths = new int[capacity];
+            this.values = new double[nbrColumns][capacity];
+            this.missing = new BitSet[nbrColumns];
+        }
+
+        int addRow(Date period, int width) {
+            if (rows == periods.length) {
+                int capacity = rows * 2;
+                periods = Arrays.copyOf(periods, capacity);
+                widths = Arrays.copyOf(widths, capacity);
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = Arrays.copyOf(values[i], capacity);
+                }
+            }
+            periods[rows] = period;
+            widths[rows] = Math.min(width, values.length + 1);
+            return rows++;
+        }
+
+        void setMissing(int row, int column) {
+            if (missing[column] == null) {
+                missing[column] = new BitSet();
+            }
+            missing[column].set(row);
+        }
+
+        void addTo(OptionalTsData.Builder2<Date> builder, int column) {
+            double[] columnValues = values[column];
+            BitSet columnMissing = missing[column];
+            for (int i = 0; i < rows; i++) {
+                if (column + 1 < widths[i]) {
+                    builder.add(periods[i], columnMissing != null && columnMissing.get(i) ? null : columnValues[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Parses the lines of a chunk. Lines that contain neither quote nor escape
+     * characters are split and parsed directly on the mapped bytes; the other
+     * ones are delegated to opencsv.
+     */
+    private static final class ChunkParser {
+
+        private final Context context;
+        private final int nbrColumns;
+        private final IParser<Date> dateParser;
+        private final IParser<Number> numberParser;
+        private final CSVParser csvParser;
+        private int[] fieldStarts;
+        private byte[] scratch;
+
+        ChunkParser(Context context, int nbrColumns) {
+            this.context = context;
+            this.nbrColumns = nbrColumns;
+            this.dateParser = TxtLoader.dateParser(context.obsFormat);
+            this.numberParser = context.obsFormat.numberParser();
+            this.csvParser = new CSVParser((char) context.separator, (char) context.quote);
+            this.fieldStarts = new int[16];
+            this.scratch = new byte[64];
+        }
+
+        @Nullable
+        String[] parseRecord(ByteBuffer buf) throws IOException {
+            int end = lineEnd(buf, 0);
+            String[] result = csvParser.parseLineMulti(decode(buf, 0, end));
+            return csvParser.isPending() ? null : result;
+        }
+
+        @Nullable
+        Chunk parseChunk(ByteBuffer buf) throws IOException {
+            Chunk result = new Chunk(nbrColumns);
+            int limit = buf.limit();
+            int pos = 0;
+            while (pos < limit) {
+                int end = lineEnd(buf, pos);
+                result.records++;
+                if (isPlain(buf, pos, end)) {
+                    parsePlainLine(buf, pos, end, result);
+                } else {
+                    String[] line = csvParser.parseLineMulti(decode(buf, pos, end));
+                    if (csvParser.isPending()) {
+                        return null;
+                    }
+                    parseLine(line, result);
+                }
+                pos = end;
+                if (pos < limit) {
+                    pos += buf.get(pos) == CR && pos + 1 < limit && buf.get(pos + 1) == LF ? 2 : 1;
+                }
+            }
+            return result;
+        }
+
+        private static int lineEnd(ByteBuffer buf, int pos) {
+            int limit = buf.limit();
+            while (pos < limit) {
+                byte b = buf.get(pos);
+                if (b == LF || b == CR) {
+                    break;
+                }
+                pos++;
+            }
+            return pos;
+        }
+
+        private boolean isPlain(ByteBuffer buf, int from, int to) {
+            for (int i = from; i < to; i++) {
+                byte b = buf.get(i);
+                if (b == context.quote || b == CSVParser.DEFAULT_ESCAPE_CHARACTER) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void parsePlainLine(ByteBuffer buf, int from, int to, Chunk chunk) {
+            int nbrFields = 1;
+            fieldStarts[0] = from;
+            for (int i = from; i < to; i++) {
+                if (buf.get(i) == context.separator) {
+                    if (nbrFields == fieldStarts.length) {
+                        fieldStarts = Arrays.copyOf(fieldStarts, nbrFields * 2);
+                    }
+                    fieldStarts[nbrFields++] = i + 1;
+                }
+            }
+            Date period = dateParser.parse(decode(buf, from, fieldEnd(0, nbrFields, to)));
+            if (period == null) {
+                chunk.invalid++;
+                return;
+            }
+            int row = chunk.addRow(period, nbrFields);
+            int max = Math.min(nbrFields, nbrColumns + 1);
+            for (int i = 1; i < max; i++) {
+                int start = fieldStarts[i];
+                int end = fieldEnd(i, nbrFields, to);
+                double value = parseDecimal(buf, start, end);
+                if (Double.isNaN(value)) {
+                    Number number = numberParser.parse(decode(buf, start, end));
+                    if (number == null) {
+                        chunk.setMissing(row, i - 1);
+                        continue;
+                    }
+                    value = number.doubleValue();
+                }
+                chunk.values[i - 1][row] = value;
+            }
+        }
+
+        private void parseLine(String[] line, Chunk chunk) {
+            Date period = line.length > 0 ? dateParser.parse(line[0]) : null;
+            if (period == null) {
+                chunk.invalid++;
+                return;
+            }
+            int row = chunk.addRow(period, line.length);
+            int max = Math.min(line.length, nbrColumns + 1);
+            for (int i = 1; i < max; i++) {
+                Number number = numberParser.parse(line[i]);
+                if (number == null) {
+                    chunk.setMissing(row, i - 1);
+                } else {
+                    chunk.values[i - 1][row] = number.doubleValue();
+                }
+            }
+        }
+
+        private int fieldEnd(int index, int nbrFields, int lineEnd) {
+            return index + 1 < nbrFields ? fieldStarts[index + 1] - 1 : lineEnd;
+        }
+
+        /**
+         * Parses a plain decimal number ("-123.45") without creating any
+         * object. Only the numbers that can be computed exactly (at most 15
+         * significant digits and 22 decimals) are handled; NaN is returned
+         * for all the other cases so that the number format is used.
+         */
+        private double parseDecimal(ByteBuffer buf, int from, int to) {
+            if (context.decimalSeparator == 0 || from == to) {
+                return Double.NaN;
+            }
+            int i = from;
+            boolean negative = buf.get(i) == '-';
+            if (negative) {
+                i++;
+            }
+            long mantissa = 0;
+            int nbrDigits = 0;
+            int nbrDecimals = -1;
+            for (; i < to; i++) {
+                byte b = buf.get(i);
+                if (b >= '0' && b <= '9') {
+                    if (mantissa > MAX_EXACT_MANTISSA) {
+                        return Double.NaN;
+                    }
+                    mantissa = mantissa * 10 + (b - '0');
+                    nbrDigits++;
+                    if (nbrDecimals >= 0) {
+                        nbrDecimals++;
+                    }
+                } else if (b == context.decimalSeparator && nbrDecimals < 0 && nbrDigits > 0) {
+                    nbrDecimals = 0;
+                } else {
+                    return Double.NaN;
+                }
+            }
+            if (nbrDecimals == 0 || nbrDigits == 0 || nbrDecimals >= POWERS_OF_TEN.length) {
+                return Double.NaN;
+            }
+            double result = nbrDecimals > 0 ? mantissa / POWERS_OF_TEN[nbrDecimals] : mantissa;
+            return negative ? -result : result;
+        }
+
+        private String decode(ByteBuffer buf, int from, int to) {
+            int length = to - from;
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                scratch[i] = buf.get(from + i);
+            }
+            return new String(scratch, 0, length, context.charset);
+        }
+
+        // below 2^53 so that the mantissa is exactly representable as a double
+        private static final long MAX_EXACT_MANTISSA = 99_999_999_999_999L;
+        private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+            1e21, 1e22};
+    }
+
+    /**
+     * Finds line terminators by reading small blocks of a channel.
+     */
+    private static final class LineReader {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long bufferStart;
+
+        LineReader(FileChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(8192);
+            this.bufferStart = -1;
+            buffer.limit(0);
+        }
+
+        /**
+         * Gets the position that follows the line terminator of the line that
+         * contains a position.
+         */
+        long nextLine(long pos) throws IOException {
+            long size = channel.size();
+            while (pos < size) {
+                byte b = get(pos++);
+                if (b == LF) {
+                    return pos;
+                }
+                if (b == CR) {
+                    return pos < size && get(pos) == LF ? pos + 1 : pos;
+                }
+            }
+            return size;
+        }
+
+        private byte get(long pos) throws IOException {
+            if (bufferStart < 0 || pos < bufferStart || pos >= bufferStart + buffer.limit()) {
+                buffer.clear();
+                while (buffer.hasRemaining() && channel.read(buffer, pos + buffer.position()) > 0) {
+                    // fill the buffer
+                }
+                buffer.flip();
+                bufferStart = pos;
+            }
+            return buffer.get((int) (pos - bufferStart));
+        }
+    }
+    //</editor-fold>
+}
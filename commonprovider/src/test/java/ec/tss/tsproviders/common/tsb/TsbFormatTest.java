@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.tsb;
+
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class TsbFormatTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        testRoundTrip(false);
+        testRoundTrip(true);
+    }
+
+    private static void testRoundTrip(boolean compressed) throws IOException {
+        TsData[] data = {
+            TsData.random(TsFrequency.Monthly, 1),
+            new TsData(TsFrequency.Quarterly, 2001, 2, new double[]{1, Double.NaN, 3}, false),
+            new TsData(TsFrequency.Yearly, 2010, 0, new double[0], false)
+        };
+        String[] names = {"first", "Second éè", ""};
+
+        Path file = Files.createTempFile("series", ".tsb");
+        try {
+            try (TsbFormat.Writer writer = TsbFormat.Writer.create(file, compressed)) {
+                for (int i = 0; i < data.length; i++) {
+                    writer.write(names[i], data[i]);
+                }
+            }
+            TsbFormat.Reader reader = TsbFormat.Reader.open(file);
+            assertEquals(data.length, reader.getCount());
+            for (int i = 0; i < data.length; i++) {
+                assertEquals(names[i], reader.getName(i));
+                assertEquals(data[i], reader.getData(i));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidFile() throws IOException {
+        Path file = Files.createTempFile("series", ".tsb");
+        try {
+            Files.write(file, new byte[32]);
+            TsbFormat.Reader.open(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
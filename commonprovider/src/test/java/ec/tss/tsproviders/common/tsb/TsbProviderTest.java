@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.common.tsb;
+
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.tsproviders.DataSet;
+import ec.tss.tsproviders.DataSource;
+import ec.tss.tsproviders.IFileLoaderAssert;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class TsbProviderTest {
+
+    @Test
+    public void testCompliance() {
+        IFileLoaderAssert.assertCompliance(TsbProvider::new, TsbProviderTest::getSampleBean);
+    }
+
+    @Test
+    public void testSample() throws IOException {
+        try (TsbProvider p = new TsbProvider()) {
+            TsbBean bean = getSampleBean(p);
+            DataSource dataSource = p.encodeBean(bean);
+            assertThat(p.open(dataSource)).isTrue();
+            assertThat(p.getDisplayName(dataSource)).isEqualTo(bean.getFile().getPath());
+            assertThat(p.children(dataSource)).hasSize(2);
+
+            DataSet leaf = p.children(dataSource).get(1);
+            assertThat(p.getDisplayName(leaf)).isEqualTo("b");
+
+            TsInformation info = new TsInformation("", p.toMoniker(leaf), TsInformationType.All);
+            assertThat(p.get(info)).isTrue();
+            assertThat(info.name).isEqualTo("b");
+            assertThat(info.data).isEqualTo(SAMPLE_DATA[1]);
+
+            assertThat(p.close(dataSource)).isTrue();
+        }
+    }
+
+    private static final TsData[] SAMPLE_DATA = {
+        TsData.random(TsFrequency.Monthly, 0),
+        TsData.random(TsFrequency.Quarterly, 1)
+    };
+    private static final File SAMPLE = createSample();
+
+    private static File createSample() {
+        try {
+            File result = Files.createTempFile("sample", ".tsb").toFile();
+            result.deleteOnExit();
+            try (TsbFormat.Writer writer = TsbFormat.Writer.create(result.toPath(), true)) {
+                writer.write("a", SAMPLE_DATA[0]);
+                writer.write("b", SAMPLE_DATA[1]);
+            }
+            return result;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static TsbBean getSampleBean(TsbProvider p) {
+        TsbBean result = p.newBean();
+        result.setFile(SAMPLE);
+        return result;
+    }
+}
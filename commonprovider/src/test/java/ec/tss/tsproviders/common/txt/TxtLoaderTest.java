@@ -21,9 +21,12 @@ import ec.tstoolkit.timeseries.TsAggregationType;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
 import static org.junit.Assert.*;
 import org.junit.Test;
@@ -40,6 +43,27 @@ public class TxtLoaderTest {
             return TxtLoader.load(stream, bean);
         }
     }
+
+    static TxtSource loadFile(Path file, TxtBean bean) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            return TxtLoader.load(stream, bean);
+        }
+    }
+
+    static File resourceFile(String name) throws Exception {
+        return new File(TxtLoaderTest.class.getResource(name).toURI());
+    }
+
+    static void assertSameSource(TxtSource expected, TxtSource actual) {
+        assertEquals(expected.readLines, actual.readLines);
+        assertEquals(expected.invalidLines, actual.invalidLines);
+        assertEquals(expected.items.size(), actual.items.size());
+        for (int i = 0; i < expected.items.size(); i++) {
+            assertEquals(expected.items.get(i).index, actual.items.get(i).index);
+            assertEquals(expected.items.get(i).name, actual.items.get(i).name);
+            assertEquals(expected.items.get(i).data, actual.items.get(i).data);
+        }
+    }
     //</editor-fold>
 
     @Test
@@ -109,6 +133,46 @@ public class TxtLoaderTest {
         assertEquals(new TsPeriod(TsFrequency.Monthly, 1996, 9), data1.getLastPeriod());
     }
 
+    @Test
+    public void testMappedLoader() throws Exception {
+        TxtBean insee = new TxtBean();
+
+        TxtBean bbk = new TxtBean();
+        bbk.setDataFormat(DataFormat.of(Locale.GERMAN, "yyyy-MM", null));
+        bbk.setDelimiter(TxtBean.Delimiter.SEMICOLON);
+        bbk.setHeaders(false);
+        bbk.setSkipLines(5);
+        bbk.setCleanMissing(false);
+
+        for (long chunkSize : new long[]{1, 100, TxtMappedLoader.DEFAULT_CHUNK_SIZE}) {
+            assertSameSource(loadResource("/Insee1.txt", insee), TxtMappedLoader.load(resourceFile("/Insee1.txt"), insee, chunkSize));
+            assertSameSource(loadResource("/bbk_SU0503.csv", bbk), TxtMappedLoader.load(resourceFile("/bbk_SU0503.csv"), bbk, chunkSize));
+        }
+    }
+
+    @Test
+    public void testMappedLoaderWithQuotes() throws Exception {
+        TxtBean bean = new TxtBean();
+        bean.setDataFormat(DataFormat.of(Locale.ROOT, "yyyy-MM-dd", null));
+        bean.setDelimiter(TxtBean.Delimiter.COMMA);
+        bean.setCleanMissing(false);
+
+        Path file = Files.createTempFile("txt", ".csv");
+        try {
+            Files.write(file, "Period,\"A, B\",C\r\n2010-01-01,\"1\",-2.5\r\n\"2010-02-01\",x,3\r\nnone,4,5\n\n2010-03-01,1e3\r2010-04-01,6,7,8".getBytes(StandardCharsets.UTF_8));
+            TxtSource source = TxtMappedLoader.load(file.toFile(), bean, 10);
+            assertSameSource(loadFile(file, bean), source);
+            assertEquals(7, source.readLines);
+            assertEquals(2, source.invalidLines);
+            assertEquals("A, B", source.items.get(0).name);
+
+            Files.write(file, "Period,A\n2010-01-01,\"1\n2\"\n".getBytes(StandardCharsets.UTF_8));
+            assertNull(TxtMappedLoader.load(file.toFile(), bean, 10));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     @Test
     public void testAggregation() throws IOException {
         TxtBean bean = new TxtBean();
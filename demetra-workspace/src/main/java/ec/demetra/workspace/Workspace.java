@@ -18,7 +18,9 @@ package ec.demetra.workspace;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -75,6 +77,26 @@ public interface Workspace extends Closeable {
     @NonNull
     Object load(@NonNull WorkspaceItem item) throws IOException;
 
+    /**
+     * Loads the data of several workspace items. The default implementation
+     * loads them one after the other; implementations may load independent
+     * items concurrently. Each item is loaded completely (for example, its
+     * whole document is parsed).
+     *
+     * @param items a non-null collection of items
+     * @return a non-null list of data, in the order of the items
+     * @throws IOException if the operation failed for one of the items
+     * @since 2.2.3
+     */
+    @NonNull
+    default List<Object> loadAll(@NonNull Collection<WorkspaceItem> items) throws IOException {
+        List<Object> result = new ArrayList<>(items.size());
+        for (WorkspaceItem o : items) {
+            result.add(load(o));
+        }
+        return result;
+    }
+
     /**
      * Stores the metadata and data of a workspace item. The item is replaced if
      * it already exist in the workspace. Note that the type of the provided
@@ -103,10 +125,15 @@ public interface Workspace extends Closeable {
     default void copyTo(@NonNull Workspace target) throws IOException {
         target.setName(getName());
         Collection<WorkspaceFamily> families = target.getSupportedFamilies();
+        List<WorkspaceItem> items = new ArrayList<>();
         for (WorkspaceItem o : getItems()) {
             if (families.contains(o.getFamily())) {
-                target.store(o, load(o));
+                items.add(o);
             }
         }
+        List<Object> values = loadAll(items);
+        for (int i = 0; i < items.size(); ++i) {
+            target.store(items.get(i), values.get(i));
+        }
     }
 }
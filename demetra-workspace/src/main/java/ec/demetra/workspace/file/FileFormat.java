@@ -31,6 +31,13 @@ public enum FileFormat {
     /**
      * Represents the format of Demetra+
      */
-    LEGACY;
+    LEGACY,
+    /**
+     * Represents the default format of JDemetra+ in which the items based on
+     * information sets are stored in binary files instead of xml files.
+     *
+     * @since 2.2.3
+     */
+    GENERIC_BINARY;
 
 }
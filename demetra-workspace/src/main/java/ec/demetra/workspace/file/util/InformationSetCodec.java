@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.demetra.workspace.file.util;
+
+import ec.tstoolkit.information.InformationSet;
+import internal.workspace.file.util.BinaryInformationSetCodec;
+import internal.workspace.file.util.XmlInformationSetCodec;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Defines how information sets are stored in files.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public interface InformationSetCodec {
+
+    /**
+     * Gets the extension of the files handled by this codec.
+     *
+     * @return a non-null extension without dot
+     */
+    @NonNull
+    String getFileExtension();
+
+    @NonNull
+    InformationSet read(@NonNull Path file) throws IOException;
+
+    void write(@NonNull Path file, @NonNull InformationSet info) throws IOException;
+
+    /**
+     * Gets the codec of the default xml files.
+     *
+     * @return a non-null codec
+     */
+    @NonNull
+    static InformationSetCodec xml() {
+        return XmlInformationSetCodec.INSTANCE;
+    }
+
+    /**
+     * Gets the codec of the binary files; their content is the same as the one
+     * of the xml files.
+     *
+     * @return a non-null codec
+     * @see ec.tss.xml.information.InformationSetBinaryFormat
+     */
+    @NonNull
+    static InformationSetCodec binary() {
+        return BinaryInformationSetCodec.INSTANCE;
+    }
+}
@@ -16,16 +16,12 @@
  */
 package ec.demetra.workspace.file.util;
 
-import ec.tss.xml.information.XmlInformationSet;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.information.InformationSetSerializable;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.function.Supplier;
-import nbbrd.io.xml.Xml;
-import nbbrd.io.xml.bind.Jaxb;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -37,82 +33,64 @@ public final class InformationSetSupport implements FileSupport {
 
     @NonNull
     public static FileSupport of(@NonNull Supplier<? extends InformationSetSerializable> factory, @NonNull String repository) {
-        return new InformationSetSupport(factory, repository);
+        return of(factory, repository, InformationSetCodec.xml());
+    }
+
+    /**
+     * Creates a file support that stores the information sets with a specific
+     * codec.
+     *
+     * @param factory
+     * @param repository
+     * @param codec
+     * @return
+     * @since 2.2.3
+     */
+    @NonNull
+    public static FileSupport of(@NonNull Supplier<? extends InformationSetSerializable> factory, @NonNull String repository, @NonNull InformationSetCodec codec) {
+        return new InformationSetSupport(factory, repository, codec);
     }
 
     private final String repository;
     private final Supplier<? extends InformationSetSerializable> factory;
     private final Class<? extends InformationSetSerializable> type;
+    private final InformationSetCodec codec;
 
-    private InformationSetSupport(Supplier<? extends InformationSetSerializable> factory, String repository) {
+    private InformationSetSupport(Supplier<? extends InformationSetSerializable> factory, String repository, InformationSetCodec codec) {
         this.repository = Objects.requireNonNull(repository);
         this.factory = Objects.requireNonNull(factory);
+        this.codec = Objects.requireNonNull(codec);
         this.type = factory.get().getClass();
     }
 
     @Override
     public Path resolveFile(Path root, String fileName) {
-        return root.resolve(repository).resolve(xmlFileName(fileName));
+        return root.resolve(repository).resolve(ec.tstoolkit.utilities.Paths.changeExtension(fileName, codec.getFileExtension()));
     }
 
     @Override
     public Object read(Path root, String fileName) throws IOException {
-        return readItem(resolveFile(root, fileName), factory);
+        return readItem(resolveFile(root, fileName), factory, codec);
     }
 
     @Override
     public void write(Path root, String fileName, Object value) throws IOException {
-        writeItem(resolveFile(root, fileName), type, value);
-    }
-
-    static Object readItem(Path file, Supplier<? extends InformationSetSerializable> factory) throws IOException {
-        return xmlToItem(factory, unmarshalItem(file));
-    }
-
-    static void writeItem(Path file, Class<? extends InformationSetSerializable> type, Object value) throws IOException {
-        marshalItem(file, itemToXml(type.cast(value)));
-    }
-
-    private static String xmlFileName(String fileName) {
-        return ec.tstoolkit.utilities.Paths.changeExtension(fileName, "xml");
+        writeItem(resolveFile(root, fileName), type, value, codec);
     }
 
-    private static InformationSetSerializable xmlToItem(Supplier<? extends InformationSetSerializable> factory, XmlInformationSet xml) throws IOException {
+    static Object readItem(Path file, Supplier<? extends InformationSetSerializable> factory, InformationSetCodec codec) throws IOException {
         InformationSetSerializable result = factory.get();
-        if (!result.read(xml.create())) {
+        if (!result.read(codec.read(file))) {
             throw new IOException("Cannot read information set");
         }
         return result;
     }
 
-    private static XmlInformationSet itemToXml(InformationSetSerializable value) throws IOException {
-        InformationSet info = value.write(false);
+    static void writeItem(Path file, Class<? extends InformationSetSerializable> type, Object value, InformationSetCodec codec) throws IOException {
+        InformationSet info = type.cast(value).write(false);
         if (info == null) {
             throw new IOException("Cannot write information set");
         }
-        XmlInformationSet result = new XmlInformationSet();
-        result.copy(info);
-        return result;
-    }
-
-    private static final Xml.Parser<XmlInformationSet> PARSER;
-    private static final Xml.Formatter<XmlInformationSet> FORMATTER;
-
-    static {
-        try {
-            PARSER = Jaxb.Parser.of(XmlInformationSet.class);
-            FORMATTER = Jaxb.Formatter.of(XmlInformationSet.class).withFormatted(true);
-        } catch (IOException ex) {
-            throw new RuntimeException(ex);
-        }
-    }
-
-    private static XmlInformationSet unmarshalItem(Path file) throws IOException {
-        return PARSER.parsePath(file);
-    }
-
-    private static void marshalItem(Path file, XmlInformationSet jaxbElement) throws IOException {
-        Files.createDirectories(file.getParent());
-        FORMATTER.formatPath(jaxbElement, file);
+        codec.write(file, info);
     }
 }
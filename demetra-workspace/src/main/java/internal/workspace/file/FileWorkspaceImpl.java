@@ -19,8 +19,10 @@ package internal.workspace.file;
 import ec.demetra.workspace.WorkspaceFamily;
 import ec.demetra.workspace.WorkspaceItem;
 import ec.demetra.workspace.file.FileWorkspace;
+import ec.tstoolkit.algorithm.ProcessingExecutor;
 import ec.tstoolkit.utilities.Paths;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
@@ -31,6 +33,10 @@ import ec.demetra.workspace.file.spi.FamilyHandler;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.Objects;
 import java.util.Optional;
 import nbbrd.io.Resource;
@@ -45,8 +51,9 @@ public final class FileWorkspaceImpl implements FileWorkspace {
 
     @NonNull
     public static Optional<FileFormat> probeFormat(@NonNull Path file) throws IOException {
-        if (GenericIndexer.isValid(file)) {
-            return Optional.of(FileFormat.GENERIC);
+        Optional<FileFormat> generic = GenericIndexer.probeFormat(file);
+        if (generic.isPresent()) {
+            return generic;
         }
         if (LegacyIndexer.isValid(file)) {
             return Optional.of(FileFormat.LEGACY);
@@ -147,6 +154,51 @@ public final class FileWorkspaceImpl implements FileWorkspace {
         return handlers.loadValue(key.getFamily(), rootFolder, key.getId());
     }
 
+    /**
+     * Loads the items in parallel since each of them is stored in its own
+     * file.
+     */
+    @Override
+    public List<Object> loadAll(Collection<WorkspaceItem> items) throws IOException {
+        List<Callable<Object>> tasks = new ArrayList<>(items.size());
+        for (WorkspaceItem item : items) {
+            Index.Key key = toKey(item);
+            tasks.add(() -> handlers.loadValue(key.getFamily(), rootFolder, key.getId()));
+        }
+        List<Future<Object>> futures;
+        try {
+            futures = ProcessingExecutor.getInstance().invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        List<Object> result = new ArrayList<>(futures.size());
+        for (Future<Object> future : futures) {
+            try {
+                result.add(future.get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            } catch (ExecutionException ex) {
+                // a fork-join pool wraps the checked exceptions of its tasks
+                for (Throwable t = ex.getCause(); t != null; t = t.getCause()) {
+                    if (t instanceof IOException) {
+                        throw (IOException) t;
+                    }
+                }
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+        return result;
+    }
+
     @Override
     public void store(WorkspaceItem item, Object value) throws IOException {
         Objects.requireNonNull(value, "value");
@@ -223,6 +275,8 @@ public final class FileWorkspaceImpl implements FileWorkspace {
         switch (format) {
             case GENERIC:
                 return new GenericIndexer(file, rootFolder);
+            case GENERIC_BINARY:
+                return new GenericIndexer(file, rootFolder, true);
             case LEGACY:
                 return new LegacyIndexer(file);
             default:
@@ -17,6 +17,7 @@
 package internal.workspace.file;
 
 import ec.demetra.workspace.WorkspaceFamily;
+import ec.demetra.workspace.file.FileFormat;
 import internal.workspace.file.xml.XmlGenericWorkspace;
 import internal.workspace.file.xml.XmlGenericWorkspaceItem;
 import internal.io.JaxbUtil;
@@ -25,6 +26,7 @@ import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 import nbbrd.io.xml.Xml;
 import nbbrd.io.xml.bind.Jaxb;
 
@@ -35,22 +37,31 @@ import nbbrd.io.xml.bind.Jaxb;
 final class GenericIndexer implements Indexer {
 
     static boolean isValid(Path file) throws IOException {
+        return probeFormat(file).isPresent();
+    }
+
+    static Optional<FileFormat> probeFormat(Path file) throws IOException {
         try {
-            unmarshalIndex(file);
-            return true;
+            return Optional.of(BINARY_FORMAT.equals(unmarshalIndex(file).format) ? FileFormat.GENERIC_BINARY : FileFormat.GENERIC);
         } catch (FileSystemException ex) {
             throw ex;
         } catch (IOException ex) {
-            return false;
+            return Optional.empty();
         }
     }
 
     private final Path file;
     private final Path rootFolder;
+    private final boolean binary;
 
     GenericIndexer(Path file, Path rootFolder) {
+        this(file, rootFolder, false);
+    }
+
+    GenericIndexer(Path file, Path rootFolder, boolean binary) {
         this.file = file;
         this.rootFolder = rootFolder;
+        this.binary = binary;
     }
 
     @Override
@@ -69,7 +80,7 @@ final class GenericIndexer implements Indexer {
 
     @Override
     public void storeIndex(Index index) throws IOException {
-        marshalIndex(file, indexToXml(index, rootFolder));
+        marshalIndex(file, indexToXml(index, rootFolder, binary));
     }
 
     @Override
@@ -92,9 +103,10 @@ final class GenericIndexer implements Indexer {
         return new Index.Value(xml.name, xml.readOnly, xml.comments);
     }
 
-    private static XmlGenericWorkspace indexToXml(Index index, Path rootFolder) {
+    private static XmlGenericWorkspace indexToXml(Index index, Path rootFolder, boolean binary) {
         XmlGenericWorkspace result = new XmlGenericWorkspace();
         result.name = index.getName();
+        result.format = binary ? BINARY_FORMAT : null;
         result.items = indexEntriesToXml(pullCalendar(rootFolder, index).getItems());
         return result;
     }
@@ -113,6 +125,8 @@ final class GenericIndexer implements Indexer {
                 .toArray(XmlGenericWorkspaceItem[]::new);
     }
 
+    private static final String BINARY_FORMAT = "binary";
+
     private static final Xml.Parser<XmlGenericWorkspace> PARSER;
     private static final Xml.Formatter<XmlGenericWorkspace> FORMATTER;
 
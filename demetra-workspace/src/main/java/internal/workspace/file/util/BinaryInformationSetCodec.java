@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package internal.workspace.file.util;
+
+import ec.demetra.workspace.file.util.InformationSetCodec;
+import ec.tss.xml.information.InformationSetBinaryFormat;
+import ec.tstoolkit.information.InformationSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ *
+ * @author agent
+ */
+public final class BinaryInformationSetCodec implements InformationSetCodec {
+
+    public static final BinaryInformationSetCodec INSTANCE = new BinaryInformationSetCodec();
+
+    private BinaryInformationSetCodec() {
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "isb";
+    }
+
+    @Override
+    public InformationSet read(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            return InformationSetBinaryFormat.read(stream);
+        }
+    }
+
+    @Override
+    public void write(Path file, InformationSet info) throws IOException {
+        Files.createDirectories(file.getParent());
+        try (OutputStream stream = Files.newOutputStream(file)) {
+            InformationSetBinaryFormat.write(stream, info);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or - as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package internal.workspace.file.util;
+
+import ec.demetra.workspace.file.util.InformationSetCodec;
+import ec.tss.xml.information.XmlInformationSet;
+import ec.tstoolkit.information.InformationSet;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import nbbrd.io.xml.Xml;
+import nbbrd.io.xml.bind.Jaxb;
+
+/**
+ *
+ * @author agent
+ */
+public final class XmlInformationSetCodec implements InformationSetCodec {
+
+    public static final XmlInformationSetCodec INSTANCE = new XmlInformationSetCodec();
+
+    private XmlInformationSetCodec() {
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "xml";
+    }
+
+    @Override
+    public InformationSet read(Path file) throws IOException {
+        return PARSER.parsePath(file).create();
+    }
+
+    @Override
+    public void write(Path file, InformationSet info) throws IOException {
+        XmlInformationSet xml = new XmlInformationSet();
+        xml.copy(info);
+        Files.createDirectories(file.getParent());
+        FORMATTER.formatPath(xml, file);
+    }
+
+    private static final Xml.Parser<XmlInformationSet> PARSER;
+    private static final Xml.Formatter<XmlInformationSet> FORMATTER;
+
+    static {
+        try {
+            PARSER = Jaxb.Parser.of(XmlInformationSet.class);
+            FORMATTER = Jaxb.Formatter.of(XmlInformationSet.class).withFormatted(true);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
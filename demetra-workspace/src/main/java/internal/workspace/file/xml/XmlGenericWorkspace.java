@@ -36,6 +36,12 @@ public final class XmlGenericWorkspace {
     @XmlAttribute
     public String name;
 
+    /**
+     * Encoding of the items; null for xml.
+     */
+    @XmlAttribute
+    public String format;
+
     @XmlElementWrapper()
     @XmlElement(name = "item")
     public XmlGenericWorkspaceItem[] items;
@@ -22,13 +22,16 @@ import ec.demetra.workspace.WorkspaceItem;
 import ec.demetra.workspace.file.FileFormat;
 import ec.demetra.workspace.file.FileWorkspace;
 import ec.demetra.workspace.file.spi.FamilyHandler;
+import ec.demetra.workspace.file.util.InformationSetCodec;
 import ec.satoolkit.tramoseats.TramoSeatsSpecification;
 import ec.satoolkit.x13.X13Specification;
 import ec.tss.modelling.documents.RegArimaDocument;
 import ec.tss.modelling.documents.TramoDocument;
+import ec.tss.sa.SaItem;
 import ec.tss.sa.SaProcessing;
 import ec.tss.sa.documents.TramoSeatsDocument;
 import ec.tss.sa.documents.X13Document;
+import ec.tstoolkit.information.InformationSetSerializable;
 import ec.tstoolkit.modelling.arima.tramo.TramoSpecification;
 import ec.tstoolkit.modelling.arima.x13.RegArimaSpecification;
 import ec.tstoolkit.timeseries.calendars.GregorianCalendarManager;
@@ -59,11 +62,14 @@ import static internal.test.TestResources.LEGACY_UTIL_CAL;
 import static internal.test.TestResources.LEGACY_UTIL_VAR;
 import internal.workspace.file.spi.FamilyHandlerLoader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.Test;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -144,6 +150,61 @@ public class FileWorkspaceImplTest {
         }
     }
 
+    @Test
+    public void testLoadAll() throws IOException {
+        try (FileWorkspace ws = openGenericUsingServiceLoader(GENERIC_INDEX)) {
+            List<Object> values = ws.loadAll(Arrays.asList(GENERIC_SA_MULTI, GENERIC_SA_DOC_X13, GENERIC_UTIL_CAL));
+            assertThat(values).hasSize(3);
+            assertThat(values.get(0)).isInstanceOf(SaProcessing.class);
+            assertThat(values.get(1)).isInstanceOf(X13Document.class);
+            assertThat(values.get(2)).isInstanceOf(GregorianCalendarManager.class);
+
+            SaProcessing processing = (SaProcessing) values.get(0);
+            assertThat(processing).isNotEmpty();
+            SaItem item = processing.get(0);
+            assertThat(item.isTsLoaded()).isFalse();
+            assertThat(item.getName()).isNotEmpty();
+            assertThat(item.getMoniker()).isNotNull();
+            assertThat(item.isTsLoaded()).isFalse();
+            assertThat(item.getTs()).isNotNull();
+            assertThat(item.isTsLoaded()).isTrue();
+            assertThat(item.getTs().getMoniker()).isEqualTo(item.getMoniker());
+        }
+
+        try (FileWorkspace ws = FileWorkspaceImpl.open(GENERIC_INDEX, FileFormat.GENERIC, Collections::emptyList)) {
+            assertThatThrownBy(() -> ws.loadAll(GENERIC_ITEMS)).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    public void testGenericBinary() throws IOException {
+        Path file = Files.createTempDirectory(JIM_FS.getPath("/"), "ws_").resolve("binary.xml");
+
+        try (FileWorkspace source = openGenericUsingServiceLoader(GENERIC_INDEX);
+                FileWorkspace target = FileWorkspaceImpl.create(file, FileFormat.GENERIC_BINARY, new FamilyHandlerLoader()::get)) {
+            source.copyTo(target);
+        }
+
+        assertThat(FileWorkspaceImpl.probeFormat(GENERIC_INDEX)).contains(FileFormat.GENERIC);
+        assertThat(FileWorkspaceImpl.probeFormat(file)).contains(FileFormat.GENERIC_BINARY);
+
+        try (FileWorkspace source = openGenericUsingServiceLoader(GENERIC_INDEX);
+                FileWorkspace ws = FileWorkspace.open(file)) {
+            assertThat(ws.getFileFormat()).isEqualTo(FileFormat.GENERIC_BINARY);
+            assertThat(ws.getName()).isEqualTo("my_workspace");
+            assertThat(ws.getItems()).containsExactlyInAnyOrder(GENERIC_ITEMS.toArray(new WorkspaceItem[0]));
+
+            assertThat(ws.getFile(GENERIC_SA_MULTI)).hasFileName("SAProcessing-1.isb").exists();
+            assertThat(ws.getFile(GENERIC_UTIL_VAR)).hasFileName("Vars-1.xml").exists();
+
+            for (WorkspaceItem item : Arrays.asList(GENERIC_SA_MULTI, GENERIC_SA_DOC_X13, GENERIC_SA_DOC_TRAMOSEATS,
+                    GENERIC_SA_SPEC_X13, GENERIC_SA_SPEC_TRAMOSEATS, GENERIC_MOD_DOC_REGARIMA, GENERIC_MOD_DOC_TRAMO,
+                    GENERIC_MOD_SPEC_REGARIMA, GENERIC_MOD_SPEC_TRAMO)) {
+                assertThat(toXml(ws.load(item))).isEqualTo(toXml(source.load(item)));
+            }
+        }
+    }
+
     @Test
     public void testNoHandlers() throws IOException {
         try (FileWorkspace ws = FileWorkspaceImpl.open(GENERIC_INDEX, FileFormat.GENERIC, Collections::emptyList)) {
@@ -284,6 +345,12 @@ public class FileWorkspaceImplTest {
         return FileWorkspaceImpl.open(file, FileFormat.GENERIC, new FamilyHandlerLoader()::get);
     }
 
+    private static String toXml(Object value) throws IOException {
+        Path file = Files.createTempFile(JIM_FS.getPath("/"), "item_", ".xml");
+        InformationSetCodec.xml().write(file, ((InformationSetSerializable) value).write(false));
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
     private static Path newGenericSample() throws IOException {
         Path result = Files.createTempFile(JIM_FS.getPath("/"), "ws_", ".xml");
         Files.copy(GENERIC_INDEX, result, StandardCopyOption.REPLACE_EXISTING);
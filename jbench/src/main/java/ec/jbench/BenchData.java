@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jbench;
+
+import ec.tstoolkit.arima.ArimaModelBuilder;
+import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.random.XorshiftRNG;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+
+/**
+ * Reproducible input data for the benchmarks. The series are generated by
+ * airline models (th=-.6, bth=-.8) with a fixed seed, so that two runs of the
+ * same benchmark always work on the same data.
+ *
+ * @author agent
+ */
+public final class BenchData {
+
+    public static final double TH = -.6, BTH = -.8;
+    public static final int SEED = 12345;
+
+    private BenchData() {
+    }
+
+    /**
+     * Creates the airline model used to generate the data
+     *
+     * @param freq The frequency of the series
+     * @return
+     */
+    public static SarimaModel airline(TsFrequency freq) {
+        return new SarimaModelBuilder().createAirlineModel(freq.intValue(), TH, BTH);
+    }
+
+    /**
+     * Generates a strictly positive seasonal series (which can be
+     * log-transformed)
+     *
+     * @param freq The frequency of the series
+     * @param nyears The number of years
+     * @return
+     */
+    public static TsData series(TsFrequency freq, int nyears) {
+        ArimaModelBuilder gen = new ArimaModelBuilder();
+        gen.setRandomNumberGenerator(new XorshiftRNG(SEED));
+        double[] vals = gen.generate(airline(freq), freq.intValue() * nyears);
+        double min = vals[0];
+        for (int i = 1; i < vals.length; ++i) {
+            if (vals[i] < min) {
+                min = vals[i];
+            }
+        }
+        for (int i = 0; i < vals.length; ++i) {
+            vals[i] += 100 - min;
+        }
+        return new TsData(freq, 2000, 0, vals, false);
+    }
+
+    /**
+     * Generates a stationary series, following the stationary part of the
+     * airline model
+     *
+     * @param freq The frequency of the series
+     * @param n The number of observations
+     * @return
+     */
+    public static double[] stationary(TsFrequency freq, int n) {
+        ArimaModelBuilder gen = new ArimaModelBuilder();
+        gen.setRandomNumberGenerator(new XorshiftRNG(SEED));
+        return gen.generateStationary(stationaryModel(freq), n);
+    }
+
+    /**
+     * The stationary part of the airline model
+     *
+     * @param freq The frequency of the series
+     * @return
+     */
+    public static IArimaModel stationaryModel(TsFrequency freq) {
+        return (IArimaModel) airline(freq).stationaryTransformation().stationaryModel;
+    }
+}
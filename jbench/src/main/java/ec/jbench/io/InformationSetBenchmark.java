@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jbench.io;
+
+import ec.jbench.BenchData;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.sa.SaItem;
+import ec.tss.sa.SaManager;
+import ec.tss.sa.SaProcessing;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tss.xml.information.InformationSetBinaryFormat;
+import ec.tss.xml.information.XmlInformationSet;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writing and reading of the information set of a multi-processing (processed
+ * monthly series of 20 years), in xml (jaxb) and in binary
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InformationSetBenchmark {
+
+    @Param({"10", "100"})
+    public int items;
+
+    private JAXBContext jaxb;
+    private InformationSet info;
+    private byte[] xml;
+    private byte[] binary;
+
+    @Setup
+    public void setup() throws IOException, JAXBException {
+        SaManager.instance.add(new TramoSeatsProcessor());
+        SaProcessing processing = new SaProcessing();
+        for (int i = 0; i < items; ++i) {
+            // same data, distinct names
+            processing.add(new SaItem(TramoSeatsSpecification.RSAfull, TsFactory.instance.createTs("s" + i, null, BenchData.series(TsFrequency.Monthly, 20))));
+        }
+        processing.forEach(SaItem::process);
+        info = processing.write(true);
+        jaxb = JAXBContext.newInstance(XmlInformationSet.class);
+        xml = writeXml();
+        binary = writeBinary();
+    }
+
+    @Benchmark
+    public byte[] writeXml() throws JAXBException {
+        XmlInformationSet tmp = new XmlInformationSet();
+        tmp.copy(info);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        jaxb.createMarshaller().marshal(tmp, stream);
+        return stream.toByteArray();
+    }
+
+    @Benchmark
+    public InformationSet readXml() throws JAXBException {
+        return ((XmlInformationSet) jaxb.createUnmarshaller().unmarshal(new ByteArrayInputStream(xml))).create();
+    }
+
+    @Benchmark
+    public byte[] writeBinary() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        InformationSetBinaryFormat.write(stream, info);
+        return stream.toByteArray();
+    }
+
+    @Benchmark
+    public InformationSet readBinary() throws IOException {
+        return InformationSetBinaryFormat.read(new ByteArrayInputStream(binary));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jbench.maths;
+
+import ec.tstoolkit.data.DataBlock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Basic kernels of DataBlock, on contiguous and on strided (inc != 1) blocks
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataBlockBenchmark {
+
+    @Param({"12", "120", "1200"})
+    public int length;
+
+    @Param({"1", "12"})
+    public int inc;
+
+    private DataBlock x, y;
+
+    @Setup
+    public void setup() {
+        double[] data = new double[length * inc];
+        x = new DataBlock(data, 0, data.length, inc);
+        x.randomize(1);
+        y = new DataBlock(length);
+        y.randomize(2);
+    }
+
+    @Benchmark
+    public double dot() {
+        return x.dot(y);
+    }
+
+    @Benchmark
+    public DataBlock addAY() {
+        y.addAY(.5, x);
+        return y;
+    }
+
+    @Benchmark
+    public double sum() {
+        return x.sum();
+    }
+}
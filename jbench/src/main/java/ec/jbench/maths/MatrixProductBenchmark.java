@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jbench.maths;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.data.DataBlockIterator;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SymmetricMatrix;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Blocked matrix kernels (SubMatrix.product, SymmetricMatrix.XXt,
+ * SymmetricMatrix.lcholesky) against the simple column loops they replace, on
+ * square matrices of increasing size. The small sizes correspond to the
+ * state space models, the large ones to the regression models; the products
+ * of the largest sizes are computed in parallel.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixProductBenchmark {
+
+    @Param({"4", "16", "64", "256", "512"})
+    public int n;
+
+    private Matrix a, b, c, s;
+
+    @Setup
+    public void setup() {
+        a = new Matrix(n, n);
+        a.randomize(1);
+        b = new Matrix(n, n);
+        b.randomize(2);
+        c = new Matrix(n, n);
+        s = SymmetricMatrix.XXt(a);
+        s.diagonal().add(n);
+    }
+
+    @Benchmark
+    public Matrix product() {
+        c.subMatrix().product(a.subMatrix(), b.subMatrix());
+        return c;
+    }
+
+    @Benchmark
+    public Matrix productReference() {
+        DataBlockIterator cols = c.columns(), rcols = b.columns(), lcols = a.columns();
+        DataBlock col = cols.getData(), rcol = rcols.getData(), lcol = lcols.getData();
+        do {
+            lcols.begin();
+            int k = 0;
+            col.setAY(rcol.get(k++), lcol);
+            while (lcols.next()) {
+                col.addAY(rcol.get(k++), lcol);
+            }
+        } while (cols.next() && rcols.next());
+        return c;
+    }
+
+    @Benchmark
+    public Matrix XXt() {
+        return SymmetricMatrix.XXt(a);
+    }
+
+    @Benchmark
+    public Matrix XXtReference() {
+        Matrix o = new Matrix(n, n);
+        DataBlockIterator rows = a.rows(), cols = a.rows();
+        int idx = 0, k = 0;
+        DataBlock col = cols.getData(), row = rows.getData();
+        do {
+            idx += k;
+            rows.setPosition(k++);
+            do {
+                o.internalStorage()[idx++] = row.dot(col);
+            } while (rows.next());
+        } while (cols.next());
+        SymmetricMatrix.fromLower(o);
+        return o;
+    }
+
+    @Benchmark
+    public Matrix lcholesky() {
+        Matrix l = s.clone();
+        SymmetricMatrix.lcholesky(l);
+        return l;
+    }
+
+    @Benchmark
+    public Matrix lcholeskyReference() {
+        Matrix l = s.clone();
+        double[] data = l.internalStorage();
+        for (int i = 0, idiag = 0; i < n; ++i, idiag += n + 1) {
+            double aii = data[idiag];
+            for (int j = i; j < idiag; j += n) {
+                aii -= data[j] * data[j];
+            }
+            aii = Math.sqrt(aii);
+            data[idiag] = aii;
+            int ymax = (i + 1) * n;
+            for (int jx = i; jx < idiag; jx += n) {
+                double temp = data[jx];
+                if (temp != 0) {
+                    for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
+                        data[iy] -= temp * data[ia];
+                    }
+                }
+            }
+            for (int iy = idiag + 1; iy < ymax; ++iy) {
+                data[iy] /= aii;
+            }
+        }
+        l.toLower();
+        return l;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jbench.maths;
+
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SymmetricMatrix;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matrix kernels used in the regression models: products, cross-products and
+ * Cholesky decomposition. The number of rows corresponds to the length of the
+ * series, the number of columns to the number of regression variables.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubMatrixBenchmark {
+
+    @Param({"120", "360", "3600"})
+    public int nrows;
+
+    @Param({"10", "40", "160"})
+    public int ncols;
+
+    private Matrix x, xtx, c;
+
+    @Setup
+    public void setup() {
+        x = new Matrix(nrows, ncols);
+        x.randomize(1);
+        xtx = SymmetricMatrix.XtX(x);
+        c = new Matrix(ncols, ncols);
+    }
+
+    @Benchmark
+    public Matrix product() {
+        c.subMatrix().product(x.subMatrix().transpose(), x.subMatrix());
+        return c;
+    }
+
+    @Benchmark
+    public Matrix XtX() {
+        return SymmetricMatrix.XtX(x);
+    }
+
+    @Benchmark
+    public Matrix lcholesky() {
+        Matrix l = xtx.clone();
+        SymmetricMatrix.lcholesky(l);
+        return l;
+    }
+}
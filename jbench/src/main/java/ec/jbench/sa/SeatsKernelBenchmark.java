@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jbench.sa;
+
+import ec.jbench.BenchData;
+import ec.satoolkit.seats.SeatsKernel;
+import ec.satoolkit.seats.SeatsResults;
+import ec.satoolkit.seats.SeatsSpecification;
+import ec.satoolkit.seats.SeatsToolkit;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Seats decomposition alone (airline model, no pre-processing), with the
+ * different estimation methods of the components
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatsKernelBenchmark {
+
+    @Param({"Monthly", "Quarterly"})
+    public TsFrequency frequency;
+
+    @Param({"5", "10", "20"})
+    public int years;
+
+    @Param({"Burman", "KalmanSmoother"})
+    public SeatsSpecification.EstimationMethod method;
+
+    private TsData series;
+    private SeatsKernel kernel;
+
+    @Setup
+    public void setup() {
+        series = BenchData.series(frequency, years);
+        SeatsSpecification spec = new SeatsSpecification();
+        spec.setMethod(method);
+        kernel = new SeatsKernel();
+        kernel.setToolkit(SeatsToolkit.create(spec));
+    }
+
+    @Benchmark
+    public SeatsResults process() {
+        return kernel.process(series);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jbench.ssf;
+
+import ec.jbench.BenchData;
+import ec.tstoolkit.arima.IArimaModel;
+import ec.tstoolkit.arima.estimation.ArmaKF;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.eco.Likelihood;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exact likelihood of the stationary part of an airline model (ArmaKF)
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArmaKFBenchmark {
+
+    @Param({"Monthly", "Quarterly"})
+    public TsFrequency frequency;
+
+    @Param({"60", "120", "240", "1200"})
+    public int length;
+
+    private IArimaModel arma;
+    private DataBlock data;
+
+    @Setup
+    public void setup() {
+        arma = BenchData.stationaryModel(frequency);
+        data = new DataBlock(BenchData.stationary(frequency, length));
+    }
+
+    @Benchmark
+    public double likelihood() {
+        ArmaKF kf = new ArmaKF(arma);
+        Likelihood ll = new Likelihood();
+        kf.process(data, ll);
+        return ll.getSsqErr();
+    }
+
+    @Benchmark
+    public DataBlock fastFilter() {
+        ArmaKF kf = new ArmaKF(arma);
+        return kf.fastFilter(data);
+    }
+}
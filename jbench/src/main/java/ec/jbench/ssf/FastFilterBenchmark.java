@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.jbench.ssf;
+
+import ec.jbench.BenchData;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.ssf.FastFilter;
+import ec.tstoolkit.ssf.FastInitializer;
+import ec.tstoolkit.ssf.Filter;
+import ec.tstoolkit.ssf.PredictionErrorDecomposition;
+import ec.tstoolkit.ssf.SsfData;
+import ec.tstoolkit.ssf.arima.SsfArima;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Likelihood evaluation of an airline model by means of the Kalman filter.
+ * The Chandrasekhar recursions (FastFilter) are compared with the ordinary
+ * filter.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastFilterBenchmark {
+
+    @Param({"Monthly", "Quarterly"})
+    public TsFrequency frequency;
+
+    @Param({"5", "10", "20"})
+    public int years;
+
+    private SsfArima ssf;
+    private SsfData data;
+
+    @Setup
+    public void setup() {
+        TsData s = BenchData.series(frequency, years);
+        SarimaModel airline = BenchData.airline(frequency);
+        ssf = new SsfArima(airline);
+        data = new SsfData(s.internalStorage(), null);
+    }
+
+    @Benchmark
+    public double fastFilter() {
+        FastFilter<SsfArima> filter = new FastFilter<>();
+        filter.setInitializer(new FastInitializer<>(new SsfArima.Initializer()));
+        filter.setSsf(ssf);
+        PredictionErrorDecomposition pe = new PredictionErrorDecomposition(false);
+        filter.process(data, pe);
+        return pe.getSsqErr();
+    }
+
+    @Benchmark
+    public double filter() {
+        Filter<SsfArima> filter = new Filter<>();
+        filter.setInitializer(new SsfArima.Initializer());
+        filter.setSsf(ssf);
+        PredictionErrorDecomposition pe = new PredictionErrorDecomposition(false);
+        filter.process(data, pe);
+        return pe.getSsqErr();
+    }
+}
@@ -92,6 +92,92 @@ public abstract class DbAccessor<BEAN extends DbBean> {
     @NonNull
     abstract protected DbSeries getSeriesWithData(@NonNull DbSetId ref) throws Exception;
 
+    /**
+     * Gets several series with their data. The series that have the same
+     * parent may be retrieved by a single query on their parent (see
+     * isParentQueryPreferred).
+     *
+     * @param dimValues the dimension values of each series
+     * @return the series, in the same order (null for missing series)
+     * @throws Exception
+     * @since 2.2.3
+     */
+    @NonNull
+    public final List<DbSeries> getSeriesListWithData(@NonNull List<String[]> dimValues) throws Exception {
+        DbSetId[] refs = new DbSetId[dimValues.size()];
+        for (int i = 0; i < refs.length; i++) {
+            refs[i] = check(getRoot().child(dimValues.get(i)), DbSetId.SERIES_CONSTRAINT);
+        }
+        return Arrays.asList(getSeriesListWithData(refs));
+    }
+
+    /**
+     * Gets several series with their data. By default, the series are
+     * grouped by parent and a group of several series is retrieved by
+     * getAllSeriesWithData if isParentQueryPreferred says so. The other series
+     * are retrieved by getSeriesWithData; a NoSuchElementException thrown by
+     * that method means a missing series.
+     *
+     * @param refs non-null objects that identify series
+     * @return the series, in the same order (null for missing series)
+     * @throws Exception
+     */
+    @NonNull
+    protected DbSeries[] getSeriesListWithData(@NonNull DbSetId[] refs) throws Exception {
+        DbSeries[] result = new DbSeries[refs.length];
+        Map<DbSetId, List<Integer>> parents = new LinkedHashMap<>();
+        for (int i = 0; i < refs.length; i++) {
+            Optional<DbSetId> parent = refs[i].parent();
+            if (parent.isPresent()) {
+                parents.computeIfAbsent(parent.get(), o -> new ArrayList<>()).add(i);
+            } else {
+                result[i] = getSeriesWithDataOrNull(refs[i]);
+            }
+        }
+        for (Map.Entry<DbSetId, List<Integer>> o : parents.entrySet()) {
+            List<Integer> children = o.getValue();
+            if (children.size() == 1 || !isParentQueryPreferred(o.getKey(), children.size())) {
+                for (int i : children) {
+                    result[i] = getSeriesWithDataOrNull(refs[i]);
+                }
+            } else {
+                Map<DbSetId, DbSeries> all = new HashMap<>();
+                for (DbSeries s : getAllSeriesWithData(o.getKey())) {
+                    all.put(s.getId(), s);
+                }
+                for (int i : children) {
+                    result[i] = all.get(refs[i]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if several series of a collection should be retrieved by a
+     * single query on the whole collection rather than one by one. By
+     * default, it is the case when they are at least half of the children of
+     * the collection.
+     *
+     * @param parent a non-null object that identifies a collection
+     * @param count the number of series of the collection that are requested
+     * @return
+     * @throws Exception
+     * @since 2.2.3
+     */
+    protected boolean isParentQueryPreferred(@NonNull DbSetId parent, int count) throws Exception {
+        return 2 * count >= getChildren(parent).size();
+    }
+
+    @Nullable
+    private DbSeries getSeriesWithDataOrNull(@NonNull DbSetId ref) throws Exception {
+        try {
+            return getSeriesWithData(ref);
+        } catch (NoSuchElementException ex) {
+            return null;
+        }
+    }
+
     @NonNull
     public final List<String> getChildren(String... dimValues) throws Exception {
         return getChildren(check(getRoot().child(dimValues), DbSetId.COLLECTION_CONSTRAINT));
@@ -303,6 +389,12 @@ public abstract class DbAccessor<BEAN extends DbBean> {
             return getDelegate().getAllSeriesWithData(ref);
         }
 
+        @Override
+        protected boolean isParentQueryPreferred(DbSetId parent, int count) throws Exception {
+            // the series are read from the cached data of an ancestor anyway
+            return isCacheEnabled() || super.isParentQueryPreferred(parent, count);
+        }
+
         @Override
         protected DbSeries getSeriesWithData(DbSetId ref) throws Exception {
             if (isCacheEnabled() /* CONSTRAINT -> */ && ref.isSeries()) {
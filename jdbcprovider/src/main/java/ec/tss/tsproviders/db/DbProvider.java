@@ -29,6 +29,7 @@ import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.tstoolkit.utilities.Arrays2;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -171,6 +172,47 @@ public abstract class DbProvider<BEAN extends DbBean> extends AbstractDataSource
         }
     }
 
+    /**
+     * The series are retrieved together, grouped by parent when it pays off
+     * (see DbAccessor.getSeriesListWithData)
+     *
+     * @param infos
+     * @param dataSource
+     * @return
+     * @throws IOException
+     */
+    @Override
+    protected boolean fillSeries(List<TsInformation> infos, DataSource dataSource) throws IOException {
+        for (TsInformation info : infos) {
+            if (info.type.intValue() < TsInformationType.Data.intValue()) {
+                // nothing to retrieve in a single query
+                return false;
+            }
+        }
+        DbAccessor<BEAN> acc = getAccessor(dataSource);
+        List<DataSet> dataSets = new ArrayList<>(infos.size());
+        List<String[]> dimValues = new ArrayList<>(infos.size());
+        for (TsInformation info : infos) {
+            DataSet dataSet = toDataSet(info.moniker);
+            dataSets.add(dataSet);
+            dimValues.add(DIM_MAP.get(dataSet).dimValues);
+        }
+        List<DbSeries> series;
+        try {
+            series = acc.getSeriesListWithData(dimValues);
+        } catch (Exception ex) {
+            throw new IOException("Cannot retrieve DataSet data", ex);
+        }
+        for (int i = 0; i < infos.size(); i++) {
+            TsInformation info = infos.get(i);
+            DbSeries s = series.get(i);
+            info.name = getDisplayName(dataSets.get(i));
+            info.type = TsInformationType.All;
+            support.fillSeries(info, s != null ? s.getData() : OptionalTsData.absent("Missing time series"), true);
+        }
+        return true;
+    }
+
     @NonNull
     private List<TsInformation> getAll(@NonNull DataSource dataSource, @NonNull List<DbSetId> list, @NonNull TsInformationType type) {
         if (list.isEmpty()) {
@@ -75,10 +75,51 @@ public final class DbUtil {
     @NonNull
     public static <T extends Exception> List<DbSeries> getAllSeriesWithData(@NonNull AllSeriesWithDataCursor<T> cursor, @NonNull DbSetId ref, @NonNull TsFrequency frequency, @NonNull TsAggregationType aggregationType) throws T {
         ImmutableList.Builder<DbSeries> result = ImmutableList.builder();
-        ObsGathering gathering = ObsGathering.includingMissingValues(frequency, aggregationType);
-        OptionalTsData.Builder2<Date> data = OptionalTsData.builderByDate(new GregorianCalendar(), gathering, ObsCharacteristics.ORDERED);
-        boolean t0 = cursor.next();
-        while (t0) {
+        AllSeriesWithDataReader<T> reader = new AllSeriesWithDataReader<>(cursor, ref, frequency, aggregationType);
+        DbSeries series;
+        while ((series = reader.nextSeries()) != null) {
+            result.add(series);
+        }
+        return result.build();
+    }
+
+    /**
+     * Reads the series of a cursor one at a time. The records of the cursor
+     * must be ordered by dimension values and then by period. Only the
+     * observations of the current series are kept in memory, so that the
+     * memory used is bounded by the largest series.
+     *
+     * @param <T>
+     * @since 2.2.3
+     */
+    public static final class AllSeriesWithDataReader<T extends Exception> {
+
+        private final AllSeriesWithDataCursor<T> cursor;
+        private final DbSetId ref;
+        private final OptionalTsData.Builder2<Date> data;
+        private boolean started, hasNext;
+
+        public AllSeriesWithDataReader(@NonNull AllSeriesWithDataCursor<T> cursor, @NonNull DbSetId ref, @NonNull TsFrequency frequency, @NonNull TsAggregationType aggregationType) {
+            this.cursor = cursor;
+            this.ref = ref;
+            this.data = OptionalTsData.builderByDate(new GregorianCalendar(), ObsGathering.includingMissingValues(frequency, aggregationType), ObsCharacteristics.ORDERED);
+        }
+
+        /**
+         * Reads the records of the next series.
+         *
+         * @return The next series or null if the cursor is exhausted
+         * @throws T
+         */
+        @Nullable
+        public DbSeries nextSeries() throws T {
+            if (!started) {
+                hasNext = cursor.next();
+                started = true;
+            }
+            if (!hasNext) {
+                return null;
+            }
             String[] dimValues = cursor.dimValues;
             boolean t1 = true;
             while (t1) {
@@ -87,16 +128,16 @@ public final class DbUtil {
                 boolean t2 = true;
                 while (t2) {
                     value = cursor.value;
-                    t0 = cursor.next();
-                    t1 = t0 && Arrays.equals(dimValues, cursor.dimValues);
+                    hasNext = cursor.next();
+                    t1 = hasNext && Arrays.equals(dimValues, cursor.dimValues);
                     t2 = t1 && Objects.equals(period, cursor.period);
                 }
                 data.add(period, value);
             }
-            result.add(new DbSeries(ref.child(dimValues), data.build()));
+            DbSeries result = new DbSeries(ref.child(dimValues), data.build());
             data.clear();
+            return result;
         }
-        return result.build();
     }
 
     public static abstract class SeriesWithDataCursor<T extends Exception> implements Cursor<T> {
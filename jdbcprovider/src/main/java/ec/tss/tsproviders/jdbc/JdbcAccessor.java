@@ -16,11 +16,15 @@
  */
 package ec.tss.tsproviders.jdbc;
 
+import com.google.common.base.Joiner;
+import ec.tss.tsproviders.cursor.TsCursor;
 import ec.tss.tsproviders.db.DbAccessor;
 import ec.tss.tsproviders.db.DbSeries;
 import ec.tss.tsproviders.db.DbSetId;
 import ec.tss.tsproviders.db.DbUtil;
+import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tstoolkit.utilities.GuavaCaches;
+import java.io.IOException;
 import java.sql.*;
 import java.time.Duration;
 import java.util.*;
@@ -159,45 +163,60 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
 
     @Override
     protected Callable<List<DbSeries>> getAllSeriesWithDataQuery(DbSetId ref) {
-        return new JdbcQuery<List<DbSeries>>(ref) {
-            @Override
-            protected String getQueryString(DatabaseMetaData metaData) throws SQLException {
-                JdbcBean dbBean = getDbBean();
-                return SelectBuilder.from(dbBean.getTableName())
-                        .select(ref.selectColumns()).select(dbBean.getPeriodColumn(), dbBean.getValueColumn())
-                        .filter(ref.filterColumns())
-                        .orderBy(ref.selectColumns()).orderBy(dbBean.getPeriodColumn(), dbBean.getVersionColumn())
-                        .withQuoter(SqlIdentifierQuoter.of(metaData))
-                        .build();
-            }
-
-            @Override
-            protected List<DbSeries> process(final ResultSet rs) throws SQLException {
-                // Beware that some jdbc drivers require to get the columns values 
-                // in the order of the query and only once.
-                // So, call the following methods once per row and in this order.
-                ResultSetMetaData metaData = rs.getMetaData();
-                final ResultSetFunc<String[]> toDimValues = getDimValuesFunc(metaData, 1, ref.getDepth());
-                final ResultSetFunc<java.util.Date> toPeriod = getPeriodFunc(metaData, ref.getDepth() + 1);
-                final ResultSetFunc<Number> toValue = getValueFunc(metaData, ref.getDepth() + 2);
+        return new AllSeriesWithDataQuery(ref);
+    }
 
-                DbUtil.AllSeriesWithDataCursor<SQLException> cursor = new DbUtil.AllSeriesWithDataCursor<SQLException>() {
-                    @Override
-                    public boolean next() throws SQLException {
-                        boolean result = rs.next();
-                        if (result) {
-                            dimValues = toDimValues.apply(rs);
-                            period = toPeriod.apply(rs);
-                            value = period != null ? toValue.apply(rs) : null;
-                        }
-                        return result;
+    /**
+     * Gets all the series of a collection with their data as a stream. The
+     * rows are fetched from a forward-only and read-only result set, by blocks
+     * of {@link JdbcBean#getFetchSize()} rows, and each series is built when
+     * its last row has been read. Therefore, the memory used is bounded by the
+     * largest series instead of the whole collection.
+     * <p>
+     * The cursor keeps its connection open until it is closed. Auto-commit is
+     * turned off on that connection while the cursor is open (PostgreSQL
+     * ignores the fetch size otherwise) and restored when it is closed. MySQL
+     * only streams the rows if the connection URL sets
+     * {@code useCursorFetch=true}; without it, the driver reads the whole
+     * result set. The cursor is not cached (see {@link #memoize()}).
+     *
+     * @param dimValues
+     * @return a cursor that must be closed after use
+     * @throws SQLException
+     * @since 2.2.3
+     */
+    @NonNull
+    public TsCursor<DbSetId> getAllSeriesWithDataCursor(String... dimValues) throws SQLException {
+        AllSeriesWithDataQuery query = new AllSeriesWithDataQuery(check(getRoot().child(dimValues), DbSetId.COLLECTION_CONSTRAINT));
+        Connection conn = supplier.getConnection(dbBean);
+        PreparedStatement cmd = null;
+        boolean autoCommit = false;
+        try {
+            autoCommit = conn.getAutoCommit();
+            if (autoCommit) {
+                conn.setAutoCommit(false);
+            }
+            String queryString = query.getQueryString(conn.getMetaData());
+            logger.debug(queryString);
+            cmd = prepareStatement(conn, queryString);
+            query.setParameters(cmd);
+            ResultSet rs = cmd.executeQuery();
+            AutoCloseable restore = autoCommit ? () -> conn.setAutoCommit(true) : () -> {
+            };
+            return new StreamingCursor(query.newReader(rs), rs, cmd, restore, conn);
+        } catch (SQLException | RuntimeException ex) {
+            AutoCloseable restore = autoCommit ? () -> conn.setAutoCommit(true) : null;
+            for (AutoCloseable o : new AutoCloseable[]{cmd, restore, conn}) {
+                if (o != null) {
+                    try {
+                        o.close();
+                    } catch (Exception other) {
+                        ex.addSuppressed(other);
                     }
-                };
-
-                JdbcBean dbBean = getDbBean();
-                return DbUtil.getAllSeriesWithData(cursor, ref, dbBean.getFrequency(), dbBean.getAggregationType());
+                }
             }
-        };
+            throw ex;
+        }
     }
 
     @Override
@@ -282,6 +301,179 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
         return DbAccessor.BulkAccessor.from(this, dbBean.getCacheDepth(), GuavaCaches.ttlCache(duration));
     }
 
+    /**
+     * Creates a forward-only and read-only statement that uses the fetch size
+     * of the bean.
+     *
+     * @param conn
+     * @param queryString
+     * @return
+     * @throws SQLException
+     * @since 2.2.3
+     */
+    @NonNull
+    protected PreparedStatement prepareStatement(@NonNull Connection conn, @NonNull String queryString) throws SQLException {
+        PreparedStatement result = conn.prepareStatement(queryString, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        int fetchSize = getDbBean().getFetchSize();
+        if (fetchSize > 0) {
+            result.setFetchSize(fetchSize);
+        }
+        return result;
+    }
+
+    private final class AllSeriesWithDataQuery extends JdbcQuery<List<DbSeries>> {
+
+        AllSeriesWithDataQuery(DbSetId ref) {
+            super(ref);
+        }
+
+        @Override
+        protected String getQueryString(DatabaseMetaData metaData) throws SQLException {
+            JdbcBean dbBean = getDbBean();
+            return SelectBuilder.from(dbBean.getTableName())
+                    .select(ref.selectColumns()).select(dbBean.getPeriodColumn(), dbBean.getValueColumn())
+                    .filter(ref.filterColumns())
+                    .orderBy(ref.selectColumns()).orderBy(dbBean.getPeriodColumn(), dbBean.getVersionColumn())
+                    .withQuoter(SqlIdentifierQuoter.of(metaData))
+                    .build();
+        }
+
+        @Override
+        protected List<DbSeries> process(final ResultSet rs) throws SQLException {
+            JdbcBean dbBean = getDbBean();
+            return DbUtil.getAllSeriesWithData(newCursor(rs), ref, dbBean.getFrequency(), dbBean.getAggregationType());
+        }
+
+        DbUtil.AllSeriesWithDataReader<SQLException> newReader(final ResultSet rs) throws SQLException {
+            JdbcBean dbBean = getDbBean();
+            return new DbUtil.AllSeriesWithDataReader<>(newCursor(rs), ref, dbBean.getFrequency(), dbBean.getAggregationType());
+        }
+
+        private DbUtil.AllSeriesWithDataCursor<SQLException> newCursor(final ResultSet rs) throws SQLException {
+            // Beware that some jdbc drivers require to get the columns values 
+            // in the order of the query and only once.
+            // So, call the following methods once per row and in this order.
+            ResultSetMetaData metaData = rs.getMetaData();
+            final ResultSetFunc<String[]> toDimValues = getDimValuesFunc(metaData, 1, ref.getDepth());
+            final ResultSetFunc<java.util.Date> toPeriod = getPeriodFunc(metaData, ref.getDepth() + 1);
+            final ResultSetFunc<Number> toValue = getValueFunc(metaData, ref.getDepth() + 2);
+
+            return new DbUtil.AllSeriesWithDataCursor<SQLException>() {
+                @Override
+                public boolean next() throws SQLException {
+                    boolean result = rs.next();
+                    if (result) {
+                        dimValues = toDimValues.apply(rs);
+                        period = toPeriod.apply(rs);
+                        value = period != null ? toValue.apply(rs) : null;
+                    }
+                    return result;
+                }
+            };
+        }
+    }
+
+    private static final class StreamingCursor implements TsCursor<DbSetId> {
+
+        private final DbUtil.AllSeriesWithDataReader<SQLException> reader;
+        private final AutoCloseable[] resources;
+        private DbSeries current;
+        private boolean closed;
+
+        StreamingCursor(DbUtil.AllSeriesWithDataReader<SQLException> reader, AutoCloseable... resources) {
+            this.reader = reader;
+            this.resources = resources;
+            this.current = null;
+            this.closed = false;
+        }
+
+        private void checkState() throws IllegalStateException {
+            if (closed) {
+                throw new IllegalStateException("Cursor closed");
+            }
+        }
+
+        private DbSeries getCurrent() throws IllegalStateException {
+            checkState();
+            if (current == null) {
+                throw new IllegalStateException("No current series");
+            }
+            return current;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public Map<String, String> getMetaData() {
+            checkState();
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public boolean nextSeries() throws IOException {
+            checkState();
+            try {
+                current = reader.nextSeries();
+            } catch (SQLException ex) {
+                throw new IOException(ex);
+            }
+            return current != null;
+        }
+
+        @Override
+        public DbSetId getSeriesId() {
+            return getCurrent().getId();
+        }
+
+        @Override
+        public String getSeriesLabel() {
+            DbSetId id = getCurrent().getId();
+            String[] dimValues = new String[id.getLevel()];
+            for (int i = 0; i < dimValues.length; i++) {
+                dimValues[i] = id.getValue(i);
+            }
+            return dimValues.length > 0 ? Joiner.on(", ").join(dimValues) : "All";
+        }
+
+        @Override
+        public Map<String, String> getSeriesMetaData() {
+            getCurrent();
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public OptionalTsData getSeriesData() {
+            return getCurrent().getData();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            current = null;
+            Exception error = null;
+            for (AutoCloseable o : resources) {
+                try {
+                    o.close();
+                } catch (Exception ex) {
+                    if (error == null) {
+                        error = ex;
+                    } else {
+                        error.addSuppressed(ex);
+                    }
+                }
+            }
+            if (error != null) {
+                throw error instanceof IOException ? (IOException) error : new IOException(error);
+            }
+        }
+    }
+
     /**
      * An implementation of Callable that handles SQL queries from Jdbc.
      *
@@ -336,7 +528,7 @@ public class JdbcAccessor<BEAN extends JdbcBean> extends DbAccessor.Commander<BE
                 try (Connection conn = supplier.getConnection(dbBean)) {
                     String queryString = getQueryString(conn.getMetaData());
                     logger.debug(queryString);
-                    try (PreparedStatement cmd = conn.prepareStatement(queryString)) {
+                    try (PreparedStatement cmd = prepareStatement(conn, queryString)) {
                         setParameters(cmd);
                         try (ResultSet rs = cmd.executeQuery()) {
                             return process(rs);
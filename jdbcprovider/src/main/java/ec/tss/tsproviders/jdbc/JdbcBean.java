@@ -18,6 +18,8 @@ package ec.tss.tsproviders.jdbc;
 
 import ec.tss.tsproviders.DataSource;
 import ec.tss.tsproviders.db.DbBean;
+import ec.tss.tsproviders.utils.IParam;
+import static ec.tss.tsproviders.utils.Params.onInteger;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
@@ -26,11 +28,40 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  */
 public class JdbcBean extends DbBean.BulkBean {
 
+    /**
+     * Number of rows fetched from the database when more rows are needed (0
+     * lets the driver choose).
+     *
+     * @since 2.2.3
+     */
+    public static final IParam<DataSource, Integer> X_FETCH_SIZE = onInteger(0, "fetchSize");
+    //
+    protected int fetchSize;
+
     public JdbcBean() {
         super();
+        this.fetchSize = X_FETCH_SIZE.defaultValue();
     }
 
     public JdbcBean(@NonNull DataSource id) {
         super(id);
+        this.fetchSize = X_FETCH_SIZE.get(id);
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Getters/Setters">
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize >= 0 ? fetchSize : 0;
+    }
+    //</editor-fold>
+
+    @Override
+    public DataSource toDataSource(String providerName, String version) {
+        DataSource.Builder builder = DataSource.builder(super.toDataSource(providerName, version));
+        X_FETCH_SIZE.set(builder, fetchSize);
+        return builder.build();
     }
 }
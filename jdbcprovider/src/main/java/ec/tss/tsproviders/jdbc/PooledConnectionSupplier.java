@@ -0,0 +1,591 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.jdbc;
+
+import com.google.common.base.Preconditions;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A connection supplier that keeps the connections of another supplier in a
+ * pool and that reuses their prepared statements.
+ * <p>
+ * The connections are pooled by database name (see
+ * {@link JdbcBean#getDbName()}) and closing a supplied connection gives it back
+ * to its pool. Each pooled connection keeps a bounded cache of its prepared
+ * statements, keyed by their SQL and their result set type/concurrency;
+ * closing a cached statement only clears its parameters.
+ * <p>
+ * The connections that raise a connection exception (SQL state "08xxx") are
+ * discarded instead of being given back. When a connection is given back, the
+ * statements and result sets of its borrower are closed, its pending changes
+ * are rolled back and its initial state (auto-commit, read-only, transaction
+ * isolation, catalog) is restored. The connections that have been idle for a
+ * while are validated before being reused.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public final class PooledConnectionSupplier implements ConnectionSupplier, Closeable {
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 4;
+    public static final int DEFAULT_MAX_STATEMENTS = 32;
+    public static final long DEFAULT_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    // idle time after which a connection is validated, in nanoseconds
+    private static final long VALIDATION_DELAY = TimeUnit.SECONDS.toNanos(1);
+    // in seconds
+    private static final int VALIDATION_TIMEOUT = 5;
+
+    private final ConnectionSupplier delegate;
+    private final int maxConnections;
+    private final int maxStatements;
+    private final long timeoutInMillis;
+    private final ConcurrentMap<String, Pool> pools;
+    private final LongAdder connectionRequests;
+    private final LongAdder createdConnections;
+    private final LongAdder waitNanos;
+    private final AtomicLong maxWaitNanos;
+    private final LongAdder statementRequests;
+    private final LongAdder statementHits;
+    private volatile boolean closed;
+
+    public PooledConnectionSupplier(@NonNull ConnectionSupplier delegate) {
+        this(delegate, DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_STATEMENTS, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     *
+     * @param delegate the supplier of the physical connections
+     * @param maxConnections the maximum number of connections by database
+     * @param maxStatements the maximum number of cached statements by
+     * connection (0 disables the cache)
+     * @param timeoutInMillis the maximum time to wait for a connection when
+     * all the connections of a database are in use
+     */
+    public PooledConnectionSupplier(@NonNull ConnectionSupplier delegate, int maxConnections, int maxStatements, long timeoutInMillis) {
+        Preconditions.checkArgument(maxConnections > 0, "Invalid max connections");
+        Preconditions.checkArgument(maxStatements >= 0, "Invalid max statements");
+        Preconditions.checkArgument(timeoutInMillis >= 0, "Invalid timeout");
+        this.delegate = Preconditions.checkNotNull(delegate);
+        this.maxConnections = maxConnections;
+        this.maxStatements = maxStatements;
+        this.timeoutInMillis = timeoutInMillis;
+        this.pools = new ConcurrentHashMap<>();
+        this.connectionRequests = new LongAdder();
+        this.createdConnections = new LongAdder();
+        this.waitNanos = new LongAdder();
+        this.maxWaitNanos = new AtomicLong();
+        this.statementRequests = new LongAdder();
+        this.statementHits = new LongAdder();
+        this.closed = false;
+    }
+
+    @Override
+    public Connection getConnection(JdbcBean bean) throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool closed");
+        }
+        return pools.computeIfAbsent(bean.getDbName(), o -> new Pool()).borrow(bean);
+    }
+
+    /**
+     * Gets a snapshot of the metrics of this supplier.
+     *
+     * @return
+     */
+    @NonNull
+    public Metrics getMetrics() {
+        return new Metrics(connectionRequests.sum(), createdConnections.sum(),
+                waitNanos.sum(), maxWaitNanos.get(),
+                statementRequests.sum(), statementHits.sum());
+    }
+
+    /**
+     * Closes the idle connections and the connections that are given back
+     * afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        pools.values().forEach(Pool::clear);
+    }
+
+    /**
+     * Metrics of a pooled connection supplier.
+     */
+    public static final class Metrics {
+
+        private final long connectionRequests;
+        private final long createdConnections;
+        private final long waitNanos;
+        private final long maxWaitNanos;
+        private final long statementRequests;
+        private final long statementHits;
+
+        private Metrics(long connectionRequests, long createdConnections, long waitNanos, long maxWaitNanos, long statementRequests, long statementHits) {
+            this.connectionRequests = connectionRequests;
+            this.createdConnections = createdConnections;
+            this.waitNanos = waitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.statementRequests = statementRequests;
+            this.statementHits = statementHits;
+        }
+
+        public long getConnectionRequests() {
+            return connectionRequests;
+        }
+
+        public long getCreatedConnections() {
+            return createdConnections;
+        }
+
+        /**
+         * Total time spent waiting for a connection (including the creation
+         * of the new connections)
+         *
+         * @param unit
+         * @return
+         */
+        public long getWaitTime(@NonNull TimeUnit unit) {
+            return unit.convert(waitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public long getMaxWaitTime(@NonNull TimeUnit unit) {
+            return unit.convert(maxWaitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        public long getStatementRequests() {
+            return statementRequests;
+        }
+
+        public long getStatementHits() {
+            return statementHits;
+        }
+
+        /**
+         *
+         * @return The ratio of the prepared statements found in the caches
+         * (NaN if no statement has been requested)
+         */
+        public double getStatementHitRate() {
+            return statementRequests == 0 ? Double.NaN : (double) statementHits / statementRequests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("connections: %d requests, %d created, %d ms waiting (max %d ms); statements: %d requests, %d hits",
+                    connectionRequests, createdConnections,
+                    getWaitTime(TimeUnit.MILLISECONDS), getMaxWaitTime(TimeUnit.MILLISECONDS),
+                    statementRequests, statementHits);
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static boolean isConnectionError(Throwable ex) {
+        if (ex instanceof SQLException) {
+            String state = ((SQLException) ex).getSQLState();
+            return state != null && state.startsWith("08");
+        }
+        return false;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable o) {
+        try {
+            o.close();
+        } catch (Exception ex) {
+            // do nothing
+        }
+    }
+
+    private final class Pool {
+
+        private final Semaphore permits = new Semaphore(maxConnections, true);
+        private final Deque<PooledConnection> idle = new ArrayDeque<>();
+
+        Connection borrow(JdbcBean bean) throws SQLException {
+            long start = System.nanoTime();
+            connectionRequests.increment();
+            try {
+                if (!permits.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTimeoutException("Timeout while waiting for a connection to '" + bean.getDbName() + "'");
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            }
+            try {
+                PooledConnection result = poll();
+                if (result == null) {
+                    result = create(bean);
+                    createdConnections.increment();
+                }
+                long wait = System.nanoTime() - start;
+                waitNanos.add(wait);
+                maxWaitNanos.accumulateAndGet(wait, Math::max);
+                return result.lease();
+            } catch (SQLException | RuntimeException ex) {
+                permits.release();
+                throw ex;
+            }
+        }
+
+        private PooledConnection create(JdbcBean bean) throws SQLException {
+            Connection physical = delegate.getConnection(bean);
+            try {
+                return new PooledConnection(this, physical);
+            } catch (SQLException | RuntimeException ex) {
+                closeQuietly(physical);
+                throw ex;
+            }
+        }
+
+        // the validation is done outside the lock of the pool
+        private PooledConnection poll() {
+            PooledConnection result;
+            while ((result = pollFirst()) != null) {
+                if (result.isValid()) {
+                    return result;
+                }
+                result.discard();
+            }
+            return null;
+        }
+
+        private synchronized PooledConnection pollFirst() {
+            return idle.pollFirst();
+        }
+
+        void giveBack(PooledConnection conn) {
+            try {
+                if (closed || conn.broken) {
+                    conn.discard();
+                } else {
+                    conn.idleSince = System.nanoTime();
+                    synchronized (this) {
+                        idle.addFirst(conn);
+                    }
+                }
+            } finally {
+                permits.release();
+            }
+            if (closed) {
+                clear();
+            }
+        }
+
+        synchronized void clear() {
+            idle.forEach(PooledConnection::discard);
+            idle.clear();
+        }
+    }
+
+    private final class PooledConnection {
+
+        private final Pool pool;
+        private final Connection physical;
+        private final Map<String, PreparedStatement> statements;
+        private final Set<PreparedStatement> statementsInUse;
+        // initial state, restored when the connection is given back
+        private final boolean autoCommit;
+        private final boolean readOnly;
+        private final int transactionIsolation;
+        private final String catalog;
+        private boolean broken;
+        private boolean stateChanged;
+        private long idleSince;
+
+        PooledConnection(Pool pool, Connection physical) throws SQLException {
+            this.pool = pool;
+            this.physical = physical;
+            this.statements = new LinkedHashMap<String, PreparedStatement>(16, .75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > maxStatements) {
+                        if (!statementsInUse.contains(eldest.getValue())) {
+                            closeQuietly(eldest.getValue());
+                        }
+                        return true;
+                    }
+                    return false;
+                }
+            };
+            this.statementsInUse = new HashSet<>();
+            this.autoCommit = physical.getAutoCommit();
+            this.readOnly = physical.isReadOnly();
+            this.transactionIsolation = physical.getTransactionIsolation();
+            this.catalog = physical.getCatalog();
+            this.broken = false;
+            this.stateChanged = false;
+        }
+
+        Connection lease() {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new ConnectionHandler());
+        }
+
+        void discard() {
+            statements.values().forEach(PooledConnectionSupplier::closeQuietly);
+            statements.clear();
+            statementsInUse.clear();
+            closeQuietly(physical);
+        }
+
+        /**
+         * Checks an idle connection. The connections that have been idle for
+         * a while are validated by the driver; the others are only checked
+         * locally.
+         */
+        boolean isValid() {
+            try {
+                if (System.nanoTime() - idleSince < VALIDATION_DELAY) {
+                    return !physical.isClosed();
+                }
+                return physical.isValid(VALIDATION_TIMEOUT);
+            } catch (SQLException | RuntimeException ex) {
+                return false;
+            }
+        }
+
+        /**
+         * Restores the state of the connection for its next borrower. The
+         * pending changes of the current borrower are rolled back.
+         */
+        private void reset() throws SQLException {
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+            }
+            if (stateChanged) {
+                if (physical.getAutoCommit() != autoCommit) {
+                    physical.setAutoCommit(autoCommit);
+                }
+                if (physical.isReadOnly() != readOnly) {
+                    physical.setReadOnly(readOnly);
+                }
+                if (physical.getTransactionIsolation() != transactionIsolation) {
+                    physical.setTransactionIsolation(transactionIsolation);
+                }
+                if (catalog != null && !catalog.equals(physical.getCatalog())) {
+                    physical.setCatalog(catalog);
+                }
+                physical.clearWarnings();
+                stateChanged = false;
+            }
+        }
+
+        private PreparedStatement prepare(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+            statementRequests.increment();
+            String key = resultSetType + ":" + resultSetConcurrency + ":" + sql;
+            PreparedStatement cached = statements.get(key);
+            PreparedStatement result;
+            if (cached != null && !statementsInUse.contains(cached) && !cached.isClosed()) {
+                statementHits.increment();
+                result = cached;
+            } else {
+                result = physical.prepareStatement(sql, resultSetType, resultSetConcurrency);
+                if (maxStatements > 0 && (cached == null || !statementsInUse.contains(cached))) {
+                    statements.put(key, result);
+                }
+            }
+            statementsInUse.add(result);
+            return result;
+        }
+
+        private void release(PreparedStatement statement, int fetchSize) throws SQLException {
+            statementsInUse.remove(statement);
+            if (statements.containsValue(statement)) {
+                statement.clearParameters();
+                statement.setFetchSize(fetchSize);
+            } else {
+                statement.close();
+            }
+        }
+
+        private final class ConnectionHandler implements InvocationHandler {
+
+            private final List<StatementHandler> leased = new ArrayList<>();
+            private final List<Statement> unpooled = new ArrayList<>();
+            private boolean closed = false;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!closed) {
+                            closed = true;
+                            giveBack();
+                        }
+                        return null;
+                    case "isClosed":
+                        return closed || physical.isClosed();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "Pooled " + physical;
+                }
+                if (closed) {
+                    throw new SQLException("Connection closed");
+                }
+                try {
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            if (args.length == 1) {
+                                return lease(proxy, (String) args[0], ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                            }
+                            if (args.length == 3 && args[1] instanceof Integer && args[2] instanceof Integer) {
+                                return lease(proxy, (String) args[0], (Integer) args[1], (Integer) args[2]);
+                            }
+                            break;
+                        case "setAutoCommit":
+                        case "setReadOnly":
+                        case "setTransactionIsolation":
+                        case "setCatalog":
+                            stateChanged = true;
+                            break;
+                    }
+                    Object result = PooledConnectionSupplier.invoke(physical, method, args);
+                    if (result instanceof Statement) {
+                        // closed with the connection if the borrower doesn't
+                        unpooled.add((Statement) result);
+                    }
+                    return result;
+                } catch (Throwable ex) {
+                    broken |= isConnectionError(ex);
+                    throw ex;
+                }
+            }
+
+            /**
+             * Closes the statements of the borrower (the cached ones are given
+             * back to the cache and their proxies are invalidated) and resets
+             * the connection before giving it back to its pool.
+             */
+            private void giveBack() {
+                try {
+                    for (StatementHandler o : new ArrayList<>(leased)) {
+                        o.close();
+                    }
+                    unpooled.forEach(PooledConnectionSupplier::closeQuietly);
+                    unpooled.clear();
+                    reset();
+                } catch (SQLException | RuntimeException ex) {
+                    broken = true;
+                } finally {
+                    pool.giveBack(PooledConnection.this);
+                }
+            }
+
+            private PreparedStatement lease(Object connection, String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+                PreparedStatement statement = prepare(sql, resultSetType, resultSetConcurrency);
+                StatementHandler handler = new StatementHandler(connection, statement, statement.getFetchSize());
+                leased.add(handler);
+                return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, handler);
+            }
+
+            private final class StatementHandler implements InvocationHandler {
+
+                private final Object connection;
+                private final PreparedStatement statement;
+                private final int fetchSize;
+                private final List<ResultSet> resultSets = new ArrayList<>();
+                private boolean closed = false;
+
+                StatementHandler(Object connection, PreparedStatement statement, int fetchSize) {
+                    this.connection = connection;
+                    this.statement = statement;
+                    this.fetchSize = fetchSize;
+                }
+
+                @Override
+                public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                    switch (method.getName()) {
+                        case "close":
+                            close();
+                            return null;
+                        case "isClosed":
+                            return closed || statement.isClosed();
+                        case "getConnection":
+                            return connection;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "Pooled " + statement;
+                    }
+                    if (closed) {
+                        throw new SQLException("Statement closed");
+                    }
+                    try {
+                        Object result = PooledConnectionSupplier.invoke(statement, method, args);
+                        if (result instanceof ResultSet) {
+                            resultSets.add((ResultSet) result);
+                        }
+                        return result;
+                    } catch (Throwable ex) {
+                        broken |= isConnectionError(ex);
+                        throw ex;
+                    }
+                }
+
+                void close() throws SQLException {
+                    if (!closed) {
+                        closed = true;
+                        leased.remove(this);
+                        resultSets.forEach(PooledConnectionSupplier::closeQuietly);
+                        resultSets.clear();
+                        release(statement, fetchSize);
+                    }
+                }
+            }
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.db;
+
+import com.google.common.cache.CacheBuilder;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class DbAccessorTest {
+
+    private static final class XAccessor extends DbAccessor.Commander<DbBean> {
+
+        final List<DbSeries> all = new ArrayList<>();
+        int allSeriesWithDataCount, seriesWithDataCount, childrenCount;
+
+        XAccessor() {
+            super(bean());
+            for (String sector : new String[]{"Industry", "Services", "Agriculture"}) {
+                add("Belgium", sector);
+            }
+            for (String sector : new String[]{"Industry", "Services", "Agriculture", "Mining", "Construction"}) {
+                add("France", sector);
+            }
+        }
+
+        private void add(String region, String sector) {
+            all.add(new DbSeries(root.child(region, sector), OptionalTsData.absent(region + sector)));
+        }
+
+        static DbBean bean() {
+            DbBean result = new DbBean();
+            result.setDimColumns("Region,Sector");
+            return result;
+        }
+
+        @Override
+        protected Callable<List<DbSetId>> getAllSeriesQuery(DbSetId ref) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Callable<List<DbSeries>> getAllSeriesWithDataQuery(DbSetId ref) {
+            return () -> {
+                allSeriesWithDataCount++;
+                return DbSeries.filterByAncestor(all, ref);
+            };
+        }
+
+        @Override
+        protected Callable<DbSeries> getSeriesWithDataQuery(DbSetId ref) {
+            return () -> {
+                seriesWithDataCount++;
+                return DbSeries.findById(all, ref);
+            };
+        }
+
+        @Override
+        protected Callable<List<String>> getChildrenQuery(DbSetId ref) {
+            return () -> {
+                childrenCount++;
+                List<String> result = new ArrayList<>();
+                for (DbSeries o : DbSeries.filterByAncestor(all, ref)) {
+                    result.add(o.getId().getValue(ref.getLevel()));
+                }
+                return result;
+            };
+        }
+
+        @Override
+        public DbAccessor<DbBean> memoize() {
+            return this;
+        }
+    }
+
+    @Test
+    public void testGetSeriesListWithData() throws Exception {
+        XAccessor acc = new XAccessor();
+        List<DbSeries> result = acc.getSeriesListWithData(Arrays.asList(
+                new String[]{"Belgium", "Industry"},
+                new String[]{"France", "Services"},
+                new String[]{"Belgium", "Agriculture"},
+                new String[]{"Belgium", "Mining"}));
+        assertEquals(4, result.size());
+        assertEquals(acc.root.child("Belgium", "Industry"), result.get(0).getId());
+        assertEquals(acc.root.child("France", "Services"), result.get(1).getId());
+        assertEquals(acc.root.child("Belgium", "Agriculture"), result.get(2).getId());
+        assertNull(result.get(3));
+        // one query for Belgium, one for the single series of France
+        assertEquals(1, acc.allSeriesWithDataCount);
+        assertEquals(1, acc.seriesWithDataCount);
+    }
+
+    @Test
+    public void testGetFewSeriesOfLargeParent() throws Exception {
+        XAccessor acc = new XAccessor();
+        List<DbSeries> result = acc.getSeriesListWithData(Arrays.asList(
+                new String[]{"France", "Industry"},
+                new String[]{"France", "Mining"}));
+        assertEquals(acc.root.child("France", "Industry"), result.get(0).getId());
+        assertEquals(acc.root.child("France", "Mining"), result.get(1).getId());
+        // 2 series out of 5: they are retrieved one by one
+        assertEquals(0, acc.allSeriesWithDataCount);
+        assertEquals(2, acc.seriesWithDataCount);
+
+        // unless the parent is cached anyway
+        DbAccessor<DbBean> bulk = DbAccessor.BulkAccessor.from(acc, 1, CacheBuilder.newBuilder().<DbSetId, List<DbSeries>>build());
+        result = bulk.getSeriesListWithData(Arrays.asList(
+                new String[]{"France", "Industry"},
+                new String[]{"France", "Mining"}));
+        assertEquals(acc.root.child("France", "Industry"), result.get(0).getId());
+        assertEquals(acc.root.child("France", "Mining"), result.get(1).getId());
+        assertEquals(1, acc.allSeriesWithDataCount);
+        assertEquals(2, acc.seriesWithDataCount);
+    }
+
+    @Test
+    public void testGetSingleMissingSeries() throws Exception {
+        XAccessor acc = new XAccessor();
+        List<DbSeries> result = acc.getSeriesListWithData(Arrays.<String[]>asList(new String[]{"Belgium", "Mining"}));
+        assertEquals(1, result.size());
+        assertNull(result.get(0));
+        assertEquals(1, acc.seriesWithDataCount);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetSeriesListWithCollection() throws Exception {
+        new XAccessor().getSeriesListWithData(Arrays.<String[]>asList(new String[]{"Belgium"}));
+    }
+}
@@ -16,10 +16,16 @@
  */
 package ec.tss.tsproviders.jdbc;
 
+import ec.tss.tsproviders.DataSource;
+import ec.tss.tsproviders.cursor.TsCursor;
 import ec.tss.tsproviders.db.DbAccessor;
 import ec.tss.tsproviders.db.DbSeries;
 import ec.tss.tsproviders.db.DbSetId;
 import static ec.tss.tsproviders.jdbc.JdbcSamples.mydbConnectionSupplier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import static org.junit.Assert.*;
 import org.junit.BeforeClass;
@@ -174,4 +180,66 @@ public class JdbcAccessorTest {
         assertEquals(a2c1_first, a2c2_first);
         assertNotSame(a2c1_first, a2c2_first);
     }
+
+    @Test
+    public void testGetAllSeriesWithDataCursor() throws Exception {
+        JdbcBean bean = mydbTwoDimsBean();
+        bean.setFetchSize(1);
+        JdbcAccessor<JdbcBean> accessor = new JdbcAccessor<>(NOP_LOGGER, bean, mydbConnectionSupplier());
+        List<DbSeries> expected = A2.getAllSeriesWithData();
+        try (TsCursor<DbSetId> cursor = accessor.getAllSeriesWithDataCursor()) {
+            for (DbSeries series : expected) {
+                assertTrue(cursor.nextSeries());
+                assertEquals(series.getId(), cursor.getSeriesId());
+                assertEquals(series.getData(), cursor.getSeriesData());
+            }
+            assertFalse(cursor.nextSeries());
+        }
+        try (TsCursor<DbSetId> cursor = accessor.getAllSeriesWithDataCursor("Industry")) {
+            assertTrue(cursor.nextSeries());
+            assertEquals("Industry, Belgium", cursor.getSeriesLabel());
+            assertArrayEquals(D2[0], cursor.getSeriesData().get().internalStorage(), 0);
+            assertTrue(cursor.nextSeries());
+            assertFalse(cursor.nextSeries());
+        }
+    }
+
+    @Test
+    public void testGetAllSeriesWithDataCursorAutoCommit() throws Exception {
+        List<Boolean> autoCommits = new ArrayList<>();
+        ConnectionSupplier supplier = o -> {
+            Connection conn = mydbConnectionSupplier().getConnection(o);
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                if (method.getName().equals("setAutoCommit")) {
+                    autoCommits.add((Boolean) args[0]);
+                }
+                return method.invoke(conn, args);
+            });
+        };
+        JdbcAccessor<JdbcBean> accessor = new JdbcAccessor<>(NOP_LOGGER, mydbTwoDimsBean(), supplier);
+        // auto-commit is off while the cursor is open, and restored after
+        try (TsCursor<DbSetId> cursor = accessor.getAllSeriesWithDataCursor()) {
+            assertTrue(cursor.nextSeries());
+            assertEquals(Arrays.asList(false), autoCommits);
+        }
+        assertEquals(Arrays.asList(false, true), autoCommits);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetAllSeriesWithDataCursor_Val2Dim2() throws Exception {
+        A2.getAllSeriesWithDataCursor("Industry", "Belgium");
+    }
+
+    @Test
+    public void testFetchSize() {
+        JdbcBean bean = mydbTwoDimsBean();
+        assertEquals(0, bean.getFetchSize());
+        bean.setFetchSize(-1);
+        assertEquals(0, bean.getFetchSize());
+        bean.setFetchSize(1000);
+        DataSource dataSource = bean.toDataSource("test", "1");
+        assertEquals("1000", dataSource.get("fetchSize"));
+        assertEquals(1000, new JdbcBean(dataSource).getFetchSize());
+        assertNull(mydbTwoDimsBean().toDataSource("test", "1").get("fetchSize"));
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.jdbc;
+
+import ec.tss.tsproviders.db.DbSeries;
+import static ec.tss.tsproviders.jdbc.JdbcSamples.mydbConnectionSupplier;
+import static ec.tss.tsproviders.jdbc.JdbcSamples.mydbTwoDimsBean;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import static org.slf4j.helpers.NOPLogger.NOP_LOGGER;
+
+/**
+ *
+ * @author agent
+ */
+public class PooledConnectionSupplierTest {
+
+    @Test
+    public void testReuse() throws Exception {
+        try (PooledConnectionSupplier supplier = new PooledConnectionSupplier(mydbConnectionSupplier())) {
+            JdbcAccessor<JdbcBean> accessor = new JdbcAccessor<>(NOP_LOGGER, mydbTwoDimsBean(), supplier);
+            DbSeries first = accessor.getSeriesWithData("Industry", "Belgium");
+            DbSeries second = accessor.getSeriesWithData("Industry", "Belgium");
+            assertEquals(first, second);
+            accessor.getSeriesWithData("Other", "Europe");
+
+            PooledConnectionSupplier.Metrics metrics = supplier.getMetrics();
+            assertEquals(3, metrics.getConnectionRequests());
+            assertEquals(1, metrics.getCreatedConnections());
+            assertEquals(3, metrics.getStatementRequests());
+            // same SQL, other parameters
+            assertEquals(2, metrics.getStatementHits());
+            assertEquals(2. / 3, metrics.getStatementHitRate(), 1e-9);
+        }
+    }
+
+    @Test
+    public void testStatementInUse() throws Exception {
+        try (PooledConnectionSupplier supplier = new PooledConnectionSupplier(mydbConnectionSupplier())) {
+            try (Connection conn = supplier.getConnection(mydbTwoDimsBean())) {
+                PreparedStatement s1 = conn.prepareStatement("SELECT * FROM Table2");
+                PreparedStatement s2 = conn.prepareStatement("SELECT * FROM Table2");
+                assertTrue(s1.executeQuery().next());
+                assertTrue(s2.executeQuery().next());
+                assertSame(conn, s1.getConnection());
+                s1.close();
+                s2.close();
+                assertTrue(s1.isClosed());
+                assertEquals(0, supplier.getMetrics().getStatementHits());
+                conn.prepareStatement("SELECT * FROM Table2").close();
+                assertEquals(1, supplier.getMetrics().getStatementHits());
+            }
+        }
+    }
+
+    @Test
+    public void testGiveBack() throws Exception {
+        try (PooledConnectionSupplier supplier = new PooledConnectionSupplier(mydbConnectionSupplier())) {
+            JdbcBean bean = mydbTwoDimsBean();
+            Connection conn = supplier.getConnection(bean);
+            boolean autoCommit = conn.getAutoCommit();
+            PreparedStatement statement = conn.prepareStatement("SELECT * FROM Table2");
+            ResultSet rs = statement.executeQuery();
+            conn.setAutoCommit(!autoCommit);
+            // the statement and its result set are not closed by the borrower
+            conn.close();
+            assertTrue(statement.isClosed());
+            assertTrue(rs.isClosed());
+            try {
+                statement.executeQuery();
+                fail();
+            } catch (SQLException ex) {
+            }
+            try (Connection other = supplier.getConnection(bean)) {
+                assertEquals(autoCommit, other.getAutoCommit());
+                // the cached statement is available again
+                other.prepareStatement("SELECT * FROM Table2").close();
+            }
+            assertEquals(1, supplier.getMetrics().getCreatedConnections());
+            assertEquals(1, supplier.getMetrics().getStatementHits());
+        }
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        try (PooledConnectionSupplier supplier = new PooledConnectionSupplier(mydbConnectionSupplier(), 1, 0, 10)) {
+            JdbcBean bean = mydbTwoDimsBean();
+            Connection conn = supplier.getConnection(bean);
+            try {
+                supplier.getConnection(bean);
+                fail();
+            } catch (SQLTimeoutException ex) {
+            }
+            conn.close();
+            assertTrue(conn.isClosed());
+            try (Connection other = supplier.getConnection(bean)) {
+                assertFalse(other.isClosed());
+            }
+            assertEquals(1, supplier.getMetrics().getCreatedConnections());
+        }
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        PooledConnectionSupplier supplier = new PooledConnectionSupplier(mydbConnectionSupplier());
+        JdbcBean bean = mydbTwoDimsBean();
+        supplier.getConnection(bean).close();
+        supplier.close();
+        try {
+            supplier.getConnection(bean);
+            fail();
+        } catch (java.sql.SQLException ex) {
+        }
+    }
+}
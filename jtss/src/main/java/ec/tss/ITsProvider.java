@@ -17,13 +17,16 @@
 package ec.tss;
 
 import ec.tstoolkit.design.Development;
+import java.util.Collection;
 import nbbrd.service.Quantifier;
 import nbbrd.service.ServiceDefinition;
 import net.jcip.annotations.ThreadSafe;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
- * Generic interface for providers of time series.
+ * Generic interface for providers of time series. TsFactory serializes the
+ * calls to each provider; a provider must not request the series of another
+ * provider through TsFactory while it is called.
  *
  * @author Jean Palate
  * @since 1.0.0
@@ -74,6 +77,27 @@ public interface ITsProvider extends AutoCloseable {
      */
     boolean get(@NonNull TsInformation info);
 
+    /**
+     * Synchronous query of the information about several ts. The provider
+     * may retrieve them together (for instance by a single query on the
+     * collection that contains them). By default, the series are retrieved
+     * one by one. As for a single ts, the causes of the failures should be
+     * added to the corresponding TsInformation.
+     *
+     * @param infos The requested information
+     * @return true if all the queries run without exception, false otherwise
+     * @since 2.2.3
+     */
+    default boolean get(@NonNull Collection<TsInformation> infos) {
+        boolean result = true;
+        for (TsInformation info : infos) {
+            if (!get(info)) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
     /**
      * Gets the asynchronous mode of the provider.
      *
@@ -28,9 +28,8 @@ import ec.tstoolkit.design.Internal;
 import ec.tstoolkit.design.NewObject;
 import ec.tstoolkit.design.Singleton;
 import ec.tstoolkit.timeseries.simplets.TsData;
-import java.lang.ref.WeakReference;
 import java.util.*;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
@@ -116,24 +115,6 @@ public class TsFactory {
         }
     }
 
-    class TsFactoryCleaner extends Thread {
-
-        public TsFactoryCleaner() {
-            this.setDaemon(true);
-        }
-
-        @Override
-        public void run() {
-            while (true) {
-                if (isClosing()) {
-                    return;
-                }
-                cleanTS();
-                cleanTSCollection();
-                LockSupport.parkNanos(10000000000l);
-            }
-        }
-    }
     /**
      *
      */
@@ -146,13 +127,14 @@ public class TsFactory {
     }
 
     private final HashMap<String, ITsProvider> m_providers = new HashMap<>();
-    private final HashMap<TsMoniker, WeakReference<TsCollection>> m_collections = new HashMap<>();
-    private final HashMap<TsMoniker, WeakReference<Ts.Master>> m_ts = new HashMap<>();
-    private boolean m_close;
+    private final TsRegistry<TsCollection> m_collections = new TsRegistry<>();
+    private final TsRegistry<Ts.Master> m_ts = new TsRegistry<>();
+    private final ConcurrentHashMap<String, Object> m_locks = new ConcurrentHashMap<>();
+    private final Object m_defaultLock = new Object();
+    private volatile boolean m_close;
     private final long m_threadID;
     private boolean m_useSynchronousNotifications = true;
     NotificationsQueue notifications = new NotificationsQueue();
-    TsFactoryCleaner cleaner = new TsFactoryCleaner();
     private final ReloadListener reloadListener = new ReloadListener();
     private final Ts.FactoryCallback tsCallback = new TsCallback();
     private final TsCollection.FactoryCallback tsCollectionCallback = new TsCollectionCallback();
@@ -203,35 +185,6 @@ public class TsFactory {
         notifications.addObserver(obs);
     }
 
-    private void cleanTS() {
-        synchronized (m_ts) {
-            HashMap<TsMoniker, WeakReference<Ts.Master>> tmp = new HashMap<>();
-            int n = 0;
-            for (Entry<TsMoniker, WeakReference<Ts.Master>> r : m_ts.entrySet()) {
-                if (r.getValue().get() != null) {
-                    tmp.put(r.getKey(), r.getValue());
-                } else {
-                    ++n;
-                }
-            }
-            m_ts.clear();
-            m_ts.putAll(tmp);
-        }
-    }
-
-    private void cleanTSCollection() {
-        synchronized (m_collections) {
-            HashMap<TsMoniker, WeakReference<TsCollection>> tmp = new HashMap<>();
-            m_collections.forEach((k, v) -> {
-                if (v.get() != null) {
-                    tmp.put(k, v);
-                }
-            });
-            m_collections.clear();
-            m_collections.putAll(tmp);
-        }
-    }
-
     /**
      *
      */
@@ -245,8 +198,8 @@ public class TsFactory {
      */
     public void clearCache() {
         m_providers.forEach((k, v) -> v.clearCache());
-        cleanTSCollection();
-        cleanTS();
+        m_collections.expunge();
+        m_ts.expunge();
     }
 
     /**
@@ -269,27 +222,25 @@ public class TsFactory {
     @NonNull
     @NewObject
     public Ts createTs(@Nullable String name) {
-        synchronized (m_ts) {
-            Ts.Master ts = new Ts.Master(tsCallback, name);
-            m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-            return ts;
-        }
+        Ts.Master ts = new Ts.Master(tsCallback, name);
+        m_ts.put(ts.getMoniker(), ts);
+        return ts;
     }
 
     Ts createTs(TsInformation info) {
-        synchronized (m_ts) {
-            Ts.Master ts = null;
-            WeakReference<Ts.Master> wref = m_ts.get(info.moniker);
-            if (wref != null) {
-                ts = wref.get();
-            }
-            if (ts == null) {
-                ts = new Ts.Master(tsCallback, info.name, info.moniker);
-            }
+        if (info.moniker == null) {
+            // same as createTs(name, null, md, d)
+            Ts.Master ts = new Ts.Master(tsCallback, info.name, new TsMoniker());
+            m_ts.put(ts.getMoniker(), ts);
             ts.update(info);
-            m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
             return ts;
         }
+        Ts.Master ts = m_ts.get(info.moniker);
+        if (ts == null) {
+            ts = m_ts.putIfAbsent(info.moniker, new Ts.Master(tsCallback, info.name, info.moniker));
+        }
+        ts.update(info);
+        return ts;
     }
 
     /**
@@ -318,29 +269,19 @@ public class TsFactory {
      */
     @NonNull
     public Ts createTs(@Nullable String name, @Nullable TsMoniker moniker, @Nullable MetaData md, @Nullable TsData d) {
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = null;
-            if (moniker != null) {
-                wref = m_ts.get(moniker);
-            }
-            if (wref != null) {
-                Ts.Master ts = wref.get();
-                if (ts != null) {
-                    return ts.rename(name);
-                } else {
-                    ts = new Ts.Master(tsCallback, name, moniker, md, d);
-                    m_ts.put(moniker, new WeakReference<>(ts));
-                    return ts;
-                }
-            } else {
-                if (moniker == null) {
-                    moniker = new TsMoniker();
-                }
-                Ts.Master ts = new Ts.Master(tsCallback, name, moniker, md, d);
-                m_ts.put(ts.getMoniker(), new WeakReference<>(ts));
-                return ts;
-            }
+        if (moniker == null) {
+            Ts.Master ts = new Ts.Master(tsCallback, name, new TsMoniker(), md, d);
+            m_ts.put(ts.getMoniker(), ts);
+            return ts;
+        }
+        Ts.Master ts = m_ts.get(moniker);
+        if (ts != null) {
+            return ts.rename(name);
         }
+        Ts.Master nts = new Ts.Master(tsCallback, name, moniker, md, d);
+        ts = m_ts.putIfAbsent(moniker, nts);
+        // another thread could have registered the series in the meantime
+        return ts == nts ? ts : ts.rename(name);
     }
 
     /**
@@ -354,23 +295,54 @@ public class TsFactory {
      */
     @NonNull
     public Ts createTs(@Nullable String name, @NonNull TsMoniker moniker, @NonNull TsInformationType type) {
-        synchronized (m_ts) {
-            Ts.Master result = (Ts.Master) getTs(moniker);
-            if (result == null) {
-                if (type != TsInformationType.None) {
-                    TsInformation info = new TsInformation(name, moniker, type);
-                    fill(info);
-                    result = new Ts.Master(tsCallback, name != null ? name : info.name, moniker);
-                    result.update(info);
-                } else {
-                    result = new Ts.Master(tsCallback, name, moniker);
+        Ts.Master result = m_ts.get(moniker);
+        if (result == null) {
+            if (type != TsInformationType.None) {
+                // the provider is called outside the registry. Concurrent
+                // requests of the same series wait for the provider and find
+                // the new series, so that it is fetched only once
+                synchronized (lockOf(moniker.getSource())) {
+                    result = m_ts.get(moniker);
+                    if (result == null) {
+                        TsInformation info = new TsInformation(name, moniker, type);
+                        fill(info);
+                        Ts.Master nts = new Ts.Master(tsCallback, name != null ? name : info.name, moniker);
+                        nts.update(info);
+                        result = m_ts.putIfAbsent(moniker, nts);
+                        if (result == nts) {
+                            return result;
+                        }
+                    }
                 }
-                m_ts.put(moniker, new WeakReference<>(result));
             } else {
-                result.load(type);
+                Ts.Master nts = new Ts.Master(tsCallback, name, moniker);
+                result = m_ts.putIfAbsent(moniker, nts);
+                if (result == nts) {
+                    return result;
+                }
             }
-            return result;
         }
+        result.load(type);
+        return result;
+    }
+
+    /**
+     * Gets the lock that serializes the calls to a provider. The providers
+     * are not required to be thread-safe; the calls to different providers
+     * are not serialized. The monikers without source share the same lock.
+     * <p>
+     * The lock of a provider is held during its calls, so that a provider
+     * must not request the series or the collections of another provider
+     * through the factory while it is called: two such providers requesting
+     * each other's series in different threads would deadlock. The
+     * requests of a provider to its own series are safe (the locks are
+     * re-entrant).
+     *
+     * @param source
+     * @return
+     */
+    private Object lockOf(@Nullable String source) {
+        return source == null ? m_defaultLock : m_locks.computeIfAbsent(source, o -> new Object());
     }
 
     private boolean fill(TsInformation info) {
@@ -379,7 +351,11 @@ public class TsFactory {
             info.invalidDataCause = "Missing provider";
             return false;
         }
-        if (!provider.get(info)) {
+        boolean ok;
+        synchronized (lockOf(provider.getSource())) {
+            ok = provider.get(info);
+        }
+        if (!ok) {
             if (info.invalidDataCause == null) {
                 info.invalidDataCause = "Unknown error";
             }
@@ -408,12 +384,9 @@ public class TsFactory {
     @NonNull
     @NewObject
     public TsCollection createTsCollection(@Nullable String name) {
-        synchronized (m_collections) {
-            TsCollection coll = new TsCollection(tsCollectionCallback, name);
-            m_collections.put(coll.getMoniker(),
-                    new WeakReference<>(coll));
-            return coll;
-        }
+        TsCollection coll = new TsCollection(tsCollectionCallback, name);
+        m_collections.put(coll.getMoniker(), coll);
+        return coll;
     }
 
     /**
@@ -429,29 +402,16 @@ public class TsFactory {
     @NonNull
     public TsCollection createTsCollection(@Nullable String name, @Nullable TsMoniker moniker, @Nullable MetaData md,
             @Nullable Iterable<Ts> ts) {
-        synchronized (m_collections) {
-            if (moniker == null) {
-                TsCollection c = new TsCollection(tsCollectionCallback, name, new TsMoniker(), md, ts);
-                m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                return c;
-            } else {
-                WeakReference<TsCollection> wref = m_collections.get(moniker);
-                if (wref != null) {
-                    TsCollection c = wref.get();
-                    if (c != null) {
-                        return c;
-                    } else {
-                        c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
-                        m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                        return c;
-                    }
-                } else {
-                    TsCollection c = new TsCollection(tsCollectionCallback, name, moniker, md, ts);
-                    m_collections.put(c.getMoniker(), new WeakReference<>(c));
-                    return c;
-                }
-            }
+        if (moniker == null) {
+            TsCollection c = new TsCollection(tsCollectionCallback, name, new TsMoniker(), md, ts);
+            m_collections.put(c.getMoniker(), c);
+            return c;
         }
+        TsCollection c = m_collections.get(moniker);
+        if (c != null) {
+            return c;
+        }
+        return m_collections.putIfAbsent(moniker, new TsCollection(tsCollectionCallback, name, moniker, md, ts));
     }
 
     /**
@@ -467,26 +427,42 @@ public class TsFactory {
     public TsCollection createTsCollection(@Nullable String name, @NonNull TsMoniker moniker,
             @NonNull TsInformationType type) {
         // Search collection
-        synchronized (m_collections) {
-            TsCollection result = getTsCollection(moniker);
-            if (result == null) {
-                result = new TsCollection(tsCollectionCallback, name, moniker);
-                if (type != TsInformationType.None) {
-                    TsCollectionInformation info = new TsCollectionInformation(moniker, type);
-                    fill(info);
-                    // set data
-                    List<Ts> updated = result.update(info);
+        TsCollection result = m_collections.get(moniker);
+        if (result == null) {
+            if (type != TsInformationType.None) {
+                // the provider is called outside the registry (see createTs)
+                List<Ts> updated = null;
+                synchronized (lockOf(moniker.getSource())) {
+                    result = m_collections.get(moniker);
+                    if (result == null) {
+                        TsCollection c = new TsCollection(tsCollectionCallback, name, moniker);
+                        TsCollectionInformation info = new TsCollectionInformation(moniker, type);
+                        fill(info);
+                        // set data
+                        updated = c.update(info);
+                        // add collection
+                        result = m_collections.putIfAbsent(moniker, c);
+                        if (result != c) {
+                            updated = null;
+                        }
+                    }
+                }
+                if (updated != null) {
                     for (Ts s : updated) {
                         notify(s, type, result);
                     }
+                    return result;
                 }
-                // add collection
-                m_collections.put(moniker, new WeakReference<>(result));
             } else {
-                result.load(type);
+                TsCollection c = new TsCollection(tsCollectionCallback, name, moniker);
+                result = m_collections.putIfAbsent(moniker, c);
+                if (result == c) {
+                    return result;
+                }
             }
-            return result;
         }
+        result.load(type);
+        return result;
     }
 
     private boolean fill(TsCollectionInformation info) {
@@ -495,7 +471,11 @@ public class TsFactory {
             info.invalidDataCause = "Missing provider";
             return false;
         }
-        if (!provider.get(info)) {
+        boolean ok;
+        synchronized (lockOf(provider.getSource())) {
+            ok = provider.get(info);
+        }
+        if (!ok) {
             if (info.invalidDataCause == null) {
                 info.invalidDataCause = "Unknown error";
             }
@@ -518,7 +498,6 @@ public class TsFactory {
     public void dispose() {
         m_close = true;
         m_providers.values().forEach(ITsProvider::dispose);
-        cleaner.interrupt();
         notifications.notificationThread.interrupt();
     }
 
@@ -554,19 +533,7 @@ public class TsFactory {
      */
     @Nullable
     public Ts getTs(@Nullable TsMoniker moniker) {
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = m_ts.get(moniker);
-            if (wref != null) {
-                Ts ts = wref.get();
-                if (ts == null) {
-                    m_ts.remove(moniker);
-                }
-                // cleanTS();
-                return ts;
-            } else {
-                return null;
-            }
-        }
+        return m_ts.get(moniker);
     }
 
     /**
@@ -578,19 +545,7 @@ public class TsFactory {
      */
     @Nullable
     public TsCollection getTsCollection(@Nullable TsMoniker moniker) {
-        synchronized (m_collections) {
-            WeakReference<TsCollection> wref = m_collections.get(moniker);
-            if (wref != null) {
-                TsCollection collection = wref.get();
-                if (collection == null) {
-                    m_collections.remove(moniker);
-                }
-                // cleanTSCollection();
-                return collection;
-            } else {
-                return null;
-            }
-        }
+        return m_collections.get(moniker);
     }
 
     /**
@@ -611,13 +566,7 @@ public class TsFactory {
         if (m_close) {
             return false;
         }
-        synchronized (m_ts) {
-            WeakReference<Ts.Master> wref = m_ts.get(moniker);
-            if (wref == null) {
-                return false;
-            }
-            return wref.get() != null;
-        }
+        return m_ts.isAlive(moniker);
     }
 
     /**
@@ -630,13 +579,7 @@ public class TsFactory {
         if (m_close) {
             return false;
         }
-        synchronized (m_collections) {
-            WeakReference<TsCollection> wref = m_collections.get(moniker);
-            if (wref == null) {
-                return false;
-            }
-            return wref.get() != null;
-        }
+        return m_collections.isAlive(moniker);
     }
 
     /**
@@ -691,14 +634,56 @@ public class TsFactory {
      */
     public boolean load(Ts[] list, TsInformationType type) {
         boolean ok = false;
+        // the series of the same provider are loaded together
+        Map<ITsProvider, List<Ts.Master>> providers = new LinkedHashMap<>();
         for (Ts s : list) {
-            if (load(s, type)) {
+            Ts.Master ts = s.getMaster();
+            ITsProvider provider = ts.getMoniker().isAnonymous() ? null : getProvider(ts.getMoniker().getSource());
+            if (provider != null) {
+                providers.computeIfAbsent(provider, o -> new ArrayList<>()).add(ts);
+            } else if (doLoad(ts, type)) {
+                ok = true;
+            }
+        }
+        for (Map.Entry<ITsProvider, List<Ts.Master>> o : providers.entrySet()) {
+            if (doLoad(o.getKey(), o.getValue(), type)) {
                 ok = true;
             }
         }
         return ok;
     }
 
+    private boolean doLoad(@NonNull ITsProvider provider, @NonNull List<Ts.Master> list, @NonNull TsInformationType type) {
+        if (list.size() == 1) {
+            return doLoad(list.get(0), type);
+        }
+        List<TsInformation> infos = new ArrayList<>(list.size());
+        for (Ts.Master ts : list) {
+            infos.add(new TsInformation(ts.getName(), ts.getMoniker(), type));
+        }
+        boolean all;
+        synchronized (lockOf(provider.getSource())) {
+            all = provider.get(infos);
+        }
+        // as for load(Ts[]), true if at least one series has been loaded. When
+        // the provider reports a failure, a series is only considered as
+        // loaded if it has no cause and contains the requested data
+        boolean result = false;
+        for (int i = 0; i < infos.size(); ++i) {
+            TsInformation info = infos.get(i);
+            boolean ok = all || (info.invalidDataCause == null && (!info.hasData() || info.data != null));
+            if (ok) {
+                result = true;
+            } else if (info.invalidDataCause == null) {
+                info.invalidDataCause = "Unknown error";
+            }
+            Ts.Master ts = list.get(i);
+            ts.update(info);
+            notify(ts, info.type, this);
+        }
+        return result;
+    }
+
     /**
      * Loads information for the corresponding object (it is not checked that
      * that information has already been loaded). If a corresponding
@@ -777,11 +762,9 @@ public class TsFactory {
         if (provider == null) {
             return false;
         }
-        synchronized (m_ts) {
-            return provider.getAsyncMode() == TsAsyncMode.None
-                    ? doLoad(s.getMaster(), type)
-                    : provider.queryTs(s.getMoniker(), type);
-        }
+        return provider.getAsyncMode() == TsAsyncMode.None
+                ? doLoad(s.getMaster(), type)
+                : provider.queryTs(s.getMoniker(), type);
     }
 
     /**
@@ -807,11 +790,9 @@ public class TsFactory {
             }
             return true;
         }
-        synchronized (m_collections) {
-            return provider.getAsyncMode() == TsAsyncMode.None
-                    ? doLoad(c, type)
-                    : provider.queryTsCollection(c.getMoniker(), type);
-        }
+        return provider.getAsyncMode() == TsAsyncMode.None
+                ? doLoad(c, type)
+                : provider.queryTsCollection(c.getMoniker(), type);
     }
 
     /**
@@ -868,7 +849,6 @@ public class TsFactory {
     }
 
     private void start() {
-        this.cleaner.start();
         this.notifications.start();
     }
 
@@ -877,16 +857,14 @@ public class TsFactory {
      * @param info
      */
     public void update(@NonNull TsCollectionInformation info) {
-        synchronized (m_collections) {
-            TsCollection c = getTsCollection(info.moniker);
-            if (c != null) {
-                List<Ts> updated = c.update(info);
-                notify(c, info.type, null);
-                updated.forEach(s -> notify(s, info.type, c));
-            } else {
-                // the collection has been destroyed, but the series could be alive...
-                info.items.forEach(sinfo -> update(sinfo));
-            }
+        TsCollection c = getTsCollection(info.moniker);
+        if (c != null) {
+            List<Ts> updated = c.update(info);
+            notify(c, info.type, null);
+            updated.forEach(s -> notify(s, info.type, c));
+        } else {
+            // the collection has been destroyed, but the series could be alive...
+            info.items.forEach(sinfo -> update(sinfo));
         }
     }
 
@@ -896,15 +874,13 @@ public class TsFactory {
      * @param info
      */
     public void update(@NonNull TsInformation info) {
-        synchronized (m_ts) {
-            Ts.Master s = (Ts.Master) getTs(info.moniker);
-            if (s == null) // the series has been destroyed
-            {
-                return;
-            }
-            s.update(info);
-            notify(s, info.type, null);
+        Ts.Master s = m_ts.get(info.moniker);
+        if (s == null) // the series has been destroyed
+        {
+            return;
         }
+        s.update(info);
+        notify(s, info.type, null);
     }
 
     /**
@@ -944,23 +920,13 @@ public class TsFactory {
         }
 
         private TsCollection[] lookupTsCollection(IDataSourceProvider p, DataSource dataSource) {
-            synchronized (m_collections) {
-                return m_collections.entrySet().stream()
-                        .filter(o -> isRelatedTo(p, dataSource, o.getKey()))
-                        .map(o -> o.getValue().get())
-                        .filter(Objects::nonNull)
-                        .toArray(TsCollection[]::new);
-            }
+            return m_collections.select(o -> isRelatedTo(p, dataSource, o))
+                    .toArray(new TsCollection[0]);
         }
 
         private Ts.Master[] lookupTs(IDataSourceProvider p, DataSource dataSource) {
-            synchronized (m_collections) {
-                return m_ts.entrySet().stream()
-                        .filter(o -> isRelatedTo(p, dataSource, o.getKey()))
-                        .map(o -> o.getValue().get())
-                        .filter(Objects::nonNull)
-                        .toArray(Ts.Master[]::new);
-            }
+            return m_ts.select(o -> isRelatedTo(p, dataSource, o))
+                    .toArray(new Ts.Master[0]);
         }
 
         private boolean isRelatedTo(IDataSourceProvider p, DataSource dataSource, TsMoniker moniker) {
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Weak registry of the objects (time series, collections) identified by their
+ * monikers. The registry doesn't use any global lock: the lookups don't lock
+ * at all and the updates only lock the bin of the moniker in the underlying
+ * concurrent map. The entries of the objects that have been collected are
+ * removed when their references are enqueued, the next time the registry is
+ * modified (or explicitly expunged).
+ *
+ * @author agent
+ * @param <T>
+ */
+final class TsRegistry<T> {
+
+    private static final class Entry<T> extends WeakReference<T> {
+
+        final TsMoniker moniker;
+
+        Entry(TsMoniker moniker, T referent, ReferenceQueue<? super T> queue) {
+            super(referent, queue);
+            this.moniker = moniker;
+        }
+    }
+
+    private final ConcurrentHashMap<TsMoniker, Entry<T>> map = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+    /**
+     * Gets a registered object
+     *
+     * @param moniker
+     * @return The object or null if it doesn't exist (or has been collected)
+     */
+    @Nullable
+    T get(@Nullable TsMoniker moniker) {
+        if (moniker == null) {
+            return null;
+        }
+        Entry<T> entry = map.get(moniker);
+        if (entry == null) {
+            return null;
+        }
+        T obj = entry.get();
+        if (obj == null) {
+            map.remove(moniker, entry);
+        }
+        return obj;
+    }
+
+    /**
+     * Checks that an object is registered and alive
+     *
+     * @param moniker
+     * @return
+     */
+    boolean isAlive(@Nullable TsMoniker moniker) {
+        if (moniker == null) {
+            return false;
+        }
+        Entry<T> entry = map.get(moniker);
+        return entry != null && entry.get() != null;
+    }
+
+    /**
+     * Registers an object. A previous object with the same moniker is
+     * replaced.
+     *
+     * @param moniker
+     * @param obj
+     */
+    void put(@NonNull TsMoniker moniker, @NonNull T obj) {
+        expunge();
+        map.put(moniker, new Entry<>(moniker, obj, queue));
+    }
+
+    /**
+     * Registers an object if there is no living object with the same moniker.
+     *
+     * @param moniker
+     * @param obj
+     * @return The registered object: the living one or the given object
+     */
+    @NonNull
+    T putIfAbsent(@NonNull TsMoniker moniker, @NonNull T obj) {
+        expunge();
+        // keeps a strong reference on the registered object
+        AtomicReference<T> cur = new AtomicReference<>();
+        map.compute(moniker, (k, entry) -> {
+            if (entry != null) {
+                T o = entry.get();
+                if (o != null) {
+                    cur.set(o);
+                    return entry;
+                }
+            }
+            cur.set(obj);
+            return new Entry<>(k, obj, queue);
+        });
+        return cur.get();
+    }
+
+    /**
+     * Gets the living objects whose monikers satisfy a given condition
+     *
+     * @param pred
+     * @return A new list (a snapshot of the registry)
+     */
+    @NonNull
+    List<T> select(@NonNull Predicate<TsMoniker> pred) {
+        List<T> sel = new ArrayList<>();
+        map.forEach((k, entry) -> {
+            if (pred.test(k)) {
+                T o = entry.get();
+                if (o != null) {
+                    sel.add(o);
+                }
+            }
+        });
+        return sel;
+    }
+
+    /**
+     * Removes the entries of the collected objects.
+     */
+    void expunge() {
+        Reference<? extends T> ref;
+        while ((ref = queue.poll()) != null) {
+            // only entries are registered in the queue
+            Entry<?> entry = (Entry<?>) ref;
+            map.remove(entry.moniker, entry);
+        }
+    }
+
+    /**
+     * Number of entries (including the entries of the collected objects that
+     * have not been expunged yet)
+     *
+     * @return
+     */
+    int size() {
+        return map.size();
+    }
+}
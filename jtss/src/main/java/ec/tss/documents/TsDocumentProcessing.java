@@ -18,9 +18,11 @@
 package ec.tss.documents;
 
 import ec.tstoolkit.algorithm.*;
+import ec.tstoolkit.timeseries.analysis.CachedTsProcessing;
 import ec.tstoolkit.timeseries.analysis.ITsProcessing;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.Arrays;
 
 /**
  *
@@ -36,6 +38,34 @@ public class TsDocumentProcessing<R extends IProcResults> implements ITsProcessi
         data_ = doc.getInput().getTsData();
     }
 
+    private TsDocumentProcessing(IProcessing<TsData, R> processing, TsData data) {
+        processing_ = processing;
+        data_ = data;
+    }
+
+    /**
+     * Creates a processing of the document whose results are shared (see
+     * TsProcessingCache) by the analyses of the same series with the same
+     * specification and the same context. The domains that are not yet in the
+     * cache are processed in parallel.
+     *
+     * @param <S>
+     * @param <R>
+     * @param doc
+     * @return
+     * @since 2.2.3
+     */
+    public static <S extends IProcSpecification, R extends IProcResults> CachedTsProcessing<R> cached(TsDocument<S, R> doc) {
+        IProcessingFactory<S, TsData, R> processor = doc.getProcessor();
+        // the clone of a specification has the type of the specification
+        @SuppressWarnings("unchecked")
+        S spec = (S) doc.getSpecification().clone();
+        ProcessingContext context = doc.getContext();
+        TsData data = doc.getInput().getTsData();
+        return new CachedTsProcessing<>(Arrays.asList(processor.getInformation(), spec, context, data),
+                () -> new TsDocumentProcessing<>(processor.generateProcessing(spec, context), data));
+    }
+
     @Override
     public R process(TsDomain domain) {
         if (data_ == null) {
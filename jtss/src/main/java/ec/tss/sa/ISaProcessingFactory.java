@@ -54,6 +54,24 @@ public interface ISaProcessingFactory<S extends ISaSpecification> extends
      */
         ISaSpecification createSpecification(SaItem doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan);
 
+    /**
+     * Same as the previous method. When warm is true, the policies that keep
+     * the arima model (FreeParameters, LastOutliers, Outliers) use the last
+     * estimates of its free parameters as starting values (instead of clearing
+     * them). The default implementation ignores that option
+     *
+     * @param doc
+     * @param frozenPeriod
+     * @param policy
+     * @param nospan
+     * @param warm
+     * @return
+     * @since 2.2.3
+     */
+    default ISaSpecification createSpecification(SaItem doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan, boolean warm) {
+        return createSpecification(doc, frozenPeriod, policy, nospan);
+    }
+
         /// <summary>
     /// Updates the descriptor with a new estimation
     /// </summary>
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import com.google.common.base.Throwables;
+import ec.satoolkit.ISaSpecification;
+import ec.tss.Ts;
+import ec.tss.TsFactory;
+import ec.tss.TsMoniker;
+import ec.tss.sa.documents.SaDocument;
+import ec.tss.tsproviders.cursor.TsCursor;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import ec.tstoolkit.MetaData;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.IOutput;
+import ec.tstoolkit.algorithm.ProcessingExecutor;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streaming batch processing: the series are read from a cursor, processed
+ * by batches and each document is handed to the outputs, then released. At
+ * most one batch of documents is kept in memory; the next batch is only read
+ * when the outputs have consumed the previous one, so that the memory used
+ * doesn't depend on the size of the collection.
+ *
+ * The series of a batch are processed in parallel. The cursor and the outputs
+ * are only used by the calling thread, in the order of the cursor. A series
+ * that can't be processed is handed to the outputs without results; it
+ * doesn't stop the processing of the other series.
+ *
+ * @author agent
+ */
+public class SaBatchProcessing {
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaBatchProcessing.class);
+
+    private final ISaSpecification spec_;
+    private final ISaProcessingFactory<?> processor_;
+    private final List<IOutput<SaDocument<ISaSpecification>>> outputs_ = new ArrayList<>();
+    private int batchSize_ = DEFAULT_BATCH_SIZE;
+    private ProcessingExecutor executor_;
+    private volatile boolean stop_;
+    private volatile int processed_;
+
+    /**
+     *
+     * @param spec The specification used for all the series
+     * @throws IllegalArgumentException if no processor can handle the
+     * specification
+     */
+    public SaBatchProcessing(ISaSpecification spec) {
+        processor_ = (ISaProcessingFactory<?>) SaManager.instance.find(spec);
+        if (processor_ == null) {
+            throw new IllegalArgumentException("No processor for " + spec.toString());
+        }
+        spec_ = spec;
+    }
+
+    public ISaSpecification getSpecification() {
+        return spec_;
+    }
+
+    public void addOutput(IOutput<SaDocument<ISaSpecification>> output) {
+        outputs_.add(output);
+    }
+
+    public List<IOutput<SaDocument<ISaSpecification>>> getOutputs() {
+        return outputs_;
+    }
+
+    /**
+     * Maximum number of documents held in memory
+     *
+     * @return
+     */
+    public int getBatchSize() {
+        return batchSize_;
+    }
+
+    public void setBatchSize(int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("batch size");
+        }
+        batchSize_ = value;
+    }
+
+    /**
+     * Executor used for the processing of the batches. Null for the
+     * process-wide executor
+     *
+     * @return
+     */
+    public ProcessingExecutor getExecutor() {
+        return executor_;
+    }
+
+    public void setExecutor(ProcessingExecutor executor) {
+        executor_ = executor;
+    }
+
+    /**
+     * Number of series handed to the outputs by the current (or last) run
+     *
+     * @return
+     */
+    public int getProcessedCount() {
+        return processed_;
+    }
+
+    /**
+     * Cancels the current processing. The current batch is completed and the
+     * outputs are ended normally.
+     */
+    public void stop() {
+        stop_ = true;
+    }
+
+    /**
+     * Processes all the series of a cursor. The series are anonymous.
+     *
+     * @param <ID>
+     * @param cursor The cursor. It is not closed by this method
+     * @param context The context passed to the outputs (see ISaOutputFactory)
+     * @return True if the cursor has been completely processed, false if the
+     * processing has been cancelled
+     * @throws Exception Exceptions thrown by the cursor or by the outputs
+     */
+    public <ID> boolean process(TsCursor<ID> cursor, Object context) throws Exception {
+        return process(cursor, id -> TsMoniker.createAnonymousMoniker(), context);
+    }
+
+    /**
+     * Processes all the series of a cursor.
+     *
+     * @param <ID>
+     * @param cursor The cursor. It is not closed by this method
+     * @param toMoniker Creates the moniker of a series from its id in the
+     * cursor
+     * @param context The context passed to the outputs (see ISaOutputFactory)
+     * @return True if the cursor has been completely processed, false if the
+     * processing has been cancelled
+     * @throws Exception Exceptions thrown by the cursor or by the outputs
+     */
+    public <ID> boolean process(TsCursor<ID> cursor, Function<? super ID, TsMoniker> toMoniker, Object context) throws Exception {
+        stop_ = false;
+        processed_ = 0;
+        ProcessingExecutor executor = executor_ != null ? executor_ : ProcessingExecutor.getInstance();
+        int started = 0;
+        boolean completed = false;
+        try {
+            for (IOutput<SaDocument<ISaSpecification>> output : outputs_) {
+                output.start(context);
+                ++started;
+            }
+            List<Callable<SaDocument<ISaSpecification>>> batch = new ArrayList<>(batchSize_);
+            boolean more = true;
+            while (more && !stop_) {
+                batch.clear();
+                while (batch.size() < batchSize_ && (more = cursor.nextSeries())) {
+                    Ts ts = read(cursor, toMoniker);
+                    batch.add(() -> process(ts));
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Future<SaDocument<ISaSpecification>>> docs = executor.invokeAll(batch);
+                for (Future<SaDocument<ISaSpecification>> doc : docs) {
+                    SaDocument<ISaSpecification> cur = get(doc);
+                    for (IOutput<SaDocument<ISaSpecification>> output : outputs_) {
+                        output.process(cur);
+                    }
+                    ++processed_;
+                }
+            }
+            completed = true;
+        } finally {
+            end(started, context, completed);
+        }
+        return !stop_;
+    }
+
+    // ends the outputs that have been started, even if one of them fails.
+    // When the processing has been aborted, its own exception is propagated
+    private void end(int started, Object context, boolean completed) throws Exception {
+        Exception failure = null;
+        for (int i = 0; i < started; ++i) {
+            try {
+                outputs_.get(i).end(context);
+            } catch (Exception ex) {
+                if (!completed) {
+                    LOGGER.warn("Cannot end output", ex);
+                } else if (failure == null) {
+                    failure = ex;
+                } else {
+                    failure.addSuppressed(ex);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private <ID> Ts read(TsCursor<ID> cursor, Function<? super ID, TsMoniker> toMoniker) throws Exception {
+        OptionalTsData data = cursor.getSeriesData();
+        Map<String, String> meta = cursor.getSeriesMetaData();
+        Ts ts = TsFactory.instance.createTs(cursor.getSeriesLabel(), toMoniker.apply(cursor.getSeriesId()),
+                meta.isEmpty() ? null : new MetaData(meta), data.isPresent() ? data.get() : null);
+        if (!data.isPresent()) {
+            ts.setInvalidDataCause(data.getCause());
+        }
+        return ts;
+    }
+
+    private SaDocument<ISaSpecification> process(Ts ts) {
+        SaDocument<ISaSpecification> doc = createDocument();
+        TsData s = ts.getTsData();
+        CompositeResults rslts = null;
+        if (s != null) {
+            try {
+                rslts = SaManager.instance.process(spec_, s);
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Cannot process series '{}'", ts.getName(), ex);
+            }
+        }
+        doc.unsafeFill(ts, spec_, rslts);
+        return doc;
+    }
+
+    // the documents of the processor accept any specification it can handle
+    @SuppressWarnings("unchecked")
+    private SaDocument<ISaSpecification> createDocument() {
+        return (SaDocument<ISaSpecification>) processor_.createDocument();
+    }
+
+    private static <T> T get(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw new RuntimeException(ex.getCause());
+        }
+    }
+}
@@ -18,6 +18,7 @@ package ec.tss.sa;
 
 import com.google.common.base.Strings;
 import ec.satoolkit.GenericSaProcessingFactory;
+import ec.satoolkit.GenericSaResults;
 import ec.satoolkit.ISaSpecification;
 import ec.tss.Ts;
 import ec.tss.TsFactory;
@@ -34,7 +35,9 @@ import ec.tstoolkit.algorithm.ProcQuality;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.information.InformationSetHelper;
 import ec.tstoolkit.information.ProxyResults;
+import ec.tstoolkit.modelling.arima.PreprocessingModel;
 import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.utilities.Arrays2;
 import ec.tstoolkit.utilities.NameManager;
 import java.util.HashMap;
@@ -68,9 +71,37 @@ public class SaItem {
             return this != Unprocessed && this != Pending;
         }
     }
+
+    /**
+     * Ways of refreshing an item (see refresh)
+     *
+     * @since 2.2.3
+     */
+    public static enum RefreshMode {
+
+        /**
+         * The new item is estimated from scratch
+         */
+        Cold,
+        /**
+         * The free parameters of the arima model start from their current
+         * estimates (for the policies that keep the model) and the current
+         * results are re-used when neither the series nor the model change
+         */
+        Warm,
+        /**
+         * Same as Warm, but the estimation is compared with a cold run, which
+         * is used instead when its likelihood is higher
+         */
+        VerifiedWarm
+    }
     private final AtomicInteger id_ = new AtomicInteger(-1);
     private boolean dirty_ = true;
-    private Ts ts_;
+    private volatile Ts ts_;
+    // definition of an item that has been read but not used yet (see read)
+    private volatile InformationSet info_;
+    // definition of the series of an item that has been decoded but not used yet
+    private TsInformation tsinfo_;
     private ISaSpecification pspec_, espec_, dspec_;
     private boolean cacheResults_ = true;
     private volatile CompositeResults rslts_;
@@ -83,9 +114,12 @@ public class SaItem {
     private MetaData metaData_;
     private String name = "";
     private boolean locked_;
+    private WarmStart warm_;
+    private volatile boolean coldFallback_;
 
     public SaItem makeCopy() {
         synchronized (id_) {
+            decode();
             SaItem n = new SaItem();
             n.dspec_ = dspec_;
             n.espec_ = espec_;
@@ -96,8 +130,10 @@ public class SaItem {
             n.priority_ = priority_;
             n.quality_ = quality_;
             n.rslts_ = rslts_;
+            n.warm_ = warm_;
+            n.coldFallback_ = coldFallback_;
             n.status_ = status_;
-            n.ts_ = ts_;
+            n.ts_ = ts();
             n.warnings_ = warnings_;
             n.cacheResults_ = cacheResults_;
             n.metaData_ = metaData_ == null ? null : metaData_.clone();
@@ -127,6 +163,7 @@ public class SaItem {
     }
 
     public SaItem newSpecification(Ts s, ISaSpecification espec, EstimationPolicyType policy) {
+        decode();
         SaItem nitem = new SaItem();
         nitem.name = name;
         nitem.dspec_ = dspec_;
@@ -143,7 +180,45 @@ public class SaItem {
     }
 
     public SaItem newSpecification(ISaSpecification espec, EstimationPolicyType policy) {
-        return newSpecification(ts_, espec, policy);
+        return newSpecification(ts(), espec, policy);
+    }
+
+    /**
+     * Creates a new item for the given (refreshed) series, using the given
+     * estimation policy.
+     *
+     * @param s The new series
+     * @param frozenPeriod The period of the series that is frozen (see
+     * SaManager.createSpecification). May be null
+     * @param policy The estimation policy
+     * @param nospan
+     * @param mode The way the current estimation is re-used
+     * @return The new item. Not processed
+     * @since 2.2.3
+     */
+    public SaItem refresh(Ts s, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan, RefreshMode mode) {
+        boolean warm = mode != RefreshMode.Cold;
+        ISaSpecification nspec = SaManager.instance.createSpecification(this, frozenPeriod, policy, nospan, warm);
+        SaItem nitem = newSpecification(s, nspec, policy);
+        if (warm) {
+            ISaSpecification cold = mode == RefreshMode.VerifiedWarm
+                    ? SaManager.instance.createSpecification(this, frozenPeriod, policy, nospan) : null;
+            synchronized (id_) {
+                nitem.warm_ = new WarmStart(policy, rslts_ == null ? null : getTsData(), rslts_, cold);
+            }
+        }
+        return nitem;
+    }
+
+    /**
+     * Checks that the warm refresh of this item has been replaced by a cold
+     * estimation (see RefreshMode.VerifiedWarm)
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isColdFallback() {
+        return coldFallback_;
     }
 
     @Override
@@ -158,15 +233,18 @@ public class SaItem {
     }
 
     public MetaData getMetaData() {
+        decode();
         return metaData_;
     }
 
     public void setMetaData(MetaData md) {
+        decode();
         metaData_ = md;
         dirty_ = true;
     }
 
     public String getComment() {
+        decode();
         if (metaData_ != null && metaData_.containsKey(COMMENT)) {
             return metaData_.get(COMMENT);
         }
@@ -174,6 +252,7 @@ public class SaItem {
     }
 
     public void setComment(String comment) {
+        decode();
         if (metaData_ == null) {
             metaData_ = new MetaData();
         }
@@ -187,9 +266,16 @@ public class SaItem {
     }
 
     public String getName() {
+        TsInformation stub = stub();
+        if (stub != null && (!name.isEmpty() || stub.name != null)) {
+            // avoids the creation of the series
+            String sname = name.isEmpty() ? stub.name : name;
+            return isFrozen(stub) ? sname + " [frozen]" : sname;
+        }
+        Ts ts = ts();
         return !name.isEmpty()
-                ? (ts_ != null && ts_.isFrozen() ? name + " [frozen]" : name)
-                : (ts_ != null ? ts_.getName() : "");
+                ? (ts != null && ts.isFrozen() ? name + " [frozen]" : name)
+                : (ts != null ? ts.getName() : "");
     }
 
     public String getRawName() {
@@ -258,12 +344,15 @@ public class SaItem {
     }
 
     public Ts getTs() {
-
-        return ts_;
+        return ts();
     }
 
     public TsMoniker getMoniker() {
-        return ts_.getMoniker();
+        TsInformation stub = stub();
+        if (stub != null && stub.moniker != null) {
+            return stub.moniker;
+        }
+        return ts().getMoniker();
     }
 
     public Status getStatus() {
@@ -288,12 +377,14 @@ public class SaItem {
     }
 
     public ISaSpecification getEstimationSpecification() {
+        decode();
         return espec_ != null ? espec_ : dspec_;
     }
 
     @Deprecated
     public ISaSpecification getActiveSpecification() {
         synchronized (id_) {
+            decode();
             if (pspec_ == null) {
                 return getEstimationSpecification();
 //        }
@@ -311,11 +402,13 @@ public class SaItem {
 
     public ISaSpecification getPointSpecification() {
         synchronized (id_) {
+            decode();
             return pspec_;
         }
     }
 
     public void setPointSpecification(ISaSpecification pspec) {
+        decode();
         pspec_ = pspec;
     }
 
@@ -337,13 +430,135 @@ public class SaItem {
 //        if (ts_.hasData() == TsStatus.Undefined) {
 //            ts_.load(TsInformationType.Data);
 //        }
-        return ts_.getTsData();
+        return ts().getTsData();
     }
 
     public void compress() {
         rslts_ = null;
     }
 
+    /**
+     * Checks if the series of this item has been created. The items read from
+     * an information set are stubs: their definition is only decoded and their
+     * series created (and registered in the factory) on first use.
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isTsLoaded() {
+        return ts_ != null;
+    }
+
+    private Ts ts() {
+        Ts result = ts_;
+        if (result == null) {
+            synchronized (id_) {
+                result = ts_;
+                decode();
+                if (result == null && tsinfo_ != null) {
+                    result = TsFactory.instance.createTs(tsinfo_.name, tsinfo_.moniker, tsinfo_.metaData, tsinfo_.data);
+                    ts_ = result;
+                    tsinfo_ = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    private TsInformation stub() {
+        if (ts_ != null) {
+            return null;
+        }
+        TsInformation stub;
+        synchronized (id_) {
+            InformationSet info = info_;
+            stub = info != null ? info.get(TS, TsInformation.class) : tsinfo_;
+        }
+        if (stub != null && stub.moniker != null && TsFactory.instance.getTs(stub.moniker) != null) {
+            // the series is already registered: the item must use it
+            return null;
+        }
+        return stub;
+    }
+
+    /**
+     * Decodes the definition of an item read from an information set
+     */
+    private void decode() {
+        if (info_ == null) {
+            return;
+        }
+        synchronized (id_) {
+            InformationSet info = info_;
+            if (info == null) {
+                return;
+            }
+            if (ts_ == null) {
+                tsinfo_ = info.get(TS, TsInformation.class);
+            }
+            InformationSet pspec = info.getSubSet(POINT_SPEC);
+            if (pspec != null) {
+                pspec_ = SaManager.instance.createSpecification(pspec);
+            }
+            InformationSet espec = info.getSubSet(ESTIMATION_SPEC);
+            if (espec != null) {
+                espec_ = SaManager.instance.createSpecification(espec);
+            }
+            InformationSet md = info.getSubSet(METADATA);
+            if (md != null) {
+                metaData_ = new MetaData();
+                InformationSetHelper.fillMetaData(md, metaData_);
+            }
+            info_ = null;
+        }
+    }
+
+    private static boolean isFrozen(TsInformation info) {
+        if (info.moniker != null && info.moniker.getSource() != null) {
+            return false;
+        }
+        return info.metaData != null
+                && (info.metaData.containsKey(MetaData.SOURCE) || info.metaData.containsKey(Ts.SOURCE_OLD));
+    }
+
+    /**
+     * Information on the previous estimation of a refreshed item
+     */
+    private static final class WarmStart {
+
+        private static final double EPS = 1e-6;
+
+        final EstimationPolicyType policy;
+        final TsData data;
+        final CompositeResults rslts;
+        final ISaSpecification cold;
+
+        WarmStart(EstimationPolicyType policy, TsData data, CompositeResults rslts, ISaSpecification cold) {
+            this.policy = policy;
+            this.data = data;
+            this.rslts = rslts;
+            this.cold = cold;
+        }
+
+        /**
+         * The previous results can be re-used when the policy keeps the model
+         * (no identification) and the series is unchanged
+         */
+        boolean isUnchanged(TsData ndata) {
+            if (rslts == null || data == null || !data.equals(ndata)) {
+                return false;
+            }
+            switch (policy) {
+                case Fixed:
+                case FixedParameters:
+                case FreeParameters:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
     private void update() {
         if (rslts_ != null && rslts_.get(GenericSaProcessingFactory.DECOMPOSITION) != null) {
             status_ = Status.Valid;
@@ -361,7 +576,52 @@ public class SaItem {
         }
     }
 
+    /**
+     * Processes the data with a warm start. The state of the item is not
+     * modified: if the cold specification gives better results, it is
+     * returned in cold[0], to be published with the results.
+     *
+     * @param warm
+     * @param espec The (warm) estimation specification
+     * @param data
+     * @param cold
+     * @return
+     */
+    private static CompositeResults warmProcess(WarmStart warm, ISaSpecification espec, TsData data, ISaSpecification[] cold) {
+        if (warm.isUnchanged(data)) {
+            return warm.rslts;
+        }
+        CompositeResults rslts = SaManager.instance.process(espec, data);
+        if (warm.cold != null) {
+            CompositeResults crslts = SaManager.instance.process(warm.cold, data);
+            if (isBetter(crslts, rslts)) {
+                cold[0] = warm.cold;
+                return crslts;
+            }
+        }
+        return rslts;
+    }
+
+    private static boolean isBetter(CompositeResults cold, CompositeResults warm) {
+        if (cold == null) {
+            return false;
+        }
+        if (warm == null) {
+            return true;
+        }
+        PreprocessingModel cmodel = GenericSaResults.getPreprocessingModel(cold),
+                wmodel = GenericSaResults.getPreprocessingModel(warm);
+        if (cmodel == null || wmodel == null) {
+            return wmodel == null && cmodel != null;
+        }
+        double cll = cmodel.estimation.getLikelihood().getLogLikelihood(),
+                wll = wmodel.estimation.getLikelihood().getLogLikelihood();
+        return cll - wll > WarmStart.EPS * Math.max(1, Math.abs(cll));
+    }
+
     public CompositeResults process() {
+        WarmStart warm;
+        ISaSpecification espec;
         synchronized (id_) {
             if (rslts_ != null || status_.isError()) {
                 return rslts_;
@@ -372,22 +632,33 @@ public class SaItem {
             if (quality_ == ProcQuality.Undefined) { // never processed
                 dirty_ = true;
             }
+            decode();
             if (espec_ == null && dspec_ == null) {
                 status_ = Status.NoSpec;
                 return null;
             }
             status_ = Status.Pending;
+            warm = warm_;
+            warm_ = null;
+            espec = getEstimationSpecification();
         }
-        if (ts_.hasData() == TsStatus.Undefined) {
-            ts_.load(TsInformationType.Data);
+        Ts ts = ts();
+        if (ts.hasData() == TsStatus.Undefined) {
+            ts.load(TsInformationType.Data);
         }
-        if (ts_.getTsData() == null) {
+        if (ts.getTsData() == null) {
             status_ = Status.NoData;
             return null;
         }
 
-        CompositeResults rslts = SaManager.instance.process(getEstimationSpecification(), ts_.getTsData());
+        ISaSpecification[] cold = new ISaSpecification[1];
+        CompositeResults rslts = warm == null ? SaManager.instance.process(espec, ts.getTsData())
+                : warmProcess(warm, espec, ts.getTsData(), cold);
         synchronized (id_) {
+            if (cold[0] != null) {
+                espec_ = cold[0];
+                coldFallback_ = true;
+            }
             rslts_ = rslts;
             update();
             if (!cacheResults_) {
@@ -426,6 +697,7 @@ public class SaItem {
     }
 
     public boolean fillDocument(SaDocument<?> doc) {
+        decode();
         if (!MetaData.isNullOrEmpty(metaData_)) {
             doc.getMetaData().copy(metaData_);
         } else {
@@ -439,6 +711,7 @@ public class SaItem {
         ISaProcessingFactory processor = (ISaProcessingFactory) SaManager.instance.find(xspec);
         SaDocument<ISaSpecification> doc = processor.createDocument();
         if (doc.unsafeFill(getTs(), xspec, process())) {
+            decode();
             if (!MetaData.isNullOrEmpty(metaData_)) {
                 doc.getMetaData().copy(metaData_);
             } else {
@@ -452,6 +725,7 @@ public class SaItem {
 
     public void unsafeFill(CompositeResults rslts) {
         synchronized (id_) {
+            decode();
             rslts_ = rslts;
             update();
             if (!cacheResults_) {
@@ -461,11 +735,9 @@ public class SaItem {
     }
 
     boolean read(InformationSet info, NameManager<ISaSpecification> defaults, HashMap<String, String> equivalence) {
-        TsInformation tsinfo = info.get(TS, TsInformation.class);
-        if (tsinfo == null) {
+        if (info.get(TS, TsInformation.class) == null) {
             return false;
         }
-        ts_ = TsFactory.instance.createTs(tsinfo.name, tsinfo.moniker, tsinfo.metaData, tsinfo.data);
         String dname = info.get(DOMAIN_SPEC, String.class);
         if (dname == null) {
             return false;
@@ -481,14 +753,6 @@ public class SaItem {
                 return false;
             }
         }
-        InformationSet pspec = info.getSubSet(POINT_SPEC);
-        if (pspec != null) {
-            pspec_ = SaManager.instance.createSpecification(pspec);
-        }
-        InformationSet espec = info.getSubSet(ESTIMATION_SPEC);
-        if (espec != null) {
-            espec_ = SaManager.instance.createSpecification(espec);
-        }
         Integer p = info.get(PRIORITY, Integer.class);
         if (p != null) {
             priority_ = p;
@@ -501,26 +765,28 @@ public class SaItem {
         if (e != null) {
             estimation_ = EstimationPolicyType.valueOf(e);
         }
-        InformationSet md = info.getSubSet(METADATA);
-        if (md != null) {
-            metaData_ = new MetaData();
-            InformationSetHelper.fillMetaData(md, metaData_);
-        }
         setName(info.get(NAME, String.class));
+        // the information set itself is already in memory (the whole document
+        // has been parsed by the caller); only the creation of the
+        // specifications, of the metadata and of the series is deferred to
+        // their first use (see decode() and ts())
+        info_ = info;
         return true;
     }
 
     boolean write(InformationSet info, NameManager<ISaSpecification> defaults, boolean verbose) {
+        decode();
         if (!name.isEmpty()) {
             info.set(NAME, name);
         }
         TsInformation tsinfo;
-        if (ts_.getMoniker().isAnonymous()) {
-            tsinfo = ts_.toInfo(TsInformationType.All);
+        Ts ts = ts();
+        if (ts.getMoniker().isAnonymous()) {
+            tsinfo = ts.toInfo(TsInformationType.All);
         } else if (status_ == SaItem.Status.Unprocessed) {
-            tsinfo = ts_.toInfo(TsInformationType.Definition);
+            tsinfo = ts.toInfo(TsInformationType.Definition);
         } else {
-            tsinfo = ts_.freeze().toInfo(TsInformationType.All);
+            tsinfo = ts.freeze().toInfo(TsInformationType.All);
         }
         info.set(TS, tsinfo);
         String dname = defaults.get(dspec_);
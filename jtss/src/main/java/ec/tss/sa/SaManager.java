@@ -75,6 +75,26 @@ public final class SaManager extends AlgorithmManager<ISaSpecification, TsData,
         }
     }
 
+    /**
+     * See ISaProcessingFactory.createSpecification
+     *
+     * @param doc
+     * @param frozenPeriod
+     * @param policy
+     * @param nospan
+     * @param warm
+     * @return
+     * @since 2.2.3
+     */
+    public ISaSpecification createSpecification(SaItem doc, TsDomain frozenPeriod, EstimationPolicyType policy, boolean nospan, boolean warm) {
+        ISaProcessingFactory proc = getProcessor(doc.getEstimationMethod());
+        if (proc == null) {
+            return null;
+        } else {
+            return proc.createSpecification(doc, frozenPeriod, policy, nospan, warm);
+        }
+    }
+
     public ISaSpecification createSpecification(InformationSet info) {
         AlgorithmDescriptor desc = info.get(ISaSpecification.ALGORITHM, AlgorithmDescriptor.class);
         ISaProcessingFactory proc = getProcessor(desc);
@@ -16,6 +16,7 @@
  */
 package ec.tss.sa;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ForwardingList;
 import ec.satoolkit.ISaSpecification;
 import ec.tss.Ts;
@@ -24,6 +25,7 @@ import ec.tstoolkit.IDocumented;
 import ec.tstoolkit.MetaData;
 import ec.tstoolkit.algorithm.AlgorithmDescriptor;
 import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.ProcessingExecutor;
 import ec.tstoolkit.information.Information;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.information.InformationSetHelper;
@@ -37,7 +39,11 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  *
@@ -218,46 +224,119 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
     }
 
     public void refresh(EstimationPolicyType policy, boolean nospan) {
+        refresh(policy, nospan, ProcessingExecutor.sequential());
+    }
+
+    /**
+     * Refreshes all the unlocked items. The new items are created
+     * independently of each other (which involves the reloading of the
+     * series), using the given executor. The result doesn't depend on the
+     * executor.
+     *
+     * @param policy
+     * @param nospan
+     * @param executor
+     */
+    public void refresh(final EstimationPolicyType policy, final boolean nospan, ProcessingExecutor executor) {
+        refresh(policy, nospan, executor, SaItem.RefreshMode.Cold);
+    }
+
+    /**
+     * Same as the previous method, with a given refresh mode. Warm refreshes
+     * start the estimation of the new items from the current ones (see
+     * SaItem.RefreshMode)
+     *
+     * @param policy
+     * @param nospan
+     * @param executor
+     * @param mode
+     * @since 2.2.3
+     */
+    public void refresh(final EstimationPolicyType policy, final boolean nospan, ProcessingExecutor executor, final SaItem.RefreshMode mode) {
         if (policy == EstimationPolicyType.LastOutliers) {
             TsPeriodSelector sel = new TsPeriodSelector();
             sel.excluding(0, -1);
-            refresh(sel, nospan);
+            refresh(sel, nospan, executor, mode);
             return;
         }
-        int n = items_.size();
-        for (int i = 0; i < n; ++i) {
-            SaItem item = items_.get(i);
-            if (!item.isLocked()) {
-                Ts s = item.getTs().unfreeze();
-                // createDiagnostics the new spec
-                ISaSpecification nspec = SaManager.instance.createSpecification(item, null, policy, nospan);
-                SaItem citem = item.newSpecification(s, nspec, policy);
-                citem.setKey(item.getKey());
-                items_.set(i, citem);
-                dirty_ = true;
+        refresh(item -> {
+            if (item.isLocked()) {
+                return null;
             }
-        }
+            Ts s = item.getTs().unfreeze();
+            // createDiagnostics the new spec
+            return item.refresh(s, null, policy, nospan, mode);
+        }, executor);
     }
 
     // 17/9/2010. Jean Palate. New refreshing policy:
     // The period selector defines the period that is frozen in the new outlier detection procedure.
     // Outliers that belong to that period will be maintained.
     public void refresh(TsPeriodSelector outliersCutoff, boolean nospan) {
-        int n = items_.size();
-        for (int i = 0; i < n; ++i) {
-            SaItem item = items_.get(i);
-            if (!item.isLocked() && item.getTsData() != null) {
-                TsDomain prevDomain = item.getTsData().getDomain();
-                if (outliersCutoff != null) {
-                    prevDomain = prevDomain.select(outliersCutoff);
-                } else {
-                    prevDomain = prevDomain.drop(0, prevDomain.getFrequency().intValue());
-                }
-                Ts s = item.getTs().unfreeze();
-                // createDiagnostics the new spec
-                ISaSpecification nspec = SaManager.instance.createSpecification(item, prevDomain, EstimationPolicyType.LastOutliers, nospan);
-                SaItem citem = item.newSpecification(s, nspec, EstimationPolicyType.LastOutliers);
-                citem.setKey(item.getKey());
+        refresh(outliersCutoff, nospan, ProcessingExecutor.sequential());
+    }
+
+    public void refresh(final TsPeriodSelector outliersCutoff, final boolean nospan, ProcessingExecutor executor) {
+        refresh(outliersCutoff, nospan, executor, SaItem.RefreshMode.Cold);
+    }
+
+    /**
+     * Same as the previous method, with a given refresh mode
+     *
+     * @param outliersCutoff
+     * @param nospan
+     * @param executor
+     * @param mode
+     * @since 2.2.3
+     */
+    public void refresh(final TsPeriodSelector outliersCutoff, final boolean nospan, ProcessingExecutor executor, final SaItem.RefreshMode mode) {
+        refresh(item -> {
+            if (item.isLocked() || item.getTsData() == null) {
+                return null;
+            }
+            TsDomain prevDomain = item.getTsData().getDomain();
+            if (outliersCutoff != null) {
+                prevDomain = prevDomain.select(outliersCutoff);
+            } else {
+                prevDomain = prevDomain.drop(0, prevDomain.getFrequency().intValue());
+            }
+            Ts s = item.getTs().unfreeze();
+            // createDiagnostics the new spec
+            return item.refresh(s, prevDomain, EstimationPolicyType.LastOutliers, nospan, mode);
+        }, executor);
+    }
+
+    private void refresh(Function<SaItem, SaItem> fn, ProcessingExecutor executor) {
+        final SaItem[] nitems = new SaItem[items_.size()];
+        List<Callable<Void>> tasks = new ArrayList<>(nitems.length);
+        for (int i = 0; i < nitems.length; ++i) {
+            final int pos = i;
+            final SaItem item = items_.get(i);
+            tasks.add(() -> {
+                nitems[pos] = fn.apply(item);
+                return null;
+            });
+        }
+        List<Future<Void>> rslts;
+        try {
+            rslts = executor.invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        for (int i = 0; i < nitems.length; ++i) {
+            try {
+                rslts.get(i).get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ex);
+            } catch (ExecutionException ex) {
+                Throwables.throwIfUnchecked(ex.getCause());
+                throw new RuntimeException(ex.getCause());
+            }
+            SaItem citem = nitems[i];
+            if (citem != null) {
+                citem.setKey(items_.get(i).getKey());
                 items_.set(i, citem);
                 dirty_ = true;
             }
@@ -438,14 +517,38 @@ public final class SaProcessing extends ForwardingList<SaItem> implements IDocum
                 }
             }
         }
+        // the items are independent (the dictionaries are only read from here)
+        // and only the creation of their specifications and series is deferred,
+        // so that they can be read in parallel
         List<Information<InformationSet>> sas = info.select("sa*", InformationSet.class);
+        List<Callable<SaItem>> tasks = new ArrayList<>(sas.size());
         for (Information<InformationSet> sa : sas) {
-            SaItem cur = new SaItem();
-            if (sa.value != null && cur.read(sa.value, dic, equivalence)) {
+            tasks.add(() -> {
+                SaItem cur = new SaItem();
+                return sa.value != null && cur.read(sa.value, dic, equivalence) ? cur : null;
+            });
+        }
+        List<Future<SaItem>> rslts;
+        try {
+            rslts = ProcessingExecutor.getInstance().invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        for (Future<SaItem> rslt : rslts) {
+            SaItem cur;
+            try {
+                cur = rslt.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(ex);
+            } catch (ExecutionException ex) {
+                Throwables.throwIfUnchecked(ex.getCause());
+                throw new RuntimeException(ex.getCause());
+            }
+            if (cur != null) {
                 cur.setKey(nextKey());
                 items_.add(cur);
-            } else {
-                String msg = sa.name;
             }
         }
         return true;
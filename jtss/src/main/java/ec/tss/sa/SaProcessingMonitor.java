@@ -18,17 +18,38 @@
 
 package ec.tss.sa;
 
+import ec.tstoolkit.algorithm.ProcessingExecutor;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.event.EventListenerList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
+ * Processes the items of a multi-processing, in parallel. The items are
+ * started by decreasing priority (the order of the processing is kept for
+ * items with the same priority). Each item is processed exactly as in
+ * SaItem.process(), so that the results don't depend on the parallelism. The
+ * workers are executed by the process-wide ProcessingExecutor. An item whose
+ * processing fails is marked as invalid; the other items are still processed.
+ *
+ * The listeners are notified after the processing of each item and at the end
+ * of the complete processing. Notice that the "Processed" events are sent from
+ * the worker threads.
  *
  * @author Kristof Bayens
  */
 public class SaProcessingMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaProcessingMonitor.class);
+
     private SaProcessing processing_;
     private SaItem[] items_;
-    private boolean closing_, stop_;
-    private Thread hRun_;
+    private volatile boolean closing_, stop_;
+    private volatile Thread hRun_;
+    private int parallelism_ = Runtime.getRuntime().availableProcessors();
+    private final AtomicInteger processed_ = new AtomicInteger();
 
     protected EventListenerList list = new EventListenerList();
 
@@ -53,22 +74,147 @@ public class SaProcessingMonitor {
         processing_ = value;
     }
 
+    /**
+     * Maximum number of items processed concurrently
+     * @return 
+     */
+    public int getParallelism() {
+        return parallelism_;
+    }
+
+    public void setParallelism(int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("parallelism");
+        }
+        parallelism_ = value;
+    }
+
+    /**
+     * Number of items processed (successfully or not) by the current (or last) run
+     * @return 
+     */
+    public int getProcessedCount() {
+        return processed_.get();
+    }
+
+    /**
+     * Number of items handled by the current (or last) run
+     * @return 
+     */
+    public int getItemsCount() {
+        SaItem[] items = items_;
+        return items == null ? 0 : items.length;
+    }
+
     public boolean isRunning() {
         return hRun_ != null;
     }
 
-    public void start() {
-
+    /**
+     * Starts the processing in a background thread. Does nothing if the
+     * monitor is already running or closed.
+     */
+    public synchronized void start() {
+        if (processing_ == null || closing_ || hRun_ != null) {
+            return;
+        }
+        stop_ = false;
+        hRun_ = new Thread(() -> {
+            try {
+                run();
+            } finally {
+                hRun_ = null;
+            }
+        }, "SaProcessingMonitor");
+        hRun_.setDaemon(true);
+        hRun_.start();
     }
 
+    /**
+     * Cancels the current processing. The items that are being processed are
+     * completed; the other ones are left unprocessed. The running processing
+     * returns once the current items are completed.
+     */
     public void stop() {
-
+        stop_ = true;
     }
 
     public void close() {
         closing_ = true;
-        if (hRun_ != null && hRun_.isAlive()) {
-            hRun_.interrupt();
+        stop();
+    }
+
+    /**
+     * Processes the items in the calling thread (which waits for the end of the
+     * processing)
+     *
+     * @return True if all the items have been handled, false if the processing
+     * has been cancelled
+     * @throws IllegalStateException if the monitor is already running
+     */
+    public boolean process() {
+        synchronized (this) {
+            if (hRun_ != null) {
+                throw new IllegalStateException("The monitor is already running");
+            }
+            stop_ = false;
+            hRun_ = Thread.currentThread();
+        }
+        try {
+            return run();
+        } finally {
+            hRun_ = null;
+        }
+    }
+
+    private boolean run() {
+        SaProcessing processing = processing_;
+        if (processing == null) {
+            return false;
+        }
+        processed_.set(0);
+        SaItem[] items = processing.toArray();
+        // stable sort: same priority, same order
+        Arrays.sort(items, Comparator.comparingInt(SaItem::getPriority).reversed());
+        items_ = items;
+
+        // each worker takes the next item (by priority) until the end or a stop;
+        // forEachBlock returns when all the workers are done
+        AtomicInteger next = new AtomicInteger();
+        int nworkers = Math.min(parallelism_, items.length);
+        ProcessingExecutor.getInstance().forEachBlock(nworkers, 1, (start, end) -> {
+            int pos;
+            while (!stop_ && (pos = next.getAndIncrement()) < items.length) {
+                SaItem item = items[pos];
+                try {
+                    item.process();
+                } catch (RuntimeException ex) {
+                    LOGGER.warn("Processing of '{}' failed", item.getName(), ex);
+                    item.setStatus(SaItem.Status.Invalid);
+                } finally {
+                    processed_.incrementAndGet();
+                    fireProcessed(item);
+                }
+            }
+        });
+        boolean completed = !stop_;
+        if (completed) {
+            fireCompleted(processing);
+        }
+        return completed;
+    }
+
+    private void fireProcessed(SaItem item) {
+        SaItemEvent evt = new SaItemEvent(item);
+        for (SaEventListener l : list.getListeners(SaEventListener.class)) {
+            l.Processed(evt);
+        }
+    }
+
+    private void fireCompleted(SaProcessing processing) {
+        SaProcessingEvent evt = new SaProcessingEvent(processing);
+        for (SaEventListener l : list.getListeners(SaEventListener.class)) {
+            l.Completed(evt);
         }
     }
 }
@@ -26,9 +26,11 @@ import ec.tstoolkit.algorithm.CompositeResults;
 import ec.tstoolkit.algorithm.IProcResults;
 import ec.tstoolkit.algorithm.IProcSpecification;
 import ec.tstoolkit.algorithm.IProcessing;
+import ec.tstoolkit.timeseries.analysis.CachedTsProcessing;
 import ec.tstoolkit.timeseries.analysis.ITsProcessing;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.Arrays;
 
 /**
  *
@@ -39,13 +41,43 @@ public class SaDocumentProcessing<S extends ISaSpecification> implements ITsProc
     private final TsData data_;
 
     public SaDocumentProcessing(SaDocument<S> doc, EstimationPolicyType policy) {
+        ISaProcessingFactory<S> factory=(ISaProcessingFactory<S>) doc.getProcessor();
+        S spec = specification(doc, policy);
+        processing_=factory.generateProcessing(spec, null);
+        data_ = doc.getInput().getTsData();
+    }
+
+    private SaDocumentProcessing(IProcessing<TsData, CompositeResults> processing, TsData data) {
+        processing_ = processing;
+        data_ = data;
+    }
+
+    /**
+     * Creates a processing of the document whose results are shared (see
+     * TsProcessingCache) by the analyses of the same series with the same
+     * (refreshed) specification. The domains that are not yet in the cache
+     * are processed in parallel.
+     *
+     * @param <S>
+     * @param doc
+     * @param policy
+     * @return
+     * @since 2.2.3
+     */
+    public static <S extends ISaSpecification> CachedTsProcessing<CompositeResults> cached(SaDocument<S> doc, EstimationPolicyType policy) {
+        ISaProcessingFactory<S> factory = (ISaProcessingFactory<S>) doc.getProcessor();
+        S spec = specification(doc, policy);
+        TsData data = doc.getInput().getTsData();
+        return new CachedTsProcessing<>(Arrays.asList(factory.getInformation(), spec, data),
+                () -> new SaDocumentProcessing<>(factory.generateProcessing(spec, null), data));
+    }
+
+    private static <S extends ISaSpecification> S specification(SaDocument<S> doc, EstimationPolicyType policy) {
         ISaProcessingFactory<S> factory=(ISaProcessingFactory<S>) doc.getProcessor();
         SaItem item=new SaItem(doc.getSpecification(), doc.getInput());
         item.unsafeFill(doc.getResults());
         factory.updatePointSpecification(item);
-        S spec = (S)factory.createSpecification(item, null, policy, true);
-        processing_=factory.generateProcessing(spec, null);
-        data_ = doc.getInput().getTsData();
+        return (S)factory.createSpecification(item, null, policy, true);
     }
 
     @Override
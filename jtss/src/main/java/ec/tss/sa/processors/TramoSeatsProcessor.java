@@ -85,6 +85,11 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
 
     @Override
     public ISaSpecification createSpecification(SaItem doc, TsDomain frozen, EstimationPolicyType policy, boolean nospan) {
+        return createSpecification(doc, frozen, policy, nospan, false);
+    }
+
+    @Override
+    public ISaSpecification createSpecification(SaItem doc, TsDomain frozen, EstimationPolicyType policy, boolean nospan, boolean warm) {
         TramoSeatsSpecification spec = (TramoSeatsSpecification) doc.getPointSpecification();
         TramoSeatsSpecification defspec = (TramoSeatsSpecification) doc.getDomainSpecification();
         if (policy == EstimationPolicyType.Complete || spec == null) {
@@ -104,7 +109,7 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
         }
 
         // automodel/arima
-        refreshArimaSpec(ntspec, dtspec, policy);
+        refreshArimaSpec(ntspec, dtspec, policy, warm);
         refreshOutliersSpec(ntspec, dtspec, frozen, policy);
 
         RegressionSpec nrspec = ntspec.getRegression();
@@ -122,8 +127,10 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
        return newspec;
     }
 
-    private void refreshArimaSpec(TramoSpecification spec, TramoSpecification defspec, EstimationPolicyType policy) {
+    private void refreshArimaSpec(TramoSpecification spec, TramoSpecification defspec, EstimationPolicyType policy, boolean warm) {
         ArimaSpec arima = spec.getArima(), defarima = defspec.isUsingAutoModel() ? null : defspec.getArima();
+        // only set by the warm refreshes below
+        arima.setWarmStart(false);
         switch (policy) {
             case Fixed:
                 if (arima.isMean()) {
@@ -135,8 +142,16 @@ public class TramoSeatsProcessor implements ISaProcessingFactory<TramoSeatsSpeci
             case FreeParameters:
             case LastOutliers:
             case Outliers:
-                // clear only free parameters !
-                if (defarima != null) {
+                if (warm) {
+                    // the free parameters are re-estimated from their previous values
+                    if (defarima != null) {
+                        Parameter mu = defarima.getMu();
+                        arima.setMu(mu == null ? null : mu.clone());
+                    }
+                    arima.setFreeParameterType(ParameterType.Initial);
+                    arima.setWarmStart(true);
+                } else if (defarima != null) {
+                    // clear only free parameters !
                     spec.setArima(defarima.clone());
                 } else {
                     arima.clearParameters();
@@ -27,6 +27,7 @@ import ec.tss.sa.ISaProcessingFactory;
 import ec.tss.sa.SaItem;
 import ec.tss.sa.documents.SaDocument;
 import ec.tss.sa.documents.X13Document;
+import ec.tstoolkit.Parameter;
 import ec.tstoolkit.ParameterType;
 import ec.tstoolkit.algorithm.AlgorithmDescriptor;
 import ec.tstoolkit.algorithm.CompositeResults;
@@ -73,6 +74,11 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
 
     @Override
     public ISaSpecification createSpecification(SaItem doc, TsDomain frozen, EstimationPolicyType policy, boolean nospan) {
+        return createSpecification(doc, frozen, policy, nospan, false);
+    }
+
+    @Override
+    public ISaSpecification createSpecification(SaItem doc, TsDomain frozen, EstimationPolicyType policy, boolean nospan, boolean warm) {
 
         X13Specification spec = (X13Specification) doc.getPointSpecification();
         X13Specification defspec = (X13Specification) doc.getDomainSpecification();
@@ -93,7 +99,7 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
         }
         // automodel
         // automodel/arima
-        refreshArimaSpec(ntspec, dtspec, policy);
+        refreshArimaSpec(ntspec, dtspec, policy, warm);
         refreshOutliersSpec(ntspec, dtspec, frozen, policy);
 
         RegressionSpec nrspec = ntspec.getRegression();
@@ -218,8 +224,10 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
         return true;
     }
 
-    private void refreshArimaSpec(RegArimaSpecification spec, RegArimaSpecification defspec, EstimationPolicyType policy) {
+    private void refreshArimaSpec(RegArimaSpecification spec, RegArimaSpecification defspec, EstimationPolicyType policy, boolean warm) {
         ArimaSpec arima = spec.getArima(), defarima = defspec.isUsingAutoModel() ? null : defspec.getArima();
+        // only set by the warm refreshes below
+        arima.setWarmStart(false);
         switch (policy) {
             case Fixed:
                 if (arima.isMean()) {
@@ -231,8 +239,16 @@ public class X13Processor implements ISaProcessingFactory<X13Specification> {
             case FreeParameters:
             case LastOutliers:
             case Outliers:
-                // clear only free parameters !
-                if (defarima != null) {
+                if (warm) {
+                    // the free parameters are re-estimated from their previous values
+                    if (defarima != null) {
+                        Parameter mu = defarima.getMu();
+                        arima.setMu(mu == null ? null : mu.clone());
+                    }
+                    arima.setFreeParameterType(ParameterType.Initial);
+                    arima.setWarmStart(true);
+                } else if (defarima != null) {
+                    // clear only free parameters !
                     spec.setArima(defarima.clone());
                 } else {
                     arima.clearParameters();
@@ -41,6 +41,8 @@ public class RevisionAnalysisSpec implements IProcSpecification, Cloneable {
     public static final String REVISION_START = "revisionStartDay";
     public static final String OUTOFSAMPLE = "outofsample";
     public static final String FINAL = "final";
+    public static final String WARMSTART = "warmstart";
+    public static final String PARALLEL = "parallel";
 
     public static class DayMonth {
 
@@ -131,6 +133,8 @@ public class RevisionAnalysisSpec implements IProcSpecification, Cloneable {
 
     private DayMonth revisionDay = DayMonth.BEG;
     private boolean outOfSample = true;
+    private boolean warmStart = false;
+    private boolean parallel = false;
 
     public MainPolicyType getMainEstimation() {
         return mainEstimation;
@@ -164,6 +168,37 @@ public class RevisionAnalysisSpec implements IProcSpecification, Cloneable {
         ftarget = b;
     }
 
+    /**
+     * When true, the intermediate estimations that keep the arima model start
+     * from the parameters of the previous vintage
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isWarmStart() {
+        return warmStart;
+    }
+
+    public void setWarmStart(boolean warmStart) {
+        this.warmStart = warmStart;
+    }
+
+    /**
+     * When true, the sequences of vintages that start with a complete
+     * re-estimation are processed in parallel. This option doesn't change the
+     * results
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     public int getAnalysisLength() {
         return analysisLength;
     }
@@ -236,6 +271,12 @@ public class RevisionAnalysisSpec implements IProcSpecification, Cloneable {
         if (ftarget == true || verbose) {
             info.set(FINAL, ftarget);
         }
+        if (warmStart || verbose) {
+            info.set(WARMSTART, warmStart);
+        }
+        if (parallel || verbose) {
+            info.set(PARALLEL, parallel);
+        }
         return info;
     }
 
@@ -283,6 +324,16 @@ public class RevisionAnalysisSpec implements IProcSpecification, Cloneable {
         if (b != null) {
             this.ftarget = b;
         }
+
+        b = info.get(WARMSTART, Boolean.class);
+        if (b != null) {
+            this.warmStart = b;
+        }
+
+        b = info.get(PARALLEL, Boolean.class);
+        if (b != null) {
+            this.parallel = b;
+        }
         return true;
     }
 
@@ -295,6 +346,8 @@ public class RevisionAnalysisSpec implements IProcSpecification, Cloneable {
         dic.put(InformationSet.item(prefix, REVISION_START), String.class);
         dic.put(InformationSet.item(prefix, OUTOFSAMPLE), Boolean.class);
         dic.put(InformationSet.item(prefix, FINAL), Boolean.class);
+        dic.put(InformationSet.item(prefix, WARMSTART), Boolean.class);
+        dic.put(InformationSet.item(prefix, PARALLEL), Boolean.class);
     }
 
 }
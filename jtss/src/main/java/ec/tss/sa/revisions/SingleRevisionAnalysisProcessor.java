@@ -23,16 +23,23 @@ import ec.tss.sa.EstimationPolicyType;
 import ec.tss.sa.SaItem;
 import ec.tss.sa.SaManager;
 import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.ProcessingExecutor;
 import ec.tstoolkit.information.InformationSet;
 import ec.tstoolkit.timeseries.Day;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 /**
+ * Revision analysis of a single series. Each vintage is estimated with a
+ * specification refreshed from the previous one (following the policies of the
+ * analysis). A complete re-estimation doesn't depend on the previous vintages,
+ * so that the sequences of vintages that start with it can be processed in
+ * parallel.
  *
  * @author Jean Palate
  */
@@ -83,27 +90,58 @@ public class SingleRevisionAnalysisProcessor {
             end = refDomain_.getLast();
         }
         int freq = dom.getFrequency().intValue();
+        List<TsDomain> domains = new ArrayList<>();
+        List<EstimationPolicyType> policies = new ArrayList<>();
+        int i0 = i;
         while (dom.getEnd().isNotAfter(end)) {
-            Ts tmp = TsFactory.instance.createTs("tmp" + i, null, s_.fittoDomain(dom));
-
-            EstimationPolicyType policy;
             if (0 == i % (freq * spec_.getRevisionDelay())) {
-                policy = spec_.getMainEstimation().getType();
+                policies.add(spec_.getMainEstimation().getType());
             } else {
-                policy = spec_.getIntermediateEstimation().getType();
+                policies.add(spec_.getIntermediateEstimation().getType());
             }
-            ISaSpecification espec = SaManager.instance.createSpecification(cur, dom.drop(0, freq), policy, true);
-            cur = cur.newSpecification(tmp, espec, policy);
-            details_.add(cur.process());
+            domains.add(dom);
             ++i;
             dom = dom.extend(0, 1);
         }
+        // a new sequence starts with each complete re-estimation
+        List<Integer> starts = new ArrayList<>();
+        for (int j = 0; j < policies.size(); ++j) {
+            if (j == 0 || policies.get(j) == EstimationPolicyType.Complete) {
+                starts.add(j);
+            }
+        }
+        starts.add(policies.size());
+        CompositeResults[] rslts = new CompositeResults[domains.size()];
+        SaItem ref = cur;
+        if (spec_.isParallel()) {
+            ProcessingExecutor.getInstance().forEachBlock(starts.size() - 1, 1, (start, stop) -> {
+                for (int k = start; k < stop; ++k) {
+                    process(ref, i0, domains, policies, starts.get(k), starts.get(k + 1), rslts);
+                }
+            });
+        } else {
+            for (int k = 0; k < starts.size() - 1; ++k) {
+                process(ref, i0, domains, policies, starts.get(k), starts.get(k + 1), rslts);
+            }
+        }
+        details_.addAll(Arrays.asList(rslts));
         if (!spec_.isOutOfSample() && !spec_.isTargetFinal()) {
             details_.add(ref1_);
         }
         return true;
     }
 
+    private void process(SaItem cur, int i0, List<TsDomain> domains, List<EstimationPolicyType> policies, int start, int end, CompositeResults[] rslts) {
+        for (int j = start; j < end; ++j) {
+            TsDomain dom = domains.get(j);
+            EstimationPolicyType policy = policies.get(j);
+            Ts tmp = TsFactory.instance.createTs("tmp" + (i0 + j), null, s_.fittoDomain(dom));
+            ISaSpecification espec = SaManager.instance.createSpecification(cur, dom.drop(0, dom.getFrequency().intValue()), policy, true, spec_.isWarmStart());
+            cur = cur.newSpecification(tmp, espec, policy);
+            rslts[j] = cur.process();
+        }
+    }
+
     private SaItem computeReferences() {
         SaItem ref1 = inSampleReference(), ref0 = outOfSampleReference();
 
@@ -138,6 +138,25 @@ public final class CubeSupport implements HasDataHierarchy, HasTsCursor, HasData
                 : type.encompass(TsInformationType.Data) ? acc.getSeriesWithData(id) : TsCursor.singleton(id);
         return cursor.transform(toDataSetFunc(dataSet.toBuilder(DataSet.Kind.SERIES), idParam));
     }
+
+    @Override
+    public DataSet getParent(DataSet dataSet) throws IOException {
+        if (!DataSet.Kind.SERIES.equals(dataSet.getKind())) {
+            return null;
+        }
+        IParam<DataSet, CubeId> idParam = resource.getIdParam(dataSet.getDataSource());
+        CubeId id = idParam.get(dataSet);
+        if (id.getLevel() == 0) {
+            return null;
+        }
+        String[] parentValues = new String[id.getLevel() - 1];
+        for (int i = 0; i < parentValues.length; i++) {
+            parentValues[i] = id.getDimensionValue(i);
+        }
+        return DataSet.builder(dataSet.getDataSource(), DataSet.Kind.COLLECTION)
+                .put(idParam, idParam.defaultValue().child(parentValues))
+                .build();
+    }
     //</editor-fold>
 
     //<editor-fold defaultstate="collapsed" desc="HasDataDisplayName">
@@ -21,6 +21,7 @@ import ec.tss.tsproviders.DataSet;
 import ec.tss.tsproviders.DataSource;
 import java.io.IOException;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import net.jcip.annotations.ThreadSafe;
 
 /**
@@ -58,4 +59,21 @@ public interface HasTsCursor {
      */
     @NonNull
     TsCursor<DataSet> getData(@NonNull DataSet dataSet, @NonNull TsInformationType type) throws IllegalArgumentException, IOException;
+
+    /**
+     * Gets the collection whose cursor contains a series, so that several
+     * series of that collection can be retrieved by a single cursor.
+     *
+     * @param dataSet the DataSet of a series
+     * @return the parent collection or null if the series should be retrieved
+     * individually (default)
+     * @throws IllegalArgumentException if the DataSet doesn't belong to this
+     * provider.
+     * @throws IOException if an internal exception prevented the lookup.
+     * @since 2.2.3
+     */
+    @Nullable
+    default DataSet getParent(@NonNull DataSet dataSet) throws IllegalArgumentException, IOException {
+        return null;
+    }
 }
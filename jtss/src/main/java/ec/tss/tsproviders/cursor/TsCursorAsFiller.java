@@ -27,6 +27,10 @@ import ec.tss.tsproviders.utils.OptionalTsData;
 import ec.tss.tsproviders.utils.TsFiller;
 import ec.tstoolkit.MetaData;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -101,6 +105,42 @@ public final class TsCursorAsFiller {
             return resource.reportInvalid(info);
         }
 
+        @Override
+        public boolean fillSeriesList(List<TsInformation> infos) {
+            boolean result = true;
+            // the series of the same collection are retrieved by a single cursor
+            Map<DataSet, Map<DataSet, TsInformation>> parents = new LinkedHashMap<>();
+            List<TsInformation> others = new ArrayList<>();
+            for (TsInformation info : infos) {
+                DataSet dataSet = resource.toDataSet(info);
+                DataSet parent = isSeries(dataSet) ? resource.getParent(dataSet) : null;
+                if (parent == null || parents.computeIfAbsent(parent, o -> new LinkedHashMap<>()).putIfAbsent(dataSet, info) != null) {
+                    others.add(info);
+                }
+            }
+            for (Map.Entry<DataSet, Map<DataSet, TsInformation>> o : parents.entrySet()) {
+                Map<DataSet, TsInformation> items = o.getValue();
+                if (items.size() == 1) {
+                    others.addAll(items.values());
+                } else {
+                    try {
+                        if (!resource.fill(items, o.getKey())) {
+                            result = false;
+                        }
+                    } catch (IOException ex) {
+                        // the series are retrieved one by one
+                        others.addAll(items.values());
+                    }
+                }
+            }
+            for (TsInformation info : others) {
+                if (!fillSeries(info)) {
+                    result = false;
+                }
+            }
+            return result;
+        }
+
         private static boolean isCollection(DataSource dataSource) {
             return dataSource != null;
         }
@@ -134,6 +174,10 @@ public final class TsCursorAsFiller {
 
         boolean fill(TsInformation info, DataSet dataSet) throws IOException;
 
+        DataSet getParent(DataSet dataSet);
+
+        boolean fill(Map<DataSet, TsInformation> infos, DataSet parent) throws IOException;
+
         boolean reportException(TsInformation info, DataSet dataSet, IOException ex);
 
         boolean reportInvalid(TsInformation info);
@@ -168,6 +212,16 @@ public final class TsCursorAsFiller {
             return hdm.toDataSet(info.moniker);
         }
 
+        @Override
+        public DataSet getParent(DataSet dataSet) {
+            try {
+                return htc.getParent(dataSet);
+            } catch (IOException | IllegalArgumentException ex) {
+                logger.debug("Cannot get the parent of '" + dataSet + "'", ex);
+                return null;
+            }
+        }
+
         @Override
         public boolean reportException(TsCollectionInformation info, DataSet dataSet, IOException ex) {
             logger.info("Failed to get collection '" + info.moniker + "'", ex);
@@ -233,6 +287,26 @@ public final class TsCursorAsFiller {
             }
         }
 
+        @Override
+        public boolean fill(Map<DataSet, TsInformation> infos, DataSet parent) throws IOException {
+            TsInformationType type = TsInformationType.None;
+            for (TsInformation info : infos.values()) {
+                type = type.union(info.type);
+            }
+            Map<DataSet, TsInformation> missing = new HashMap<>(infos);
+            try (TsCursor<DataSet> cursor = htc.getData(parent, type)) {
+                while (!missing.isEmpty() && cursor.nextSeries()) {
+                    TsInformation info = missing.remove(cursor.getSeriesId());
+                    if (info != null) {
+                        info.name = cursor.getSeriesLabel();
+                        fill(info, cursor);
+                    }
+                }
+            }
+            missing.values().forEach(o -> o.invalidDataCause = "Missing time series");
+            return missing.isEmpty();
+        }
+
         private void fill(TsCollectionInformation info, TsCursor<DataSet> cursor) throws IOException {
             if (info.type.encompass(TsInformationType.MetaData)) {
                 fillMeta(info, cursor);
@@ -28,7 +28,10 @@ import ec.tss.tsproviders.*;
 import ec.tstoolkit.MetaData;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -127,6 +130,22 @@ public abstract class AbstractDataSourceProvider<DATA> extends AbstractTsProvide
         return support.checkQuietly(moniker) && super.queryTs(moniker, type);
     }
 
+    /**
+     * The asynchronous requests are grouped by data source
+     *
+     * @param moniker
+     * @return
+     */
+    @Override
+    protected Object getRequestGroup(TsMoniker moniker) {
+        try {
+            DataSet dataSet = toDataSet(moniker);
+            return dataSet != null ? dataSet.getDataSource() : toDataSource(moniker);
+        } catch (IllegalArgumentException ex) {
+            return moniker.getSource();
+        }
+    }
+
     @Override
     protected boolean process(TsCollectionInformation info) {
         {
@@ -175,12 +194,66 @@ public abstract class AbstractDataSourceProvider<DATA> extends AbstractTsProvide
         return false;
     }
 
+    /**
+     * The series of the same data source are filled together (see
+     * fillSeries(List, DataSource)). If the bulk loading is not supported or
+     * fails, they are filled one by one.
+     *
+     * @param infos
+     * @return
+     */
+    @Override
+    protected boolean process(List<TsInformation> infos) {
+        boolean result = true;
+        Map<DataSource, List<TsInformation>> dataSources = new LinkedHashMap<>();
+        for (TsInformation info : infos) {
+            DataSet dataSet = toDataSet(info.moniker);
+            if (support.checkQuietly(dataSet, DataSet.Kind.SERIES)) {
+                dataSources.computeIfAbsent(dataSet.getDataSource(), o -> new ArrayList<>()).add(info);
+            } else if (!process(info)) {
+                result = false;
+            }
+        }
+        for (Map.Entry<DataSource, List<TsInformation>> o : dataSources.entrySet()) {
+            List<TsInformation> items = o.getValue();
+            boolean done = false;
+            if (items.size() > 1) {
+                try {
+                    done = fillSeries(items, o.getKey());
+                } catch (IOException | RuntimeException ex) {
+                    logger.debug("Bulk loading failed on '{}'", o.getKey(), ex);
+                }
+            }
+            if (!done && !super.process(items)) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
     abstract protected void fillCollection(@NonNull TsCollectionInformation info, @NonNull DataSource dataSource) throws IOException;
 
     abstract protected void fillCollection(@NonNull TsCollectionInformation info, @NonNull DataSet dataSet) throws IOException;
 
     abstract protected void fillSeries(@NonNull TsInformation info, @NonNull DataSet dataSet) throws IOException;
 
+    /**
+     * Fills several series of the same data source, typically by a single
+     * query. The causes of the missing series should be added to the
+     * corresponding TsInformation. By default, the bulk loading is not
+     * supported.
+     *
+     * @param infos The series
+     * @param dataSource Their data source
+     * @return true if the series have been filled, false if the bulk loading
+     * is not supported (the series are then filled one by one)
+     * @throws IOException
+     * @since 2.2.3
+     */
+    protected boolean fillSeries(@NonNull List<TsInformation> infos, @NonNull DataSource dataSource) throws IOException {
+        return false;
+    }
+
     @NonNull
     protected TsInformation newTsInformation(@NonNull DataSet dataSet, @NonNull TsInformationType type) {
         return new TsInformation(getDisplayName(dataSet), toMoniker(dataSet), type);
@@ -23,6 +23,9 @@ import ec.tss.TsFactory;
 import ec.tss.TsInformation;
 import ec.tss.TsInformationType;
 import ec.tss.TsMoniker;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
 import org.slf4j.Logger;
@@ -33,6 +36,11 @@ import org.slf4j.Logger;
  */
 public abstract class AbstractTsProvider implements ITsProvider {
 
+    /**
+     * Default maximum number of asynchronous requests processed together
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
     protected final Logger logger;
     protected final String providerName;
     protected final TsAsyncMode asyncMode;
@@ -44,7 +52,7 @@ public abstract class AbstractTsProvider implements ITsProvider {
         this.logger = logger;
         this.providerName = providerName;
         this.asyncMode = asyncMode;
-        this.asyncRequests = new AsyncRequests();
+        this.asyncRequests = new AsyncRequests(this::getRequestGroup);
         if (this.asyncMode != TsAsyncMode.None) {
             this.requestsHandler = new RequestsHandler2();
             requestsHandler.start();
@@ -133,10 +141,59 @@ public abstract class AbstractTsProvider implements ITsProvider {
         return process(info);
     }
 
+    @Override
+    final public boolean get(Collection<TsInformation> infos) {
+        if (asyncMode != TsAsyncMode.None) {
+            // remove requests that are encompassed by these ones
+            infos.forEach(o -> asyncRequests.removeTs(o.moniker, o.type));
+        }
+        return process(new ArrayList<>(infos));
+    }
+
     abstract protected boolean process(TsCollectionInformation info);
 
     abstract protected boolean process(TsInformation info);
 
+    /**
+     * Processes several requests (a batch of asynchronous requests of the
+     * same group or a bulk synchronous query). By default, they are processed
+     * one by one; providers that can answer several series in one query
+     * should override this method.
+     *
+     * @param infos The requests
+     * @return true if all the requests have been processed without exception
+     */
+    protected boolean process(List<TsInformation> infos) {
+        boolean result = true;
+        for (TsInformation info : infos) {
+            if (!process(info)) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the group of an asynchronous request. Requests of the same group
+     * are processed together. By default, all the requests of the provider
+     * belong to the same group.
+     *
+     * @param moniker
+     * @return
+     */
+    protected Object getRequestGroup(TsMoniker moniker) {
+        return moniker.getSource();
+    }
+
+    /**
+     * Maximum number of asynchronous requests processed together
+     *
+     * @return
+     */
+    protected int getMaxBatchSize() {
+        return DEFAULT_BATCH_SIZE;
+    }
+
 //    protected class RequestsHandler extends AbstractExecutionThreadService {
 //
 //        @Override
@@ -192,14 +249,16 @@ public abstract class AbstractTsProvider implements ITsProvider {
                     process(crequest);
                     TsFactory.instance.update(crequest);
                 }
-                // step 2. process ts
-                TsInformation srequest = asyncRequests.nextTs();
-                if (srequest != null && TsFactory.instance.isTsAlive(srequest.moniker)) {
-                    process(srequest);
-                    TsFactory.instance.update(srequest);
+                // step 2. process ts (by batch)
+                List<TsInformation> srequests = asyncRequests.nextTsBatch(getMaxBatchSize());
+                boolean sempty = srequests.isEmpty();
+                srequests.removeIf(o -> !TsFactory.instance.isTsAlive(o.moniker));
+                if (!srequests.isEmpty()) {
+                    process(srequests);
+                    srequests.forEach(TsFactory.instance::update);
                 }
                 // step 3. sleep if queues are empty
-                if (srequest == null && crequest == null) {
+                if (sempty && crequest == null) {
                     LockSupport.park();
                 }
             }
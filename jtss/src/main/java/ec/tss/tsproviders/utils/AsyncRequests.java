@@ -20,80 +20,74 @@ import ec.tss.TsCollectionInformation;
 import ec.tss.TsInformation;
 import ec.tss.TsInformationType;
 import ec.tss.TsMoniker;
-import java.util.Deque;
-import java.util.LinkedList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
+ * Pending asynchronous requests of a provider. The requests are indexed by
+ * moniker, so that a new request on a moniker already in the queue is merged
+ * with the existing one (in constant time). They are also grouped by a key
+ * (for instance the data source of the moniker), so that the requests of the
+ * same group can be retrieved together and answered in one query. The groups
+ * and the requests inside a group are served in their arrival order.
  *
  * @author Philippe Charles
  */
 public class AsyncRequests {
 
-    private final Deque<TsInformation> m_srequests = new LinkedList<>();
-    private final Deque<TsCollectionInformation> m_crequests = new LinkedList<>();
+    private final RequestQueue m_srequests, m_crequests;
+
+    /**
+     * Requests grouped by provider (in other words, a simple queue)
+     */
+    public AsyncRequests() {
+        this(TsMoniker::getSource);
+    }
+
+    /**
+     * Requests grouped by a given key
+     *
+     * @param grouping Function that gives the group of a moniker. The
+     * function should be cheap and mustn't throw exceptions.
+     */
+    public AsyncRequests(Function<TsMoniker, ?> grouping) {
+        m_srequests = new RequestQueue(grouping);
+        m_crequests = new RequestQueue(grouping);
+    }
 
     public void clear() {
-        synchronized (m_crequests) {
-            m_crequests.clear();
-        }
-        synchronized (m_srequests) {
-            m_srequests.clear();
-        }
+        m_crequests.clear();
+        m_srequests.clear();
     }
 
     public boolean isEmpty() {
-        synchronized (m_crequests) {
-            if (!m_crequests.isEmpty()) {
-                return false;
-            }
-        }
-        synchronized (m_srequests) {
-            if (!m_srequests.isEmpty()) {
-                return false;
-            }
-        }
-        return true;
+        return m_crequests.isEmpty() && m_srequests.isEmpty();
     }
 
     public void addTsCollection(TsMoniker moniker, TsInformationType type) {
-        synchronized (m_crequests) {
-            for (TsCollectionInformation o : m_crequests) {
-                if (o.moniker.equals(moniker)) {
-                    o.type = type.union(o.type);
-                    return;
-                }
-            }
-            m_crequests.addLast(new TsCollectionInformation(moniker, type));
-        }
+        m_crequests.add(moniker, type);
     }
 
     public boolean removeTsCollection(TsMoniker moniker, TsInformationType type) {
-        synchronized (m_crequests) {
-            for (TsCollectionInformation o : m_crequests) {
-                if (o.moniker.equals(moniker)) {
-                    return type.encompass(o.type) ? m_crequests.remove(o) : false;
-                }
-            }
-            return false;
-        }
+        return m_crequests.remove(moniker, type);
     }
 
     public TsCollectionInformation nextTsCollection() {
-        synchronized (m_crequests) {
-            return m_crequests.pollFirst();
+        List<Map.Entry<TsMoniker, TsInformationType>> next = m_crequests.poll(1);
+        if (next.isEmpty()) {
+            return null;
         }
+        Map.Entry<TsMoniker, TsInformationType> request = next.get(0);
+        return new TsCollectionInformation(request.getKey(), request.getValue());
     }
 
     public void addTs(TsMoniker moniker, TsInformationType type) {
-        synchronized (m_srequests) {
-            for (TsInformation o : m_srequests) {
-                if (o.moniker.equals(moniker)) {
-                    o.type = type.union(o.type);
-                    return;
-                }
-            }
-            m_srequests.addLast(new TsInformation(null, moniker, type));
-        }
+        m_srequests.add(moniker, type);
     }
 
     /**
@@ -104,19 +98,118 @@ public class AsyncRequests {
      * @return
      */
     public boolean removeTs(TsMoniker moniker, TsInformationType type) {
-        synchronized (m_srequests) {
-            for (TsInformation o : m_srequests) {
-                if (o.moniker.equals(moniker)) {
-                    return type.encompass(o.type) ? m_srequests.remove(o) : false;
-                }
-            }
-            return false;
-        }
+        return m_srequests.remove(moniker, type);
     }
 
     public TsInformation nextTs() {
-        synchronized (m_srequests) {
-            return m_srequests.pollFirst();
+        List<TsInformation> next = nextTsBatch(1);
+        return next.isEmpty() ? null : next.get(0);
+    }
+
+    /**
+     * Retrieves (and removes) the next requests of the same group.
+     *
+     * @param max The maximum number of requests
+     * @return The requests, in their arrival order. An empty list if there is
+     * no pending request.
+     */
+    public List<TsInformation> nextTsBatch(int max) {
+        List<Map.Entry<TsMoniker, TsInformationType>> next = m_srequests.poll(max);
+        List<TsInformation> result = new ArrayList<>(next.size());
+        for (Map.Entry<TsMoniker, TsInformationType> request : next) {
+            result.add(new TsInformation(null, request.getKey(), request.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * Number of pending requests on time series
+     *
+     * @return
+     */
+    public int getTsCount() {
+        return m_srequests.size();
+    }
+
+    /**
+     * Number of pending requests on collections
+     *
+     * @return
+     */
+    public int getTsCollectionCount() {
+        return m_crequests.size();
+    }
+
+    private static final class RequestQueue {
+
+        private final Function<TsMoniker, ?> grouping;
+        private final LinkedHashMap<Object, LinkedHashMap<TsMoniker, TsInformationType>> groups = new LinkedHashMap<>();
+        private int size;
+
+        RequestQueue(Function<TsMoniker, ?> grouping) {
+            this.grouping = grouping;
+        }
+
+        synchronized void clear() {
+            groups.clear();
+            size = 0;
+        }
+
+        synchronized boolean isEmpty() {
+            return size == 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void add(TsMoniker moniker, TsInformationType type) {
+            LinkedHashMap<TsMoniker, TsInformationType> group = groups.computeIfAbsent(grouping.apply(moniker), o -> new LinkedHashMap<>());
+            // the position of an existing request is not modified
+            TsInformationType cur = group.put(moniker, type);
+            if (cur == null) {
+                ++size;
+            } else if (cur != type) {
+                group.put(moniker, type.union(cur));
+            }
+        }
+
+        synchronized boolean remove(TsMoniker moniker, TsInformationType type) {
+            Object key = grouping.apply(moniker);
+            LinkedHashMap<TsMoniker, TsInformationType> group = groups.get(key);
+            if (group == null) {
+                return false;
+            }
+            TsInformationType cur = group.get(moniker);
+            if (cur == null || !type.encompass(cur)) {
+                return false;
+            }
+            group.remove(moniker);
+            --size;
+            if (group.isEmpty()) {
+                groups.remove(key);
+            }
+            return true;
+        }
+
+        synchronized List<Map.Entry<TsMoniker, TsInformationType>> poll(int max) {
+            Iterator<LinkedHashMap<TsMoniker, TsInformationType>> igroups = groups.values().iterator();
+            if (!igroups.hasNext()) {
+                return new ArrayList<>();
+            }
+            LinkedHashMap<TsMoniker, TsInformationType> group = igroups.next();
+            List<Map.Entry<TsMoniker, TsInformationType>> result = new ArrayList<>(Math.min(max, group.size()));
+            Iterator<Map.Entry<TsMoniker, TsInformationType>> iter = group.entrySet().iterator();
+            while (iter.hasNext() && result.size() < max) {
+                Map.Entry<TsMoniker, TsInformationType> entry = iter.next();
+                result.add(new AbstractMap.SimpleImmutableEntry<>(entry));
+                iter.remove();
+            }
+            size -= result.size();
+            if (group.isEmpty()) {
+                igroups.remove();
+            }
+            return result;
         }
     }
 }
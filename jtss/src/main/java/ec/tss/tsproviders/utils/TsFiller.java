@@ -18,6 +18,7 @@ package ec.tss.tsproviders.utils;
 
 import ec.tss.TsCollectionInformation;
 import ec.tss.TsInformation;
+import java.util.List;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import net.jcip.annotations.ThreadSafe;
 
@@ -47,6 +48,25 @@ public interface TsFiller {
      */
     boolean fillSeries(@NonNull TsInformation info);
 
+    /**
+     * Fills several time series infos according to their requests. By
+     * default, the series are filled one by one.
+     *
+     * @param infos the time series infos to fill
+     * @return true if the process performed properly for all the series,
+     * false otherwise
+     * @since 2.2.3
+     */
+    default boolean fillSeriesList(@NonNull List<TsInformation> infos) {
+        boolean result = true;
+        for (TsInformation info : infos) {
+            if (!fillSeries(info)) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
     /**
      * Creates a new instance of TsFiller that does nothing.
      *
@@ -23,6 +23,9 @@ import ec.tss.TsFactory;
 import ec.tss.TsInformation;
 import ec.tss.TsInformationType;
 import ec.tss.TsMoniker;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.LockSupport;
@@ -109,6 +112,12 @@ public abstract class TsFillerAsProvider implements ITsProvider {
             return filler.fillSeries(info);
         }
 
+        @Override
+        public boolean get(Collection<TsInformation> infos) {
+            infos.forEach(o -> DataSourcePreconditions.checkProvider(getSource(), o.moniker));
+            return filler.fillSeriesList(new ArrayList<>(infos));
+        }
+
         @Override
         public boolean queryTs(TsMoniker moniker, TsInformationType type) {
             Objects.requireNonNull(moniker, "Moniker cannot be null");
@@ -168,6 +177,14 @@ public abstract class TsFillerAsProvider implements ITsProvider {
             return filler.fillSeries(info);
         }
 
+        @Override
+        public boolean get(Collection<TsInformation> infos) {
+            infos.forEach(o -> DataSourcePreconditions.checkProvider(getSource(), o.moniker));
+            // remove requests that are encompassed by these ones
+            infos.forEach(o -> asyncRequests.removeTs(o.moniker, o.type));
+            return filler.fillSeriesList(new ArrayList<>(infos));
+        }
+
         @Override
         public boolean queryTs(TsMoniker moniker, TsInformationType type) {
             Objects.requireNonNull(moniker, "Moniker cannot be null");
@@ -240,10 +257,11 @@ public abstract class TsFillerAsProvider implements ITsProvider {
         }
 
         private void processNextTs() {
-            TsInformation srequest = asyncRequests.nextTs();
-            if (srequest != null && TsFactory.instance.isTsAlive(srequest.moniker)) {
-                filler.fillSeries(srequest);
-                TsFactory.instance.update(srequest);
+            List<TsInformation> srequests = asyncRequests.nextTsBatch(AbstractTsProvider.DEFAULT_BATCH_SIZE);
+            srequests.removeIf(o -> !TsFactory.instance.isTsAlive(o.moniker));
+            if (!srequests.isEmpty()) {
+                filler.fillSeriesList(srequests);
+                srequests.forEach(TsFactory.instance::update);
             }
         }
 
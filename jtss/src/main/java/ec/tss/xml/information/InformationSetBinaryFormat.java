@@ -0,0 +1,750 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.xml.information;
+
+import com.google.common.io.ByteStreams;
+import ec.tss.xml.XmlAlgorithm;
+import ec.tss.xml.XmlDoubles;
+import ec.tss.xml.XmlEmptyElement;
+import ec.tss.xml.XmlIntegers;
+import ec.tss.xml.XmlMatrix;
+import ec.tss.xml.XmlMetaData;
+import ec.tss.xml.XmlParameter;
+import ec.tss.xml.XmlParameters;
+import ec.tss.xml.XmlPeriodSelection;
+import ec.tss.xml.XmlPeriodSelectionBetween;
+import ec.tss.xml.XmlPeriodSelectionExcluding;
+import ec.tss.xml.XmlProperty;
+import ec.tss.xml.XmlRegItem;
+import ec.tss.xml.XmlStatisticalTest;
+import ec.tss.xml.XmlStrings;
+import ec.tss.xml.XmlTs;
+import ec.tss.xml.XmlTsCollection;
+import ec.tss.xml.XmlTsData;
+import ec.tss.xml.XmlTsMoniker;
+import ec.tstoolkit.ParameterType;
+import ec.tstoolkit.information.InformationSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Compact binary form of information sets.
+ * <p>
+ * The content is the one of the xml form (see {@link XmlInformationSet}): an
+ * information set is converted to its xml model as usual and this model is
+ * then encoded in binary instead of being marshalled in xml, so that reading
+ * back a binary content gives exactly what reading back the xml content would
+ * give. Arrays of numbers are written as raw big-endian values and strings
+ * (names of the items, keys of the metadata...) are written once and then
+ * referenced by their index.
+ * <p>
+ * A content starts with a magic number and the version of the encoding;
+ * contents written with a version unknown to the reader are rejected.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public final class InformationSetBinaryFormat {
+
+    private InformationSetBinaryFormat() {
+        // static class
+    }
+
+    /**
+     * Current version of the encoding.
+     */
+    public static final int VERSION = 1;
+
+    public static void write(@NonNull OutputStream stream, @NonNull InformationSet info) throws IOException {
+        XmlInformationSet xml = new XmlInformationSet();
+        xml.copy(info);
+        Encoder encoder = new Encoder();
+        encoder.putRawInt(MAGIC);
+        encoder.putSize(VERSION);
+        encoder.putSet(xml);
+        encoder.writeTo(stream);
+    }
+
+    @NonNull
+    public static InformationSet read(@NonNull InputStream stream) throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(ByteStreams.toByteArray(stream));
+        try {
+            if (content.remaining() < Integer.BYTES || content.getInt() != MAGIC) {
+                throw new IOException("Invalid binary information set");
+            }
+            Decoder decoder = new Decoder(content);
+            int version = decoder.getSize();
+            if (version != VERSION) {
+                throw new IOException("Unsupported version of binary information set: " + version);
+            }
+            return decoder.getSet().create();
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new IOException("Invalid binary information set", ex);
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final int MAGIC = 0x44495342; // "DISB"
+
+    // tags of the values; never reuse or renumber them
+    private static final byte NULL = 0, BOOLEAN = 1, DOUBLE = 2, INTEGER = 3, STRING = 4,
+            INTEGERS = 5, DOUBLES = 6, BOOLEANS = 7, STRINGS = 8, SUBSET = 9, METHOD = 10,
+            TSDATA = 11, MONIKER = 12, TS = 13, TSCOLLECTION = 14, SPAN = 15, TEST = 16,
+            REGITEM = 17, PARAM = 18, PARAMS = 19, MATRIX = 20;
+
+    private static final class Encoder {
+
+        private final Map<String, Integer> strings = new HashMap<>();
+        private ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        void writeTo(OutputStream stream) throws IOException {
+            stream.write(buffer.array(), 0, buffer.position());
+        }
+
+        void putSet(XmlInformationSet set) throws IOException {
+            XmlInformation[] items = set.item;
+            if (items == null) {
+                putSize(0);
+                return;
+            }
+            putSize(items.length);
+            for (XmlInformation o : items) {
+                putString(o.name);
+                putValue(o.information);
+            }
+        }
+
+        void putValue(Object value) throws IOException {
+            if (value == null) {
+                putTag(NULL);
+            } else if (value instanceof Boolean) {
+                putTag(BOOLEAN);
+                putBoolean((Boolean) value);
+            } else if (value instanceof Double) {
+                putTag(DOUBLE);
+                putDouble((Double) value);
+            } else if (value instanceof Integer) {
+                putTag(INTEGER);
+                putInt((Integer) value);
+            } else if (value instanceof String) {
+                putTag(STRING);
+                putString((String) value);
+            } else if (value instanceof XmlIntegers) {
+                putTag(INTEGERS);
+                putInts(((XmlIntegers) value).items);
+            } else if (value instanceof XmlDoubles) {
+                putTag(DOUBLES);
+                putDoubles(((XmlDoubles) value).data);
+            } else if (value instanceof boolean[]) {
+                putTag(BOOLEANS);
+                putBooleans((boolean[]) value);
+            } else if (value instanceof XmlStrings) {
+                putTag(STRINGS);
+                putString(((XmlStrings) value).items);
+            } else if (value instanceof XmlInformationSet) {
+                putTag(SUBSET);
+                putSet((XmlInformationSet) value);
+            } else if (value instanceof XmlAlgorithm) {
+                putTag(METHOD);
+                putAlgorithm((XmlAlgorithm) value);
+            } else if (value instanceof XmlTsData) {
+                putTag(TSDATA);
+                putTsData((XmlTsData) value);
+            } else if (value instanceof XmlTsMoniker) {
+                putTag(MONIKER);
+                putMoniker((XmlTsMoniker) value);
+            } else if (value instanceof XmlTs) {
+                putTag(TS);
+                putTs((XmlTs) value);
+            } else if (value instanceof XmlTsCollection) {
+                putTag(TSCOLLECTION);
+                putTsCollection((XmlTsCollection) value);
+            } else if (value instanceof XmlPeriodSelection) {
+                putTag(SPAN);
+                putSpan((XmlPeriodSelection) value);
+            } else if (value instanceof XmlStatisticalTest) {
+                putTag(TEST);
+                putTest((XmlStatisticalTest) value);
+            } else if (value instanceof XmlRegItem) {
+                putTag(REGITEM);
+                putRegItem((XmlRegItem) value);
+            } else if (value instanceof XmlParameter) {
+                putTag(PARAM);
+                putParameter((XmlParameter) value);
+            } else if (value instanceof XmlParameters) {
+                putTag(PARAMS);
+                putParameters((XmlParameters) value);
+            } else if (value instanceof XmlMatrix) {
+                putTag(MATRIX);
+                putMatrix((XmlMatrix) value);
+            } else {
+                throw new IOException("Unsupported type of information: " + value.getClass().getName());
+            }
+        }
+
+        void putAlgorithm(XmlAlgorithm value) {
+            putString(value.family);
+            putString(value.name);
+            putString(value.version);
+        }
+
+        void putTsData(XmlTsData value) {
+            putInt(value.freq);
+            putInt(value.firstYear);
+            putNullableInt(value.firstPeriod);
+            putDoubles(value.data);
+            putString(value.name);
+        }
+
+        void putMoniker(XmlTsMoniker value) {
+            putString(value.source);
+            putString(value.id);
+        }
+
+        void putTs(XmlTs value) {
+            putNullableInt(value.freq);
+            putNullableInt(value.firstYear);
+            putNullableInt(value.firstPeriod);
+            putDoubles(value.data);
+            putMetaData(value.metaData);
+            putString(value.name);
+            putString(value.source);
+            putString(value.identifier);
+        }
+
+        void putTsCollection(XmlTsCollection value) {
+            putMetaData(value.metadata);
+            putString(value.name);
+            putString(value.source);
+            putString(value.identifier);
+            if (putPresence(value.tslist)) {
+                putSize(value.tslist.length);
+                for (XmlTs o : value.tslist) {
+                    if (putPresence(o)) {
+                        putTs(o);
+                    }
+                }
+            }
+        }
+
+        void putMetaData(XmlMetaData value) {
+            if (putPresence(value) && putPresence(value.properties)) {
+                putSize(value.properties.length);
+                for (XmlProperty o : value.properties) {
+                    if (putPresence(o)) {
+                        putString(o.name);
+                        putString(o.value);
+                    }
+                }
+            }
+        }
+
+        void putSpan(XmlPeriodSelection value) {
+            putPresence(value.all);
+            putPresence(value.none);
+            putString(value.from);
+            putString(value.to);
+            putString(value.first);
+            putString(value.last);
+            if (putPresence(value.excluding)) {
+                putInt(value.excluding.nfirst);
+                putInt(value.excluding.nlast);
+            }
+            if (putPresence(value.between)) {
+                putString(value.between.start);
+                putString(value.between.end);
+            }
+        }
+
+        void putTest(XmlStatisticalTest value) {
+            putString(value.description);
+            putDouble(value.value);
+            putDouble(value.pvalue);
+        }
+
+        void putRegItem(XmlRegItem value) {
+            putString(value.description);
+            putDouble(value.coefficient);
+            putDouble(value.stderror);
+            putDouble(value.pvalue);
+        }
+
+        void putParameter(XmlParameter value) {
+            putString(value.name);
+            putString(value.type != null ? value.type.name() : null);
+            putNullableDouble(value.value);
+            putNullableDouble(value.stde);
+            putNullableDouble(value.tstat);
+        }
+
+        void putParameters(XmlParameters value) {
+            if (putPresence(value.parameters)) {
+                putSize(value.parameters.length);
+                for (XmlParameter o : value.parameters) {
+                    if (putPresence(o)) {
+                        putParameter(o);
+                    }
+                }
+            }
+        }
+
+        void putMatrix(XmlMatrix value) {
+            putInt(value.nrows);
+            putInt(value.ncolumns);
+            putDoubles(value.data);
+        }
+
+        void putTag(byte tag) {
+            ensure(1);
+            buffer.put(tag);
+        }
+
+        void putBoolean(boolean value) {
+            ensure(1);
+            buffer.put(value ? (byte) 1 : (byte) 0);
+        }
+
+        boolean putPresence(Object value) {
+            putBoolean(value != null);
+            return value != null;
+        }
+
+        void putRawInt(int value) {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        /**
+         * Writes a non-negative int as a variable-length quantity.
+         */
+        void putSize(int value) {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        /**
+         * Writes any int as a zigzag-encoded variable-length quantity.
+         */
+        void putInt(int value) {
+            putSize((value << 1) ^ (value >> 31));
+        }
+
+        void putNullableInt(Integer value) {
+            if (putPresence(value)) {
+                putInt(value);
+            }
+        }
+
+        void putDouble(double value) {
+            ensure(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        void putNullableDouble(Double value) {
+            if (putPresence(value)) {
+                putDouble(value);
+            }
+        }
+
+        void putDoubles(double[] values) {
+            if (values == null) {
+                putSize(0);
+                return;
+            }
+            putSize(values.length + 1);
+            ensure(values.length * Double.BYTES);
+            buffer.asDoubleBuffer().put(values);
+            buffer.position(buffer.position() + values.length * Double.BYTES);
+        }
+
+        void putInts(int[] values) {
+            if (values == null) {
+                putSize(0);
+                return;
+            }
+            putSize(values.length + 1);
+            for (int o : values) {
+                putInt(o);
+            }
+        }
+
+        void putBooleans(boolean[] values) {
+            putSize(values.length);
+            ensure(values.length);
+            for (boolean o : values) {
+                buffer.put(o ? (byte) 1 : (byte) 0);
+            }
+        }
+
+        /**
+         * Writes a nullable string: 0 stands for null, i (1 &lt;= i &lt;= n)
+         * for the i-th string already written and n+1 for a new string,
+         * followed by its content.
+         */
+        void putString(String value) {
+            if (value == null) {
+                putSize(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                putSize(index + 1);
+                return;
+            }
+            int size = strings.size();
+            strings.put(value, size);
+            putSize(size + 1);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putSize(bytes.length);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        private void ensure(int size) {
+            if (buffer.remaining() < size) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + size);
+                ByteBuffer tmp = ByteBuffer.allocate(capacity);
+                buffer.flip();
+                tmp.put(buffer);
+                buffer = tmp;
+            }
+        }
+    }
+
+    private static final class Decoder {
+
+        private final ByteBuffer buffer;
+        private final List<String> strings = new ArrayList<>();
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        XmlInformationSet getSet() throws IOException {
+            XmlInformationSet result = new XmlInformationSet();
+            XmlInformation[] items = new XmlInformation[checkRemaining(getSize(), 2)];
+            for (int i = 0; i < items.length; i++) {
+                String name = getString();
+                items[i] = new XmlInformation(name, getValue());
+            }
+            result.item = items;
+            return result;
+        }
+
+        Object getValue() throws IOException {
+            byte tag = buffer.get();
+            switch (tag) {
+                case NULL:
+                    return null;
+                case BOOLEAN:
+                    return getBoolean();
+                case DOUBLE:
+                    return buffer.getDouble();
+                case INTEGER:
+                    return getInt();
+                case STRING:
+                    return getString();
+                case INTEGERS: {
+                    XmlIntegers result = new XmlIntegers();
+                    result.items = getInts();
+                    return result;
+                }
+                case DOUBLES: {
+                    XmlDoubles result = new XmlDoubles();
+                    result.data = getDoubles();
+                    return result;
+                }
+                case BOOLEANS:
+                    return getBooleans();
+                case STRINGS: {
+                    XmlStrings result = new XmlStrings();
+                    result.items = getString();
+                    return result;
+                }
+                case SUBSET:
+                    return getSet();
+                case METHOD:
+                    return getAlgorithm();
+                case TSDATA:
+                    return getTsData();
+                case MONIKER:
+                    return getMoniker();
+                case TS:
+                    return getTs();
+                case TSCOLLECTION:
+                    return getTsCollection();
+                case SPAN:
+                    return getSpan();
+                case TEST:
+                    return getTest();
+                case REGITEM:
+                    return getRegItem();
+                case PARAM:
+                    return getParameter();
+                case PARAMS:
+                    return getParameters();
+                case MATRIX:
+                    return getMatrix();
+                default:
+                    throw new IOException("Unknown type of information: " + tag);
+            }
+        }
+
+        XmlAlgorithm getAlgorithm() {
+            XmlAlgorithm result = new XmlAlgorithm();
+            result.family = getString();
+            result.name = getString();
+            result.version = getString();
+            return result;
+        }
+
+        XmlTsData getTsData() {
+            XmlTsData result = new XmlTsData();
+            result.freq = getInt();
+            result.firstYear = getInt();
+            result.firstPeriod = getNullableInt();
+            result.data = getDoubles();
+            result.name = getString();
+            return result;
+        }
+
+        XmlTsMoniker getMoniker() {
+            XmlTsMoniker result = new XmlTsMoniker();
+            result.source = getString();
+            result.id = getString();
+            return result;
+        }
+
+        XmlTs getTs() {
+            XmlTs result = new XmlTs();
+            result.freq = getNullableInt();
+            result.firstYear = getNullableInt();
+            result.firstPeriod = getNullableInt();
+            result.data = getDoubles();
+            result.metaData = getMetaData();
+            result.name = getString();
+            result.source = getString();
+            result.identifier = getString();
+            return result;
+        }
+
+        XmlTsCollection getTsCollection() {
+            XmlTsCollection result = new XmlTsCollection();
+            result.metadata = getMetaData();
+            result.name = getString();
+            result.source = getString();
+            result.identifier = getString();
+            if (getBoolean()) {
+                result.tslist = new XmlTs[checkRemaining(getSize(), 1)];
+                for (int i = 0; i < result.tslist.length; i++) {
+                    result.tslist[i] = getBoolean() ? getTs() : null;
+                }
+            }
+            return result;
+        }
+
+        XmlMetaData getMetaData() {
+            if (!getBoolean()) {
+                return null;
+            }
+            XmlMetaData result = new XmlMetaData();
+            if (getBoolean()) {
+                result.properties = new XmlProperty[checkRemaining(getSize(), 1)];
+                for (int i = 0; i < result.properties.length; i++) {
+                    if (getBoolean()) {
+                        XmlProperty property = new XmlProperty();
+                        property.name = getString();
+                        property.value = getString();
+                        result.properties[i] = property;
+                    }
+                }
+            }
+            return result;
+        }
+
+        XmlPeriodSelection getSpan() {
+            XmlPeriodSelection result = new XmlPeriodSelection();
+            result.all = getBoolean() ? new XmlEmptyElement() : null;
+            result.none = getBoolean() ? new XmlEmptyElement() : null;
+            result.from = getString();
+            result.to = getString();
+            result.first = getString();
+            result.last = getString();
+            if (getBoolean()) {
+                result.excluding = new XmlPeriodSelectionExcluding();
+                result.excluding.nfirst = getInt();
+                result.excluding.nlast = getInt();
+            }
+            if (getBoolean()) {
+                result.between = new XmlPeriodSelectionBetween();
+                result.between.start = getString();
+                result.between.end = getString();
+            }
+            return result;
+        }
+
+        XmlStatisticalTest getTest() {
+            XmlStatisticalTest result = new XmlStatisticalTest();
+            result.description = getString();
+            result.value = buffer.getDouble();
+            result.pvalue = buffer.getDouble();
+            return result;
+        }
+
+        XmlRegItem getRegItem() {
+            XmlRegItem result = new XmlRegItem();
+            result.description = getString();
+            result.coefficient = buffer.getDouble();
+            result.stderror = buffer.getDouble();
+            result.pvalue = buffer.getDouble();
+            return result;
+        }
+
+        XmlParameter getParameter() {
+            XmlParameter result = new XmlParameter();
+            result.name = getString();
+            String type = getString();
+            result.type = type != null ? ParameterType.valueOf(type) : null;
+            result.value = getNullableDouble();
+            result.stde = getNullableDouble();
+            result.tstat = getNullableDouble();
+            return result;
+        }
+
+        XmlParameters getParameters() {
+            XmlParameters result = new XmlParameters();
+            if (getBoolean()) {
+                result.parameters = new XmlParameter[checkRemaining(getSize(), 1)];
+                for (int i = 0; i < result.parameters.length; i++) {
+                    result.parameters[i] = getBoolean() ? getParameter() : null;
+                }
+            }
+            return result;
+        }
+
+        XmlMatrix getMatrix() {
+            XmlMatrix result = new XmlMatrix();
+            result.nrows = getInt();
+            result.ncolumns = getInt();
+            result.data = getDoubles();
+            return result;
+        }
+
+        boolean getBoolean() {
+            return buffer.get() != 0;
+        }
+
+        int getSize() {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = buffer.get();
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Invalid variable-length quantity");
+        }
+
+        int getInt() {
+            int value = getSize();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        Integer getNullableInt() {
+            return getBoolean() ? getInt() : null;
+        }
+
+        Double getNullableDouble() {
+            return getBoolean() ? buffer.getDouble() : null;
+        }
+
+        double[] getDoubles() {
+            int length = getSize();
+            if (length == 0) {
+                return null;
+            }
+            double[] result = new double[checkRemaining(length - 1, Double.BYTES)];
+            buffer.asDoubleBuffer().get(result);
+            buffer.position(buffer.position() + result.length * Double.BYTES);
+            return result;
+        }
+
+        int[] getInts() {
+            int length = getSize();
+            if (length == 0) {
+                return null;
+            }
+            int[] result = new int[checkRemaining(length - 1, 1)];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = getInt();
+            }
+            return result;
+        }
+
+        boolean[] getBooleans() {
+            boolean[] result = new boolean[checkRemaining(getSize(), 1)];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = getBoolean();
+            }
+            return result;
+        }
+
+        /**
+         * Checks that a length read from the content is consistent with the
+         * remaining bytes (each element taking at least the given size).
+         */
+        int checkRemaining(int length, int minSize) {
+            if (length < 0 || (long) length * minSize > buffer.remaining()) {
+                throw new IllegalArgumentException("Invalid length: " + length);
+            }
+            return length;
+        }
+
+        String getString() {
+            int index = getSize();
+            if (index == 0) {
+                return null;
+            }
+            if (index <= strings.size()) {
+                return strings.get(index - 1);
+            }
+            if (index != strings.size() + 1) {
+                throw new IllegalArgumentException("Invalid string reference");
+            }
+            byte[] bytes = new byte[checkRemaining(getSize(), 1)];
+            buffer.get(bytes);
+            String result = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(result);
+            return result;
+        }
+    }
+    //</editor-fold>
+}
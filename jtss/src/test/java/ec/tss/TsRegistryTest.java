@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class TsRegistryTest {
+
+    public TsRegistryTest() {
+    }
+
+    @Test
+    public void testPutAndGet() {
+        TsRegistry<String> registry = new TsRegistry<>();
+        TsMoniker m1 = TsMoniker.create("test", "1"), m2 = TsMoniker.create("test", "2");
+        String s1 = new String("s1");
+        registry.put(m1, s1);
+        assertThat(registry.get(m1)).isSameAs(s1);
+        assertThat(registry.get(m2)).isNull();
+        assertThat(registry.get(null)).isNull();
+        assertThat(registry.isAlive(m1)).isTrue();
+        assertThat(registry.isAlive(m2)).isFalse();
+        assertThat(registry.isAlive(null)).isFalse();
+        // the living object is kept
+        assertThat(registry.putIfAbsent(m1, "other")).isSameAs(s1);
+        String s2 = new String("s2");
+        assertThat(registry.putIfAbsent(m2, s2)).isSameAs(s2);
+        assertThat(registry.select(m -> m.getId().equals("2"))).containsExactly(s2);
+    }
+
+    @Test
+    public void testConcurrentPutIfAbsent() throws Exception {
+        TsRegistry<Object> registry = new TsRegistry<>();
+        TsMoniker moniker = TsMoniker.create("test", "id");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Object>> tasks = IntStream.range(0, 100)
+                    .mapToObj(i -> (Callable<Object>) () -> registry.putIfAbsent(moniker, new Object()))
+                    .collect(Collectors.toList());
+            List<Future<Object>> results = executor.invokeAll(tasks);
+            Object first = results.get(0).get();
+            for (Future<Object> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+            assertThat(registry.get(moniker)).isSameAs(first);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFactory() {
+        TsMoniker moniker = TsMoniker.create("registry-test", "id");
+        Ts s = TsFactory.instance.createTs("s", moniker, null, null);
+        assertThat(TsFactory.instance.isTsAlive(moniker)).isTrue();
+        assertThat(TsFactory.instance.getTs(moniker)).isSameAs(s);
+        assertThat(TsFactory.instance.createTs("s", moniker, null, null).getMaster()).isSameAs(s);
+        assertThat(TsFactory.instance.isTsAlive(null)).isFalse();
+        assertThat(TsFactory.instance.getTs(null)).isNull();
+    }
+}
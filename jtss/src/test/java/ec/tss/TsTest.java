@@ -84,4 +84,14 @@ public class TsTest {
                 .extracting("moniker", "name", "metaData", "tsData", "informationType", "invalidDataCause")
                 .containsExactly(info.moniker, "hello", null, null, TsInformationType.None, null);
     }
+
+    @Test
+    public void testCreateWithoutMoniker() {
+        TsInformation info = new TsInformation("s", null, TsInformationType.Data);
+        info.data = Data.X;
+        Ts s = TsFactory.instance.createTs(info);
+        assertThat(s.getMoniker()).isNotNull();
+        assertThat(s.getTsData()).isEqualTo(Data.X);
+        assertThat(TsFactory.instance.getTs(s.getMoniker())).isSameAs(s);
+    }
 }
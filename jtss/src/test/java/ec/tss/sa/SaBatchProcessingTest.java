@@ -0,0 +1,142 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import data.Data;
+import ec.satoolkit.ISaSpecification;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.sa.documents.SaDocument;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tss.tsproviders.cursor.TsCursor;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import ec.tstoolkit.algorithm.IOutput;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SaBatchProcessingTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    public SaBatchProcessingTest() {
+    }
+
+    private static TsCursor<Integer> cursor(List<TsData> s) {
+        return TsCursor.from(IntStream.range(0, s.size()).boxed().iterator(),
+                i -> i == 3 ? OptionalTsData.absent("missing") : OptionalTsData.present(s.get(i)),
+                i -> Collections.emptyMap(), i -> "s" + i);
+    }
+
+    @Test
+    public void testProcess() throws Exception {
+        List<TsData> s = Data.rndAirlines(11, 120, -.6, -.8);
+        SaBatchProcessing processing = new SaBatchProcessing(TramoSeatsSpecification.RSA5);
+        processing.setBatchSize(4);
+        Output output = new Output();
+        processing.addOutput(output);
+        assertTrue(processing.process(cursor(s), "test"));
+        assertEquals(11, processing.getProcessedCount());
+        assertEquals(11, output.names.size());
+        assertTrue(output.ended);
+        for (int i = 0; i < s.size(); ++i) {
+            assertEquals("s" + i, output.names.get(i));
+        }
+        assertEquals(10, output.processed);
+    }
+
+    @Test
+    public void testStop() throws Exception {
+        List<TsData> s = Data.rndAirlines(11, 120, -.6, -.8);
+        SaBatchProcessing processing = new SaBatchProcessing(TramoSeatsSpecification.RSA0);
+        processing.setBatchSize(4);
+        Output output = new Output();
+        output.onProcess = processing::stop;
+        processing.addOutput(output);
+        assertFalse(processing.process(cursor(s), null));
+        // the current batch is completed
+        assertEquals(4, processing.getProcessedCount());
+        assertTrue(output.ended);
+    }
+
+    @Test
+    public void testOutputFailure() throws Exception {
+        List<TsData> s = Data.rndAirlines(5, 120, -.6, -.8);
+        SaBatchProcessing processing = new SaBatchProcessing(TramoSeatsSpecification.RSA0);
+        Output output = new Output();
+        output.onProcess = () -> {
+            throw new IllegalStateException();
+        };
+        processing.addOutput(output);
+        try {
+            processing.process(cursor(s), null);
+            fail();
+        } catch (IllegalStateException ex) {
+        }
+        // the outputs are ended even if the processing is aborted
+        assertTrue(output.ended);
+    }
+
+    private static class Output implements IOutput<SaDocument<ISaSpecification>> {
+
+        final List<String> names = new ArrayList<>();
+        int processed;
+        boolean ended;
+        Runnable onProcess;
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Override
+        public void process(SaDocument<ISaSpecification> document) {
+            names.add(document.getInput().getRawName());
+            if (document.getInput().getTsData() != null && document.getFinalDecomposition() != null) {
+                ++processed;
+            }
+            if (onProcess != null) {
+                onProcess.run();
+            }
+        }
+
+        @Override
+        public void start(Object context) {
+            names.clear();
+            ended = false;
+        }
+
+        @Override
+        public void end(Object context) {
+            ended = true;
+        }
+    }
+}
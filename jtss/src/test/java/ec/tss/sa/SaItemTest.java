@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import data.Data;
+import ec.satoolkit.GenericSaResults;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.arima.estimation.ConcentratedLikelihoodEstimation;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.modelling.ModellingDictionary;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SaItemTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    public SaItemTest() {
+    }
+
+    @Test
+    public void testWarmRefresh() {
+        SaItem item = item(Data.P.drop(0, 6));
+        long ncold = ConcentratedLikelihoodEstimation.fnCalls.get();
+        SaItem cold = item.refresh(TsFactory.instance.createTs("s", null, Data.P), null, EstimationPolicyType.FreeParameters, true, SaItem.RefreshMode.Cold);
+        TsData csa = cold.process().getData(ModellingDictionary.SA, TsData.class);
+        ncold = ConcentratedLikelihoodEstimation.fnCalls.get() - ncold;
+        long nwarm = ConcentratedLikelihoodEstimation.fnCalls.get();
+        SaItem warm = item.refresh(TsFactory.instance.createTs("s", null, Data.P), null, EstimationPolicyType.FreeParameters, true, SaItem.RefreshMode.Warm);
+        TsData wsa = warm.process().getData(ModellingDictionary.SA, TsData.class);
+        nwarm = ConcentratedLikelihoodEstimation.fnCalls.get() - nwarm;
+        DataBlock c = new DataBlock(csa.internalStorage()), w = new DataBlock(wsa.internalStorage());
+        assertTrue(c.distance(w) / c.nrm2() < 1e-4);
+        assertTrue(nwarm < ncold);
+    }
+
+    @Test
+    public void testUnchangedSeries() {
+        SaItem item = item(Data.P);
+        SaItem warm = item.refresh(TsFactory.instance.createTs("s", null, Data.P), null, EstimationPolicyType.FreeParameters, true, SaItem.RefreshMode.Warm);
+        assertSame(item.process(), warm.process());
+        assertEquals(SaItem.Status.Valid, warm.getStatus());
+        // the outliers are re-identified
+        warm = item.refresh(TsFactory.instance.createTs("s", null, Data.P), null, EstimationPolicyType.Outliers, true, SaItem.RefreshMode.Warm);
+        assertNotSame(item.process(), warm.process());
+    }
+
+    @Test
+    public void testVerifiedWarmRefresh() {
+        SaItem item = item(Data.P.drop(0, 12));
+        SaItem cold = item.refresh(TsFactory.instance.createTs("s", null, Data.P), null, EstimationPolicyType.LastOutliers, true, SaItem.RefreshMode.Cold);
+        SaItem warm = item.refresh(TsFactory.instance.createTs("s", null, Data.P), null, EstimationPolicyType.LastOutliers, true, SaItem.RefreshMode.VerifiedWarm);
+        double cll = logLikelihood(cold.process()), wll = logLikelihood(warm.process());
+        assertTrue(wll >= cll - 1e-6 * Math.abs(cll));
+        assertEquals(warm.isColdFallback(), wll == cll);
+    }
+
+    private static SaItem item(TsData s) {
+        SaItem item = new SaItem(TramoSeatsSpecification.RSA4, TsFactory.instance.createTs("s", null, s));
+        assertNotNull(item.process());
+        return item;
+    }
+
+    private static double logLikelihood(CompositeResults rslts) {
+        return GenericSaResults.getPreprocessingModel(rslts).estimation.getLikelihood().getLogLikelihood();
+    }
+}
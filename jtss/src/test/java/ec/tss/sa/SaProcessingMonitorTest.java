@@ -0,0 +1,170 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+ */
+package ec.tss.sa;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.ProcessingExecutor;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SaProcessingMonitorTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    public SaProcessingMonitorTest() {
+    }
+
+    private static SaProcessing create() {
+        SaProcessing processing = new SaProcessing();
+        List<TsData> s = Data.rndAirlines(10, 120, -.6, -.8);
+        for (int i = 0; i < s.size(); ++i) {
+            SaItem item = new SaItem(TramoSeatsSpecification.RSA5, TsFactory.instance.createTs("s" + i, null, s.get(i)));
+            item.setPriority(i % 3);
+            processing.add(item);
+        }
+        return processing;
+    }
+
+    @Test
+    public void testParallelProcessing() {
+        SaProcessing processing = create();
+        SaProcessing copy = processing.makeCopy();
+
+        SaProcessingMonitor monitor = new SaProcessingMonitor();
+        monitor.setParallelism(4);
+        monitor.setProcessing(processing);
+        final AtomicInteger nprocessed = new AtomicInteger(), ncompleted = new AtomicInteger();
+        monitor.addSaEventListener(new SaEventListener() {
+            @Override
+            public void Processed(SaItemEvent evt) {
+                nprocessed.incrementAndGet();
+            }
+
+            @Override
+            public void Completed(SaProcessingEvent evt) {
+                ncompleted.incrementAndGet();
+            }
+        });
+        assertTrue(monitor.process());
+        assertEquals(10, nprocessed.get());
+        assertEquals(1, ncompleted.get());
+        assertEquals(10, monitor.getProcessedCount());
+        assertTrue(processing.isProcessed());
+
+        // same results as the sequential processing
+        for (int i = 0; i < processing.size(); ++i) {
+            TsData sa = processing.get(i).process().getData("sa", TsData.class);
+            TsData ssa = copy.get(i).process().getData("sa", TsData.class);
+            assertEquals(ssa, sa);
+        }
+    }
+
+    @Test
+    public void testStop() {
+        SaProcessing processing = create();
+        final SaProcessingMonitor monitor = new SaProcessingMonitor();
+        monitor.setParallelism(1);
+        monitor.setProcessing(processing);
+        monitor.addSaEventListener(new SaEventListener() {
+            @Override
+            public void Processed(SaItemEvent evt) {
+                monitor.stop();
+            }
+
+            @Override
+            public void Completed(SaProcessingEvent evt) {
+                fail();
+            }
+        });
+        assertFalse(monitor.process());
+        assertEquals(1, monitor.getProcessedCount());
+        assertEquals(1, processing.getProcessedCount());
+        // the item with the highest priority has been processed first
+        for (SaItem item : processing) {
+            assertEquals(item.getPriority() == 2 && item.getKey() == 2, item.isProcessed());
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        SaProcessing processing = create();
+        SaItem failing = new SaItem(TramoSeatsSpecification.RSA5, processing.get(0).getTs()) {
+            @Override
+            public CompositeResults process() {
+                throw new IllegalStateException();
+            }
+        };
+        processing.replace(processing.get(0), failing);
+        final SaProcessingMonitor monitor = new SaProcessingMonitor();
+        monitor.setParallelism(4);
+        monitor.setProcessing(processing);
+        final AtomicInteger nrejected = new AtomicInteger();
+        monitor.addSaEventListener(new SaEventListener() {
+            @Override
+            public void Processed(SaItemEvent evt) {
+                try {
+                    monitor.process();
+                } catch (IllegalStateException ex) {
+                    nrejected.incrementAndGet();
+                }
+            }
+
+            @Override
+            public void Completed(SaProcessingEvent evt) {
+            }
+        });
+        // the failure of an item doesn't stop the processing
+        assertTrue(monitor.process());
+        assertEquals(10, monitor.getProcessedCount());
+        assertEquals(10, nrejected.get());
+        assertEquals(SaItem.Status.Invalid, failing.getStatus());
+        for (SaItem item : processing) {
+            assertTrue(item.isProcessed());
+        }
+    }
+
+    @Test
+    public void testParallelRefresh() {
+        SaProcessing processing = create();
+        for (SaItem item : processing) {
+            item.process();
+            SaManager.instance.updatePointSpecification(item);
+        }
+        SaProcessing copy = processing.makeCopy();
+        processing.refresh(EstimationPolicyType.FreeParameters, false, ProcessingExecutor.forkJoin(4));
+        copy.refresh(EstimationPolicyType.FreeParameters, false);
+        for (int i = 0; i < processing.size(); ++i) {
+            SaItem item = processing.get(i), citem = copy.get(i);
+            assertEquals(citem.getKey(), item.getKey());
+            assertEquals(citem.getEstimationPolicy(), item.getEstimationPolicy());
+            assertEquals(citem.getEstimationSpecification(), item.getEstimationSpecification());
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tss.sa.documents;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsFactory;
+import ec.tss.sa.EstimationPolicyType;
+import ec.tss.sa.SaManager;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.modelling.ModellingDictionary;
+import ec.tstoolkit.timeseries.analysis.CachedTsProcessing;
+import ec.tstoolkit.timeseries.analysis.RevisionHistory;
+import ec.tstoolkit.timeseries.analysis.SlidingSpans;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SaDocumentProcessingTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    @Test
+    public void testCached() {
+        TramoSeatsDocument doc = new TramoSeatsDocument();
+        doc.setSpecification(TramoSeatsSpecification.RSA4);
+        doc.setInput(TsFactory.instance.createTs("s", null, Data.P));
+        assertNotNull(doc.getResults());
+
+        CachedTsProcessing<CompositeResults> p1 = SaDocumentProcessing.cached(doc, EstimationPolicyType.FreeParameters);
+        CachedTsProcessing<CompositeResults> p2 = SaDocumentProcessing.cached(doc, EstimationPolicyType.FreeParameters);
+        assertEquals(p1.getKey(), p2.getKey());
+        assertNotEquals(p1.getKey(), SaDocumentProcessing.cached(doc, EstimationPolicyType.Complete).getKey());
+
+        TsDomain domain = Data.P.getDomain();
+        TsPeriod start = domain.getLast().minus(12);
+        RevisionHistory<CompositeResults> rh = new RevisionHistory<>(p1, domain);
+        SlidingSpans<CompositeResults> ss = new SlidingSpans<>(p2, domain);
+        assertSame(rh.getReferenceInfo(), ss.getReferenceInfo());
+
+        RevisionHistory<CompositeResults> ref = new RevisionHistory<>(
+                new SaDocumentProcessing<>(doc, EstimationPolicyType.FreeParameters), domain);
+        assertEquals(ref.tsRevision(ModellingDictionary.SA, start, start),
+                rh.tsRevision(ModellingDictionary.SA, start, start));
+    }
+}
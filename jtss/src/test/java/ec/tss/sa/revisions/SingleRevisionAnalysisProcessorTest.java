@@ -8,6 +8,8 @@ package ec.tss.sa.revisions;
 import data.Data;
 import ec.tss.sa.SaManager;
 import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.arima.estimation.ConcentratedLikelihoodEstimation;
+import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsDataTable;
 import java.util.List;
@@ -27,6 +29,42 @@ public class SingleRevisionAnalysisProcessorTest {
     public SingleRevisionAnalysisProcessorTest() {
     }
 
+    @Test
+    public void testParallel() {
+        RevisionAnalysisSpec spec = new RevisionAnalysisSpec();
+        List<TsData> seq = sa(spec);
+        spec.setParallel(true);
+        List<TsData> par = sa(spec);
+        assertEquals(seq.size(), par.size());
+        for (int i = 0; i < seq.size(); ++i) {
+            assertEquals(seq.get(i), par.get(i));
+        }
+    }
+
+    @Test
+    public void testWarmStart() {
+        RevisionAnalysisSpec spec = new RevisionAnalysisSpec();
+        long ncold = ConcentratedLikelihoodEstimation.fnCalls.get();
+        List<TsData> cold = sa(spec);
+        ncold = ConcentratedLikelihoodEstimation.fnCalls.get() - ncold;
+        spec.setWarmStart(true);
+        long nwarm = ConcentratedLikelihoodEstimation.fnCalls.get();
+        List<TsData> warm = sa(spec);
+        nwarm = ConcentratedLikelihoodEstimation.fnCalls.get() - nwarm;
+        assertEquals(cold.size(), warm.size());
+        for (int i = 0; i < cold.size(); ++i) {
+            DataBlock c = new DataBlock(cold.get(i).internalStorage()), w = new DataBlock(warm.get(i).internalStorage());
+            assertTrue(c.distance(w) / c.nrm2() < 1e-3);
+        }
+        assertTrue(nwarm < ncold);
+    }
+
+    private static List<TsData> sa(RevisionAnalysisSpec spec) {
+        SingleRevisionAnalysisProcessor processor = new SingleRevisionAnalysisProcessor(spec, Data.P);
+        assertTrue(processor.process());
+        return processor.items("sa", TsData.class);
+    }
+
 //    @Test
     public void demoDefaultRevisions() {
         RevisionAnalysisSpec spec = new RevisionAnalysisSpec();
@@ -20,18 +20,25 @@ import _util.tsproviders.ResourceWatcher;
 import static _util.tsproviders.TsCursorUtil.readAllAndClose;
 import _util.tsproviders.XCubeAccessor;
 import _util.tsproviders.XCubeSupportResource;
+import ec.tss.TsInformation;
 import ec.tss.TsInformationType;
 import ec.tss.tsproviders.DataSet;
 import ec.tss.tsproviders.DataSource;
+import ec.tss.tsproviders.HasDataMoniker;
+import ec.tss.tsproviders.cursor.TsCursorAsFiller;
 import static ec.tss.tsproviders.cube.CubeIdTest.EMPTY;
 import static ec.tss.tsproviders.cube.CubeIdTest.INDUSTRY;
 import static ec.tss.tsproviders.cube.CubeIdTest.INDUSTRY_BE;
 import static ec.tss.tsproviders.cube.CubeIdTest.SECTOR_REGION;
 import ec.tss.tsproviders.utils.IParam;
+import ec.tss.tsproviders.utils.TsFiller;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import org.junit.Test;
 import static org.assertj.core.api.Assertions.assertThat;
+import org.slf4j.helpers.NOPLogger;
 
 /**
  *
@@ -67,6 +74,32 @@ public class CubeSupportTest {
         assertThat(watcher.isLeakingResources()).isFalse();
     }
 
+    @Test
+    public void testGetParent() throws IOException {
+        CubeSupport support = CubeSupport.of(new XCubeSupportResource(dataSource, new XCubeAccessor(SECTOR_REGION, ResourceWatcher.usingId()), cubeIdParam));
+        assertThat(support.getParent(series)).isEqualTo(col);
+        assertThat(support.getParent(col)).isNull();
+        DataSet root = DataSet.builder(dataSource, DataSet.Kind.COLLECTION).build();
+        assertThat(support.getParent(DataSet.builder(dataSource, DataSet.Kind.SERIES).put("sector", "industry").build())).isEqualTo(root);
+    }
+
+    @Test
+    public void testBulkLoading() {
+        ResourceWatcher<?> watcher = ResourceWatcher.usingId();
+        CubeSupport support = CubeSupport.of(new XCubeSupportResource(dataSource, new XCubeAccessor(SECTOR_REGION, watcher), cubeIdParam));
+        HasDataMoniker monikers = HasDataMoniker.usingUri("provider");
+        TsFiller filler = TsCursorAsFiller.of(NOPLogger.NOP_LOGGER, support, monikers, support);
+
+        DataSet other = DataSet.builder(dataSource, DataSet.Kind.SERIES).put("sector", "industry").put("region", "fr").build();
+        List<TsInformation> infos = Arrays.asList(
+                new TsInformation(null, monikers.toMoniker(series), TsInformationType.All),
+                new TsInformation(null, monikers.toMoniker(other), TsInformationType.All));
+        // the accessor doesn't contain any series
+        assertThat(filler.fillSeriesList(infos)).isFalse();
+        assertThat(infos).allMatch(o -> "Missing time series".equals(o.invalidDataCause));
+        assertThat(watcher.isLeakingResources()).isFalse();
+    }
+
     @Test
     public void testIdByName() {
         assertThat(CubeSupport.idByName(SECTOR_REGION)).satisfies(o -> {
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.utils;
+
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.TsMoniker;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class AsyncRequestsTest {
+
+    private static TsMoniker moniker(String id) {
+        return TsMoniker.create("test", id);
+    }
+
+    @Test
+    public void testCoalescing() {
+        AsyncRequests requests = new AsyncRequests();
+        assertThat(requests.isEmpty()).isTrue();
+        requests.addTs(moniker("a"), TsInformationType.MetaData);
+        requests.addTs(moniker("b"), TsInformationType.Data);
+        requests.addTs(moniker("a"), TsInformationType.Data);
+        assertThat(requests.getTsCount()).isEqualTo(2);
+        // the merged request keeps its position
+        TsInformation a = requests.nextTs();
+        assertThat(a.moniker).isEqualTo(moniker("a"));
+        assertThat(a.type).isEqualTo(TsInformationType.MetaData.union(TsInformationType.Data));
+        assertThat(requests.nextTs().moniker).isEqualTo(moniker("b"));
+        assertThat(requests.nextTs()).isNull();
+        assertThat(requests.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testRemove() {
+        AsyncRequests requests = new AsyncRequests();
+        requests.addTs(moniker("a"), TsInformationType.All);
+        assertThat(requests.removeTs(moniker("a"), TsInformationType.Data)).isFalse();
+        assertThat(requests.removeTs(moniker("b"), TsInformationType.All)).isFalse();
+        assertThat(requests.removeTs(moniker("a"), TsInformationType.All)).isTrue();
+        assertThat(requests.isEmpty()).isTrue();
+
+        requests.addTsCollection(moniker("c"), TsInformationType.Definition);
+        assertThat(requests.isEmpty()).isFalse();
+        assertThat(requests.removeTsCollection(moniker("c"), TsInformationType.All)).isTrue();
+        assertThat(requests.nextTsCollection()).isNull();
+        requests.addTsCollection(moniker("c"), TsInformationType.Definition);
+        TsCollectionInformation c = requests.nextTsCollection();
+        assertThat(c.moniker).isEqualTo(moniker("c"));
+        assertThat(c.type).isEqualTo(TsInformationType.Definition);
+    }
+
+    @Test
+    public void testBatches() {
+        // group by the first letter of the id
+        AsyncRequests requests = new AsyncRequests(o -> o.getId().charAt(0));
+        requests.addTs(moniker("a1"), TsInformationType.All);
+        requests.addTs(moniker("b1"), TsInformationType.All);
+        requests.addTs(moniker("a2"), TsInformationType.All);
+        requests.addTs(moniker("a3"), TsInformationType.All);
+        requests.addTs(moniker("b2"), TsInformationType.All);
+
+        List<TsInformation> batch = requests.nextTsBatch(2);
+        assertThat(batch).extracting(o -> o.moniker.getId()).containsExactly("a1", "a2");
+        batch = requests.nextTsBatch(10);
+        assertThat(batch).extracting(o -> o.moniker.getId()).containsExactly("a3");
+        batch = requests.nextTsBatch(10);
+        assertThat(batch).extracting(o -> o.moniker.getId()).containsExactly("b1", "b2");
+        assertThat(requests.nextTsBatch(10)).isEmpty();
+        assertThat(requests.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testManyRequests() {
+        AsyncRequests requests = new AsyncRequests();
+        int n = 100000;
+        for (int k = 0; k < 2; ++k) {
+            for (int i = 0; i < n; ++i) {
+                requests.addTs(moniker(Integer.toString(i)), TsInformationType.Data);
+            }
+        }
+        assertThat(requests.getTsCount()).isEqualTo(n);
+        for (int i = 0; i < n; i += 2) {
+            assertThat(requests.removeTs(moniker(Integer.toString(i)), TsInformationType.All)).isTrue();
+        }
+        int count = 0;
+        for (List<TsInformation> batch = requests.nextTsBatch(1000); !batch.isEmpty(); batch = requests.nextTsBatch(1000)) {
+            count += batch.size();
+        }
+        assertThat(count).isEqualTo(n / 2);
+    }
+}
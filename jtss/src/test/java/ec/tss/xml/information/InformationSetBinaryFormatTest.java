@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.xml.information;
+
+import data.Data;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tss.TsCollectionInformation;
+import ec.tss.TsFactory;
+import ec.tss.TsInformation;
+import ec.tss.TsInformationType;
+import ec.tss.TsMoniker;
+import ec.tss.sa.SaItem;
+import ec.tss.sa.SaManager;
+import ec.tss.sa.SaProcessing;
+import ec.tss.sa.processors.TramoSeatsProcessor;
+import ec.tstoolkit.MetaData;
+import ec.tstoolkit.Parameter;
+import ec.tstoolkit.ParameterType;
+import ec.tstoolkit.algorithm.AlgorithmDescriptor;
+import ec.tstoolkit.information.InformationSet;
+import ec.tstoolkit.information.RegressionItem;
+import ec.tstoolkit.information.StatisticalTest;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.timeseries.Day;
+import ec.tstoolkit.timeseries.Month;
+import ec.tstoolkit.timeseries.TsPeriodSelector;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class InformationSetBinaryFormatTest {
+
+    static {
+        SaManager.instance.add(new TramoSeatsProcessor());
+    }
+
+    @Test
+    public void testRoundTripOfAllTypes() throws Exception {
+        InformationSet info = allTypes();
+        InformationSet result = binaryRoundTrip(info);
+        assertThat(toXml(result)).isEqualTo(toXml(xmlRoundTrip(info)));
+
+        assertThat(result.get("matrix", Matrix.class)).isEqualTo(info.get("matrix", Matrix.class));
+        assertThat(result.get("tsdata", TsData.class)).isEqualTo(info.get("tsdata", TsData.class));
+        assertThat(result.get("doubles", double[].class)).containsExactly(info.get("doubles", double[].class));
+        assertThat(result.search("sub.deep.name", String.class)).isEqualTo("hello");
+    }
+
+    @Test
+    public void testRoundTripOfProcessing() throws Exception {
+        SaProcessing processing = new SaProcessing();
+        processing.add(new SaItem(TramoSeatsSpecification.RSAfull, TsFactory.instance.createTs("s1", null, Data.P)));
+        processing.add(new SaItem(TramoSeatsSpecification.RSA4, TsFactory.instance.createTs("s2", null, Data.X)));
+        processing.forEach(SaItem::process);
+        InformationSet info = processing.write(true);
+
+        assertThat(toXml(binaryRoundTrip(info))).isEqualTo(toXml(xmlRoundTrip(info)));
+
+        SaProcessing other = new SaProcessing();
+        assertThat(other.read(binaryRoundTrip(info))).isTrue();
+        assertThat(other).hasSize(2);
+        assertThat(other.get(1).getTsData()).isEqualTo(Data.X);
+    }
+
+    @Test
+    public void testInvalidContent() throws IOException {
+        assertThatThrownBy(() -> InformationSetBinaryFormat.read(new ByteArrayInputStream(new byte[0])))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> InformationSetBinaryFormat.read(new ByteArrayInputStream("<xml/>".getBytes())))
+                .isInstanceOf(IOException.class);
+
+        byte[] content = toBinary(allTypes());
+        assertThatThrownBy(() -> InformationSetBinaryFormat.read(new ByteArrayInputStream(Arrays.copyOf(content, content.length / 2))))
+                .isInstanceOf(IOException.class);
+
+        content[4] = 99; // version
+        assertThatThrownBy(() -> InformationSetBinaryFormat.read(new ByteArrayInputStream(content)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("version");
+    }
+
+    private static InformationSet allTypes() {
+        InformationSet info = new InformationSet();
+        info.set("boolean", true);
+        info.set("double", Double.NaN);
+        info.set("integer", -123);
+        info.set("string", "été");
+        info.set("enum", ParameterType.Fixed);
+        info.set("integers", new int[]{1, -2, Integer.MAX_VALUE, Integer.MIN_VALUE});
+        info.set("doubles", new double[]{1.5, -0.0, Double.MIN_VALUE, Double.POSITIVE_INFINITY});
+        info.set("booleans", new boolean[]{true, false, true});
+        info.set("strings", new String[]{"a", "b", "c"});
+        info.set("method", new AlgorithmDescriptor("family", "name", "1.0"));
+        info.set("tsdata", Data.X);
+        info.set("yearly", new TsData(TsFrequency.Yearly, 1990, 0, new double[]{1, 2, 3}, false));
+        info.set("moniker", TsMoniker.create("source", "id"));
+        TsInformation ts = new TsInformation("ts", TsMoniker.create("source", "id"), TsInformationType.All);
+        ts.data = Data.P;
+        ts.metaData = new MetaData();
+        ts.metaData.put("key", "value");
+        info.set("ts", ts);
+        TsCollectionInformation col = new TsCollectionInformation(TsMoniker.create("source", "col"), TsInformationType.All);
+        col.name = "col";
+        col.items.add(ts);
+        info.set("tscollection", col);
+        TsPeriodSelector span = new TsPeriodSelector();
+        span.between(new Day(2000, Month.January, 0), new Day(2010, Month.June, 29));
+        info.set("span", span);
+        TsPeriodSelector excluding = new TsPeriodSelector();
+        excluding.excluding(2, 3);
+        info.set("excluding", excluding);
+        info.set("test", new StatisticalTest("test", 1.5, 0.05));
+        info.set("regitem", new RegressionItem("item", 1.2, 0.3, 0.01));
+        info.set("param", new Parameter(0.5, ParameterType.Estimated));
+        info.set("params", new Parameter[]{new Parameter(0.5, ParameterType.Fixed), new Parameter()});
+        Matrix m = new Matrix(3, 4);
+        m.randomize();
+        info.set("matrix", m);
+        info.subSet("sub").subSet("deep").set("name", "hello");
+        return info;
+    }
+
+    private static byte[] toBinary(InformationSet info) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        InformationSetBinaryFormat.write(stream, info);
+        return stream.toByteArray();
+    }
+
+    private static InformationSet binaryRoundTrip(InformationSet info) throws IOException {
+        return InformationSetBinaryFormat.read(new ByteArrayInputStream(toBinary(info)));
+    }
+
+    private static InformationSet xmlRoundTrip(InformationSet info) throws JAXBException {
+        XmlInformationSet xml = new XmlInformationSet();
+        xml.copy(info);
+        StringWriter writer = new StringWriter();
+        JAXB.createMarshaller().marshal(xml, writer);
+        return ((XmlInformationSet) JAXB.createUnmarshaller().unmarshal(new StringReader(writer.toString()))).create();
+    }
+
+    private static String toXml(InformationSet info) throws JAXBException {
+        XmlInformationSet xml = new XmlInformationSet();
+        xml.copy(info);
+        StringWriter writer = new StringWriter();
+        JAXB.createMarshaller().marshal(xml, writer);
+        return writer.toString();
+    }
+
+    private static final JAXBContext JAXB;
+
+    static {
+        try {
+            JAXB = JAXBContext.newInstance(XmlInformationSet.class);
+        } catch (JAXBException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
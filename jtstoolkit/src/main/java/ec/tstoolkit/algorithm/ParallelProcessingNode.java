@@ -23,8 +23,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -32,12 +32,31 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public class ParallelProcessingNode<I> implements IProcessingNode<I> {
 
-    private final int NBR_EXECUTORS = Runtime.getRuntime().availableProcessors();
     private final String name, prefix;
-
+    private final ProcessingExecutor executor;
+
+    /**
+     * Creates a parallel node that uses the process-wide executor
+     * (ProcessingExecutor.getInstance())
+     *
+     * @param name
+     * @param prefix
+     */
     public ParallelProcessingNode(final String name, final String prefix) {
+        this(name, prefix, null);
+    }
+
+    /**
+     * Creates a parallel node that uses a specific executor
+     *
+     * @param name
+     * @param prefix
+     * @param executor The executor. If null, the process-wide executor is used
+     */
+    public ParallelProcessingNode(final String name, final String prefix, final ProcessingExecutor executor) {
         this.name = name;
         this.prefix = prefix;
+        this.executor = executor;
     }
     private ArrayList<IProcessingNode<I>> nodes_ = new ArrayList<>();
 
@@ -78,7 +97,7 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
     public Status process(I input, Map<String, IProcResults> results) {
         CompositeResults cresults = new CompositeResults();
         final ConcurrentHashMap<String, IProcResults> map = new ConcurrentHashMap<>();
-        ExecutorService executorService = Executors.newFixedThreadPool(NBR_EXECUTORS, CustomThreadFactory.INSTANCE);
+        ProcessingExecutor executorService = executor != null ? executor : ProcessingExecutor.getInstance();
 
         Map<String, String> errors=new ConcurrentHashMap<>();
         List<Callable<IProcessing.Status>> tasks = createTasks(input, map, errors);
@@ -89,7 +108,6 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
             return Status.Invalid;
         }
 
-        executorService.shutdown();
         for (IProcessingNode<I> cur : nodes_) {
 
             String cname = cur.getName();
@@ -104,27 +122,4 @@ public class ParallelProcessingNode<I> implements IProcessingNode<I> {
         results.put(name, cresults);
         return Status.Valid;
     }
-
-    private enum CustomThreadFactory implements ThreadFactory {
-
-        INSTANCE;
-        //
-        final ThreadGroup group;
-        final AtomicInteger threadNumber = new AtomicInteger(1);
-        final String namePrefix;
-
-        private CustomThreadFactory() {
-            SecurityManager s = System.getSecurityManager();
-            group = (s != null) ? s.getThreadGroup() : Thread.currentThread().getThreadGroup();
-            namePrefix = "pool-" + CustomThreadFactory.class.getSimpleName() + "-thread-";
-        }
-
-        @Override
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
-            t.setDaemon(true);
-            t.setPriority(Thread.MIN_PRIORITY);
-            return t;
-        }
-    }
 }
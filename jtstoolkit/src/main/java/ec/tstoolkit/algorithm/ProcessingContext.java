@@ -40,6 +40,7 @@ public class ProcessingContext implements IModifiable {
     public static final String LEGACY="legacy";
 
     private final HashMap<Class, NameManager> map_ = new HashMap<>();
+    private volatile boolean parallelModelling_;
     private final static ProcessingContext[] def_ = new ProcessingContext[]{new ProcessingContext()};
 
     public ProcessingContext() {
@@ -131,6 +132,38 @@ public class ProcessingContext implements IModifiable {
         }
     }
 
+    /**
+     * Checks if the automatic modelling of the pre-processors built in this
+     * context (scan of the outlier positions, evaluation of the candidate
+     * Arima models) runs on the ProcessingExecutor. This runtime option
+     * doesn't change the results and is not part of the specifications.
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isParallelModelling() {
+        return parallelModelling_;
+    }
+
+    public void setParallelModelling(boolean parallel) {
+        parallelModelling_ = parallel;
+    }
+
+    /**
+     * Checks if the automatic modelling is parallel in a given context or, if
+     * it is null, in the active context
+     *
+     * @param context
+     * @return
+     * @since 2.2.3
+     */
+    public static boolean isParallelModelling(ProcessingContext context) {
+        if (context == null) {
+            context = getActiveContext();
+        }
+        return context != null && context.isParallelModelling();
+    }
+
     @Override
     public boolean isDirty() {
         for (NameManager<?> mgr : map_.values()) {
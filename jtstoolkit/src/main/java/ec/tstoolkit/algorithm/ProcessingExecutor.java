@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.algorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Process-wide execution service used by the parallel parts of the
+ * processing (parallel processing nodes, numerical derivatives...). The
+ * default executor is a work-stealing pool bounded by the number of
+ * processors, shared by all the callers. Nested parallel tasks are executed
+ * in the same pool: the calling worker helps the execution of its sub-tasks
+ * instead of blocking, so that nested parallel nodes don't oversubscribe the
+ * CPU.
+ *
+ * Another executor can be installed through setInstance (for instance on a
+ * server or with virtual threads on recent JVMs).
+ *
+ * @author agent
+ */
+public abstract class ProcessingExecutor {
+
+    private static ProcessingExecutor instance_;
+
+    /**
+     * The current process-wide executor
+     *
+     * @return
+     */
+    public static synchronized ProcessingExecutor getInstance() {
+        if (instance_ == null) {
+            instance_ = forkJoin(Runtime.getRuntime().availableProcessors());
+        }
+        return instance_;
+    }
+
+    /**
+     * Changes the process-wide executor. The previous executor is not shut
+     * down.
+     *
+     * @param executor The new executor. Null to restore the default executor
+     */
+    public static synchronized void setInstance(ProcessingExecutor executor) {
+        instance_ = executor;
+    }
+
+    /**
+     * Creates a work-stealing executor
+     *
+     * @param parallelism The maximum number of concurrent threads
+     * @return
+     */
+    public static ProcessingExecutor forkJoin(int parallelism) {
+        return new ForkJoinExecutor(new ForkJoinPool(parallelism, WorkerFactory.INSTANCE, null, false));
+    }
+
+    /**
+     * Wraps an existing executor service. The service is not owned by the
+     * processing executor. The tasks submitted from a task of the service
+     * are executed in the calling thread: a bounded service could otherwise
+     * deadlock, all its threads waiting for sub-tasks that can't start.
+     *
+     * @param service
+     * @return
+     */
+    public static ProcessingExecutor of(ExecutorService service) {
+        if (service instanceof ForkJoinPool) {
+            return new ForkJoinExecutor((ForkJoinPool) service);
+        } else {
+            return new ServiceExecutor(service);
+        }
+    }
+
+    /**
+     * Executor that runs all the tasks in the calling thread
+     *
+     * @return
+     */
+    public static ProcessingExecutor sequential() {
+        return SequentialExecutor.INSTANCE;
+    }
+
+    /**
+     * Executes the given tasks and waits for their completion.
+     *
+     * @param <T>
+     * @param tasks
+     * @return The futures of the tasks, in the same order. All of them are
+     * done
+     * @throws InterruptedException
+     */
+    public abstract <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException;
+
+    /**
+     * Maximum number of tasks executed concurrently
+     *
+     * @return
+     */
+    public abstract int getParallelism();
+
+    /**
+     * Splits [0, n) in consecutive blocks and executes the task on each of
+     * them. The number of blocks is limited to a few times the parallelism of
+     * the executor. The method returns when all the blocks are processed;
+     * the task must only write results that depend on its own block, so that
+     * the results don't depend on the scheduling.
+     *
+     * @param n The length of the range
+     * @param minLength The minimal length of a block. If n is not larger, the
+     * task is executed in the calling thread on the whole range
+     * @param task
+     * @throws CancellationException if the calling thread is interrupted
+     */
+    public void forEachBlock(int n, int minLength, BlockTask task) {
+        int nblocks = Math.min(n / Math.max(1, minLength), 4 * getParallelism());
+        if (nblocks <= 1) {
+            if (n > 0) {
+                task.apply(0, n);
+            }
+            return;
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(nblocks);
+        for (int b = 0; b < nblocks; ++b) {
+            int start = (int) ((long) n * b / nblocks), end = (int) ((long) n * (b + 1) / nblocks);
+            tasks.add(() -> {
+                task.apply(start, end);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> f : invokeAll(tasks)) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new RuntimeException(cause);
+            }
+        }
+    }
+
+    /**
+     * Task executed on a block [start, end[ of a range (see forEachBlock)
+     */
+    @FunctionalInterface
+    public static interface BlockTask {
+
+        void apply(int start, int end);
+    }
+
+    private static final class ForkJoinExecutor extends ProcessingExecutor {
+
+        private final ForkJoinPool pool;
+
+        ForkJoinExecutor(ForkJoinPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            Thread cur = Thread.currentThread();
+            if (cur instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) cur).getPool() == pool) {
+                // nested call: the current worker takes part in the execution
+                List<Future<T>> result = new ArrayList<>(tasks.size());
+                for (Callable<T> task : tasks) {
+                    result.add(ForkJoinTask.adapt(task).fork());
+                }
+                for (int i = result.size() - 1; i >= 0; --i) {
+                    ((ForkJoinTask<T>) result.get(i)).quietlyJoin();
+                }
+                return result;
+            } else {
+                return pool.invokeAll(tasks);
+            }
+        }
+
+        @Override
+        public int getParallelism() {
+            return pool.getParallelism();
+        }
+    }
+
+    private static final class ServiceExecutor extends ProcessingExecutor {
+
+        private final ExecutorService service;
+        // set while a task of this executor is running in the current thread
+        private final ThreadLocal<Boolean> nested = new ThreadLocal<>();
+
+        ServiceExecutor(ExecutorService service) {
+            this.service = service;
+        }
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            if (nested.get() != null) {
+                return SequentialExecutor.INSTANCE.invokeAll(tasks);
+            }
+            List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                wrapped.add(() -> {
+                    nested.set(Boolean.TRUE);
+                    try {
+                        return task.call();
+                    } finally {
+                        nested.remove();
+                    }
+                });
+            }
+            return service.invokeAll(wrapped);
+        }
+
+        @Override
+        public int getParallelism() {
+            return Runtime.getRuntime().availableProcessors();
+        }
+    }
+
+    private static final class SequentialExecutor extends ProcessingExecutor {
+
+        private static final SequentialExecutor INSTANCE = new SequentialExecutor();
+
+        @Override
+        public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+            List<Future<T>> result = new ArrayList<>(tasks.size());
+            for (Callable<T> task : tasks) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                FutureTask<T> f = new FutureTask<>(task);
+                f.run();
+                result.add(f);
+            }
+            return result;
+        }
+
+        @Override
+        public int getParallelism() {
+            return 1;
+        }
+    }
+
+    private enum WorkerFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        INSTANCE;
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            t.setName("pool-" + ProcessingExecutor.class.getSimpleName() + "-worker-" + t.getPoolIndex());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        }
+    }
+}
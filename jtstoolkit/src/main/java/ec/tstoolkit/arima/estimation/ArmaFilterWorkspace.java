@@ -0,0 +1,107 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tstoolkit.arima.estimation;
+
+import java.util.Arrays;
+
+/**
+ * Scratch buffers of the Kalman filters of stationary ARMA models (ArmaKF,
+ * KalmanFilter). A new filter is created for each evaluation of the
+ * likelihood, so that the buffers are kept by thread and reused from one
+ * evaluation to the other. They only depend on the dimension of the state,
+ * so that the filters don't allocate anything after the first evaluations.
+ *
+ * The buffers are only used inside a call to a filter (they never escape).
+ * Buffers larger than MAX_SIZE are not kept.
+ *
+ * @author agent
+ */
+final class ArmaFilterWorkspace {
+
+    private static final ThreadLocal<ArmaFilterWorkspace> WORKSPACE = ThreadLocal.withInitial(ArmaFilterWorkspace::new);
+
+    /**
+     * Maximum length of the buffers kept by a thread
+     */
+    static final int MAX_SIZE = 1024;
+
+    /**
+     * The workspace of the current thread
+     *
+     * @return
+     */
+    static ArmaFilterWorkspace get() {
+        return WORKSPACE.get();
+    }
+
+    private double[] c_ = new double[0], l_ = new double[0], a_ = new double[0];
+
+    private ArmaFilterWorkspace() {
+    }
+
+    /**
+     * Copy of the initial gain
+     *
+     * @param c0 The initial gain
+     * @return A buffer which contains c0 in its first c0.length positions
+     */
+    double[] c(double[] c0) {
+        if (c0.length > MAX_SIZE) {
+            return c0.clone();
+        }
+        if (c_.length < c0.length) {
+            c_ = new double[c0.length];
+        }
+        System.arraycopy(c0, 0, c_, 0, c0.length);
+        return c_;
+    }
+
+    /**
+     * Copy of the initial gain (used for the L recursion)
+     *
+     * @param c0 The initial gain
+     * @return A buffer which contains c0 in its first c0.length positions
+     */
+    double[] l(double[] c0) {
+        if (c0.length > MAX_SIZE) {
+            return c0.clone();
+        }
+        if (l_.length < c0.length) {
+            l_ = new double[c0.length];
+        }
+        System.arraycopy(c0, 0, l_, 0, c0.length);
+        return l_;
+    }
+
+    /**
+     * Initial state (0)
+     *
+     * @param dim The dimension of the state
+     * @return A buffer with at least dim zeroes
+     */
+    double[] a(int dim) {
+        if (dim > MAX_SIZE) {
+            return new double[dim];
+        }
+        if (a_.length < dim) {
+            a_ = new double[dim];
+        } else {
+            Arrays.fill(a_, 0, dim, 0);
+        }
+        return a_;
+    }
+}
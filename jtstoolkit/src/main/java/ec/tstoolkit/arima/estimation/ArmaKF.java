@@ -40,6 +40,8 @@ import ec.tstoolkit.maths.polynomials.Polynomial;
  * It should be noted that other implementations of the Kalman filter provide 
  * exactly the same results. However, this one, which is intensively used in 
  * several high-level routines, has been optimised as much as possible.
+ * The state buffers are kept by thread and reused between the calls (see
+ * ArmaFilterWorkspace).
  * @author Jean Palate
  */
 @Development(status = Development.Status.Alpha)
@@ -75,20 +77,33 @@ public class ArmaKF {
      * @return
      */
     public DataBlock fastFilter(final IReadDataBlock y) {
-        double[] C = c0_.clone();
+        return new DataBlock(fastFilter(y, Double.POSITIVE_INFINITY));
+    }
+
+    /**
+     * Fast filtering, which is stopped as soon as the sum of the squared
+     * filtered data is larger than a given limit
+     *
+     * @param y
+     * @param ssqmax
+     * @return The filtered data or null if the limit has been exceeded
+     */
+    private double[] fastFilter(final IReadDataBlock y, final double ssqmax) {
+        ArmaFilterWorkspace ws = ArmaFilterWorkspace.get();
+        double[] C = ws.c(c0_);
+        double[] L = ws.l(c0_);
         double h = h0_;
 
         double var = arma_.getInnovationVariance();
         if (var != 1) {
             h /= var;
-            for (int i = 0; i < C.length; ++i) {
+            for (int i = 0; i < dim_; ++i) {
                 C[i] /= var;
+                L[i] /= var;
             }
         }
 
-        double[] L = C.clone();
-
-        double[] a = new double[dim_];
+        double[] a = ws.a(dim_);
         int n = y.getLength();
         double[] yl = new double[n];
         // iteration
@@ -97,12 +112,14 @@ public class ArmaKF {
         Polynomial theta = arma_.getMA().getPolynomial();
         int np = phi_.getDegree(), nq = theta.getDegree();
         int im = np > nq ? np : nq;
+        double ssq = 0;
 
         for (int pos = 0; pos < im; ++pos) {
             // filter y
             double s = Math.sqrt(h);
             double e = (y.get(pos) - a[0]) / s;
             yl[pos] = e;
+            ssq += e * e;
             double la = tlast(a);
             double v = e / s;
             for (int i = 0; i < ilast; ++i) {
@@ -148,9 +165,13 @@ public class ArmaKF {
                 x -= yl[i - q] * theta.get(q);
             }
             yl[i] = x;
+            ssq += x * x;
+            if (ssq > ssqmax) {
+                return null;
+            }
         }
 
-        return new DataBlock(yl);
+        return yl;
     }
 
     /**
@@ -169,6 +190,31 @@ public class ArmaKF {
         return Math.log(ssqerr / n) + nparams * Math.log(n) / n;
     }
 
+    /**
+     * Fast processing, which is abandoned as soon as the BIC is known to be
+     * larger than a given limit. The partial sums of squares are increasing,
+     * so that the partial BIC computed on the first observations is a lower
+     * bound of the final one.
+     *
+     * @param y
+     * @param nparams
+     * @param bicmax The limit of the BIC
+     * @return BIC statistics or Double.POSITIVE_INFINITY if the BIC is larger
+     * than bicmax
+     * @since 2.2.3
+     */
+    public double fastProcessing(final IReadDataBlock y, int nparams, double bicmax) {
+        int n = y.getLength();
+        double penalty = nparams * Math.log(n) / n;
+        // small tolerance for the rounding errors in the partial sums
+        double ssqmax = n * Math.exp(bicmax - penalty) * (1 + 1e-9);
+        double[] yl = fastFilter(y, ssqmax);
+        if (yl == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.log(new DataBlock(yl).ssq() / n) + penalty;
+    }
+
     private void initmodel(final IArimaModel arma, int statedim) {
         if (!arma.isStationary()) {
             throw new ArimaException(ArimaException.NonStationary);
@@ -196,13 +242,14 @@ public class ArmaKF {
             final IDataBlock stde) {
         ++fnCalls;
         fast_ = false;
+        ArmaFilterWorkspace ws = ArmaFilterWorkspace.get();
         Determinant det = new Determinant();
-        double[] C = c0_.clone();
-        double[] L = C.clone();
+        double[] C = ws.c(c0_);
+        double[] L = ws.l(c0_);
         double h = h0_;
         double var = arma_.getInnovationVariance();
 
-        double[] a = new double[dim_];
+        double[] a = ws.a(dim_);
         int n = y.getLength();
         // iteration
         int pos = 0, ilast = dim_ - 1;
@@ -269,13 +316,14 @@ public class ArmaKF {
     public boolean process(final IReadDataBlock y, final Likelihood ll) {
         ++fnCalls;
         fast_ = false;
+        ArmaFilterWorkspace ws = ArmaFilterWorkspace.get();
         Determinant det = new Determinant();
-        double[] C = c0_.clone();
-        double[] L = C.clone();
+        double[] C = ws.c(c0_);
+        double[] L = ws.l(c0_);
         double h = h0_;
         double var = arma_.getInnovationVariance();
 
-        double[] a = new double[dim_];
+        double[] a = ws.a(dim_);
         int n = y.getLength();
         double[] yl = new double[n];
         // iteration
@@ -349,13 +397,14 @@ public class ArmaKF {
             final SubMatrix x, final ConcentratedLikelihood ll) {
         ++fnCalls;
         fast_ = false;
+        ArmaFilterWorkspace ws = ArmaFilterWorkspace.get();
         Determinant det = new Determinant();
-        double[] c = c0_.clone();
-        double[] l = c.clone();
+        double[] c = ws.c(c0_);
+        double[] l = ws.l(c0_);
         double h = h0_;
         double var = arma_.getInnovationVariance();
 
-        double[] a = new double[dim_];
+        double[] a = ws.a(dim_);
         int nx = x.getColumnsCount();
         int n = y.getLength();
         double[] yl = new double[n];
@@ -260,8 +260,7 @@ public class GlsArimaMonitor<S extends IArimaModel> implements
             if (arma == null) {
                 arma = regs.getArma();
             }
-            m_fn = new ArmaFunction<>(regs.getDModel(), regs.getArima().getNonStationaryARCount(), regs
-                    .getMissings(), m_mapper);
+            m_fn = createFunction(regs);
             m_fn.mt=m_mt;
             if (regs.getVarsCount() > m_flimit) {
                 m_fn.filter = m_filter2;
@@ -373,6 +372,19 @@ public class GlsArimaMonitor<S extends IArimaModel> implements
         m_ml = value;
     }
 
+    /**
+     * Creates the function that will be minimized. Sub-classes may provide
+     * more efficient implementations (for instance with analytic derivatives)
+     *
+     * @param regs
+     * @return
+     * @since 2.2.3
+     */
+    protected ArmaFunction<S> createFunction(RegArimaModel<S> regs) {
+        return new ArmaFunction<>(regs.getDModel(), regs.getArima().getNonStationaryARCount(), regs
+                .getMissings(), m_mapper);
+    }
+
     private void clear() {
         m_obj = Double.NaN;
         m_information = null;
@@ -23,8 +23,15 @@ import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.eco.Determinant;
 import ec.tstoolkit.maths.polynomials.Polynomial;
+import java.util.Arrays;
 
 /**
+ * Kalman filter for stationary ARMA models. The scratch buffers of the filter
+ * are kept by thread and reused (see ArmaFilterWorkspace), so that the
+ * repeated evaluations of the likelihood don't allocate new arrays. The gains
+ * of a multi-use filter belong to the filter; they are only reallocated when
+ * their size changes.
+ *
  * @author Jean Palate
  */
 @Development(status = Development.Status.Alpha)
@@ -73,16 +80,22 @@ public class KalmanFilter implements IArmaFilter {
     private void calcC() {
 
 	Determinant det = new Determinant();
-	double[] L = m_C0.clone();
-	m_C = new double[m_dim * m_n];
+	double[] L = ArmaFilterWorkspace.get().l(m_C0);
+	if (m_C == null || m_C.length != m_dim * m_n) {
+	    m_C = new double[m_dim * m_n];
+	}
+	double[] C = m_C;
 	for (int i = 0; i < m_dim; ++i) {
-	    m_C[i] = L[i];
+	    C[i] = L[i];
+	}
+	if (m_s == null || m_s.length != m_n) {
+	    m_s = new double[m_n];
 	}
-	m_s = new double[m_n];
+	double[] S = m_s;
 	double h = m_h0;
 
 	det.add(h);
-	m_s[0] = Math.sqrt(h);
+	S[0] = Math.sqrt(h);
 	// iteration
 	int pos = 0, cpos = 0, ilast = m_dim - 1;
 	boolean bfast = false;
@@ -99,20 +112,20 @@ public class KalmanFilter implements IArmaFilter {
 		// C, L
 		for (int i = 0; i < ilast; ++i, ++cpos) {
 		    double li = L[i + 1];
-		    double ci = m_C[cpos];
+		    double ci = C[cpos];
 		    if (zlv != 0) {
 			L[i] = li - ci * zlv;
-			m_C[cpos + m_dim] = ci - zlv * li;
+			C[cpos + m_dim] = ci - zlv * li;
 		    } else {
 			L[i] = li;
-			m_C[cpos + m_dim] = ci;
+			C[cpos + m_dim] = ci;
 		    }
 		}
 
-		double clast = m_C[cpos];
+		double clast = C[cpos];
 
 		L[ilast] = llast - zlv * clast;
-		m_C[cpos + m_dim] = clast - zlv * llast;
+		C[cpos + m_dim] = clast - zlv * llast;
 		++cpos;
 
 		h -= zl * zlv;
@@ -124,16 +137,21 @@ public class KalmanFilter implements IArmaFilter {
 		}
 	    }
 	    det.add(h);
-	    m_s[pos] = Math.sqrt(h);
+	    S[pos] = Math.sqrt(h);
+	}
+	if (bfast) {
+	    // the gains are not updated any more
+	    Arrays.fill(C, cpos + m_dim, m_dim * m_n, 0);
 	}
 
 	m_ldet = det.getLogDeterminant();
     }
 
     private void calcdet() {
+	ArmaFilterWorkspace ws = ArmaFilterWorkspace.get();
 	Determinant det = new Determinant();
-	double[] C = m_C0.clone();
-	double[] L = C.clone();
+	double[] C = ws.c(m_C0);
+	double[] L = ws.l(m_C0);
 	double h = m_h0;
 
 	// iteration
@@ -222,12 +240,12 @@ public class KalmanFilter implements IArmaFilter {
     }
 
     private void mfilter(IReadDataBlock y, DataBlock yf) {
-
-	double[] a = new double[m_dim];
+	double[] C = m_C, S = m_s;
+	double[] a = ArmaFilterWorkspace.get().a(m_dim);
 	// iteration
 
 	int pos = 0, cpos = 0, ilast = m_dim - 1;
-	double s = m_s[pos];
+	double s = S[pos];
 	double e = y.get(pos) / s;
 	yf.set(pos, e);
 	while (++pos < m_n) {
@@ -235,24 +253,24 @@ public class KalmanFilter implements IArmaFilter {
 	    double la = tlast(a);
 	    double v = e / s;
 	    for (int i = 0; i < ilast; ++i) {
-		a[i] = a[i + 1] + m_C[cpos++] * v;
+		a[i] = a[i + 1] + C[cpos++] * v;
 	    }
-	    a[ilast] = la + m_C[cpos++] * v;
+	    a[ilast] = la + C[cpos++] * v;
 	    // filter x if any
-	    s = m_s[pos];
+	    s = S[pos];
 	    e = (y.get(pos) - a[0]) / s;
 	    yf.set(pos, e);
 	}
     }
 
     private void sfilter(IReadDataBlock y, DataBlock outrc) {
+	ArmaFilterWorkspace ws = ArmaFilterWorkspace.get();
 	Determinant det = new Determinant();
-	double[] C = m_C0.clone();
-	double[] L = C.clone();
+	double[] C = ws.c(m_C0);
+	double[] L = ws.l(m_C0);
 	double h = m_h0;
 
-	double[] a = new double[m_dim];
-	double[] yf = new double[m_n];
+	double[] a = ws.a(m_dim);
 	// iteration
 	int pos = 0, ilast = m_dim - 1;
 	boolean bfast = false;
@@ -292,7 +310,7 @@ public class KalmanFilter implements IArmaFilter {
 	    // filter y
 	    double s = Math.sqrt(h);
 	    double e = (y.get(pos) - a[0]) / s;
-	    yf[pos] = e;
+	    outrc.set(pos, e);
 	    double la = tlast(a);
 	    double v = e / s;
 	    for (int i = 0; i < ilast; ++i) {
@@ -304,7 +322,6 @@ public class KalmanFilter implements IArmaFilter {
 	} while (++pos < m_n);
 
 	m_ldet = det.getLogDeterminant();
-	outrc.copy(new DataBlock(yf));
 
     }
 
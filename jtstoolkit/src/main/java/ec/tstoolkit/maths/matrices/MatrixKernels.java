@@ -0,0 +1,313 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+package ec.tstoolkit.maths.matrices;
+
+import ec.tstoolkit.algorithm.ProcessingExecutor;
+
+/**
+ * Blocked kernels for the products of matrices stored by columns (row
+ * increment = 1). The loops work directly on the underlying arrays, the
+ * columns of the left operand are consumed 4 by 4 (each element of the result
+ * is loaded/stored once for 4 multiply-adds) and the products are computed by
+ * blocks of rows and of inner dimension that fit in the cache.
+ *
+ * The operations of each element of the results are done in the same order as
+ * in the simple column loops (the sums are accumulated in increasing order of
+ * the inner index), so that the results are identical to those of the
+ * non-blocked algorithms.
+ *
+ * Large products are split by blocks of columns, computed in parallel (see
+ * ProcessingExecutor).
+ *
+ * @author agent
+ */
+final class MatrixKernels {
+
+    /**
+     * Number of rows of a block (double)
+     */
+    static final int MC = 256;
+    /**
+     * Inner dimension of a block
+     */
+    static final int KC = 128;
+    /**
+     * Number of multiply-adds above which a product is computed in parallel
+     */
+    static final long PARALLEL_THRESHOLD = 1L << 24;
+
+    private MatrixKernels() {
+    }
+
+    /**
+     * Checks that the columns of a sub-matrix are contiguous
+     *
+     * @param m
+     * @return
+     */
+    static boolean isColumnMajor(final SubMatrix m) {
+        return m.m_row_inc == 1;
+    }
+
+    /**
+     * c = a * b. The columns of c and a must be contiguous. The result is
+     * computed as a sum of columns of a: c(., j) = sum(k) a(., k) * b(k, j)
+     *
+     * @param c
+     * @param a
+     * @param b
+     */
+    static void axpyProduct(final SubMatrix c, final SubMatrix a, final SubMatrix b) {
+        int nr = c.m_nrows, nc = c.m_ncols, nk = a.m_ncols;
+        if (nr == 0 || nc == 0) {
+            return;
+        }
+        if (nk == 0) {
+            c.set(0);
+            return;
+        }
+        if ((long) nr * nc * nk < PARALLEL_THRESHOLD || nc < 2) {
+            axpyProduct(c, a, b, 0, nc);
+        } else {
+            ProcessingExecutor.getInstance().forEachBlock(nc, 1, (j0, j1) -> axpyProduct(c, a, b, j0, j1));
+        }
+    }
+
+    private static void axpyProduct(final SubMatrix c, final SubMatrix a, final SubMatrix b, final int j0, final int j1) {
+        double[] cd = c.m_data, ad = a.m_data, bd = b.m_data;
+        int nr = c.m_nrows, nk = a.m_ncols;
+        int ainc = a.m_col_inc, brinc = b.m_row_inc, bcinc = b.m_col_inc, cinc = c.m_col_inc;
+        for (int k0 = 0; k0 < nk; k0 += KC) {
+            int k1 = Math.min(nk, k0 + KC);
+            for (int i0 = 0; i0 < nr; i0 += MC) {
+                int len = Math.min(nr, i0 + MC) - i0;
+                for (int j = j0; j < j1; ++j) {
+                    int cs = c.m_start + j * cinc + i0;
+                    int bs = b.m_start + j * bcinc;
+                    int k = k0;
+                    if (k == 0) {
+                        double b0 = bd[bs];
+                        for (int i = 0, ia = a.m_start + i0; i < len; ++i, ++ia) {
+                            cd[cs + i] = b0 * ad[ia];
+                        }
+                        ++k;
+                    }
+                    for (; k + 3 < k1; k += 4) {
+                        int bk = bs + k * brinc;
+                        double b0 = bd[bk], b1 = bd[bk + brinc], b2 = bd[bk + 2 * brinc], b3 = bd[bk + 3 * brinc];
+                        int a0 = a.m_start + k * ainc + i0, a1 = a0 + ainc, a2 = a1 + ainc, a3 = a2 + ainc;
+                        for (int i = 0; i < len; ++i) {
+                            cd[cs + i] = cd[cs + i] + b0 * ad[a0 + i] + b1 * ad[a1 + i] + b2 * ad[a2 + i] + b3 * ad[a3 + i];
+                        }
+                    }
+                    for (; k < k1; ++k) {
+                        double b0 = bd[bs + k * brinc];
+                        int a0 = a.m_start + k * ainc + i0;
+                        for (int i = 0; i < len; ++i) {
+                            cd[cs + i] += b0 * ad[a0 + i];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * c = a * b. Each element of the result is computed as a dot product:
+     * c(i, j) = a(i, .) * b(., j). 4 rows of a are handled together, so that
+     * the columns of b are read 4 times less than in the simple loops.
+     *
+     * @param c
+     * @param a
+     * @param b
+     */
+    static void dotProduct(final SubMatrix c, final SubMatrix a, final SubMatrix b) {
+        int nr = c.m_nrows, nc = c.m_ncols, nk = a.m_ncols;
+        if (nr == 0 || nc == 0) {
+            return;
+        }
+        if ((long) nr * nc * nk < PARALLEL_THRESHOLD || nc < 2) {
+            dotProduct(c, a, b, 0, nc);
+        } else {
+            ProcessingExecutor.getInstance().forEachBlock(nc, 1, (j0, j1) -> dotProduct(c, a, b, j0, j1));
+        }
+    }
+
+    private static void dotProduct(final SubMatrix c, final SubMatrix a, final SubMatrix b, final int j0, final int j1) {
+        double[] cd = c.m_data, ad = a.m_data, bd = b.m_data;
+        int nr = c.m_nrows, nk = a.m_ncols;
+        int arinc = a.m_row_inc, acinc = a.m_col_inc, brinc = b.m_row_inc, crinc = c.m_row_inc;
+        for (int j = j0; j < j1; ++j) {
+            int bs = b.m_start + j * b.m_col_inc;
+            int cs = c.m_start + j * c.m_col_inc;
+            int i = 0;
+            for (; i + 3 < nr; i += 4) {
+                int a0 = a.m_start + i * arinc, a1 = a0 + arinc, a2 = a1 + arinc, a3 = a2 + arinc;
+                double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+                for (int k = 0, ka = 0, kb = bs; k < nk; ++k, ka += acinc, kb += brinc) {
+                    double bk = bd[kb];
+                    s0 += ad[a0 + ka] * bk;
+                    s1 += ad[a1 + ka] * bk;
+                    s2 += ad[a2 + ka] * bk;
+                    s3 += ad[a3 + ka] * bk;
+                }
+                int ci = cs + i * crinc;
+                cd[ci] = s0;
+                cd[ci + crinc] = s1;
+                cd[ci + 2 * crinc] = s2;
+                cd[ci + 3 * crinc] = s3;
+            }
+            for (; i < nr; ++i) {
+                int a0 = a.m_start + i * arinc;
+                double s = 0;
+                for (int k = 0, ka = a0, kb = bs; k < nk; ++k, ka += acinc, kb += brinc) {
+                    s += ad[ka] * bd[kb];
+                }
+                cd[cs + i * crinc] = s;
+            }
+        }
+    }
+
+    /**
+     * Lower part of m = x' * x. The columns of x must be contiguous.
+     *
+     * @param x
+     * @param m
+     */
+    static void lowerXtX(final SubMatrix x, final SubMatrix m) {
+        double[] xd = x.m_data, md = m.m_data;
+        int n = x.m_nrows, nc = x.m_ncols, xinc = x.m_col_inc;
+        int mrinc = m.m_row_inc, mcinc = m.m_col_inc;
+        for (int c = 0; c < nc; ++c) {
+            int xc = x.m_start + c * xinc;
+            int mc = m.m_start + c * mcinc;
+            int r = c;
+            for (; r + 3 < nc; r += 4) {
+                int x0 = x.m_start + r * xinc, x1 = x0 + xinc, x2 = x1 + xinc, x3 = x2 + xinc;
+                double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+                for (int i = 0; i < n; ++i) {
+                    double xi = xd[xc + i];
+                    s0 += xd[x0 + i] * xi;
+                    s1 += xd[x1 + i] * xi;
+                    s2 += xd[x2 + i] * xi;
+                    s3 += xd[x3 + i] * xi;
+                }
+                int mi = mc + r * mrinc;
+                md[mi] = s0;
+                md[mi + mrinc] = s1;
+                md[mi + 2 * mrinc] = s2;
+                md[mi + 3 * mrinc] = s3;
+            }
+            for (; r < nc; ++r) {
+                int x0 = x.m_start + r * xinc;
+                double s = 0;
+                for (int i = 0; i < n; ++i) {
+                    s += xd[x0 + i] * xd[xc + i];
+                }
+                md[mc + r * mrinc] = s;
+            }
+        }
+    }
+
+    /**
+     * Lower part of m = x * x'. The columns of x and of m must be contiguous.
+     * The result is computed as a sum of rank-1 updates: m += x(., k) * x(.,
+     * k)'
+     *
+     * @param x
+     * @param m
+     */
+    static void lowerXXt(final SubMatrix x, final SubMatrix m) {
+        double[] xd = x.m_data, md = m.m_data;
+        int n = x.m_nrows, nk = x.m_ncols, xinc = x.m_col_inc, minc = m.m_col_inc;
+        if (nk == 0) {
+            for (int c = 0; c < n; ++c) {
+                int mc = m.m_start + c * minc;
+                for (int r = c; r < n; ++r) {
+                    md[mc + r] = 0;
+                }
+            }
+            return;
+        }
+        for (int k0 = 0; k0 < nk; k0 += KC) {
+            int k1 = Math.min(nk, k0 + KC);
+            for (int c = 0; c < n; ++c) {
+                int mc = m.m_start + c * minc;
+                int k = k0;
+                if (k == 0) {
+                    int x0 = x.m_start;
+                    double y0 = xd[x0 + c];
+                    for (int r = c; r < n; ++r) {
+                        md[mc + r] = xd[x0 + r] * y0;
+                    }
+                    ++k;
+                }
+                for (; k + 3 < k1; k += 4) {
+                    int x0 = x.m_start + k * xinc, x1 = x0 + xinc, x2 = x1 + xinc, x3 = x2 + xinc;
+                    double y0 = xd[x0 + c], y1 = xd[x1 + c], y2 = xd[x2 + c], y3 = xd[x3 + c];
+                    for (int r = c; r < n; ++r) {
+                        md[mc + r] = md[mc + r] + xd[x0 + r] * y0 + xd[x1 + r] * y1 + xd[x2 + r] * y2 + xd[x3 + r] * y3;
+                    }
+                }
+                for (; k < k1; ++k) {
+                    int x0 = x.m_start + k * xinc;
+                    double y0 = xd[x0 + c];
+                    for (int r = c; r < n; ++r) {
+                        md[mc + r] += xd[x0 + r] * y0;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the elements of column i of a square matrix (stored by columns,
+     * n x n), below the diagonal, with the previous columns: data(iy) -=
+     * sum(j&lt;i) data(i, j) * data(y, j). The columns are consumed 4 by 4
+     * when their coefficients are all non-zero; otherwise, one by one, so that
+     * the zero coefficients (frequent in band or sparse matrices) are skipped.
+     *
+     * @param data
+     * @param n
+     * @param i
+     */
+    static void choleskyColumnUpdate(final double[] data, final int n, final int i) {
+        int idiag = i * (n + 1);
+        int ymax = (i + 1) * n;
+        int jx = i;
+        while (jx < idiag) {
+            if (jx + 3 * n < idiag) {
+                double t0 = data[jx], t1 = data[jx + n], t2 = data[jx + 2 * n], t3 = data[jx + 3 * n];
+                if (t0 != 0 && t1 != 0 && t2 != 0 && t3 != 0) {
+                    int a0 = jx + 1, a1 = a0 + n, a2 = a1 + n, a3 = a2 + n;
+                    for (int iy = idiag + 1, k = 0; iy < ymax; ++iy, ++k) {
+                        data[iy] = data[iy] - t0 * data[a0 + k] - t1 * data[a1 + k] - t2 * data[a2 + k] - t3 * data[a3 + k];
+                    }
+                    jx += 4 * n;
+                    continue;
+                }
+            }
+            double temp = data[jx];
+            if (temp != 0) {
+                for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
+                    data[iy] -= temp * data[ia];
+                }
+            }
+            jx += n;
+        }
+    }
+}
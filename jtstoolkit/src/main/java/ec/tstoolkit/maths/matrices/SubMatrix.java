@@ -733,12 +733,18 @@ public class SubMatrix implements Cloneable {
     private static final int PROD_THRESHOLD = 6;
 
     /**
+     * this = m * n. The product is computed by blocked kernels (see
+     * MatrixKernels) when the columns of this object and of m are contiguous.
      *
      * @param m
      * @param n
      */
     public void product(final SubMatrix m, final SubMatrix n) {
         if (m.getColumnsCount() < PROD_THRESHOLD * (m.getRowsCount())) {
+            if (MatrixKernels.isColumnMajor(this) && MatrixKernels.isColumnMajor(m)) {
+                MatrixKernels.axpyProduct(this, m, n);
+                return;
+            }
             DataBlockIterator cols = columns();
             DataBlockIterator rcols = n.columns();
             DataBlockIterator lcols = m.columns();
@@ -753,16 +759,7 @@ public class SubMatrix implements Cloneable {
                 }
             } while (cols.next() && rcols.next());
         } else {
-            DataBlockIterator iter = columns(), riter = m.rows(), citer = n.columns();
-
-            DataBlock cur = iter.getData(), col = citer.getData(), row = riter.getData();
-            do {
-                int pos = 0;
-                riter.begin();
-                do {
-                    cur.set(pos++, row.dot(col));
-                } while (riter.next());
-            } while (iter.next() && citer.next());
+            MatrixKernels.dotProduct(this, m, n);
         }
     }
 
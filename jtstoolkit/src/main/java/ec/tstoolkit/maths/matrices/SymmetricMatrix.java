@@ -217,14 +217,7 @@ public final class SymmetricMatrix {
 
             // compute elements i+1 : n of column i
             int ymax = (i + 1) * n;
-            for (int jx = i; jx < idiag; jx += n) {
-                double temp = data[jx];
-                if (temp != 0) {
-                    for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
-                        data[iy] -= temp * data[ia];
-                    }
-                }
-            }
+            MatrixKernels.choleskyColumnUpdate(data, n, i);
             for (int iy = idiag + 1; iy < ymax; ++iy) {
                 data[iy] /= aii;
             }
@@ -258,14 +251,7 @@ public final class SymmetricMatrix {
                 data[idiag] = 0;
                 // compute elements i+1 : n of column i
                 int ymax = (i + 1) * n;
-                for (int jx = i; jx < idiag; jx += n) {
-                    double temp = data[jx];
-                    if (temp != 0) {
-                        for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
-                            data[iy] -= temp * data[ia];
-                        }
-                    }
-                }
+                MatrixKernels.choleskyColumnUpdate(data, n, i);
                 for (int iy = idiag + 1; iy < ymax; ++iy) {
                     if (Math.abs(data[iy]) > Zero) {
                         throw new MatrixException(
@@ -279,14 +265,7 @@ public final class SymmetricMatrix {
                 data[idiag] = aii;
                 // compute elements i+1 : n of column i
                 int ymax = (i + 1) * n;
-                for (int jx = i; jx < idiag; jx += n) {
-                    double temp = data[jx];
-                    if (temp != 0) {
-                        for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
-                            data[iy] -= temp * data[ia];
-                        }
-                    }
-                }
+                MatrixKernels.choleskyColumnUpdate(data, n, i);
                 for (int iy = idiag + 1; iy < ymax; ++iy) {
                     data[iy] /= aii;
                 }
@@ -878,18 +857,8 @@ public final class SymmetricMatrix {
      */
     public static Matrix XtX(final Matrix x) throws MatrixException {
         int n = x.getColumnsCount();
-        DataBlockIterator rows = x.columns(), cols = x.columns();
         Matrix o = new Matrix(n, n);
-        int idx = 0, c = 0;
-        DataBlock col = cols.getData();
-        DataBlock row = rows.getData();
-        do {
-            idx += c;
-            rows.setPosition(c++);
-            do {
-                o.data_[idx++] = row.dot(col);
-            } while (rows.next());
-        } while (cols.next());
+        MatrixKernels.lowerXtX(x.all(), o.all());
         fromLower(o);
         return o;
     }
@@ -902,6 +871,11 @@ public final class SymmetricMatrix {
      * @param m c x c sub-matrix.
      */
     public static void XtX(final SubMatrix x, final SubMatrix m) {
+        if (MatrixKernels.isColumnMajor(x)) {
+            MatrixKernels.lowerXtX(x, m);
+            fromLower(m);
+            return;
+        }
         DataBlockIterator rows = x.columns(), cols = x.columns(), rcols = m
                 .columns();
         int c = 0;
@@ -926,17 +900,8 @@ public final class SymmetricMatrix {
      */
     public static Matrix XXt(final Matrix x) throws MatrixException {
         int n = x.getRowsCount();
-        DataBlockIterator rows = x.rows(), cols = x.rows();
         Matrix o = new Matrix(n, n);
-        int idx = 0, c = 0;
-        DataBlock col = cols.getData(), row = rows.getData();
-        do {
-            idx += c;
-            rows.setPosition(c++);
-            do {
-                o.data_[idx++] = row.dot(col);
-            } while (rows.next());
-        } while (cols.next());
+        MatrixKernels.lowerXXt(x.all(), o.all());
         fromLower(o);
         return o;
     }
@@ -949,6 +914,11 @@ public final class SymmetricMatrix {
      * @param m r x r sub-matrix.
      */
     public static void XXt(final SubMatrix x, final SubMatrix m) {
+        if (MatrixKernels.isColumnMajor(x) && MatrixKernels.isColumnMajor(m)) {
+            MatrixKernels.lowerXXt(x, m);
+            fromLower(m);
+            return;
+        }
         DataBlockIterator rows = x.rows(), cols = x.rows(), rcols = m
                 .columns();
         int c = 0;
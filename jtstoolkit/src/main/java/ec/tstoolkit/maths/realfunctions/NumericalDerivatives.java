@@ -17,6 +17,7 @@
 package ec.tstoolkit.maths.realfunctions;
 
 import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.ProcessingExecutor;
 import ec.tstoolkit.data.IReadDataBlock;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.design.Development;
@@ -25,8 +26,6 @@ import ec.tstoolkit.maths.matrices.SymmetricMatrix;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 /**
  *
@@ -35,8 +34,6 @@ import java.util.concurrent.Executors;
 @Development(status = Development.Status.Alpha)
 public class NumericalDerivatives implements IFunctionDerivatives {
 
-    private static final int nThreads = Runtime.getRuntime().availableProcessors();
-
     private double[] m_eps, m_fp, m_fm, m_grad;
 
     private Matrix m_h;
@@ -98,13 +95,11 @@ public class NumericalDerivatives implements IFunctionDerivatives {
                 }
             }
             List<Callable<Void>> tasks = createTasks(n, sym);
-            ExecutorService executorService = Executors.newFixedThreadPool(nThreads);
             try {
-                executorService.invokeAll(tasks);
+                ProcessingExecutor.getInstance().invokeAll(tasks);
             } catch (InterruptedException ex) {
                 Thread.currentThread().interrupt();
             }
-            executorService.shutdown();
         }
     }
 
@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.modelling.arima;
 
+import ec.tstoolkit.algorithm.ProcessingExecutor;
 import ec.tstoolkit.arima.IArimaModel;
 import ec.tstoolkit.arima.estimation.RegArimaModel;
 import ec.tstoolkit.data.TableOfBoolean;
@@ -31,6 +32,11 @@ import java.util.ArrayList;
 import java.util.Iterator;
 
 /**
+ * Computes the t-stats of all the outliers (types x positions) that can be
+ * added to a RegArima model. The positions can be scanned in parallel (see
+ * setParallel); each position only writes its own t-stat and the maximum is
+ * searched afterwards, in a fixed order, so that the results don't depend on
+ * the parallel execution.
  *
  * @author Jean Palate
  * @param <T>
@@ -49,6 +55,12 @@ public abstract class AbstractSingleOutlierDetector<T extends IArimaModel> {
     private TableOfBoolean m_bT;
 
     private int m_posmax = -1, m_omax = -1;
+    private boolean m_parallel;
+
+    /**
+     * Minimal number of positions handled by a parallel task
+     */
+    public static final int MIN_BLOCK_LENGTH = 16;
 
     /**
      *
@@ -79,6 +91,41 @@ public abstract class AbstractSingleOutlierDetector<T extends IArimaModel> {
         clear(true);
     }
 
+    /**
+     * Checks that the positions are scanned in parallel
+     *
+     * @return
+     */
+    public boolean isParallel() {
+        return m_parallel;
+    }
+
+    /**
+     * Scans the positions in parallel (on the process-wide executor). False by
+     * default
+     *
+     * @param parallel
+     */
+    public void setParallel(boolean parallel) {
+        m_parallel = parallel;
+    }
+
+    /**
+     * Executes a task on blocks of the positions [0, n). The blocks are
+     * processed in parallel if the detector is parallel. The task may only
+     * modify the t-stats (coefficients, exclusions) of its own positions.
+     *
+     * @param n The number of positions
+     * @param task
+     */
+    protected void forEachBlock(int n, ProcessingExecutor.BlockTask task) {
+        if (m_parallel) {
+            ProcessingExecutor.getInstance().forEachBlock(n, MIN_BLOCK_LENGTH, task);
+        } else if (n > 0) {
+            task.apply(0, n);
+        }
+    }
+
     /**
      * @return the sdevComputer
      */
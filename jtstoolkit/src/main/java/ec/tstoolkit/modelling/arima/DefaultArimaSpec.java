@@ -54,6 +54,7 @@ public class DefaultArimaSpec implements Cloneable, InformationSetSerializable {
     private Parameter mu;
     private int d_, bd_;
     private Parameter[] phi_, theta_, bphi_, btheta_;
+    private boolean warmStart_;
 
     @Override
     public DefaultArimaSpec clone() {
@@ -141,6 +142,48 @@ public class DefaultArimaSpec implements Cloneable, InformationSetSerializable {
         }
     }
     
+    /**
+     * Changes the type of the defined, non fixed, parameters. Used with
+     * ParameterType.Initial, the current values become the starting point of
+     * the next estimation
+     *
+     * @param type The new type
+     * @since 2.2.3
+     */
+    public void setFreeParameterType(ParameterType type) {
+        setFreeParameterType(phi_, type);
+        setFreeParameterType(bphi_, type);
+        setFreeParameterType(theta_, type);
+        setFreeParameterType(btheta_, type);
+    }
+
+    private static void setFreeParameterType(Parameter[] p, ParameterType type) {
+        if (p != null) {
+            for (int i = 0; i < p.length; ++i) {
+                if (Parameter.isDefined(p[i]) && !p[i].isFixed()) {
+                    p[i].setType(type);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the initial values of the parameters are the estimates of a
+     * previous estimation, which should be used as starting point of the
+     * optimization. Otherwise, a specification with initial values is handled
+     * as a fully specified model. The flag is not serialized.
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isWarmStart() {
+        return warmStart_;
+    }
+
+    public void setWarmStart(boolean warmStart) {
+        warmStart_ = warmStart;
+    }
+
     public void clearParameters() {
         if (phi_ != null) {
             for (int i = 0; i < phi_.length; ++i) {
@@ -452,7 +495,7 @@ public class DefaultArimaSpec implements Cloneable, InformationSetSerializable {
     }
     
     private boolean equals(DefaultArimaSpec other) {
-        return bd_ == other.bd_ && d_ == other.d_ && Objects.deepEquals(mu, other.mu)
+        return bd_ == other.bd_ && d_ == other.d_ && warmStart_ == other.warmStart_ && Objects.deepEquals(mu, other.mu)
                 && Arrays.deepEquals(phi_, other.phi_) && Arrays.deepEquals(theta_, other.theta_)
                 && Arrays.deepEquals(bphi_, other.bphi_) && Arrays.deepEquals(btheta_, other.btheta_);
     }
@@ -27,11 +27,28 @@ import ec.tstoolkit.eco.RegModel;
 import ec.tstoolkit.maths.matrices.Householder;
 import ec.tstoolkit.maths.matrices.LowerTriangularMatrix;
 import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.polynomials.Polynomial;
 import ec.tstoolkit.modelling.IRobustStandardDeviationComputer;
 import ec.tstoolkit.timeseries.regression.IOutlierVariable;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import ec.tstoolkit.utilities.DoubleList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
+ * Exact computation of the t-stats of the outliers: the outliers and the
+ * regression variables are filtered by the exact ARMA filter of the model.
+ *
+ * When the ARMA model doesn't change between the rounds of a detection (its
+ * parameters are fixed), the filtered outliers, the filtered regression
+ * variables and their cross-products can be reused from one run to the other
+ * (see setReusingFilteredOutliers). A new run then only filters the new
+ * regression variables. The results are identical to those of a full
+ * computation.
  *
  * @author Jean Palate
  */
@@ -42,7 +59,16 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
     private final IResidualsComputer resComputer;
     private Matrix m_L, m_X;
     private double[] m_yl, m_b, m_w;
-    private int m_n;
+    private int m_n, m_nobs;
+    private boolean m_reuse;
+    private FilteredOutliers m_cache;
+    private int[] m_xcols;
+
+    /**
+     * Maximum number of doubles kept for the filtered outliers. Above it,
+     * nothing is reused
+     */
+    public static final int MAX_CACHE_SIZE = 1 << 21;
 
     public ExactSingleOutlierDetector() {
         this(IRobustStandardDeviationComputer.mad());
@@ -77,6 +103,33 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         this.resComputer = resComputer;
     }
 
+    /**
+     * Checks if the filtered outliers are reused between the runs of the
+     * detector
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isReusingFilteredOutliers() {
+        return m_reuse;
+    }
+
+    /**
+     * Reuses the filtered outliers between the runs of the detector, as long
+     * as the ARMA model and the series don't change. It should only be set
+     * when the parameters of the ARMA model are fixed: otherwise, the model
+     * changes at each round and the filtered outliers are kept for nothing.
+     *
+     * @param reuse
+     * @since 2.2.3
+     */
+    public void setReusingFilteredOutliers(boolean reuse) {
+        m_reuse = reuse;
+        if (!reuse) {
+            m_cache = null;
+        }
+    }
+
     /**
      *
      * @return
@@ -85,7 +138,15 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
     protected boolean calc() {
         try {
             RegModel dmodel = getModel().getDModel();
-            m_n = m_filter.initialize(getModel().getArma(), dmodel.getObsCount());
+            m_nobs = dmodel.getObsCount();
+            m_n = m_filter.initialize(getModel().getArma(), m_nobs);
+            if (m_reuse) {
+                double[] key = key(dmodel);
+                if (m_cache == null || !Arrays.equals(m_cache.key, key)) {
+                    int npos = getModel().getY().getLength(), nout = getOutlierFactoriesCount();
+                    m_cache = (long) npos * nout * m_n <= MAX_CACHE_SIZE ? new FilteredOutliers(key, nout, npos) : null;
+                }
+            }
             if (!initialize(dmodel)) {
                 return false;
             }
@@ -118,8 +179,13 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
             m_X = new Matrix(m_n, regs.getColumnsCount());
             DataBlockIterator rcols = regs.columns(), drcols = m_X.columns();
             DataBlock rcol = rcols.getData(), drcol = drcols.getData();
+            int[] xcols = new int[regs.getColumnsCount()];
             do {
-                m_filter.filter(rcol, drcol);
+                if (m_cache != null) {
+                    xcols[rcols.getPosition()] = m_cache.filter(m_filter, rcol, drcol);
+                } else {
+                    m_filter.filter(rcol, drcol);
+                }
             } while (rcols.next() && drcols.next());
 
             Householder qr = new Householder(true);
@@ -130,15 +196,19 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
                 nx -= unused.length;
                 // we remove the corresponding regression variables
                 Matrix tmp = new Matrix(m_n, nx);
+                int[] ucols = new int[nx];
                 for (int i = 0, j = 0; j < nx; ++i) {
                     if (isUsed(i, unused)) {
+                        ucols[j] = xcols[i];
                         tmp.column(j++).copy(m_X.column(i));
                     }
                 }
                 m_X = tmp;
+                xcols = ucols;
                 drcols = m_X.columns();
                 drcol = drcols.getData();
             }
+            m_xcols = xcols;
             m_b = new double[nx];
             qr.leastSquares(YL, new DataBlock(m_b), null);
             m_w = new double[nx];
@@ -198,28 +268,66 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         double[] od = new double[o.length - d];
         DataBlock OD = new DataBlock(od);
         getModel().getDifferencingFilter().filter(O, OD);
+        forEachBlock(n, (i0, i1) -> processPositions(idx, od, n, d, i0, i1));
+    }
 
-        DataBlock OL = new DataBlock(od, n, 2 * n - d, 1);
-        for (int i = 0; i < n; ++i) {
+    /**
+     * Computes the t-stats of an outlier for the positions [start, end[. The
+     * filter of the detector is only used when all the positions are handled
+     * by the same task; otherwise, each block uses its own filter.
+     *
+     * @param idx
+     * @param od The differenced outlier
+     * @param n The number of observations
+     * @param d The degree of the differencing
+     * @param start
+     * @param end
+     */
+    private void processPositions(int idx, double[] od, int n, int d, int start, int end) {
+        IArmaFilter filter = null;
+        DataBlock OL = new DataBlock(od, n - start, 2 * n - d - start, 1);
+        for (int i = start; i < end; ++i) {
             if (isDefined(i, idx)) {
 //                double[] ol = new double[n - d];
 //                DataBlock OL = new DataBlock(ol);
 //                System.arraycopy(od, n - i , ol, 0, ol.length);
-                double[] u = new double[m_n];
-                DataBlock U = new DataBlock(u);
-                m_filter.filter(OL, U);
-                double xx = 0, xy = 0;
-                for (int j = 0; j < u.length; ++j) {
-                    xx += u[j] * u[j];
-                    xy += u[j] * m_yl[j];
+                double[] u = m_cache == null ? null : m_cache.u[idx][i];
+                double xx, xy;
+                if (u != null) {
+                    xx = m_cache.xx[idx][i];
+                    xy = m_cache.xy[idx][i];
+                } else {
+                    if (filter == null) {
+                        if (start > 0 || end < n) {
+                            filter = m_filter.exemplar();
+                            filter.initialize(getModel().getArma(), m_nobs);
+                        } else {
+                            filter = m_filter;
+                        }
+                    }
+                    u = new double[m_n];
+                    filter.filter(OL, new DataBlock(u));
+                    xx = 0;
+                    xy = 0;
+                    for (int j = 0; j < u.length; ++j) {
+                        xx += u[j] * u[j];
+                        xy += u[j] * m_yl[j];
+                    }
+                    if (m_cache != null) {
+                        m_cache.u[idx][i] = u;
+                        m_cache.xx[idx][i] = xx;
+                        m_cache.xy[idx][i] = xy;
+                    }
                 }
+                DataBlock U = new DataBlock(u);
 
                 if (m_L != null) {
                     double[] l = new double[m_b.length];
                     DataBlockIterator xcols = m_X.columns();
                     DataBlock xcol = xcols.getData();
                     do {
-                        l[xcols.getPosition()] = xcol.dot(U);
+                        int pos = xcols.getPosition();
+                        l[pos] = m_cache == null ? xcol.dot(U) : m_cache.product(idx, i, m_xcols[pos], xcol, U);
                     } while (xcols.next());
                     DataBlock L = new DataBlock(l);
                     // K=A^-1*L
@@ -251,6 +359,12 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         return resComputer.residuals(getModel().getArma(), res);
     }
 
+    @Override
+    public void prepare(TsDomain estimationdomain, TsDomain outliersdomain) {
+        super.prepare(estimationdomain, outliersdomain);
+        m_cache = null;
+    }
+
     @Override
     protected void clear(boolean all) {
         super.clear(all);
@@ -258,5 +372,145 @@ public class ExactSingleOutlierDetector<T extends IArimaModel> extends AbstractS
         m_X = null;
         m_b = null;
         m_w = null;
+        m_xcols = null;
+        if (all) {
+            m_cache = null;
+        }
+    }
+
+    /**
+     * Identifies the ARMA model, the differencing and the differenced series
+     *
+     * @param dmodel
+     * @return
+     */
+    private double[] key(RegModel dmodel) {
+        IArimaModel arma = getModel().getArma();
+        DoubleList key = new DoubleList();
+        add(key, arma.getAR().getPolynomial());
+        add(key, arma.getMA().getPolynomial());
+        add(key, getModel().getDifferencingFilter().getPolynomial());
+        key.add(arma.getInnovationVariance());
+        DataBlock y = dmodel.getY();
+        for (int i = 0; i < y.getLength(); ++i) {
+            key.add(y.get(i));
+        }
+        return key.toArray();
+    }
+
+    private static void add(DoubleList key, Polynomial p) {
+        key.add(p.getDegree());
+        for (int i = 0; i <= p.getDegree(); ++i) {
+            key.add(p.get(i));
+        }
+    }
+
+    /**
+     * Filtered outliers (by type and position), filtered regression variables
+     * and their cross-products. The entries of a given outlier are only
+     * modified by the task that handles its position.
+     */
+    private static class FilteredOutliers {
+
+        /**
+         * Maximum number of filtered regression variables. The variables
+         * beyond it are filtered at each run
+         */
+        private static final int MAX_REGRESSORS = 64;
+
+        private final double[] key;
+        private final double[][][] u, xu;
+        private final double[][] xx, xy;
+        private final Map<Regressor, Integer> regs = new HashMap<>();
+        private final List<double[]> fregs = new ArrayList<>();
+
+        FilteredOutliers(double[] key, int nout, int npos) {
+            this.key = key;
+            u = new double[nout][npos][];
+            xu = new double[nout][npos][];
+            xx = new double[nout][npos];
+            xy = new double[nout][npos];
+        }
+
+        /**
+         * Filters a regression variable, or retrieves it if it has been
+         * filtered before.
+         *
+         * @param filter
+         * @param reg
+         * @param freg
+         * @return The index of the variable in the cache or -1 if it is not
+         * kept
+         */
+        int filter(IArmaFilter filter, DataBlock reg, DataBlock freg) {
+            double[] r = new double[reg.getLength()];
+            reg.copyTo(r, 0);
+            Regressor key = new Regressor(r);
+            Integer pos = regs.get(key);
+            if (pos != null) {
+                freg.copyFrom(fregs.get(pos), 0);
+                return pos;
+            }
+            filter.filter(reg, freg);
+            if (fregs.size() == MAX_REGRESSORS) {
+                return -1;
+            }
+            double[] f = new double[freg.getLength()];
+            freg.copyTo(f, 0);
+            regs.put(key, fregs.size());
+            fregs.add(f);
+            return fregs.size() - 1;
+        }
+
+        /**
+         * Product of a filtered regression variable and of a filtered outlier
+         *
+         * @param type
+         * @param pos
+         * @param col The index of the variable in the cache (or -1)
+         * @param xcol The filtered variable
+         * @param ucol The filtered outlier
+         * @return
+         */
+        double product(int type, int pos, int col, DataBlock xcol, DataBlock ucol) {
+            if (col < 0) {
+                return xcol.dot(ucol);
+            }
+            double[] p = xu[type][pos];
+            if (p == null || p.length <= col) {
+                double[] np = new double[Math.max(col + 1, fregs.size())];
+                Arrays.fill(np, Double.NaN);
+                if (p != null) {
+                    System.arraycopy(p, 0, np, 0, p.length);
+                }
+                p = np;
+                xu[type][pos] = p;
+            }
+            if (Double.isNaN(p[col])) {
+                p[col] = xcol.dot(ucol);
+            }
+            return p[col];
+        }
+    }
+
+    private static final class Regressor {
+
+        private final double[] data;
+        private final int hash;
+
+        Regressor(double[] data) {
+            this.data = data;
+            this.hash = Arrays.hashCode(data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || (obj instanceof Regressor && Arrays.equals(data, ((Regressor) obj).data));
+        }
     }
 }
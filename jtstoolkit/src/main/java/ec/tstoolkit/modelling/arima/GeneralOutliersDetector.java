@@ -306,6 +306,25 @@ public class GeneralOutliersDetector
 	return m_model != null;
     }
 
+    /**
+     * 
+     * @return
+     */
+    public boolean isParallel()
+    {
+	return m_sod.isParallel();
+    }
+
+    /**
+     * Scans the positions of the outliers in parallel (see
+     * AbstractSingleOutlierDetector). The detected outliers don't change
+     * @param value
+     */
+    public void setParallel(boolean value)
+    {
+	m_sod.setParallel(value);
+    }
+
     /**
      *
      * @param i
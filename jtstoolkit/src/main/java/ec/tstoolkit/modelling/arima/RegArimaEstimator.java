@@ -57,7 +57,7 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
     }
     public static final double DEF_EPS = 1e-7, DEF_INTERNAL_EPS = 1e-4;
     protected double eps_ = DEF_EPS, feps_;
-    protected boolean ml_ = true, logll_ = false, fml_;
+    protected boolean ml_ = true, logll_ = false, fml_, analytic_;
     protected StartingPoint start_ = StartingPoint.Multiple;
     protected Matrix pcov_;
     protected double[] score_;
@@ -89,6 +89,26 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
         logll_ = logll;
     }
 
+    /**
+     * The estimation uses the analytic derivatives of the sum of squares (see
+     * GlsSarimaMonitor.useAnalyticDerivatives)
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isUsingAnalyticDerivatives() {
+        return analytic_;
+    }
+
+    /**
+     *
+     * @param analytic
+     * @since 2.2.3
+     */
+    public void useAnalyticDerivatives(boolean analytic) {
+        analytic_ = analytic;
+    }
+
     public RegArimaEstimator(IParametricMapping<SarimaModel> mapper) {
         mapping_ = mapper;
     }
@@ -206,6 +226,7 @@ public class RegArimaEstimator implements IRegArimaProcessor<SarimaModel> {
         monitor.useMaximumLikelihood(ml_);
         monitor.useLogLikelihood(logll_);
         monitor.setMapping(mapping_);
+        monitor.useAnalyticDerivatives(analytic_);
         return monitor;
     }
 
@@ -100,9 +100,11 @@ public class TrenchSingleOutlierDetector<T extends IArimaModel> extends Abstract
 	    if (Math.abs(dao[i]) > m_threshold)
 		idx[j++] = i;
 
-	for (int a = 0; a < n; ++a)
-	    if (isDefined(a, io))
-		setT(a, io, m_solver.TStat(d, a, dao, idx) / getMAD());
+	forEachBlock(n, (start, end) -> {
+	    for (int a = start; a < end; ++a)
+		if (isDefined(a, io))
+		    setT(a, io, m_solver.TStat(d, a, dao, idx) / getMAD());
+	});
     }
 
     private void processOutliers() {
@@ -154,9 +156,11 @@ public class TrenchSingleOutlierDetector<T extends IArimaModel> extends Abstract
 	for (int i = 0, j = 0; i < n; ++i)
 	    if (Math.abs(dao[i]) > m_threshold)
 		idx[j++] = i;
-	for (int a = 0; a < n; ++a)
-	    if (isDefined(a, io))
-		setT(a, io, solver.TStat(0, a, dao, idx) / getMAD());
+	forEachBlock(n, (start, end) -> {
+	    for (int a = start; a < end; ++a)
+		if (isDefined(a, io))
+		    setT(a, io, solver.TStat(0, a, dao, idx) / getMAD());
+	});
     }
 
     private void processtcOutlier(int io, double delta) {
@@ -170,7 +174,10 @@ public class TrenchSingleOutlierDetector<T extends IArimaModel> extends Abstract
 	int[] idx = null;
 	double[] dao = null;
 
-	for (int a = 0; a < n; ++a) {
+	// the outlier is computed for the first positions (up to d); it doesn't
+	// change afterwards, so that the next positions can be handled in parallel
+	int a = 0;
+	for (; a < n && a <= d; ++a) {
 	    if (a == d || (isDefined(a, io) && a < d)) {
 		IOutlierVariable o = fac.create(getDomain().get(a));
 		o.data(getDomain().getStart(), new DataBlock(xo));
@@ -190,10 +197,15 @@ public class TrenchSingleOutlierDetector<T extends IArimaModel> extends Abstract
 			idx[j++] = i;
 	    }
 	    if (isDefined(a, io))
-		if (a <= d)
-		    setT(a, io, solver.TStat(0, 0, dao, idx) / getMAD());
-		else
-		    setT(a, io, solver.TStat(d, a, dao, idx) / getMAD());
+		setT(a, io, solver.TStat(0, 0, dao, idx) / getMAD());
 	}
+	int a0 = a;
+	int[] fidx = idx;
+	double[] fdao = dao;
+	forEachBlock(n - a0, (start, end) -> {
+	    for (int i = a0 + start; i < a0 + end; ++i)
+		if (isDefined(i, io))
+		    setT(i, io, solver.TStat(d, i, fdao, fidx) / getMAD());
+	});
     }
 }
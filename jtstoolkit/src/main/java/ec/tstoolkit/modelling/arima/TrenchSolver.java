@@ -352,6 +352,8 @@ public class TrenchSolver implements Cloneable
     }
 
     /**
+     * The method doesn't modify the solver. It can be called concurrently
+     * for different positions
      * 
      * @param ostart
      * @param pos
@@ -362,9 +364,10 @@ public class TrenchSolver implements Cloneable
     public double TStat(int ostart, int pos, double[] o, int[] idx)
     {
 	DataBlock L = null;
+	double[] l = null;
 	if (B != null) {
+	    l = new double[B.getRowsCount()];
 	    L = new DataBlock(l);
-	    L.set(0);
 	}
 	// calc l=Bo, xx=o'So, xy=o'Z
 	//
@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.modelling.arima.tramo;
 
+import ec.tstoolkit.algorithm.ProcessingExecutor;
 import ec.tstoolkit.arima.estimation.ArmaKF;
 import ec.tstoolkit.data.DataBlock;
 import ec.tstoolkit.data.IReadDataBlock;
@@ -30,6 +31,13 @@ import ec.tstoolkit.sarima.estimation.HannanRissanen;
 import java.util.Arrays;
 
 /**
+ * Automatic identification of the stationary part of a Sarima model (Tramo
+ * method). The candidate models of each step are estimated by Hannan-Rissanen
+ * and compared by their BIC. The candidates can be evaluated in parallel (see
+ * setParallel); the models are then sorted in the order of the candidates,
+ * so that ties are broken as in the sequential processing. Inside the
+ * identification, the computation of the BIC of a candidate is abandoned as
+ * soon as it is known to be larger than the BIC of the models already kept.
  *
  * @author Jean Palate
  */
@@ -160,6 +168,7 @@ public class ArmaModule implements IPreprocessingModule {
     private final int m_nmod;
     private static final int NMOD = 5;
     private boolean acceptwn = false;
+    private boolean m_parallel = false;
 
     @Override
     public ProcessingResult process(ModellingContext context) {
@@ -223,6 +232,12 @@ public class ArmaModule implements IPreprocessingModule {
             m_bic = fkf.fastProcessing(hr.getData(), hr.getSpec().getParametersCount());
         }
 
+        private HRBic(final HannanRissanen hr, final double bicmax) {
+            m_hr = hr;
+            ArmaKF fkf = new ArmaKF(hr.getModel());
+            m_bic = fkf.fastProcessing(hr.getData(), hr.getSpec().getParametersCount(), bicmax);
+        }
+
         @Override
         public int compareTo(HRBic o) {
             return Double.compare(m_bic, o.m_bic);
@@ -276,6 +291,24 @@ public class ArmaModule implements IPreprocessingModule {
         return this.acceptwn;
     }
 
+    /**
+     *
+     * @return
+     */
+    public boolean isParallel() {
+        return m_parallel;
+    }
+
+    /**
+     * Evaluates the candidate models in parallel (on the process-wide
+     * executor). False by default. This option doesn't change the results
+     *
+     * @param parallel
+     */
+    public void setParallel(boolean parallel) {
+        m_parallel = parallel;
+    }
+
     /**
      *
      * @return
@@ -457,31 +490,79 @@ public class ArmaModule implements IPreprocessingModule {
      * @return
      */
     public int sort(final IReadDataBlock data, final SarmaSpecification[] specs) {
+        return sort(data, specs, 0);
+    }
+
+    /**
+     * Sorts the candidates by their BIC. When nbest is positive, only the
+     * nbest first models are kept and the candidates that can't belong to
+     * them are abandoned as soon as possible
+     *
+     * @param data
+     * @param specs
+     * @param nbest
+     * @return
+     */
+    private int sort(final IReadDataBlock data, final SarmaSpecification[] specs, final int nbest) {
         m_hrs = null;
-        HRBic[] hrs = new HRBic[specs.length];
+        final HRBic[] hrs = new HRBic[specs.length];
+        final BicBound bound = nbest > 0 ? new BicBound(Math.max(nbest, 2)) : null;
+        // each candidate only writes its own slot
+        ProcessingExecutor.BlockTask task = (start, end) -> {
+            for (int i = start; i < end; ++i) {
+                hrs[i] = estimate(data, specs[i], bound);
+            }
+        };
+        if (m_parallel) {
+            ProcessingExecutor.getInstance().forEachBlock(specs.length, 1, task);
+        } else {
+            task.apply(0, specs.length);
+        }
         int n = 0;
-        for (int i = 0; i < specs.length; ++i) {
-            HannanRissanen hr = new HannanRissanen();
-            if (hr.process(data, specs[i])) {
-                SarimaModel m = hr.getModel();
-                if (!m.adjustSpecification() && m.isStable(true)) {
-                    HRBic hrbic = new HRBic(hr);
-                    hrs[n++] = hrbic;
-                }
+        for (int i = 0; i < hrs.length; ++i) {
+            if (hrs[i] != null) {
+                hrs[n++] = hrs[i];
             }
         }
         if (n == 0) {
             return 0;
         }
 
-        m_hrs = new HRBic[n];
-        for (int i = 0; i < n; ++i) {
-            m_hrs[i] = hrs[i];
-        }
+        m_hrs = Arrays.copyOf(hrs, n);
+        // stable sort: models with the same BIC stay in the order of the specifications
         Arrays.sort(m_hrs);
+        if (bound != null && n > bound.size()) {
+            // the other models depend on the scheduling of the (parallel) pruning
+            n = bound.size();
+            m_hrs = Arrays.copyOf(m_hrs, n);
+        }
         return n;
     }
 
+    private static HRBic estimate(final IReadDataBlock data, final SarmaSpecification spec, final BicBound bound) {
+        HannanRissanen hr = new HannanRissanen();
+        if (hr.process(data, spec)) {
+            SarimaModel m = hr.getModel();
+            if (!m.adjustSpecification() && m.isStable(true)) {
+                if (bound == null) {
+                    return new HRBic(hr);
+                }
+                HRBic hrbic = new HRBic(hr, bound.get());
+                if (hrbic.getBIC() != Double.POSITIVE_INFINITY) {
+                    bound.add(hrbic.getBIC());
+                    return hrbic;
+                }
+            }
+        }
+        return null;
+    }
+
+    private ArmaModule step() {
+        ArmaModule step = new ArmaModule();
+        step.m_parallel = m_parallel;
+        return step;
+    }
+
     private SarmaSpecification getPreferredSpecification() {
         if (m_hrs.length == 1) {
             return m_hrs[0].m_hr.getSpec().clone();
@@ -530,12 +611,12 @@ public class ArmaModule implements IPreprocessingModule {
                 }
             }
 
-            ArmaModule step0 = new ArmaModule();
-            nmax = step0.sort(data, specs);
+            ArmaModule step0 = step();
+            nmax = step0.sort(data, specs, m_nmod);
             if (0 == nmax) {
                 for (int i = 0; i < specs.length; ++i) {
                     specs[i].setP(1);
-                    nmax = step0.sort(data, specs);
+                    nmax = step0.sort(data, specs, m_nmod);
                 }
                 if (0 == nmax) {
                     return null;
@@ -559,8 +640,8 @@ public class ArmaModule implements IPreprocessingModule {
             }
         }
 
-        ArmaModule step1 = new ArmaModule();
-        nmax = step1.sort(data, specs);
+        ArmaModule step1 = step();
+        nmax = step1.sort(data, specs, m_nmod);
         if (0 == nmax) {
             return null;
         }
@@ -580,8 +661,8 @@ public class ArmaModule implements IPreprocessingModule {
                 }
             }
 
-            step2 = new ArmaModule();
-            if (0 == step2.sort(data, specs)) {
+            step2 = step();
+            if (0 == step2.sort(data, specs, m_nmod)) {
                 return null;
             }
             step2.merge(m_hrs);
@@ -608,4 +689,42 @@ public class ArmaModule implements IPreprocessingModule {
     }
 
     private static final String ARMA = "Arma identification";
+
+    /**
+     * The nbest smallest BIC of the models already estimated. Shared by the
+     * (parallel) evaluations of the candidates
+     */
+    private static final class BicBound {
+
+        private final double[] bics;
+
+        BicBound(int nbest) {
+            bics = new double[nbest];
+            Arrays.fill(bics, Double.POSITIVE_INFINITY);
+        }
+
+        int size() {
+            return bics.length;
+        }
+
+        /**
+         * @return The largest BIC that a model can have to belong to the
+         * nbest models
+         */
+        synchronized double get() {
+            return bics[bics.length - 1];
+        }
+
+        synchronized void add(double bic) {
+            int i = bics.length - 1;
+            if (!(bic < bics[i])) {
+                return;
+            }
+            while (i > 0 && bics[i - 1] > bic) {
+                bics[i] = bics[i - 1];
+                --i;
+            }
+            bics[i] = bic;
+        }
+    }
 }
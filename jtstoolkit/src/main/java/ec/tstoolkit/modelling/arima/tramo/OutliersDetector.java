@@ -443,6 +443,20 @@ public class OutliersDetector implements IOutliersDetectionModule {
         mvx_ = value;
     }
 
+    public boolean isParallel() {
+        return sod_.isParallel();
+    }
+
+    /**
+     * Scans the positions of the outliers in parallel. The detected outliers
+     * don't change
+     *
+     * @param parallel
+     */
+    public void setParallel(boolean parallel) {
+        sod_.setParallel(parallel);
+    }
+
     public void setCriticalValue(double value) {
         cv_ = value;
     }
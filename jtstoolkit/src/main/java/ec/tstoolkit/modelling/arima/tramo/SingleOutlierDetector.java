@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.modelling.arima.tramo;
 
+import ec.tstoolkit.algorithm.ProcessingExecutor;
 import ec.tstoolkit.arima.StationaryTransformation;
 import ec.tstoolkit.arima.estimation.ArmaKF;
 import ec.tstoolkit.data.DataBlock;
@@ -25,6 +26,7 @@ import ec.tstoolkit.eco.Likelihood;
 import ec.tstoolkit.maths.linearfilters.BackFilter;
 import ec.tstoolkit.maths.linearfilters.RationalBackFilter;
 import ec.tstoolkit.maths.polynomials.Polynomial;
+import ec.tstoolkit.modelling.arima.AbstractSingleOutlierDetector;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.timeseries.regression.AbstractOutlierVariable;
 import ec.tstoolkit.timeseries.regression.IOutlierFactory;
@@ -36,6 +38,11 @@ import java.util.ArrayList;
 import java.util.Iterator;
 
 /**
+ * Computes the t-stats of the outliers at all the positions and keeps the
+ * largest one. The positions can be scanned in parallel (see setParallel):
+ * the t-stats are computed independently and the maximum is searched
+ * afterwards in the order of the sequential scan, so that the detected outlier
+ * doesn't change.
  *
  * @author Jean Palate
  */
@@ -54,6 +61,7 @@ public class SingleOutlierDetector {
     private double[] m_el;
     private boolean m_bmad = true;
     private double m_ss;
+    private boolean m_parallel;
 
     /**
      *
@@ -253,6 +261,24 @@ public class SingleOutlierDetector {
         return m_ubound;
     }
 
+    /**
+     *
+     * @return
+     */
+    public boolean isParallel() {
+        return m_parallel;
+    }
+
+    /**
+     * Scans the positions in parallel (on the process-wide executor). False by
+     * default
+     *
+     * @param parallel
+     */
+    public void setParallel(boolean parallel) {
+        m_parallel = parallel;
+    }
+
     /**
      *
      * @param y
@@ -353,47 +379,68 @@ public class SingleOutlierDetector {
         }
 
         boolean[] ok = prepare(idx);
+        double[] sxxs = new double[n];
         for (int ix = 0; ix < n; ++ix) {
-            double rmse = rmse(n - ix - 1 - d);
             sxx += o[ix] * o[ix];
             if (corr != 0) {
                 sxx -= corr * corr;
             }
-            int kmax = ix + 1;
-            if (kmax > nl) {
-                kmax = nl;
+            if (ix >= nl) {
                 sxx -= o[ix - nl] * o[ix - nl];
                 if (corr != 0) {
                     sxx += corr * corr;
                 }
             }
-            if (!ok[n - 1 - ix]) {
-                continue;
-            }
-            double sxy = 0;
-            for (int k = 0, ek = nl - 1; k < kmax; ++k, --ek) {
-                sxy += m_el[ek] * o[ix - k];
+            sxxs[ix] = sxx;
+        }
+        // t-stats and coefficients. The positions are independent
+        double[] t = new double[n], coeff = new double[n];
+        double fcorr = corr;
+        ProcessingExecutor.BlockTask task = (start, end) -> {
+            for (int ix = start; ix < end; ++ix) {
+                processPosition(ix, o, fcorr, sxxs[ix], ok, t, coeff);
             }
-            if (corr != 0) {
-                double cxy = 0;
-                for (int k = 0; k < nl - kmax; ++k) {
-                    cxy += m_el[k];
-                }
-                sxy += cxy * corr;
+        };
+        if (m_parallel) {
+            ProcessingExecutor.getInstance().forEachBlock(n, AbstractSingleOutlierDetector.MIN_BLOCK_LENGTH, task);
+        } else {
+            task.apply(0, n);
+        }
+        for (int ix = 0; ix < n; ++ix) {
+            if (t[ix] > m_tmax) {
+                m_tmax = t[ix];
+                m_c = coeff[ix];
+                m_posmax = n - 1 - ix;
+                m_omax = idx;
             }
-            int pos = n - 1 - ix;
-            if (pos >= m_lbound && pos < m_ubound) {
-                double c = sxy / sxx;
-                double val = c * Math.sqrt(sxx) / rmse;
-                double aval = Math.abs(val);
-                if (aval > m_tmax) {
-                    m_tmax = aval;
-                    m_c = c;
-                    m_posmax = n - 1 - ix;
-                    m_omax = idx;
-                }
+        }
+    }
+
+    private void processPosition(int ix, double[] o, double corr, double sxx, boolean[] ok, double[] t, double[] coeff) {
+        int nl = m_el.length;
+        int d = m_ur.getDegree();
+        int n = nl + d;
+        int pos = n - 1 - ix;
+        if (!ok[pos] || pos < m_lbound || pos >= m_ubound) {
+            return;
+        }
+        double rmse = rmse(n - ix - 1 - d);
+        int kmax = Math.min(ix + 1, nl);
+        double sxy = 0;
+        for (int k = 0, ek = nl - 1; k < kmax; ++k, --ek) {
+            sxy += m_el[ek] * o[ix - k];
+        }
+        if (corr != 0) {
+            double cxy = 0;
+            for (int k = 0; k < nl - kmax; ++k) {
+                cxy += m_el[k];
             }
+            sxy += cxy * corr;
         }
+        double c = sxy / sxx;
+        double val = c * Math.sqrt(sxx) / rmse;
+        t[ix] = Math.abs(val);
+        coeff[ix] = c;
     }
 
     /**
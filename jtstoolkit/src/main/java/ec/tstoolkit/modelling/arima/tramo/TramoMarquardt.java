@@ -26,9 +26,11 @@ import ec.tstoolkit.maths.matrices.MatrixException;
 import ec.tstoolkit.maths.matrices.SymmetricMatrix;
 import ec.tstoolkit.maths.realfunctions.FunctionException;
 import ec.tstoolkit.maths.realfunctions.ISsqFunction;
+import ec.tstoolkit.maths.realfunctions.ISsqFunctionDerivatives;
 import ec.tstoolkit.maths.realfunctions.ISsqFunctionInstance;
 import ec.tstoolkit.maths.realfunctions.ISsqFunctionMinimizer;
 import ec.tstoolkit.maths.realfunctions.ParamValidation;
+import ec.tstoolkit.maths.realfunctions.SsqNumericalDerivatives;
 
 /**
  *
@@ -334,6 +336,16 @@ class TramoMarquardt implements ISsqFunctionMinimizer {
         int nc = ne + n;
         m_dfn = new Matrix(nc, n);
         double[] dfn = m_dfn.internalStorage();
+        // use the derivatives of the function when they are not numerical
+        ISsqFunctionDerivatives derivatives = m_fn.getDerivatives(m_ftry);
+        if (!(derivatives instanceof SsqNumericalDerivatives)) {
+            double[] grad = derivatives.getGradient();
+            for (int i = 0; i < n; ++i) {
+                System.arraycopy(derivatives.dEdX(i), 0, dfn, nc * i, ne);
+                m_beta[i] = -grad[i];
+            }
+            return;
+        }
         for (int i = 0; i < n; ++i) {
             DataBlock cp = new DataBlock(m_ftry.getParameters());
             double dx = m_fn.getDomain().epsilon(cp, i);
@@ -41,6 +41,7 @@ public class TramoModelEstimator extends RegArimaEstimator {
     public TramoModelEstimator(IParametricMapping<SarimaModel> mapping) {
         super(mapping);
         eps_ = TRAMO_EPS;
+        analytic_ = true;
         super.setStartingPoint(StartingPoint.HannanRissanen);
     }
 
@@ -69,6 +69,11 @@ public class TramoProcessor extends AbstractTramoModule implements IPreprocessor
     public FinalEstimator finalizer;
     public List<IModelController> controllers = new ArrayList<>();
     public IModelController benchmarking;
+    /**
+     * The initial values of the arima parameters are used as starting point
+     * of the estimation (see DefaultArimaSpec.isWarmStart)
+     */
+    public boolean warmStart;
     private final IModelBuilder defaultBuilder = new DefaultModelBuilder();
     private boolean mu_, pass3_;
     private boolean dfm_;
@@ -116,7 +121,9 @@ public class TramoProcessor extends AbstractTramoModule implements IPreprocessor
                 return null;
             }
 
-            if (context.description.isFullySpecified() && outliers == null) {
+            // in warm starts, initial values of the arima parameters are only used as starting point
+            if (context.description.isFullySpecified() && outliers == null
+                    && !(warmStart && context.description.getArimaComponent().hasInitialParameters())) {
                 // nothing to do
                 IParametricMapping<SarimaModel> mapping = context.description.defaultMapping();
                 ModelDescription model = context.description;
@@ -346,7 +346,7 @@ public class TramoSpecification implements Cloneable, IRegArimaSpecification {
         return ll;
     }
 
-    private IOutliersDetectionModule makeOutliers(OutlierSpec o, AutoModelSpec am) {
+    private IOutliersDetectionModule makeOutliers(OutlierSpec o, AutoModelSpec am, boolean parallel) {
         OutlierType[] types = o.getTypes();
         if (Arrays2.isNullOrEmpty(types)) {
             return null;
@@ -357,6 +357,7 @@ public class TramoSpecification implements Cloneable, IRegArimaSpecification {
         }
         detector.setCriticalValue(o.getCriticalValue());
         detector.useEML(o.isEML());
+        detector.setParallel(parallel);
         detector.setSpan(o.getSpan());
         if (am != null) {
             detector.setPc(am.getPc());
@@ -372,7 +373,7 @@ public class TramoSpecification implements Cloneable, IRegArimaSpecification {
         return estimator;
     }
 
-    private void makeAutoModelling(TramoProcessor tramo, AutoModelSpec automdl, TradingDaysSpec td) {
+    private void makeAutoModelling(TramoProcessor tramo, AutoModelSpec automdl, TradingDaysSpec td, boolean parallel) {
         if (automdl.isEnabled()) {
             DifferencingModule diff = new DifferencingModule();
             diff.setCancel(automdl.getCancel());
@@ -392,7 +393,9 @@ public class TramoSpecification implements Cloneable, IRegArimaSpecification {
             tramo.controllers.add(new SeasonalUnderDifferencingTest2());
             tramo.controllers.add(new RegularUnderDifferencingTest2());
             tramo.differencing = diff;
-            tramo.autoModelling = new ArmaModule();
+            ArmaModule arma = new ArmaModule();
+            arma.setParallel(parallel);
+            tramo.autoModelling = arma;
         } else if (td.isAutomatic()) {
             tramo.controllers.add(new TDController(td.getProbabibilityForFTest()));
         }
@@ -547,6 +550,7 @@ public class TramoSpecification implements Cloneable, IRegArimaSpecification {
         tramo.estimationSpan = estimate_.getSpan();
         // model builder
         tramo.builder = new TramoModelBuilder(this, context);
+        tramo.warmStart = arima_ != null && arima_.isWarmStart();
 
         // scaling
         tramo.scaling = new UnitSeriesScaling();
@@ -582,8 +586,9 @@ public class TramoSpecification implements Cloneable, IRegArimaSpecification {
         tramo.regressionTest2 = new RegressionVariablesTest2(CVAL, CVAL);
 //        tramo.regressionTest2 = new RegressionVariablesController(td.getProbabibilityForFTest(), join);
         tramo.regressionTest3 = new RegressionVariablesTest2(CVAL, automdl_.getTsig());
-        tramo.outliers = makeOutliers(outlier_, automdl_);
-        makeAutoModelling(tramo, automdl_, td);
+        boolean parallel = ProcessingContext.isParallelModelling(context);
+        tramo.outliers = makeOutliers(outlier_, automdl_, parallel);
+        makeAutoModelling(tramo, automdl_, td, parallel);
 //        if (td.getAutomaticMethod() != AutoMethod.Unused) {
 //            tramo.controllers.add(new TDController(td.getProbabibilityForFTest())); // NO EFFECT
 //        }
@@ -16,6 +16,7 @@
  */
 package ec.tstoolkit.modelling.arima.x13;
 
+import ec.tstoolkit.algorithm.ProcessingExecutor;
 import ec.tstoolkit.arima.estimation.RegArimaEstimation;
 import ec.tstoolkit.arima.estimation.RegArimaModel;
 import ec.tstoolkit.data.DataBlock;
@@ -31,6 +32,11 @@ import java.util.Arrays;
 import java.util.List;
 
 /**
+ * Automatic identification of the stationary part of a Sarima model (X13
+ * method). The candidate models of each step are estimated by exact maximum
+ * likelihood and compared by their BIC. The candidates can be evaluated in
+ * parallel (see setParallel); the models are then sorted in the order of the
+ * candidates, so that ties are broken as in the sequential processing.
  *
  * @author Jean Palate
  */
@@ -91,7 +97,7 @@ public class ArmaModule {
         }
     }
 
-    private boolean balanced_, mixed_ = true;
+    private boolean balanced_, mixed_ = true, parallel_;
     private RegArmaBic[] m_est;
     private boolean m_bforced = false;
     private int m_nmod = 5;
@@ -121,6 +127,20 @@ public class ArmaModule {
         return mixed_;
     }
 
+    /**
+     * Evaluates the candidate models in parallel (on the process-wide
+     * executor). False by default. This option doesn't change the results
+     *
+     * @param parallel
+     */
+    public void setParallel(boolean parallel) {
+        parallel_ = parallel;
+    }
+
+    public boolean isParallel() {
+        return parallel_;
+    }
+
     /**
      *
      */
@@ -321,11 +341,21 @@ public class ArmaModule {
      * @return
      */
     public int sort(final DataBlock data, final SarmaSpecification[] specs) {
-        m_est = new RegArmaBic[specs.length];
-        for (int i = 0; i < specs.length; ++i) {
-            m_est[i] = new RegArmaBic(data, specs[i], eps_);
+        final RegArmaBic[] est = new RegArmaBic[specs.length];
+        // each candidate only writes its own slot
+        ProcessingExecutor.BlockTask task = (start, end) -> {
+            for (int i = start; i < end; ++i) {
+                est[i] = new RegArmaBic(data, specs[i], eps_);
+            }
+        };
+        if (parallel_) {
+            ProcessingExecutor.getInstance().forEachBlock(specs.length, 1, task);
+        } else {
+            task.apply(0, specs.length);
         }
+        m_est = est;
 
+        // stable sort: models with the same BIC stay in the order of the specifications
         Arrays.sort(m_est);
         for (int i = m_est.length; i > 0; --i) {
             if (m_est[i - 1].getBIC() != NO_BIC) {
@@ -376,7 +406,7 @@ public class ArmaModule {
             }
             SarmaSpecification[] specs0 = lspecs0.toArray(new SarmaSpecification[lspecs0.size()]);
 
-            ArmaModule step0 = new ArmaModule();
+            ArmaModule step0 = step();
             nmax = step0.sort(data, specs0);
             if (0 == nmax) {
                 return null;
@@ -398,7 +428,7 @@ public class ArmaModule {
         }
         SarmaSpecification[] specs1 = lspecs1.toArray(new SarmaSpecification[lspecs1.size()]);
 
-        ArmaModule step1 = new ArmaModule();
+        ArmaModule step1 = step();
         nmax = step1.sort(data, specs1);
         if (0 == nmax) {
             return null;
@@ -426,7 +456,7 @@ public class ArmaModule {
             }
             SarmaSpecification[] specs2 = lspecs2.toArray(new SarmaSpecification[lspecs2.size()]);
 
-            step2 = new ArmaModule();
+            step2 = step();
             if (0 == step2.sort(data, specs2)) {
                 return null;
             }
@@ -444,4 +474,10 @@ public class ArmaModule {
             return select(data, d, bd);
         }
     }
+
+    private ArmaModule step() {
+        ArmaModule step = new ArmaModule();
+        step.parallel_ = parallel_;
+        return step;
+    }
 }
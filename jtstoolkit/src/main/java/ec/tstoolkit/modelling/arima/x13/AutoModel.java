@@ -59,6 +59,14 @@ public class AutoModel implements IPreprocessingModule {
         this.amdid.setMixed(mixed);
     }
 
+    public boolean isParallel() {
+        return amdid.isParallel();
+    }
+
+    public void setParallel(boolean parallel) {
+        this.amdid.setParallel(parallel);
+    }
+
     public AutoModel() {
         iddiff = new DifferencingModule();
         amdid = new ArmaModule();
@@ -147,6 +147,11 @@ public class OutliersDetector implements IOutliersDetectionModule {
             }
             llcorr_ = context.description.getLikelihoodCorrection();
             mapping_ = X13Preprocessor.createDefaultMapping(context.description);
+            if (sod_ instanceof ExactSingleOutlierDetector) {
+                // without free parameters, the ARMA model doesn't change
+                // between the rounds of the detection
+                ((ExactSingleOutlierDetector<SarimaModel>) sod_).setReusingFilteredOutliers(mapping_.getDim() == 0);
+            }
             if (context.estimation == null) {
                 regarima_ = context.description.buildRegArima();
                 if (!estimateModel()) {
@@ -312,6 +317,20 @@ public class OutliersDetector implements IOutliersDetectionModule {
         maxiter_ = maxiter;
     }
 
+    public boolean isParallel() {
+        return sod_.isParallel();
+    }
+
+    /**
+     * Scans the positions of the outliers in parallel. The detected outliers
+     * don't change
+     *
+     * @param parallel
+     */
+    public void setParallel(boolean parallel) {
+        sod_.setParallel(parallel);
+    }
+
     /**
      *
      * @return
@@ -357,7 +357,7 @@ public class RegArimaSpecification implements IRegArimaSpecification, Cloneable
         return ll;
     }
 
-    private IOutliersDetectionModule makeOutliers(OutlierSpec o) {
+    private IOutliersDetectionModule makeOutliers(OutlierSpec o, boolean parallel) {
         if (!o.isUsed()) {
             return null;
         }
@@ -365,6 +365,7 @@ public class RegArimaSpecification implements IRegArimaSpecification, Cloneable
         OutliersDetector detector = new OutliersDetector();
         detector.setEpsilon(estimate_.getTol());
         detector.setSpan(o.getSpan());
+        detector.setParallel(parallel);
         for (int i = 0; i < types.length; ++i) {
             detector.addOutlierFactory(fac.getFactory(types[i].getType()));
         }
@@ -382,12 +383,13 @@ public class RegArimaSpecification implements IRegArimaSpecification, Cloneable
         return estimator;
     }
 
-    private void makeAutoModelling(X13Preprocessor x13, AutoModelSpec automdl) {
+    private void makeAutoModelling(X13Preprocessor x13, AutoModelSpec automdl, boolean parallel) {
         if (automdl.isEnabled()) {
             AutoModel ami = new AutoModel();
             ami.setEpsilon(estimate_.getTol());
             ami.setBalanced(automdl.isBalanced());
             ami.setMixed(automdl.isMixed());
+            ami.setParallel(parallel);
             x13.autoModelling = ami;
             x13.setCheckMu(true);
             x13.setLjungBoxLimit(automdl.getLjungBoxLimit());
@@ -420,14 +422,17 @@ public class RegArimaSpecification implements IRegArimaSpecification, Cloneable
         // tests
         x13.loglevelTest = makeLogLevel(transform_);
 
-        x13.outliers = makeOutliers(outliers_);
-        makeAutoModelling(x13, automdl_);
+        boolean parallel = ProcessingContext.isParallelModelling(context);
+        x13.outliers = makeOutliers(outliers_, parallel);
+        makeAutoModelling(x13, automdl_, parallel);
 
         x13.tdTest = makeTd(regression_);
         x13.easterTest = makeEaster(regression_);
 //        x13.userTest = makeUserTest(regression_);
 
-        x13.estimator = new X13Estimator(estimate_.getTol());
+        boolean warm = arima_ != null && arima_.isWarmStart();
+        x13.warmStart = warm;
+        x13.estimator = new X13Estimator(estimate_.getTol(), warm);
         x13.finalizer = makeFinalEstimator(estimate_);
 
         return x13;
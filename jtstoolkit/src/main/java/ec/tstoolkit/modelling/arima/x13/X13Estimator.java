@@ -33,9 +33,22 @@ import ec.tstoolkit.sarima.SarimaModel;
 public class X13Estimator implements IModelEstimator {
 
     private double eps_ = 1e-7;
+    private final boolean warmStart_;
 
     public X13Estimator(double eps) {
+        this(eps, false);
+    }
+
+    /**
+     *
+     * @param eps
+     * @param warmStart The estimation starts from the initial values of the
+     * arima parameters, if any (see DefaultArimaSpec.isWarmStart)
+     * @since 2.2.3
+     */
+    public X13Estimator(double eps, boolean warmStart) {
         eps_ = eps;
+        warmStart_ = warmStart;
     }
 
     @Override
@@ -49,7 +62,11 @@ public class X13Estimator implements IModelEstimator {
         ModelEstimation estimation = new ModelEstimation(context.description.buildRegArima(),
                 context.description.getLikelihoodCorrection());
         try {
-            estimation.compute(monitor, mapping.getDim());
+            if (warmStart_ && context.description.getArimaComponent().hasInitialParameters()) {
+                estimation.improve(monitor, mapping.getDim());
+            } else {
+                estimation.compute(monitor, mapping.getDim());
+            }
             estimation.updateParametersCovariance(monitor.getParametersCovariance());
             if (mapping.getDim() > 0) {
                 context.information.subSet(RegArimaEstimator.OPTIMIZATION).set(RegArimaEstimator.SCORE, monitor.getScore());
@@ -59,6 +59,11 @@ public class X13Preprocessor implements IPreprocessor {
     public IPreprocessingModule regressionTest1 = new RegressionVariablesTest(RegressionVariablesTest.CVAL, RegressionVariablesTest.TSIG);
     public IModelEstimator estimator;
     public IModelEstimator finalizer = new FinalEstimator();
+    /**
+     * The initial values of the arima parameters are used as starting point
+     * of the estimation (see DefaultArimaSpec.isWarmStart)
+     */
+    public boolean warmStart;
     private double pcr_ = .95, cpcr_;
     private double plbox_, rvr_, rtval_;
     private int refsens_;
@@ -110,7 +115,9 @@ public class X13Preprocessor implements IPreprocessor {
                     return null;
                 }
             }
-            if (context.description.isFullySpecified() && outliers == null) {
+            // in warm starts, initial values of the arima parameters are only used as starting point
+            if (context.description.isFullySpecified() && outliers == null
+                    && !(warmStart && context.description.getArimaComponent().hasInitialParameters())) {
                 // nothing to do
                 IParametricMapping<SarimaModel> mapping = context.description.defaultMapping();
                 ModelDescription model = context.description;
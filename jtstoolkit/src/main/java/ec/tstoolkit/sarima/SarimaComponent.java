@@ -363,6 +363,18 @@ public class SarimaComponent extends AbstractArimaComponent implements Cloneable
                 && Parameter.isDefined(m_bphi) && Parameter.isDefined(m_btheta);
     }
 
+    /**
+     * Checks that some parameters are initial values, which should be used as
+     * starting point of the estimation (and not as final values)
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean hasInitialParameters() {
+        return Parameter.hasInitialParameters(m_phi) || Parameter.hasInitialParameters(m_theta)
+                || Parameter.hasInitialParameters(m_bphi) || Parameter.hasInitialParameters(m_btheta);
+    }
+
     public boolean isUndefined() {
         return Parameter.isDefault(m_phi) && Parameter.isDefault(m_theta)
                 && Parameter.isDefault(m_bphi) && Parameter.isDefault(m_btheta);
@@ -18,10 +18,14 @@
 package ec.tstoolkit.sarima.estimation;
 
 import ec.tstoolkit.arima.ArimaException;
+import ec.tstoolkit.arima.estimation.ArmaFunction;
 import ec.tstoolkit.arima.estimation.GlsArimaMonitor;
 import ec.tstoolkit.arima.estimation.RegArimaEstimation;
 import ec.tstoolkit.arima.estimation.RegArimaModel;
 import ec.tstoolkit.design.Development;
+import ec.tstoolkit.maths.realfunctions.IParametricMapping;
+import ec.tstoolkit.maths.realfunctions.ISsqFunctionDerivatives;
+import ec.tstoolkit.maths.realfunctions.ISsqFunctionInstance;
 import ec.tstoolkit.sarima.SarimaModel;
 
 /**
@@ -32,6 +36,7 @@ import ec.tstoolkit.sarima.SarimaModel;
 public class GlsSarimaMonitor extends GlsArimaMonitor<SarimaModel> {
 
     private final IarimaInitializer m_initializer;
+    private boolean m_analytic;
 
     /**
      *
@@ -93,6 +98,52 @@ public class GlsSarimaMonitor extends GlsArimaMonitor<SarimaModel> {
         }
         return rslt;
     }
+
+    /**
+     * Indicates that the derivatives of the sum of squares are computed by
+     * means of SarimaSsqDerivatives (arma recursions on the data, the exact
+     * filter being only used at the beginning of the series) instead of
+     * numerical derivatives (one evaluation of the likelihood by parameter).
+     * False by default
+     *
+     * @return
+     * @since 2.2.3
+     */
+    public boolean isUsingAnalyticDerivatives() {
+        return m_analytic;
+    }
+
+    /**
+     *
+     * @param value
+     * @since 2.2.3
+     */
+    public void useAnalyticDerivatives(boolean value) {
+        m_analytic = value;
+    }
+
+    @Override
+    protected ArmaFunction<SarimaModel> createFunction(RegArimaModel<SarimaModel> regs) {
+        IParametricMapping<SarimaModel> mapping = getMapping();
+        if (m_analytic && (mapping instanceof DefaultSarimaMapping || mapping instanceof SarimaMapping)) {
+            return new AnalyticFunction(regs, mapping);
+        } else {
+            return super.createFunction(regs);
+        }
+    }
+
+    private static class AnalyticFunction extends ArmaFunction<SarimaModel> {
+
+        AnalyticFunction(RegArimaModel<SarimaModel> regs, IParametricMapping<SarimaModel> mapping) {
+            super(regs.getDModel(), regs.getArima().getNonStationaryARCount(), regs.getMissings(), mapping);
+        }
+
+        @Override
+        public ISsqFunctionDerivatives getDerivatives(ISsqFunctionInstance point) {
+            ISsqFunctionDerivatives derivatives = SarimaSsqDerivatives.of(this, point);
+            return derivatives != null ? derivatives : super.getDerivatives(point);
+        }
+    }
     
     
 }
@@ -0,0 +1,446 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+
+package ec.tstoolkit.sarima.estimation;
+
+import ec.tstoolkit.arima.estimation.ArmaEvaluation;
+import ec.tstoolkit.arima.estimation.ArmaFunction;
+import ec.tstoolkit.arima.estimation.IArmaFilter;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.data.IReadDataBlock;
+import ec.tstoolkit.data.ReadDataBlock;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.eco.ConcentratedLikelihood;
+import ec.tstoolkit.maths.Complex;
+import ec.tstoolkit.maths.matrices.Householder;
+import ec.tstoolkit.maths.matrices.Matrix;
+import ec.tstoolkit.maths.matrices.SubMatrix;
+import ec.tstoolkit.maths.matrices.SymmetricMatrix;
+import ec.tstoolkit.maths.polynomials.Polynomial;
+import ec.tstoolkit.maths.realfunctions.ISsqFunctionDerivatives;
+import ec.tstoolkit.maths.realfunctions.ISsqFunctionInstance;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaSpecification;
+
+/**
+ * Derivatives of the concentrated sum of squares of a regarima model with
+ * sarima errors, computed in a single pass on the data.
+ * <p>
+ * Once the exact filter has (nearly) reached its steady state, the residuals
+ * follow the arma recursion: for a model phi(B)w(t) = theta(B)a(t), a(t) =
+ * phi(B)w(t) - (theta(B)-1)a(t) and da(t)/dp = dphi(B)/dp w(t) - dtheta(B)/dp
+ * a(t) - (theta(B)-1)da(t)/dp. The exact filter (and finite differences for the
+ * derivatives) is only used on a short segment at the beginning of the series,
+ * which provides the initial values of the recursions. The derivatives are
+ * projected on the space of the GLS residuals in the same way as the residuals
+ * themselves. When the maximum likelihood is used, the derivative of the
+ * determinantal factor is added. It only depends on the model (not on the
+ * data) and it is obtained by finite differences. This requires p+1
+ * initializations of the exact filter on the whole series (p being the number
+ * of parameters), each of them linear in the length of the series. They are
+ * cheaper than the p+1 evaluations of the complete function used by the
+ * numerical derivatives (which also filter the data and the regression
+ * variables), but they dominate the cost of the analytic derivatives of models
+ * without regression variables.
+ * <p>
+ * The Jacobian is a close approximation of the exact one (the derivatives of
+ * the regression coefficients are neglected), which is sufficient for
+ * Gauss-Newton/Marquardt iterations.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+@Development(status = Development.Status.Alpha)
+public class SarimaSsqDerivatives implements ISsqFunctionDerivatives {
+
+    /**
+     * Creates the derivatives of a sarima function at a given point.
+     *
+     * @param fn The function. The parameters of its mapping must be the
+     * coefficients of the sarima model (as in DefaultSarimaMapping or
+     * SarimaMapping)
+     * @param point The point
+     * @return The derivatives or null if they can't be computed analytically
+     * (the residuals of the filter used by the function don't correspond to
+     * the residuals of the arma recursion or the filter doesn't reach its
+     * steady state on the series)
+     */
+    public static SarimaSsqDerivatives of(ArmaFunction<SarimaModel> fn, ISsqFunctionInstance point) {
+        if (!(point instanceof ArmaEvaluation)) {
+            return null;
+        }
+        ConcentratedLikelihood ll = ((ArmaEvaluation<?>) point).getLikelihood();
+        if (ll == null) {
+            return null;
+        }
+        IReadDataBlock p = point.getParameters();
+        SarimaModel arima = fn.mapper.map(p);
+        if (arima == null || arima.getParametersCount() != p.getLength()) {
+            return null;
+        }
+        arima = (SarimaModel) arima.stationaryTransformation().stationaryModel;
+        double[] e = point.getE();
+
+        // residuals of the regression model
+        double[] w;
+        int nx = fn.dmodel.getVarsCount();
+        if (nx == 0) {
+            w = toArray(fn.dmodel.getY());
+        } else {
+            double[] b = ll.getB();
+            if (b == null || b.length != nx) {
+                return null;
+            }
+            w = toArray(fn.dmodel.calcRes(new ReadDataBlock(b)));
+        }
+        int n = w.length;
+        Recursion rec = new Recursion(arima);
+        // exact filter at the beginning of the series. When the filter doesn't
+        // reach its steady state (unit or quasi-unit MA roots), the derivatives
+        // are left to the numerical procedure
+        int m = rec.headLength();
+        if (m < 0 || m >= n) {
+            return null;
+        }
+        IArmaFilter filter = fn.filter.exemplar();
+        if (filter.initialize(arima, m) != m) {
+            return null;
+        }
+        double[] a = rec.filter(w, head(filter, w, m));
+        double[][] da = new double[p.getLength()][];
+        for (int i = 0; i < da.length; ++i) {
+            double[] dhead = dhead(fn, filter.exemplar(), p, i, w, a, m);
+            if (dhead == null) {
+                return null;
+            }
+            da[i] = rec.derivative(i, w, a, dhead);
+        }
+
+        // projection on the GLS residuals
+        double[][] de = new double[da.length][];
+        if (nx == 0) {
+            if (e.length != n) {
+                return null;
+            }
+            de = da;
+        } else {
+            Matrix x = fn.dmodel.variables();
+            Matrix xl = new Matrix(n, nx);
+            for (int j = 0; j < nx; ++j) {
+                double[] xj = toArray(x.column(j));
+                xl.column(j).copyFrom(rec.filter(xj, head(filter, xj, m)), 0);
+            }
+            Householder qr = new Householder(true);
+            qr.setEpsilon(1e-12);
+            qr.decompose(xl);
+            int rank = qr.getRank();
+            if (e.length != n - rank) {
+                return null;
+            }
+            DataBlock btmp = new DataBlock(rank);
+            for (int i = 0; i < da.length; ++i) {
+                DataBlock res = new DataBlock(n - rank);
+                if (rank > 0) {
+                    qr.leastSquares(new DataBlock(da[i]), btmp, res);
+                } else {
+                    res.copyFrom(da[i], 0);
+                }
+                de[i] = res.getData();
+            }
+        }
+
+        // determinantal factor
+        if (fn.ml) {
+            double sfactor = Math.sqrt(ll.getFactor());
+            double[] dldet = dldet(fn, p, n);
+            for (int i = 0; i < de.length; ++i) {
+                double[] cur = de[i];
+                double c = dldet[i] / (2 * ll.getN());
+                for (int j = 0; j < cur.length; ++j) {
+                    cur[j] = sfactor * cur[j] + c * e[j];
+                }
+            }
+        }
+        return new SarimaSsqDerivatives(e, de);
+    }
+
+    private final double[] e;
+    private final double[][] de;
+    private double[] grad;
+    private Matrix h;
+
+    private SarimaSsqDerivatives(double[] e, double[][] de) {
+        this.e = e;
+        this.de = de;
+    }
+
+    @Override
+    public double[] dEdX(int idx) {
+        return de[idx];
+    }
+
+    @Override
+    public void getJacobian(SubMatrix m) {
+        for (int i = 0; i < de.length; ++i) {
+            m.column(i).copyFrom(de[i], 0);
+        }
+    }
+
+    @Override
+    public double[] getGradient() {
+        if (grad == null) {
+            grad = new double[de.length];
+            for (int i = 0; i < de.length; ++i) {
+                double[] cur = de[i];
+                double s = 0;
+                for (int j = 0; j < cur.length; ++j) {
+                    s += e[j] * cur[j];
+                }
+                grad[i] = 2 * s;
+            }
+        }
+        return grad;
+    }
+
+    /**
+     * Gets the hessian of the function, approximated by 2*J'J
+     *
+     * @return
+     */
+    @Override
+    public Matrix getHessian() {
+        if (h == null) {
+            int n = de.length;
+            h = new Matrix(n, n);
+            for (int i = 0; i < n; ++i) {
+                for (int j = 0; j <= i; ++j) {
+                    double[] di = de[i], dj = de[j];
+                    double s = 0;
+                    for (int k = 0; k < di.length; ++k) {
+                        s += di[k] * dj[k];
+                    }
+                    h.set(i, j, 2 * s);
+                }
+            }
+            SymmetricMatrix.fromLower(h);
+        }
+        return h;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    /**
+     * Precision of the steady state of the filter (the filter converges at a
+     * rate given by the square of the largest inverse root of the MA
+     * polynomial)
+     */
+    private static final double STEADY_EPS = 1e-6;
+
+    /**
+     * Exact filtering of the first m observations
+     */
+    private static double[] head(IArmaFilter filter, double[] x, int m) {
+        DataBlock out = new DataBlock(m);
+        filter.filter(new DataBlock(x, 0, m, 1), out);
+        return out.getData();
+    }
+
+    /**
+     * Numerical derivatives of the exact filtering of the first m observations
+     */
+    private static double[] dhead(ArmaFunction<SarimaModel> fn, IArmaFilter filter, IReadDataBlock p, int idx, double[] w, double[] a, int m) {
+        double eps = fn.mapper.epsilon(p, idx);
+        DataBlock pcur = new DataBlock(p);
+        pcur.add(idx, eps);
+        if (!fn.mapper.checkBoundaries(pcur)) {
+            eps = -eps;
+            pcur.add(idx, 2 * eps);
+        }
+        SarimaModel cur = fn.mapper.map(pcur);
+        if (cur == null) {
+            return null;
+        }
+        filter.initialize((SarimaModel) cur.stationaryTransformation().stationaryModel, m);
+        double[] d = head(filter, w, m);
+        for (int i = 0; i < m; ++i) {
+            d[i] = (d[i] - a[i]) / eps;
+        }
+        return d;
+    }
+
+    private static double[] toArray(DataBlock data) {
+        double[] tmp = new double[data.getLength()];
+        data.copyTo(tmp, 0);
+        return tmp;
+    }
+
+    private static double[] dldet(ArmaFunction<SarimaModel> fn, IReadDataBlock p, int n) {
+        double[] dldet = new double[p.getLength()];
+        try {
+            IArmaFilter filter = fn.filter.exemplar();
+            double ldet0 = ldet(filter, fn.mapper.map(p), n);
+            for (int i = 0; i < dldet.length; ++i) {
+                double eps = fn.mapper.epsilon(p, i);
+                DataBlock pcur = new DataBlock(p);
+                pcur.add(i, eps);
+                SarimaModel cur = fn.mapper.map(pcur);
+                if (cur != null && fn.mapper.checkBoundaries(pcur)) {
+                    dldet[i] = (ldet(filter, cur, n) - ldet0) / eps;
+                }
+            }
+        } catch (RuntimeException ex) {
+            // the factor is considered as constant
+            return new double[p.getLength()];
+        }
+        return dldet;
+    }
+
+    private static double ldet(IArmaFilter filter, SarimaModel arima, int n) {
+        filter.initialize((SarimaModel) arima.stationaryTransformation().stationaryModel, n);
+        return filter.getLogDeterminant();
+    }
+
+    /**
+     * Conditional arma recursion (null initial values)
+     */
+    private static final class Recursion {
+
+        private final SarimaSpecification spec;
+        private final int freq;
+        private final double[] rar, sar, rma, sma;
+        final double[] ar, ma;
+        private final double rho;
+
+        Recursion(SarimaModel arima) {
+            spec = arima.getSpecification();
+            freq = spec.getFrequency();
+            rar = arima.getRegularAR().getCoefficients();
+            sar = expand(arima.getSeasonalAR().getCoefficients());
+            rma = arima.getRegularMA().getCoefficients();
+            sma = expand(arima.getSeasonalMA().getCoefficients());
+            rho = Math.max(rho(rma, 1), rho(arima.getSeasonalMA().getCoefficients(), freq));
+            ar = product(rar, sar);
+            ma = product(rma, sma);
+        }
+
+        /**
+         * Number of observations before the steady state of the filter
+         *
+         * @return The number of observations or -1 if the filter never
+         * reaches its steady state (MA polynomial with unit roots)
+         */
+        int headLength() {
+            if (rho >= 1) {
+                return -1;
+            }
+            int n = ar.length + ma.length;
+            if (rho > 0) {
+                n = Math.max(n, (int) Math.ceil(Math.log(STEADY_EPS) / (2 * Math.log(rho))));
+            }
+            return n;
+        }
+
+        private static double rho(double[] c, int lag) {
+            double rho = 0;
+            for (Complex root : Polynomial.of(c).roots()) {
+                rho = Math.max(rho, 1 / root.abs());
+            }
+            return Math.pow(rho, 1.0 / lag);
+        }
+
+        /**
+         * a(t) = ar(B)/ma(B) x(t), with given initial values
+         */
+        double[] filter(double[] x, double[] head) {
+            return filter(ar, x, null, null, head);
+        }
+
+        /**
+         * da(t)/dp = 1/ma(B) [dar(B) w(t) - dma(B) a(t)], with given initial
+         * values
+         */
+        double[] derivative(int idx, double[] w, double[] a, double[] head) {
+            int np = spec.getP(), nbp = spec.getBP(), nq = spec.getQ();
+            if (idx < np) {
+                return filter(product(lag(idx + 1), sar), w, null, null, head);
+            }
+            idx -= np;
+            if (idx < nbp) {
+                return filter(product(lag((idx + 1) * freq), rar), w, null, null, head);
+            }
+            idx -= nbp;
+            if (idx < nq) {
+                return filter(null, null, product(lag(idx + 1), sma), a, head);
+            }
+            idx -= nq;
+            return filter(null, null, product(lag((idx + 1) * freq), rma), a, head);
+        }
+
+        /**
+         * y(t) = 1/ma(B) [num(B) x(t) - dnum(B) z(t)]
+         */
+        private double[] filter(double[] num, double[] x, double[] dnum, double[] z, double[] head) {
+            int n = x != null ? x.length : z.length;
+            double[] y = new double[n];
+            System.arraycopy(head, 0, y, 0, head.length);
+            for (int t = head.length; t < n; ++t) {
+                double s = 0;
+                if (num != null) {
+                    for (int k = 0; k < num.length && k <= t; ++k) {
+                        s += num[k] * x[t - k];
+                    }
+                }
+                if (dnum != null) {
+                    for (int k = 0; k < dnum.length && k <= t; ++k) {
+                        s -= dnum[k] * z[t - k];
+                    }
+                }
+                for (int k = 1; k < ma.length && k <= t; ++k) {
+                    s -= ma[k] * y[t - k];
+                }
+                y[t] = s;
+            }
+            return y;
+        }
+
+        private double[] expand(double[] c) {
+            double[] e = new double[(c.length - 1) * freq + 1];
+            for (int i = 0; i < c.length; ++i) {
+                e[i * freq] = c[i];
+            }
+            return e;
+        }
+
+        private static double[] lag(int k) {
+            double[] l = new double[k + 1];
+            l[k] = 1;
+            return l;
+        }
+
+        private static double[] product(double[] l, double[] r) {
+            double[] p = new double[l.length + r.length - 1];
+            for (int i = 0; i < l.length; ++i) {
+                if (l[i] != 0) {
+                    for (int j = 0; j < r.length; ++j) {
+                        p[i + j] += l[i] * r[j];
+                    }
+                }
+            }
+            return p;
+        }
+    }
+    //</editor-fold>
+}
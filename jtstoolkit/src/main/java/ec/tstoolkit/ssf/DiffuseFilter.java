@@ -25,6 +25,8 @@ import ec.tstoolkit.design.Development;
 @Development(status = Development.Status.Alpha)
 public class DiffuseFilter {
 
+    private double m_eps;
+
     /**
      * 
      */
@@ -32,6 +34,26 @@ public class DiffuseFilter {
     {
     }
 
+    /**
+     * Relative tolerance used for the detection of the steady state (see
+     * Filter). 0 (default) to disable the detection
+     *
+     * @return
+     */
+    public double getSteadyStateEpsilon()
+    {
+	return m_eps;
+    }
+
+    /**
+     *
+     * @param value
+     */
+    public void setSteadyStateEpsilon(final double value)
+    {
+	m_eps = value;
+    }
+
     /**
      *
      * @param ssf
@@ -49,6 +71,7 @@ public class DiffuseFilter {
 	    return false;
 	Filter<ISsf> filter = new Filter<>(ssf, new SsfInitializer(pos,
 		state));
+	filter.setSteadyStateEpsilon(m_eps);
 	return filter.process(data, rslts);
     }
 }
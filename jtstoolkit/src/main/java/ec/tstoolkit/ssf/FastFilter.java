@@ -87,6 +87,7 @@ public class FastFilter<F extends ISsf> {
     @SuppressWarnings("unchecked")
     private boolean initialize(final IFastFilteringResults rslts) {
 	m_state = new FastState(m_dim, m_data.hasData());
+	m_steady = false;
 	if (m_initializer != null)
 	    m_ndiffuse = m_initializer
 		    .initialize(m_ssf, m_data, m_state, rslts);
@@ -152,7 +153,8 @@ public class FastFilter<F extends ISsf> {
 		//
 		if (!m_steady) {
 		    iterate();
-		    // checksteady();
+		    // L = 0: C and f don't change any more
+		    checksteady();
 		}
 	    } while (++m_pos < m_end);
 	if (rslts != null)
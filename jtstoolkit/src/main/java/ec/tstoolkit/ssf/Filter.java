@@ -26,6 +26,14 @@ import ec.tstoolkit.maths.matrices.SymmetricMatrix;
 /**
  * Ordinary Kalman filter
  *
+ * For time-invariant models, the filter can switch to a steady-state mode:
+ * when the prediction error variance and the gain don't change any more (see
+ * setSteadyStateEpsilon) or from a given position (see
+ * setSteadyStatePosition), the covariance matrix P is no longer updated and
+ * the constant gain is used for the next observations. The cost of an
+ * iteration is then reduced from O(m^3) to the cost of T*a. The steady-state
+ * mode is left on missing values.
+ *
  * @param <F>
  * @author Jean Palate
  */
@@ -51,9 +59,10 @@ public class Filter<F extends ISsf> {
      */
     protected double m_lastff;
 
-    // private int m_nchecks = 12, m_curcheck = 0;
-    // private double m_oldf = 0;
-    // private double m_eps = 0;//State.g_Zero;
+    private int m_nchecks = 3, m_curcheck = 0;
+    private double m_oldf = 0;
+    private double m_eps = 0;
+    private DataBlock m_oldC;
     /**
      *
      */
@@ -93,12 +102,32 @@ public class Filter<F extends ISsf> {
     }
 
     private void checkSteadyState() {
-        /*
-         * if (m_pos == m_steadypos) { m_bsteady = true; return; } if (m_oldf ==
-         * 0 || (m_oldf - m_state.f) / m_state.f > m_eps) { m_oldf = m_state.f;
-         * m_curcheck = 0; } else ++m_curcheck; if (m_curcheck == m_nchecks) {
-         * m_steadypos = m_pos; m_bsteady = true; }
-         */
+        if (m_fixedsteadypos) {
+            if (m_pos >= m_steadypos) {
+                m_bsteady = true;
+            }
+            return;
+        }
+        if (m_eps <= 0 || m_state.isMissing()) {
+            return;
+        }
+        // relative changes of f and of the gain
+        double f = m_state.f;
+        if (m_oldC == null || m_oldC.getLength() != m_r) {
+            m_oldC = new DataBlock(m_r);
+        }
+        if (m_oldf == 0 || Math.abs(m_oldf - f) > m_eps * f
+                || m_oldC.distance(m_state.C) > m_eps * m_state.C.nrm2()) {
+            m_curcheck = 0;
+        } else {
+            ++m_curcheck;
+        }
+        m_oldf = f;
+        m_oldC.copy(m_state.C);
+        if (m_curcheck == m_nchecks) {
+            m_steadypos = m_pos;
+            m_bsteady = true;
+        }
     }
 
     /**
@@ -120,11 +149,13 @@ public class Filter<F extends ISsf> {
         if (m_data.hasData()) {
             double y = m_data.get(m_pos);
             if (Double.isNaN(y)) {
-                m_bsteady = false;
+                leaveSteadyState();
                 m_state.e = Double.NaN;
             } else {
-                m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
-                m_ssf.TX(m_pos, m_state.C);
+                if (!m_bsteady) {
+                    m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
+                    m_ssf.TX(m_pos, m_state.C);
+                }
                 m_state.e = y - m_ssf.ZX(m_pos, m_state.A);
                 if (m_state.f == 0) {
                     if (Math.abs(m_state.e) > State.EPS) {
@@ -135,13 +166,21 @@ public class Filter<F extends ISsf> {
                 }
             }
         } else {
-            m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
-            m_ssf.TX(m_pos, m_state.C);
+            if (!m_bsteady) {
+                m_ssf.ZM(m_pos, m_state.P.subMatrix(), m_state.C);
+                m_ssf.TX(m_pos, m_state.C);
+            }
             m_state.e = 0;
         }
 
     }
 
+    private void leaveSteadyState() {
+        m_bsteady = false;
+        m_curcheck = 0;
+        m_oldf = 0;
+    }
+
     /**
      *
      * @return
@@ -213,10 +252,31 @@ public class Filter<F extends ISsf> {
         return m_steadypos;
     }
 
+    /**
+     * Relative tolerance used for the detection of the steady state. The
+     * filter is considered as steady when the relative changes of the
+     * prediction error variance and of the gain are below the tolerance
+     * during a few consecutive iterations. 0 (default) to disable the
+     * detection.
+     *
+     * @return
+     */
+    public double getSteadyStateEpsilon() {
+        return m_eps;
+    }
+
+    /**
+     *
+     * @param value
+     */
+    public void setSteadyStateEpsilon(final double value) {
+        m_eps = value;
+    }
+
     private boolean initFilter() {
         m_qinit = false;
         m_pos = 0;
-        m_bsteady = false;
+        leaveSteadyState();
         if (!m_fixedsteadypos) {
             m_steadypos = -1;
         }
@@ -31,6 +31,8 @@ public class SsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 
     private ISsfInitializer<F> m_initializer;
 
+    private double m_eps;
+
     /**
      * 
      */
@@ -47,6 +49,26 @@ public class SsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 	m_initializer = initializer;
     }
 
+    /**
+     * Relative tolerance used for the detection of the steady state of the
+     * filter (see Filter). 0 (default) to disable the detection
+     *
+     * @return
+     */
+    public double getSteadyStateEpsilon()
+    {
+	return m_eps;
+    }
+
+    /**
+     *
+     * @param value
+     */
+    public void setSteadyStateEpsilon(final double value)
+    {
+	m_eps = value;
+    }
+
     /**
      *
      * @param instance
@@ -56,6 +78,7 @@ public class SsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 	    SsfModel<F> instance) {
 	Filter<F> filter = new Filter<>();
 	filter.setSsf(instance.ssf);
+	filter.setSteadyStateEpsilon(m_eps);
 	if (m_initializer != null)
 	    filter.setInitializer(m_initializer);
 	DiffusePredictionErrorDecomposition pred = new DiffusePredictionErrorDecomposition(
@@ -70,6 +93,7 @@ public class SsfAlgorithm<F extends ISsf> extends AbstractSsfAlgorithm
 	    SsfModel<F> instance) {
 	Filter<F> filter = new Filter<>();
 	filter.setSsf(instance.ssf);
+	filter.setSteadyStateEpsilon(m_eps);
 	if (m_initializer != null)
 	    filter.setInitializer(m_initializer);
 	DiffuseFilteringResults drslts = new DiffuseFilteringResults(true);
@@ -0,0 +1,138 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+package ec.tstoolkit.timeseries.analysis;
+
+import ec.tstoolkit.algorithm.IProcResults;
+import ec.tstoolkit.algorithm.ProcessingExecutor;
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Time series processing whose results are kept in a TsProcessingCache.
+ * The domains that are not in the cache are processed in parallel (on the
+ * process-wide executor). Each parallel task uses its own processing, provided
+ * by the factory, so that the underlying processings don't need to be
+ * thread-safe.
+ *
+ * @author agent
+ * @param <I>
+ * @since 2.2.3
+ */
+@Development(status = Development.Status.Preliminary)
+public class CachedTsProcessing<I extends IProcResults> implements ITsProcessing<I> {
+
+    private final Object m_key;
+    private final Supplier<? extends ITsProcessing<I>> m_factory;
+    private final TsProcessingCache m_cache;
+    private ITsProcessing<I> m_processing;
+
+    /**
+     * Creates a processing that uses the process-wide cache
+     *
+     * @param key The key of the processing. Two processings with equal keys
+     * must give the same results on the same domains
+     * @param factory The factory of the actual processings
+     */
+    public CachedTsProcessing(Object key, Supplier<? extends ITsProcessing<I>> factory) {
+        this(key, factory, TsProcessingCache.getDefault());
+    }
+
+    /**
+     *
+     * @param key The key of the processing. Two processings with equal keys
+     * must give the same results on the same domains
+     * @param factory The factory of the actual processings
+     * @param cache The cache
+     */
+    public CachedTsProcessing(Object key, Supplier<? extends ITsProcessing<I>> factory, TsProcessingCache cache) {
+        m_key = key;
+        m_factory = factory;
+        m_cache = cache;
+    }
+
+    /**
+     *
+     * @return
+     */
+    public Object getKey() {
+        return m_key;
+    }
+
+    /**
+     *
+     * @return
+     */
+    public TsProcessingCache getCache() {
+        return m_cache;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public I process(TsDomain domain) {
+        I rslt = (I) m_cache.get(m_key, domain);
+        if (rslt == null) {
+            rslt = processing().process(domain);
+            m_cache.put(m_key, domain, rslt);
+        }
+        return rslt;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<I> process(List<TsDomain> domains) {
+        final Object[] rslts = new Object[domains.size()];
+        final List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < rslts.length; ++i) {
+            rslts[i] = m_cache.get(m_key, domains.get(i));
+            if (rslts[i] == null) {
+                missing.add(i);
+            }
+        }
+        if (!missing.isEmpty()) {
+            // each task only writes the results of its own domains
+            ProcessingExecutor.getInstance().forEachBlock(missing.size(), 1, (start, end) -> {
+                ITsProcessing<I> processing = m_factory.get();
+                for (int j = start; j < end; ++j) {
+                    int i = missing.get(j);
+                    try {
+                        rslts[i] = processing.process(domains.get(i));
+                    } catch (RuntimeException err) {
+                        rslts[i] = null;
+                    }
+                }
+            });
+            for (int i : missing) {
+                m_cache.put(m_key, domains.get(i), rslts[i]);
+            }
+        }
+        List<I> list = new ArrayList<>(rslts.length);
+        for (Object rslt : rslts) {
+            list.add((I) rslt);
+        }
+        return list;
+    }
+
+    private synchronized ITsProcessing<I> processing() {
+        if (m_processing == null) {
+            m_processing = m_factory.get();
+        }
+        return m_processing;
+    }
+}
@@ -21,6 +21,8 @@ import ec.tstoolkit.algorithm.IProcResults;
 import ec.tstoolkit.design.Algorithm;
 import ec.tstoolkit.design.Development;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * A TSProcessing is an algorithm able to produce an output for any (suitable)
@@ -36,4 +38,27 @@ public interface ITsProcessing<I extends IProcResults >{
      * @return
      */
     I process(TsDomain domain);
+
+    /**
+     * Processes several domains. Implementations may process them in parallel
+     * (see CachedTsProcessing)
+     *
+     * @param domains
+     * @return The results, in the order of the domains. The processings that
+     * failed are identified by null results
+     * @since 2.2.3
+     */
+    default List<I> process(List<TsDomain> domains) {
+        List<I> rslts = new ArrayList<>(domains.size());
+        for (TsDomain domain : domains) {
+            I rslt;
+            try {
+                rslt = process(domain);
+            } catch (RuntimeException err) {
+                rslt = null;
+            }
+            rslts.add(rslt);
+        }
+        return rslts;
+    }
 }
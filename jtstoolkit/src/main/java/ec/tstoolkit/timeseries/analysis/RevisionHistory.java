@@ -23,11 +23,16 @@ import ec.tstoolkit.timeseries.simplets.TsDataFunction;
 import ec.tstoolkit.timeseries.simplets.TsDomain;
 import ec.tstoolkit.timeseries.simplets.TsPeriod;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 
 /**
+ * Revisions of the results of a processing on increasing time spans. The
+ * time spans needed by an analysis are processed in one call (see
+ * ITsProcessing.process(List)), so that a CachedTsProcessing can share the
+ * results with other analyses and compute the missing ones in parallel.
  *
  * @author Jean Palate
  * @param <T>
@@ -103,10 +108,17 @@ public class RevisionHistory<T extends IProcResults> {
         TsPeriod start = m_domainT.getStart();
         TsDomain domain = new TsDomain(start, period.minus(start) + 1);
         IProcResults[] ilag = new IProcResults[count];
+        TsDomain[] ldomains = new TsDomain[count];
         TsDomain ldomain = domain;
         for (int i = 0; i < count; ++i) {
             ldomain = ldomain.extend(0, lag);
-            ilag[i] = tsInfo(ldomain);
+            ldomains[i] = ldomain;
+        }
+        List<TsDomain> domains = new ArrayList<>(Arrays.asList(ldomains));
+        domains.add(target == DiagnosticTarget.Final ? m_domainT : domain);
+        prepare(domains);
+        for (int i = 0; i < count; ++i) {
+            ilag[i] = tsInfo(ldomains[i]);
         }
         double[] rslt = new double[count];
         if (target == DiagnosticTarget.Final) {
@@ -187,6 +199,7 @@ public class RevisionHistory<T extends IProcResults> {
         TsPeriod p0 = m_domainT.getStart();
         TsData rslt = new TsData(start, m_domainT.getEnd().minus(start));
         int len = start.minus(p0) + 1;
+        prepare(domains(len, rslt.getLength()));
         for (int i = 0; i < rslt.getLength(); ++i, ++len) {
             TsDomain rdom = new TsDomain(p0, len);
             T output = tsInfo(rdom);
@@ -235,6 +248,7 @@ public class RevisionHistory<T extends IProcResults> {
         int n = pend.minus(pbeg);
         if (n >= 0) {
             int len = pbeg.minus(start) + 1;
+            prepare(domains(len, n + 1));
             for (int i = 0; i <= n; ++i) {
                 try {
                     TsDomain dom = new TsDomain(start, len++);
@@ -318,6 +332,48 @@ public class RevisionHistory<T extends IProcResults> {
         return info;
     }
 
+    /**
+     * Processes in one call the domains that are not yet available. The
+     * domains that failed are not stored; they will be processed again (and
+     * their errors reported) by tsInfo
+     *
+     * @param domains
+     */
+    private void prepare(List<TsDomain> domains) {
+        List<TsDomain> missing = new ArrayList<>();
+        for (TsDomain domain : domains) {
+            if (m_cache.get(domain) == null && !missing.contains(domain)) {
+                missing.add(domain);
+            }
+        }
+        if (missing.size() < 2) {
+            return;
+        }
+        List<T> rslts = m_processing.process(missing);
+        for (int i = 0; i < missing.size(); ++i) {
+            T rslt = rslts.get(i);
+            if (rslt != null) {
+                m_cache.put(missing.get(i), rslt);
+            }
+        }
+    }
+
+    /**
+     * Domains starting at the beginning of the reference domain
+     *
+     * @param len The length of the first domain
+     * @param n The number of domains
+     * @return
+     */
+    private List<TsDomain> domains(int len, int n) {
+        TsPeriod p0 = m_domainT.getStart();
+        List<TsDomain> domains = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            domains.add(new TsDomain(p0, len + i));
+        }
+        return domains;
+    }
+
     // / <summary>
     // / Returns the value of the time series identified by "item" at a given
     // point ("period"),
@@ -342,6 +398,7 @@ public class RevisionHistory<T extends IProcResults> {
         int pos = period.minus(p0);
         TsData rslt = new TsData(start, m_domainT.getEnd().minus(start));
         int len = start.minus(p0) + 1;
+        prepare(domains(len, rslt.getLength()));
         for (int i = 0; i < rslt.getLength(); ++i, ++len) {
             TsDomain rdom = new TsDomain(p0, len);
             T output = tsInfo(rdom);
@@ -362,6 +419,7 @@ public class RevisionHistory<T extends IProcResults> {
         int pos = period.minus(p0);
         TsData rslt = new TsData(start, m_domainT.getEnd().minus(start));
         int len = start.minus(p0) + 1;
+        prepare(domains(len, rslt.getLength()));
         for (int i = 0; i < rslt.getLength(); ++i, ++len) {
             TsDomain rdom = new TsDomain(p0, len);
             T output = tsInfo(rdom);
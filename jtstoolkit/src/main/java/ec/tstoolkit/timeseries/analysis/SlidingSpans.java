@@ -25,6 +25,7 @@ import ec.tstoolkit.timeseries.simplets.TsPeriod;
 import ec.tstoolkit.utilities.Jdk6;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map.Entry;
 
 /**
@@ -245,24 +246,24 @@ public class SlidingSpans<I extends IProcResults> {
 	    length += start.getPosition();
 	    start.move(-start.getPosition());
 	}
-	int idx = 0;
-	while (idx < m_spanCount && start.isNotBefore(m_domainT.getStart()))
-	    try {
-		++idx;
-		TsDomain cur = new TsDomain(start, length);
-		I info = m_processing.process(cur);
-		if (info == null)
-		    break;
-		else{
-                    Node<I> node=new Node<>();
-                    node.estimation=info;
-                    node.domain=cur;
-		    rslts.add(node);
-                }
-		start.move(-m_spanDistance * freq);
-	    } catch (Exception err) {
+	ArrayList<TsDomain> domains = new ArrayList<>();
+	while (domains.size() < m_spanCount && start.isNotBefore(m_domainT.getStart())) {
+	    domains.add(new TsDomain(start, length));
+	    start.move(-m_spanDistance * freq);
+	}
+	// the spans are processed in one call (in parallel for cached processings)
+	List<I> infos = m_processing.process(domains);
+	for (int idx = 0; idx < domains.size(); ++idx) {
+	    I info = infos.get(idx);
+	    if (info == null)
 		break;
+	    else{
+		Node<I> node=new Node<>();
+		node.estimation=info;
+		node.domain=domains.get(idx);
+		rslts.add(node);
 	    }
+	}
 
 	if (rslts.size() < m_spanMin)
 	    return false;
@@ -0,0 +1,160 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+package ec.tstoolkit.timeseries.analysis;
+
+import ec.tstoolkit.design.Development;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of the results of time series processings. The results are
+ * identified by the key of the processing (typically built on the series, the
+ * specification and the context of the processing) and by the time domain,
+ * so that the analyses on the same series (revision history, sliding spans...)
+ * share their estimations. The least recently used results are removed when
+ * the capacity is exceeded; the results are softly referenced, so that they
+ * can be reclaimed by the garbage collector.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+@Development(status = Development.Status.Preliminary)
+public final class TsProcessingCache {
+
+    public static final int DEF_CAPACITY = 1000;
+
+    private static final TsProcessingCache DEFAULT = new TsProcessingCache(DEF_CAPACITY);
+
+    /**
+     * The process-wide cache
+     *
+     * @return
+     */
+    public static TsProcessingCache getDefault() {
+        return DEFAULT;
+    }
+
+    private final int m_capacity;
+    private final LinkedHashMap<Key, SoftReference<Object>> m_map;
+
+    /**
+     *
+     * @param capacity The maximum number of results kept in the cache
+     */
+    public TsProcessingCache(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity of the cache should be positive");
+        }
+        m_capacity = capacity;
+        m_map = new LinkedHashMap<Key, SoftReference<Object>>(16, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<Object>> eldest) {
+                return size() > m_capacity;
+            }
+        };
+    }
+
+    /**
+     *
+     * @return
+     */
+    public int getCapacity() {
+        return m_capacity;
+    }
+
+    /**
+     * Number of entries in the cache (including the results that have been
+     * reclaimed by the garbage collector but not yet removed)
+     *
+     * @return
+     */
+    public synchronized int size() {
+        return m_map.size();
+    }
+
+    /**
+     *
+     */
+    public synchronized void clear() {
+        m_map.clear();
+    }
+
+    /**
+     *
+     * @param key The key of the processing
+     * @param domain The time domain
+     * @return The cached result or null
+     */
+    public synchronized Object get(final Object key, final TsDomain domain) {
+        Key k = new Key(key, domain);
+        SoftReference<Object> ref = m_map.get(k);
+        if (ref == null) {
+            return null;
+        }
+        Object rslt = ref.get();
+        if (rslt == null) {
+            m_map.remove(k);
+        }
+        return rslt;
+    }
+
+    /**
+     *
+     * @param key The key of the processing
+     * @param domain The time domain
+     * @param rslt The result. Null results are not cached
+     */
+    public synchronized void put(final Object key, final TsDomain domain, final Object rslt) {
+        Key k = new Key(key, domain);
+        if (rslt == null) {
+            m_map.remove(k);
+        } else {
+            m_map.put(k, new SoftReference<>(rslt));
+        }
+    }
+
+    private static final class Key {
+
+        private final Object processing;
+        private final TsDomain domain;
+
+        Key(Object processing, TsDomain domain) {
+            this.processing = processing;
+            this.domain = domain;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return domain.equals(other.domain) && Objects.equals(processing, other.processing);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * domain.hashCode() + Objects.hashCode(processing);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+package ec.tstoolkit.algorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class ProcessingExecutorTest {
+
+    public ProcessingExecutorTest() {
+    }
+
+    @Test
+    public void testNested() throws Exception {
+        // nested tasks on a pool with 2 threads: must not block
+        checkNested(ProcessingExecutor.forkJoin(2));
+    }
+
+    @Test(timeout = 10000)
+    public void testNestedOnService() throws Exception {
+        // the same with a fixed pool: the nested tasks run in their caller
+        ExecutorService service = Executors.newFixedThreadPool(2);
+        try {
+            checkNested(ProcessingExecutor.of(service));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static void checkNested(final ProcessingExecutor executor) throws Exception {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            tasks.add(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    List<Callable<Integer>> sub = new ArrayList<>();
+                    for (int j = 0; j < 10; ++j) {
+                        final int k = j;
+                        sub.add(new Callable<Integer>() {
+                            @Override
+                            public Integer call() throws Exception {
+                                return k;
+                            }
+                        });
+                    }
+                    int s = 0;
+                    for (Future<Integer> f : executor.invokeAll(sub)) {
+                        s += f.get();
+                    }
+                    return s;
+                }
+            });
+        }
+        int s = 0;
+        for (Future<Integer> f : executor.invokeAll(tasks)) {
+            assertTrue(f.isDone());
+            s += f.get();
+        }
+        assertEquals(450, s);
+    }
+
+    @Test
+    public void testSequential() throws Exception {
+        List<Callable<Thread>> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            tasks.add(new Callable<Thread>() {
+                @Override
+                public Thread call() throws Exception {
+                    return Thread.currentThread();
+                }
+            });
+        }
+        for (Future<Thread> f : ProcessingExecutor.sequential().invokeAll(tasks)) {
+            assertSame(Thread.currentThread(), f.get());
+        }
+    }
+}
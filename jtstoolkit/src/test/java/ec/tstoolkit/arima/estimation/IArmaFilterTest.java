@@ -166,6 +166,33 @@ public class IArmaFilterTest {
         }
     }
 
+    @Test
+    public void testMultiUse() {
+        // interleaved multi-use filters keep their own gains
+        ma11.setTheta(1, -.6);
+        ma11.setBTheta(1, -.8);
+        ar11.setPhi(1, -.5);
+        ar11.setBPhi(1, .3);
+        DataBlock Y = new DataBlock(240);
+        Y.randomize(0);
+        KalmanFilter mkf1 = new KalmanFilter(true), mkf2 = new KalmanFilter(true);
+        int n1 = mkf1.initialize(ma11, Y.getLength());
+        int n2 = mkf2.initialize(ar11, Y.getLength());
+        DataBlock e1 = new DataBlock(n1), e2 = new DataBlock(n2);
+        mkf1.filter(Y, e1);
+        mkf2.filter(Y, e2);
+        mkf1.filter(Y, e1);
+
+        DataBlock f1 = new DataBlock(kf.initialize(ma11, Y.getLength()));
+        kf.filter(Y, f1);
+        assertTrue(e1.distance(f1) < EPS);
+        assertEquals(kf.getLogDeterminant(), mkf1.getLogDeterminant(), EPS);
+        DataBlock f2 = new DataBlock(kf.initialize(ar11, Y.getLength()));
+        kf.filter(Y, f2);
+        assertTrue(e2.distance(f2) < EPS);
+        assertEquals(kf.getLogDeterminant(), mkf2.getLogDeterminant(), EPS);
+    }
+
     //@Ignore(value = "CHARPHI@2012-09-10: this test failure blocks the next tests")
     @Test
     public void testFilter_ARMA_3_1_1_1() {
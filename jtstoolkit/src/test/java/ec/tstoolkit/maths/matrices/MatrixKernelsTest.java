@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.maths.matrices;
+
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.data.DataBlockIterator;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ * The blocked kernels must give exactly the same results as the simple loops
+ *
+ * @author agent
+ */
+public class MatrixKernelsTest {
+
+    public MatrixKernelsTest() {
+    }
+
+    private static Matrix axpyReference(SubMatrix m, SubMatrix n) {
+        Matrix c = new Matrix(m.getRowsCount(), n.getColumnsCount());
+        DataBlockIterator cols = c.columns(), rcols = n.columns(), lcols = m.columns();
+        DataBlock col = cols.getData(), rcol = rcols.getData(), lcol = lcols.getData();
+        do {
+            lcols.begin();
+            int k = 0;
+            col.setAY(rcol.get(k++), lcol);
+            while (lcols.next()) {
+                col.addAY(rcol.get(k++), lcol);
+            }
+        } while (cols.next() && rcols.next());
+        return c;
+    }
+
+    private static Matrix dotReference(SubMatrix m, SubMatrix n) {
+        Matrix c = new Matrix(m.getRowsCount(), n.getColumnsCount());
+        for (int i = 0; i < c.getRowsCount(); ++i) {
+            for (int j = 0; j < c.getColumnsCount(); ++j) {
+                c.set(i, j, m.row(i).dot(n.column(j)));
+            }
+        }
+        return c;
+    }
+
+    @Test
+    public void testAxpyProduct() {
+        int[][] dims = {{1, 1, 1}, {7, 5, 3}, {300, 7, 9}, {513, 130, 11}, {600, 260, 5}};
+        for (int[] d : dims) {
+            Matrix a = new Matrix(d[0], d[1]), b = new Matrix(d[1], d[2]);
+            a.randomize(d[0]);
+            b.randomize(d[1]);
+            Matrix c = new Matrix(d[0], d[2]);
+            c.subMatrix().product(a.subMatrix(), b.subMatrix());
+            assertArrayEquals(axpyReference(a.subMatrix(), b.subMatrix()).internalStorage(), c.internalStorage(), 0);
+        }
+    }
+
+    @Test
+    public void testProductOfSubMatrices() {
+        Matrix a = new Matrix(400, 300), b = new Matrix(300, 200);
+        a.randomize(1);
+        b.randomize(2);
+        SubMatrix sa = a.subMatrix(3, 290, 5, 150), sb = b.subMatrix(5, 150, 7, 181).transpose().transpose();
+        Matrix c = new Matrix(300, 200);
+        SubMatrix sc = c.subMatrix(10, 297, 20, 194);
+        sc.product(sa, sb);
+        Matrix ref = axpyReference(sa, sb);
+        assertArrayEquals(ref.internalStorage(), new Matrix(sc).internalStorage(), 0);
+        // the elements outside of the sub-matrix are not modified
+        assertEquals(0, c.get(9, 20), 0);
+        assertEquals(0, c.get(10, 194), 0);
+    }
+
+    @Test
+    public void testDotProduct() {
+        Matrix a = new Matrix(5, 80), b = new Matrix(80, 9);
+        a.randomize(3);
+        b.randomize(4);
+        Matrix c = new Matrix(5, 9);
+        c.subMatrix().product(a.subMatrix(), b.subMatrix());
+        assertArrayEquals(dotReference(a.subMatrix(), b.subMatrix()).internalStorage(), c.internalStorage(), 0);
+        // transposed operands
+        Matrix ct = new Matrix(9, 5);
+        ct.subMatrix().product(b.subMatrix().transpose(), a.subMatrix().transpose());
+        assertArrayEquals(dotReference(b.subMatrix().transpose(), a.subMatrix().transpose()).internalStorage(), ct.internalStorage(), 0);
+    }
+
+    @Test
+    public void testParallelProduct() {
+        Matrix a = new Matrix(600, 300), b = new Matrix(300, 120);
+        a.randomize(5);
+        b.randomize(6);
+        Matrix c = new Matrix(600, 120);
+        c.subMatrix().product(a.subMatrix(), b.subMatrix());
+        assertArrayEquals(axpyReference(a.subMatrix(), b.subMatrix()).internalStorage(), c.internalStorage(), 0);
+    }
+
+    @Test
+    public void testXtX() {
+        Matrix x = new Matrix(250, 21);
+        x.randomize(7);
+        Matrix m = SymmetricMatrix.XtX(x);
+        Matrix ref = dotReference(x.subMatrix().transpose(), x.subMatrix());
+        for (int i = 0; i < m.getRowsCount(); ++i) {
+            for (int j = 0; j <= i; ++j) {
+                assertEquals(ref.get(i, j), m.get(i, j), 0);
+                assertEquals(m.get(i, j), m.get(j, i), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testXXt() {
+        Matrix x = new Matrix(23, 270);
+        x.randomize(8);
+        Matrix m = SymmetricMatrix.XXt(x);
+        Matrix ref = dotReference(x.subMatrix(), x.subMatrix().transpose());
+        for (int i = 0; i < m.getRowsCount(); ++i) {
+            for (int j = 0; j <= i; ++j) {
+                assertEquals(ref.get(i, j), m.get(i, j), 0);
+                assertEquals(m.get(i, j), m.get(j, i), 0);
+            }
+        }
+        Matrix s = new Matrix(30, 30);
+        SymmetricMatrix.XXt(x.subMatrix(), s.subMatrix(2, 25, 3, 26));
+        assertArrayEquals(m.internalStorage(), new Matrix(s.subMatrix(2, 25, 3, 26)).internalStorage(), 0);
+    }
+
+    @Test
+    public void testCholesky() {
+        Matrix x = new Matrix(40, 60);
+        x.randomize(9);
+        Matrix s = SymmetricMatrix.XXt(x);
+        Matrix l = s.clone();
+        SymmetricMatrix.lcholesky(l);
+        // reference: simple left-looking algorithm
+        double[] data = s.clone().internalStorage();
+        int n = s.getRowsCount();
+        for (int i = 0, idiag = 0; i < n; ++i, idiag += n + 1) {
+            double aii = data[idiag];
+            for (int j = i; j < idiag; j += n) {
+                aii -= data[j] * data[j];
+            }
+            aii = Math.sqrt(aii);
+            data[idiag] = aii;
+            int ymax = (i + 1) * n;
+            for (int jx = i; jx < idiag; jx += n) {
+                double temp = data[jx];
+                for (int ia = jx + 1, iy = idiag + 1; iy < ymax; ++ia, ++iy) {
+                    data[iy] -= temp * data[ia];
+                }
+            }
+            for (int iy = idiag + 1; iy < ymax; ++iy) {
+                data[iy] /= aii;
+            }
+        }
+        Matrix ref = new Matrix(data, n, n);
+        ref.toLower();
+        assertArrayEquals(ref.internalStorage(), l.internalStorage(), 0);
+    }
+}
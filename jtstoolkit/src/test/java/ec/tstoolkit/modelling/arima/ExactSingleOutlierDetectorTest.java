@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.modelling.arima;
+
+import data.Data;
+import ec.tstoolkit.arima.estimation.AnsleyFilter;
+import ec.tstoolkit.arima.estimation.RegArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.modelling.IRobustStandardDeviationComputer;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.timeseries.regression.AdditiveOutlierFactory;
+import ec.tstoolkit.timeseries.regression.IOutlierVariable;
+import ec.tstoolkit.timeseries.regression.LevelShiftFactory;
+import ec.tstoolkit.timeseries.regression.TransitoryChangeFactory;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class ExactSingleOutlierDetectorTest {
+
+    public ExactSingleOutlierDetectorTest() {
+    }
+
+    private static ExactSingleOutlierDetector<SarimaModel> detector() {
+        ExactSingleOutlierDetector<SarimaModel> sod = new ExactSingleOutlierDetector<>(IRobustStandardDeviationComputer.mad(false),
+                IResidualsComputer.mlComputer(), new AnsleyFilter());
+        sod.addOutlierFactory(new AdditiveOutlierFactory());
+        sod.addOutlierFactory(new LevelShiftFactory());
+        TransitoryChangeFactory tc = new TransitoryChangeFactory();
+        tc.setCoefficient(.7);
+        sod.addOutlierFactory(tc);
+        sod.prepare(Data.P.getDomain(), null);
+        return sod;
+    }
+
+    @Test
+    public void testNextRound() {
+        SarimaModel airline = new SarimaModelBuilder().createAirlineModel(12, -.6, -.6);
+        RegArimaModel<SarimaModel> regarima = new RegArimaModel<>(airline, new DataBlock(Data.P));
+        ExactSingleOutlierDetector<SarimaModel> sod = detector();
+        sod.setReusingFilteredOutliers(true);
+        assertTrue(sod.process(regarima));
+        List<IOutlierVariable> outliers = new ArrayList<>();
+        // the model doesn't change: the filtered outliers are reused and give
+        // the same results as a new detector
+        for (int round = 0; round < 3; ++round) {
+            IOutlierVariable o = sod.getMaxOutlier();
+            outliers.add(o);
+            DataBlock x = new DataBlock(regarima.getObsCount());
+            o.data(sod.getDomain().getStart(), x);
+            regarima.addX(x);
+            sod.exclude(o);
+            assertTrue(sod.process(regarima));
+
+            ExactSingleOutlierDetector<SarimaModel> nsod = detector();
+            for (IOutlierVariable var : outliers) {
+                nsod.exclude(var);
+            }
+            assertTrue(nsod.process(regarima));
+            for (int i = 0; i < sod.getOutlierFactoriesCount(); ++i) {
+                for (int j = 0; j < Data.P.getLength(); ++j) {
+                    assertEquals(nsod.T(j, i), sod.T(j, i), 0);
+                }
+            }
+            assertEquals(nsod.getMaxPosition(), sod.getMaxPosition());
+            assertEquals(nsod.getMaxOutlierType(), sod.getMaxOutlierType());
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ * 
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ * 
+ * http://ec.europa.eu/idabc/eupl
+ * 
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tstoolkit.modelling.arima.tramo;
+
+import data.Data;
+import ec.tstoolkit.arima.estimation.ArmaKF;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.modelling.arima.PreprocessingModel;
+import ec.tstoolkit.sarima.SarimaComponent;
+import ec.tstoolkit.sarima.SarmaSpecification;
+import ec.tstoolkit.sarima.estimation.HannanRissanen;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class ArmaModuleTest {
+
+    public ArmaModuleTest() {
+    }
+
+    @Test
+    public void testParallel() {
+        for (TsData s : new TsData[]{Data.P, Data.X}) {
+            PreprocessingModel model = TramoSpecification.TRfull.build().process(s, null);
+            SarimaComponent arima = model.description.getArimaComponent();
+            DataBlock dres = stationaryResiduals(model);
+            SarmaSpecification maxspec = maxspec(model.description.getFrequency());
+
+            ArmaModule seq = new ArmaModule();
+            HannanRissanen hseq = seq.tramo(dres, maxspec, arima.getD(), arima.getBD(), true);
+            ArmaModule par = new ArmaModule();
+            par.setParallel(true);
+            HannanRissanen hpar = par.tramo(dres, maxspec, arima.getD(), arima.getBD(), true);
+
+            assertNotNull(hseq);
+            assertEquals(hseq.getSpec(), hpar.getSpec());
+            ArmaModule.HRBic[] mseq = seq.getPreferedModels(), mpar = par.getPreferedModels();
+            assertEquals(mseq.length, mpar.length);
+            for (int i = 0; i < mseq.length; ++i) {
+                if (mseq[i] == null) {
+                    assertNull(mpar[i]);
+                } else {
+                    assertEquals(mseq[i].getHR().getSpec(), mpar[i].getHR().getSpec());
+                    assertEquals(mseq[i].getBIC(), mpar[i].getBIC(), 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPartialBic() {
+        PreprocessingModel model = TramoSpecification.TRfull.build().process(Data.X, null);
+        DataBlock dres = stationaryResiduals(model);
+        ArmaModule arma = new ArmaModule();
+        int n = arma.sort(dres, maxspec(model.description.getFrequency()));
+        assertTrue(n > 0);
+        for (ArmaModule.HRBic hrbic : arma.getPreferedModels()) {
+            HannanRissanen hr = hrbic.getHR();
+            ArmaKF kf = new ArmaKF(hr.getModel());
+            int np = hr.getSpec().getParametersCount();
+            double bic = hrbic.getBIC();
+            // the computation is only abandoned when the BIC exceeds the limit
+            assertEquals(bic, kf.fastProcessing(hr.getData(), np, bic), 0);
+            assertEquals(bic, kf.fastProcessing(hr.getData(), np, Double.POSITIVE_INFINITY), 0);
+            assertEquals(Double.POSITIVE_INFINITY, kf.fastProcessing(hr.getData(), np, bic - 1e-3), 0);
+        }
+    }
+
+    private static DataBlock stationaryResiduals(PreprocessingModel model) {
+        SarimaComponent arima = model.description.getArimaComponent();
+        DataBlock res = model.estimation.getLinearizedData();
+        DataBlock dres = new DataBlock(res.getLength() - arima.getDifferencingOrder());
+        arima.getDifferencingFilter().filter(res, dres);
+        return dres;
+    }
+
+    private static SarmaSpecification maxspec(int freq) {
+        SarmaSpecification spec = new SarmaSpecification(freq);
+        spec.setP(3);
+        spec.setQ(3);
+        spec.setBP(1);
+        spec.setBQ(1);
+        return spec;
+    }
+}
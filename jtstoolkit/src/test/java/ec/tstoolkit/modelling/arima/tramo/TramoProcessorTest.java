@@ -18,6 +18,9 @@
 package ec.tstoolkit.modelling.arima.tramo;
 
 import data.Data;
+import ec.tstoolkit.Parameter;
+import ec.tstoolkit.ParameterType;
+import ec.tstoolkit.arima.estimation.ConcentratedLikelihoodEstimation;
 import ec.tstoolkit.modelling.arima.IPreprocessor;
 import ec.tstoolkit.modelling.arima.PreprocessingModel;
 import ec.tstoolkit.timeseries.regression.IOutlierVariable;
@@ -26,6 +29,8 @@ import ec.tstoolkit.timeseries.regression.OutlierType;
 import ec.tstoolkit.timeseries.regression.TsVariableSelection;
 import ec.tstoolkit.timeseries.regression.TsVariableSelection.Item;
 import org.junit.AfterClass;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -46,6 +51,28 @@ public class TramoProcessorTest {
     public static void tearDownClass() throws Exception {
     }
 
+    @Test
+    public void testInitialParameters() {
+        TramoSpecification spec = TramoSpecification.TR0.clone();
+        long ncold = ConcentratedLikelihoodEstimation.fnCalls.get();
+        PreprocessingModel cold = spec.build().process(Data.P, null);
+        ncold = ConcentratedLikelihoodEstimation.fnCalls.get() - ncold;
+        // the previous estimates (slightly modified) are used as starting values
+        spec.getArima().setArimaComponent(cold.description.getArimaComponent());
+        Parameter[] btheta = spec.getArima().getBTheta();
+        btheta[0] = new Parameter(btheta[0].getValue() * .8, ParameterType.Initial);
+        spec.getArima().setFreeParameterType(ParameterType.Initial);
+        // without warm start, initial values are handled as a fully specified model
+        PreprocessingModel specified = spec.build().process(Data.P, null);
+        assertTrue(specified.estimation.getLikelihood().getLogLikelihood() < cold.estimation.getLikelihood().getLogLikelihood() - 1e-6);
+        spec.getArima().setWarmStart(true);
+        long nwarm = ConcentratedLikelihoodEstimation.fnCalls.get();
+        PreprocessingModel warm = spec.build().process(Data.P, null);
+        nwarm = ConcentratedLikelihoodEstimation.fnCalls.get() - nwarm;
+        assertEquals(cold.estimation.getLikelihood().getLogLikelihood(), warm.estimation.getLikelihood().getLogLikelihood(), 1e-5);
+        assertTrue(nwarm < ncold);
+    }
+
 //    @Test
     public void demoOutliers() {
         TramoSpecification mySpec = TramoSpecification.TR4.clone();
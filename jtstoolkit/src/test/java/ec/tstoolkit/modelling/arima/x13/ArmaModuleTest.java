@@ -37,4 +37,25 @@ public class ArmaModuleTest {
         assertTrue(spec != null);
     }
 
+    @Test
+    public void testParallel() {
+        PreprocessingModel model = TramoSpecification.TRfull.build().process(Data.X, null);
+        SarimaComponent arima = model.description.getArimaComponent();
+        DataBlock res = model.estimation.getLinearizedData();
+        DataBlock dres = new DataBlock(res.getLength() - arima.getDifferencingOrder());
+        arima.getDifferencingFilter().filter(res, dres);
+        int freq = model.description.getFrequency();
+        ArmaModule seq = new ArmaModule();
+        SarmaSpecification sspec = seq.select(dres, freq, 2, 1, arima.getD(), arima.getBD());
+        ArmaModule par = new ArmaModule();
+        par.setParallel(true);
+        SarmaSpecification pspec = par.select(dres, freq, 2, 1, arima.getD(), arima.getBD());
+        assertEquals(sspec, pspec);
+        ArmaModule.RegArmaBic[] mseq = seq.getPreferedModels(), mpar = par.getPreferedModels();
+        for (int i = 0; i < mseq.length; ++i) {
+            assertEquals(mseq[i].getSpecification(), mpar[i].getSpecification());
+            assertEquals(mseq[i].getBIC(), mpar[i].getBIC(), 0);
+        }
+    }
+
 }
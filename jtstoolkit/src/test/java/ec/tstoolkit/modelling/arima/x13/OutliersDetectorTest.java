@@ -24,8 +24,10 @@ import ec.tstoolkit.modelling.arima.RegArimaEstimator;
 import ec.tstoolkit.sarima.SarimaModel;
 import ec.tstoolkit.sarima.SarimaModelBuilder;
 import ec.tstoolkit.sarima.estimation.SarimaMapping;
+import ec.tstoolkit.timeseries.regression.IOutlierVariable;
 import ec.tstoolkit.timeseries.simplets.TsData;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
+import java.util.List;
 import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -40,6 +42,42 @@ public class OutliersDetectorTest {
     public OutliersDetectorTest() {
     }
 
+    private static List<IOutlierVariable> outliers(TsData s, SarimaModel air, boolean parallel) {
+        OutliersDetector outliers = new OutliersDetector();
+        outliers.setDefault();
+        outliers.setParallel(parallel);
+        ModelDescription desc = new ModelDescription(s, null);
+        desc.setAirline(true);
+        ModelEstimation est = new ModelEstimation(desc.buildRegArima());
+        est.compute(new RegArimaEstimator(new SarimaMapping(air.getSpecification(), true)), 2);
+        ModellingContext context = new ModellingContext();
+        context.description = desc;
+        context.estimation = est;
+        outliers.process(context);
+        return desc.getOutliers();
+    }
+
+    @Test
+    public void testParallel() {
+        SarimaModelBuilder builder = new SarimaModelBuilder();
+        SarimaModel air = builder.createAirlineModel(12, -.6, -.8);
+        ArimaModelBuilder rnd = new ArimaModelBuilder();
+        double[] data = rnd.generate(air, 480);
+        Random rg = new Random(0);
+        for (int i = 0; i < 5; ++i) {
+            data[rg.nextInt(data.length)] += 10;
+        }
+        TsData s = new TsData(TsFrequency.Monthly, 1980, 0, data, false);
+        List<IOutlierVariable> seq = outliers(s, air, false);
+        List<IOutlierVariable> par = outliers(s, air, true);
+        assertFalse(seq.isEmpty());
+        assertEquals(seq.size(), par.size());
+        for (int i = 0; i < seq.size(); ++i) {
+            assertEquals(seq.get(i).getCode(), par.get(i).getCode());
+            assertEquals(seq.get(i).getPosition(), par.get(i).getPosition());
+        }
+    }
+
     @Test
     @Ignore
     public void testLongSeries() {
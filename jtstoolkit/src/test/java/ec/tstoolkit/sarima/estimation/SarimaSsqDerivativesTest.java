@@ -0,0 +1,142 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and
+* limitations under the Licence.
+*/
+
+package ec.tstoolkit.sarima.estimation;
+
+import data.Data;
+import ec.tstoolkit.arima.estimation.ArmaEvaluation;
+import ec.tstoolkit.arima.estimation.ArmaFunction;
+import ec.tstoolkit.arima.estimation.ConcentratedLikelihoodEstimation;
+import ec.tstoolkit.arima.estimation.RegArimaEstimation;
+import ec.tstoolkit.arima.estimation.RegArimaModel;
+import ec.tstoolkit.data.DataBlock;
+import ec.tstoolkit.maths.realfunctions.SsqNumericalDerivatives;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaSpecification;
+import ec.tstoolkit.timeseries.calendars.TradingDaysType;
+import ec.tstoolkit.timeseries.regression.GregorianCalendarVariables;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import java.util.List;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class SarimaSsqDerivativesTest {
+
+    public SarimaSsqDerivativesTest() {
+    }
+
+    @Test
+    public void testAirline() {
+        RegArimaModel<SarimaModel> regs = airline(Data.X, false);
+        SarimaSsqDerivatives analytic = compare(regs, new double[]{-0.6, -0.5});
+        SsqNumericalDerivatives numerical = numerical(regs, new double[]{-0.6, -0.5});
+        for (int i = 0; i < 2; ++i) {
+            DataBlock a = new DataBlock(analytic.dEdX(i));
+            DataBlock n = new DataBlock(numerical.dEdX(i));
+            assertTrue(a.distance(n) / n.nrm2() < .01);
+        }
+    }
+
+    @Test
+    public void testWithRegressors() {
+        RegArimaModel<SarimaModel> regs = model(Data.P, true, 3, 1, 1, 1);
+        regs.setMeanCorrection(true);
+        compare(regs, new double[]{-0.3, 0.1, -0.2, -0.4, -0.7});
+    }
+
+    @Test
+    public void testUnitRoot() {
+        // the filter never reaches its steady state: the derivatives are left
+        // to the numerical procedure
+        RegArimaModel<SarimaModel> regs = airline(Data.X, false);
+        ArmaFunction<SarimaModel> fn = function(regs);
+        assertNull(SarimaSsqDerivatives.of(fn, fn.evaluate(new DataBlock(new double[]{-0.6, -1}))));
+        GlsSarimaMonitor monitor = new GlsSarimaMonitor();
+        monitor.useAnalyticDerivatives(true);
+        assertNotNull(monitor.process(regs));
+    }
+
+    @Test
+    public void testOptimization() {
+        for (boolean td : new boolean[]{false, true}) {
+            RegArimaModel<SarimaModel> regs = model(Data.P, td, 2, 1, 1, 1);
+            long ncalls = ConcentratedLikelihoodEstimation.fnCalls.get();
+            RegArimaEstimation<SarimaModel> nrslt = new GlsSarimaMonitor().process(regs);
+            ncalls = ConcentratedLikelihoodEstimation.fnCalls.get() - ncalls;
+            GlsSarimaMonitor monitor = new GlsSarimaMonitor();
+            monitor.useAnalyticDerivatives(true);
+            long acalls = ConcentratedLikelihoodEstimation.fnCalls.get();
+            RegArimaEstimation<SarimaModel> arslt = monitor.process(regs);
+            acalls = ConcentratedLikelihoodEstimation.fnCalls.get() - acalls;
+            assertEquals(nrslt.likelihood.getLogLikelihood(), arslt.likelihood.getLogLikelihood(), 1e-5);
+            assertTrue(new DataBlock(nrslt.model.getArima().getParameters()).distance(
+                    new DataBlock(arslt.model.getArima().getParameters())) < 1e-3);
+            assertTrue(acalls < ncalls);
+        }
+    }
+
+    private static ArmaFunction<SarimaModel> function(RegArimaModel<SarimaModel> regs) {
+        return new ArmaFunction<>(regs.getDModel(), regs.getArima().getNonStationaryARCount(),
+                regs.getMissings(), new DefaultSarimaMapping(regs.getArima().getSpecification()));
+    }
+
+    private static SsqNumericalDerivatives numerical(RegArimaModel<SarimaModel> regs, double[] p) {
+        ArmaFunction<SarimaModel> fn = function(regs);
+        return new SsqNumericalDerivatives(fn, fn.evaluate(new DataBlock(p)), true);
+    }
+
+    private static SarimaSsqDerivatives compare(RegArimaModel<SarimaModel> regs, double[] p) {
+        ArmaFunction<SarimaModel> fn = function(regs);
+        ArmaEvaluation<SarimaModel> eval = fn.evaluate(new DataBlock(p));
+        SarimaSsqDerivatives analytic = SarimaSsqDerivatives.of(fn, eval);
+        assertNotNull(analytic);
+        // the gradients should be identical (up to the precision of the numerical derivatives)
+        double[] ga = analytic.getGradient(), gn = numerical(regs, p).getGradient();
+        for (int i = 0; i < p.length; ++i) {
+            assertEquals(gn[i], ga[i], 1e-3 * Math.abs(gn[i]) + 1e-6);
+        }
+        return analytic;
+    }
+
+    private static RegArimaModel<SarimaModel> airline(TsData s, boolean td) {
+        return model(s, td, 0, 1, 1, 1);
+    }
+
+    private static RegArimaModel<SarimaModel> model(TsData s, boolean td, int p, int d, int q, int bq) {
+        SarimaSpecification spec = new SarimaSpecification(s.getFrequency().intValue());
+        spec.setP(p);
+        spec.setD(d);
+        spec.setQ(q);
+        spec.setBD(1);
+        spec.setBQ(bq);
+        RegArimaModel<SarimaModel> regs = new RegArimaModel<>(new SarimaModel(spec), new DataBlock(s.log().internalStorage()));
+        if (td) {
+            TsDomain domain = s.getDomain();
+            GregorianCalendarVariables vars = GregorianCalendarVariables.getDefault(TradingDaysType.TradingDays);
+            List<DataBlock> cols = ec.tstoolkit.timeseries.regression.RegressionUtilities.data(vars, domain);
+            for (DataBlock col : cols) {
+                regs.addX(col);
+            }
+        }
+        return regs;
+    }
+}
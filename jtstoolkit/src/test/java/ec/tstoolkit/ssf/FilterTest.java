@@ -0,0 +1,60 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+package ec.tstoolkit.ssf;
+
+import data.Data;
+import ec.tstoolkit.eco.DiffuseConcentratedLikelihood;
+import ec.tstoolkit.sarima.SarimaModel;
+import ec.tstoolkit.sarima.SarimaModelBuilder;
+import ec.tstoolkit.ssf.arima.SsfArima;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author agent
+ */
+public class FilterTest {
+
+    public FilterTest() {
+    }
+
+    @Test
+    public void testSteadyState() {
+        TsData P = Data.P;
+        double[] x = new double[P.getLength()];
+        P.copyTo(x, 0);
+        x[100] = Double.NaN;
+        SarimaModel sarima = new SarimaModelBuilder().createAirlineModel(12, -.6, -.6);
+        SsfModel<SsfArima> model = new SsfModel<>(new SsfArima(sarima), new SsfData(x, null), null, null);
+
+        SsfAlgorithm<SsfArima> alg = new SsfAlgorithm<>();
+        DiffuseConcentratedLikelihood ll = alg.evaluate(model).getLikelihood();
+        alg.setSteadyStateEpsilon(1e-9);
+        DiffuseConcentratedLikelihood sll = alg.evaluate(model).getLikelihood();
+        assertEquals(ll.getLogLikelihood(), sll.getLogLikelihood(), 1e-6);
+
+        Filter<SsfArima> filter = new Filter<>();
+        filter.setSsf(model.ssf);
+        filter.setSteadyStateEpsilon(1e-9);
+        assertTrue(filter.process(model.getData(), null));
+        // the steady state is left on the missing value and reached again later
+        assertTrue(filter.isInSteadyState());
+        assertTrue(filter.getSteadyStatePosition() > 100);
+    }
+}
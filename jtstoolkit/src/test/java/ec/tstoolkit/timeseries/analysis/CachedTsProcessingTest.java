@@ -0,0 +1,95 @@
+/*
+* Copyright 2026 National Bank of Belgium
+*
+* Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+* by the European Commission - subsequent versions of the EUPL (the "Licence");
+* You may not use this work except in compliance with the Licence.
+* You may obtain a copy of the Licence at:
+*
+* http://ec.europa.eu/idabc/eupl
+*
+* Unless required by applicable law or agreed to in writing, software 
+* distributed under the Licence is distributed on an "AS IS" basis,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the Licence for the specific language governing permissions and 
+* limitations under the Licence.
+*/
+package ec.tstoolkit.timeseries.analysis;
+
+import data.Data;
+import ec.satoolkit.algorithm.implementation.TramoSeatsProcessingFactory;
+import ec.satoolkit.tramoseats.TramoSeatsSpecification;
+import ec.tstoolkit.algorithm.CompositeResults;
+import ec.tstoolkit.algorithm.IProcessing;
+import ec.tstoolkit.modelling.ModellingDictionary;
+import ec.tstoolkit.timeseries.simplets.TsData;
+import ec.tstoolkit.timeseries.simplets.TsDomain;
+import ec.tstoolkit.timeseries.simplets.TsPeriod;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class CachedTsProcessingTest {
+
+    public CachedTsProcessingTest() {
+    }
+
+    @Test
+    public void testSharedResults() {
+        TsProcessingCache cache = new TsProcessingCache(100);
+        AtomicInteger count = new AtomicInteger();
+        TsDomain domain = Data.X.getDomain();
+        RevisionHistory<CompositeResults> rh = new RevisionHistory<>(
+                new CachedTsProcessing<>("X", () -> processing(Data.X, count), cache), domain);
+        assertEquals(1, count.get());
+        // the reference is shared with the sliding spans
+        SlidingSpans<CompositeResults> ss = new SlidingSpans<>(
+                new CachedTsProcessing<>("X", () -> processing(Data.X, count), cache), domain);
+        assertEquals(1, count.get());
+        assertSame(rh.getReferenceInfo(), ss.getReferenceInfo());
+
+        TsPeriod start = domain.getLast().minus(24);
+        TsData rev = rh.tsRevision(ModellingDictionary.Y_LIN, start, start);
+        assertEquals(25, count.get());
+        assertEquals(25, cache.size());
+        // same results as a sequential, uncached processing
+        RevisionHistory<CompositeResults> ref = new RevisionHistory<>(processing(Data.X, new AtomicInteger()), domain);
+        assertEquals(ref.tsRevision(ModellingDictionary.Y_LIN, start, start), rev);
+
+        // a new analysis doesn't process anything
+        RevisionHistory<CompositeResults> rh2 = new RevisionHistory<>(
+                new CachedTsProcessing<>("X", () -> processing(Data.X, count), cache), domain);
+        assertEquals(rev, rh2.tsRevision(ModellingDictionary.Y_LIN, start, start));
+        assertEquals(25, count.get());
+
+        assertTrue(ss.process());
+        assertEquals(25 + ss.getSpanCount(), count.get());
+    }
+
+    @Test
+    public void testCapacity() {
+        TsProcessingCache cache = new TsProcessingCache(2);
+        TsDomain domain = Data.X.getDomain();
+        cache.put("X", domain, "a");
+        cache.put("X", domain.drop(0, 1), "b");
+        assertEquals("a", cache.get("X", domain));
+        cache.put("X", domain.drop(0, 2), "c");
+        assertEquals(2, cache.size());
+        // the least recently used entry is removed
+        assertNull(cache.get("X", domain.drop(0, 1)));
+        assertEquals("a", cache.get("X", domain));
+        assertNull(cache.get("P", domain));
+    }
+
+    private static ITsProcessing<CompositeResults> processing(TsData s, AtomicInteger count) {
+        IProcessing<TsData, CompositeResults> processing = TramoSeatsProcessingFactory.instance.generateProcessing(TramoSeatsSpecification.RSA1);
+        return domain -> {
+            count.incrementAndGet();
+            return processing.process(s.fittoDomain(domain));
+        };
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import com.google.common.collect.ImmutableList;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Base class of the factories that stream SDMX files with StAX instead of
+ * loading them in a DOM. The items are created as soon as they are read, so
+ * that the memory used by the parsing doesn't depend on the size of the file.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public abstract class AbstractStaxFactory implements ISdmxSourceFactory {
+
+    @Override
+    public SdmxSource create(File file) throws Exception {
+        ImmutableList.Builder<SdmxItem> items = ImmutableList.builder();
+        parse(file, items::add);
+        return new SdmxSource(getType(), items.build());
+    }
+
+    /**
+     * Reads the items of a file and passes them to a consumer, in the order of
+     * the file.
+     *
+     * @param file
+     * @param consumer
+     * @throws IOException
+     * @throws XMLStreamException if the file is invalid or doesn't have the
+     * format of this factory
+     */
+    public void parse(@NonNull File file, @NonNull Consumer<? super SdmxItem> consumer) throws IOException, XMLStreamException {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            XMLStreamReader reader = newReader(stream);
+            try {
+                if (!moveToDataSet(reader)) {
+                    throw new XMLStreamException("Missing DataSet in '" + file + "'");
+                }
+                parseDataSet(reader, consumer);
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    abstract public SdmxSource.@NonNull Type getType();
+
+    /**
+     * Reads the content of a DataSet element.
+     *
+     * @param reader a reader positioned on the start of the DataSet element
+     * @param consumer
+     * @throws XMLStreamException
+     */
+    abstract protected void parseDataSet(@NonNull XMLStreamReader reader, @NonNull Consumer<? super SdmxItem> consumer) throws XMLStreamException;
+
+    /**
+     * Guesses the type of a file by reading its first elements, up to the
+     * first child of the DataSet element.
+     *
+     * @param file
+     * @return the type or empty if the file doesn't have a DataSet element
+     * @throws IOException
+     * @throws XMLStreamException
+     */
+    @NonNull
+    public static Optional<SdmxSource.Type> probe(@NonNull File file) throws IOException, XMLStreamException {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            XMLStreamReader reader = newReader(stream);
+            try {
+                if (!moveToDataSet(reader)) {
+                    return Optional.empty();
+                }
+                return Optional.of(nextChild(reader) && KEY_FAMILY_REF.equals(reader.getLocalName())
+                        ? SdmxSource.Type.GENERIC
+                        : SdmxSource.Type.COMPACT);
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    static final String KEY_FAMILY_REF = "KeyFamilyRef";
+
+    private static XMLStreamReader newReader(InputStream stream) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory.createXMLStreamReader(stream);
+    }
+
+    private static boolean moveToDataSet(XMLStreamReader reader) throws XMLStreamException {
+        if (reader.nextTag() != XMLStreamReader.START_ELEMENT) {
+            return false;
+        }
+        while (nextChild(reader)) {
+            if ("DataSet".equals(reader.getLocalName())) {
+                return true;
+            }
+            skip(reader);
+        }
+        return false;
+    }
+
+    /**
+     * Moves to the start of the next child of the current element.
+     *
+     * @param reader a reader positioned on the start of the parent or on the
+     * end of a previous child
+     * @return true if a child has been found, false if the reader is on the
+     * end of the parent
+     * @throws XMLStreamException
+     */
+    static boolean nextChild(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamReader.START_ELEMENT:
+                    return true;
+                case XMLStreamReader.END_ELEMENT:
+                    return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves to the end of the current element.
+     *
+     * @param reader a reader positioned on the start of an element
+     * @throws XMLStreamException
+     */
+    static void skip(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamReader.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamReader.END_ELEMENT:
+                    depth--;
+                    break;
+            }
+        }
+    }
+    //</editor-fold>
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSeries;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import ec.tss.tsproviders.utils.DataFormat;
+import ec.tss.tsproviders.utils.IParser;
+import ec.tss.tsproviders.utils.ObsGathering;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming counterpart of {@link GuessingCompactFactory}.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public class CompactStaxFactory extends AbstractStaxFactory {
+
+    @Override
+    public String getName() {
+        return "Compact stax";
+    }
+
+    @Override
+    public SdmxSource.Type getType() {
+        return SdmxSource.Type.COMPACT;
+    }
+
+    @Override
+    protected void parseDataSet(XMLStreamReader reader, Consumer<? super SdmxItem> consumer) throws XMLStreamException {
+        Calendar cal = new GregorianCalendar();
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case KEY_FAMILY_REF:
+                    throw new XMLStreamException("Can't use this factory for this file");
+                case "Series":
+                    consumer.accept(getSdmxSeries(reader, cal));
+                    break;
+                default:
+                    skip(reader);
+            }
+        }
+    }
+
+    private static SdmxSeries getSdmxSeries(XMLStreamReader reader, Calendar cal) throws XMLStreamException {
+        // sorted by name, as in a DOM
+        Map<String, String> attributes = new TreeMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String name = prefix == null || prefix.isEmpty() ? reader.getAttributeLocalName(i) : prefix + ":" + reader.getAttributeLocalName(i);
+            attributes.put(name, reader.getAttributeValue(i));
+        }
+        ImmutableList<Map.Entry<String, String>> key = attributes.entrySet().stream()
+                .filter(o -> !TIME_FORMAT_ATTRIBUTE.equals(o.getKey()))
+                .map(o -> Maps.immutableEntry(o.getKey(), o.getValue()))
+                .collect(ImmutableList.toImmutableList());
+        TimeFormat timeFormat = getTimeFormat(attributes);
+        OptionalTsData data = getData(reader, timeFormat, cal);
+        return new SdmxSeries(key, ImmutableList.of(), timeFormat, data);
+    }
+
+    private static OptionalTsData getData(XMLStreamReader reader, TimeFormat timeFormat, Calendar cal) throws XMLStreamException {
+        IParser<Date> toPeriod = timeFormat.getParser();
+        IParser<Number> toValue = DEFAULT_DATA_FORMAT.numberParser();
+        ObsGathering gathering = ObsGathering.includingMissingValues(timeFormat.getFrequency(), timeFormat.getAggregationType());
+        OptionalTsData.Builder2<Date> result = OptionalTsData.builderByDate(cal, gathering);
+        while (nextChild(reader)) {
+            if ("Obs".equals(reader.getLocalName())) {
+                String period = reader.getAttributeValue(null, TIME_PERIOD_ATTRIBUTE);
+                String value = reader.getAttributeValue(null, OBS_VALUE_ATTRIBUTE);
+                result.add(period != null ? toPeriod.parse(period) : null, value != null ? toValue.parse(value) : null);
+            }
+            skip(reader);
+        }
+        return result.build();
+    }
+
+    private static TimeFormat getTimeFormat(Map<String, String> attributes) {
+        String value;
+
+        value = attributes.get(TIME_FORMAT_ATTRIBUTE);
+        if (value != null) {
+            return TimeFormat.parseByTimeFormat(value);
+        }
+
+        value = attributes.get(FREQ_ATTRIBUTE);
+        if (value != null) {
+            return TimeFormat.parseByFrequencyCodeId(value);
+        }
+
+        return TimeFormat.UNDEFINED;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Resources">
+    private static final String TIME_FORMAT_ATTRIBUTE = "TIME_FORMAT";
+    private static final String FREQ_ATTRIBUTE = "FREQ";
+    private static final String TIME_PERIOD_ATTRIBUTE = "TIME_PERIOD";
+    private static final String OBS_VALUE_ATTRIBUTE = "OBS_VALUE";
+
+    private static final DataFormat DEFAULT_DATA_FORMAT = DataFormat.ROOT;
+    //</editor-fold>
+}
@@ -20,8 +20,7 @@ import com.google.common.base.Strings;
 import ec.tss.tsproviders.sdmx.model.SdmxSource;
 import java.io.File;
 import java.io.IOException;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import java.util.Optional;
 import org.w3c.dom.Document;
 
 /**
@@ -32,6 +31,8 @@ public class CunningPlanFactory implements ISdmxSourceFactory {
 
     public static final String NAME = "Cunning plan";
     final AbstractDocumentFactory[] strategies = {new GenericDocFactory(), new GuessingCompactFactory()};
+    final AbstractStaxFactory generic = new GenericStaxFactory();
+    final AbstractStaxFactory compact = new CompactStaxFactory();
 
     @Override
     public String getName() {
@@ -40,12 +41,12 @@ public class CunningPlanFactory implements ISdmxSourceFactory {
 
     @Override
     public SdmxSource create(File file) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        Document doc = builder.parse(file);
-        doc.getDocumentElement().normalize();
-        return find(doc).create(doc);
+        // the type is guessed from the first elements and the file is streamed once
+        Optional<SdmxSource.Type> type = AbstractStaxFactory.probe(file);
+        if (!type.isPresent()) {
+            throw new IOException("Cannot find a suitable SDMX strategy for '" + file.toURI() + "'");
+        }
+        return (type.get() == SdmxSource.Type.GENERIC ? generic : compact).create(file);
     }
 
     public AbstractDocumentFactory find(Document doc) throws IOException {
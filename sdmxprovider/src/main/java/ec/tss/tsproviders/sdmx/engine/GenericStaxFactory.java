@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import ec.tss.tsproviders.sdmx.model.SdmxGroup;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSeries;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import ec.tss.tsproviders.utils.DataFormat;
+import ec.tss.tsproviders.utils.IParser;
+import ec.tss.tsproviders.utils.ObsGathering;
+import ec.tss.tsproviders.utils.OptionalTsData;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming counterpart of {@link GenericDocFactory}.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public class GenericStaxFactory extends AbstractStaxFactory {
+
+    @Override
+    public String getName() {
+        return "Generic stax";
+    }
+
+    @Override
+    public SdmxSource.Type getType() {
+        return SdmxSource.Type.GENERIC;
+    }
+
+    @Override
+    protected void parseDataSet(XMLStreamReader reader, Consumer<? super SdmxItem> consumer) throws XMLStreamException {
+        if (!nextChild(reader) || !KEY_FAMILY_REF.equals(reader.getLocalName())) {
+            throw new XMLStreamException("Can't use this factory for this file");
+        }
+        skip(reader);
+        Calendar cal = new GregorianCalendar();
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "Group":
+                    consumer.accept(getSdmxGroup(reader, cal));
+                    break;
+                case "Series":
+                    consumer.accept(getSdmxSeries(reader, o -> true, cal));
+                    break;
+                default:
+                    skip(reader);
+            }
+        }
+    }
+
+    private static SdmxGroup getSdmxGroup(XMLStreamReader reader, Calendar cal) throws XMLStreamException {
+        ImmutableList<Map.Entry<String, String>> key = ImmutableList.of();
+        ImmutableList<Map.Entry<String, String>> attributes = ImmutableList.of();
+        ImmutableList.Builder<SdmxSeries> tss = ImmutableList.builder();
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "GroupKey":
+                    key = getConcepts(reader).build();
+                    break;
+                case "Attributes":
+                    attributes = getConcepts(reader).build();
+                    break;
+                case "Series":
+                    ImmutableList<Map.Entry<String, String>> groupKey = key;
+                    tss.add(getSdmxSeries(reader, o -> !groupKey.contains(o), cal));
+                    break;
+                default:
+                    skip(reader);
+            }
+        }
+        return new SdmxGroup(key, attributes, tss.build());
+    }
+
+    private static SdmxSeries getSdmxSeries(XMLStreamReader reader, Predicate<Map.Entry<String, String>> keyFilter, Calendar cal) throws XMLStreamException {
+        ImmutableList.Builder<Map.Entry<String, String>> key = ImmutableList.builder();
+        ImmutableList.Builder<Map.Entry<String, String>> attributes = ImmutableList.builder();
+        // the concepts are defined before the observations
+        Map<String, String> concepts = Maps.newHashMap();
+        TimeFormat timeFormat = null;
+        OptionalTsData.Builder2<Date> data = null;
+        IParser<Date> toPeriod = null;
+        IParser<Number> toValue = DEFAULT_DATA_FORMAT.numberParser();
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "SeriesKey":
+                    addConcepts(getConcepts(reader).build(), keyFilter, key, concepts);
+                    break;
+                case "Attributes":
+                    addConcepts(getConcepts(reader).build(), keyFilter, attributes, concepts);
+                    break;
+                case "Obs":
+                    if (data == null) {
+                        timeFormat = getTimeFormat(concepts);
+                        toPeriod = timeFormat.getParser();
+                        data = newDataBuilder(timeFormat, cal);
+                    }
+                    addObs(reader, toPeriod, toValue, data);
+                    break;
+                default:
+                    skip(reader);
+            }
+        }
+        if (data == null) {
+            timeFormat = getTimeFormat(concepts);
+            data = newDataBuilder(timeFormat, cal);
+        }
+        return new SdmxSeries(key.build(), attributes.build(), timeFormat, data.build());
+    }
+
+    private static void addConcepts(ImmutableList<Map.Entry<String, String>> list, Predicate<Map.Entry<String, String>> keyFilter, ImmutableList.Builder<Map.Entry<String, String>> result, Map<String, String> concepts) {
+        for (Map.Entry<String, String> o : list) {
+            concepts.put(o.getKey(), o.getValue());
+            if (keyFilter.test(o)) {
+                result.add(o);
+            }
+        }
+    }
+
+    private static OptionalTsData.Builder2<Date> newDataBuilder(TimeFormat timeFormat, Calendar cal) {
+        ObsGathering gathering = ObsGathering.includingMissingValues(timeFormat.getFrequency(), timeFormat.getAggregationType());
+        return OptionalTsData.builderByDate(cal, gathering);
+    }
+
+    private static void addObs(XMLStreamReader reader, IParser<Date> toPeriod, IParser<Number> toValue, OptionalTsData.Builder2<Date> data) throws XMLStreamException {
+        String period = null;
+        String value = null;
+        while (nextChild(reader)) {
+            switch (reader.getLocalName()) {
+                case "Time":
+                    period = reader.getElementText();
+                    break;
+                case "ObsValue":
+                    value = reader.getAttributeValue(null, VALUE_ATTRIBUTE);
+                    skip(reader);
+                    break;
+                default:
+                    skip(reader);
+            }
+        }
+        data.add(period != null ? toPeriod.parse(period) : null, value != null ? toValue.parse(value) : null);
+    }
+
+    private static TimeFormat getTimeFormat(Map<String, String> concepts) {
+        String value;
+
+        value = concepts.get("TIME_FORMAT");
+        if (value != null) {
+            return TimeFormat.parseByTimeFormat(value);
+        }
+
+        value = concepts.get("FREQ");
+        if (value != null) {
+            return TimeFormat.parseByFrequencyCodeId(value);
+        }
+
+        return TimeFormat.UNDEFINED;
+    }
+
+    private static ImmutableList.Builder<Map.Entry<String, String>> getConcepts(XMLStreamReader reader) throws XMLStreamException {
+        ImmutableList.Builder<Map.Entry<String, String>> result = ImmutableList.builder();
+        while (nextChild(reader)) {
+            if ("Value".equals(reader.getLocalName())) {
+                result.add(Maps.immutableEntry(reader.getAttributeValue(null, CONCEPT_ATTRIBUTE), reader.getAttributeValue(null, VALUE_ATTRIBUTE)));
+            }
+            skip(reader);
+        }
+        return result;
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Resources">
+    private static final String CONCEPT_ATTRIBUTE = "concept";
+    private static final String VALUE_ATTRIBUTE = "value";
+
+    private static final DataFormat DEFAULT_DATA_FORMAT = DataFormat.ROOT;
+    //</editor-fold>
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import static ec.tss.tsproviders.sdmx.engine.Utils.assertSameContent;
+import static ec.tss.tsproviders.sdmx.engine.Utils.file;
+import static ec.tss.tsproviders.sdmx.engine.Utils.load;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import javax.xml.stream.XMLStreamException;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class CompactStaxFactoryTest {
+
+    @Test
+    public void testCreate() throws Exception {
+        SdmxSource expected = new GuessingCompactFactory().create(load("/sdmx-compact-sample.xml"));
+        assertSameContent(expected, new CompactStaxFactory().create(file("/sdmx-compact-sample.xml")));
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testInvalidFormat() throws Exception {
+        new CompactStaxFactory().create(file("/sdmx-generic-sample.xml"));
+    }
+
+    @Test
+    public void testCunningPlan() throws Exception {
+        SdmxSource expected = new GuessingCompactFactory().create(load("/sdmx-compact-sample.xml"));
+        assertSameContent(expected, new CunningPlanFactory().create(file("/sdmx-compact-sample.xml")));
+    }
+}
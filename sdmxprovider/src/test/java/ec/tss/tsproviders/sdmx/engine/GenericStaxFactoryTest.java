@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved 
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software 
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and 
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.sdmx.engine;
+
+import static ec.tss.tsproviders.sdmx.engine.Utils.assertSameContent;
+import static ec.tss.tsproviders.sdmx.engine.Utils.file;
+import static ec.tss.tsproviders.sdmx.engine.Utils.load;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author agent
+ */
+public class GenericStaxFactoryTest {
+
+    @Test
+    public void testCreate() throws Exception {
+        for (String name : new String[]{"/sdmx-generic-sample.xml", "generic-P1Y.xml", "generic-P1M.xml"}) {
+            SdmxSource expected = new GenericDocFactory().create(load(name));
+            assertSameContent(expected, new GenericStaxFactory().create(file(name)));
+        }
+    }
+
+    @Test
+    public void testParse() throws Exception {
+        List<SdmxItem> items = new ArrayList<>();
+        new GenericStaxFactory().parse(file("generic-P1Y.xml"), items::add);
+        assertEquals(3, items.size());
+    }
+
+    @Test(expected = XMLStreamException.class)
+    public void testInvalidFormat() throws Exception {
+        new GenericStaxFactory().create(file("/sdmx-compact-sample.xml"));
+    }
+
+    @Test
+    public void testProbe() throws Exception {
+        assertEquals(SdmxSource.Type.GENERIC, AbstractStaxFactory.probe(file("/sdmx-generic-sample.xml")).get());
+        assertEquals(SdmxSource.Type.GENERIC, AbstractStaxFactory.probe(file("generic-P1M.xml")).get());
+        assertEquals(SdmxSource.Type.COMPACT, AbstractStaxFactory.probe(file("/sdmx-compact-sample.xml")).get());
+    }
+
+    @Test
+    public void testCunningPlan() throws Exception {
+        SdmxSource expected = new GenericDocFactory().create(load("/sdmx-generic-sample.xml"));
+        assertSameContent(expected, new CunningPlanFactory().create(file("/sdmx-generic-sample.xml")));
+    }
+}
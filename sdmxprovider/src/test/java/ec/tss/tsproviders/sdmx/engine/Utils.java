@@ -16,9 +16,18 @@
  */
 package ec.tss.tsproviders.sdmx.engine;
 
+import ec.tss.tsproviders.sdmx.model.SdmxGroup;
+import ec.tss.tsproviders.sdmx.model.SdmxItem;
+import ec.tss.tsproviders.sdmx.model.SdmxSeries;
+import ec.tss.tsproviders.sdmx.model.SdmxSource;
+import java.io.File;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import static org.junit.Assert.assertEquals;
 import org.w3c.dom.Document;
 
 /**
@@ -35,6 +44,39 @@ final class Utils {
         return load(Utils.class.getResourceAsStream(name));
     }
 
+    static File file(String name) throws Exception {
+        return new File(Utils.class.getResource(name).toURI());
+    }
+
+    static void assertSameContent(SdmxSource expected, SdmxSource actual) {
+        assertEquals(expected.type, actual.type);
+        assertEquals(expected.items.size(), actual.items.size());
+        for (int i = 0; i < expected.items.size(); i++) {
+            assertSameContent(expected.items.get(i), actual.items.get(i));
+        }
+    }
+
+    private static void assertSameContent(SdmxItem expected, SdmxItem actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.id, actual.id);
+        assertEquals(toString(expected.key), toString(actual.key));
+        assertEquals(toString(expected.attributes), toString(actual.attributes));
+        if (expected instanceof SdmxSeries) {
+            assertEquals(((SdmxSeries) expected).timeFormat, ((SdmxSeries) actual).timeFormat);
+            assertEquals(((SdmxSeries) expected).data, ((SdmxSeries) actual).data);
+        } else {
+            SdmxGroup x = (SdmxGroup) expected, y = (SdmxGroup) actual;
+            assertEquals(x.series.size(), y.series.size());
+            for (int i = 0; i < x.series.size(); i++) {
+                assertSameContent(x.series.get(i), y.series.get(i));
+            }
+        }
+    }
+
+    private static List<String> toString(List<? extends Map.Entry<String, String>> entries) {
+        return entries.stream().map(o -> o.getKey() + "=" + o.getValue()).collect(Collectors.toList());
+    }
+
     static Document load(InputStream is) throws Exception {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         factory.setNamespaceAware(true);
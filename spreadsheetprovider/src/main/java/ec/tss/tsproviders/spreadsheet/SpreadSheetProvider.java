@@ -29,6 +29,7 @@ import ec.tss.tsproviders.spreadsheet.engine.SpreadSheetCollection;
 import ec.tss.tsproviders.spreadsheet.engine.SpreadSheetSeries;
 import ec.tss.tsproviders.spreadsheet.engine.SpreadSheetSource;
 import ec.tss.tsproviders.spreadsheet.engine.TsImportOptions;
+import ec.tss.tsproviders.spreadsheet.xlsx.StreamingExcelBookFactory;
 import ec.tss.tsproviders.utils.*;
 import ec.tstoolkit.timeseries.simplets.TsFrequency;
 import ec.util.spreadsheet.Book;
@@ -57,11 +58,38 @@ public class SpreadSheetProvider extends AbstractFileLoader<SpreadSheetSource, S
     private static final Logger LOGGER = LoggerFactory.getLogger(SpreadSheetProvider.class);
     protected final Parsers.Parser<DataSource> legacyDataSourceParser;
     protected final Parsers.Parser<DataSet> legacyDataSetParser;
+    protected final Book.Factory streamingFactory;
+    private volatile boolean streaming;
 
     public SpreadSheetProvider() {
         super(LOGGER, SOURCE, TsAsyncMode.Once);
         this.legacyDataSourceParser = SpreadSheetLegacy.legacyDataSourceParser();
         this.legacyDataSetParser = SpreadSheetLegacy.legacyDataSetParser();
+        this.streamingFactory = new StreamingExcelBookFactory();
+        this.streaming = false;
+    }
+
+    /**
+     * Checks if xlsx files are parsed lazily, sheet by sheet, instead of being
+     * loaded at once by the factories of spreadsheet4j.
+     *
+     * @return false by default
+     * @since 2.2.3
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Enables or disables the streaming of xlsx files (see
+     * {@link StreamingExcelBookFactory}). The change only applies to the
+     * sources that are loaded afterwards.
+     *
+     * @param streaming
+     * @since 2.2.3
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
     }
 
     @Override
@@ -300,6 +328,9 @@ public class SpreadSheetProvider extends AbstractFileLoader<SpreadSheetSource, S
     }
 
     private Book.@Nullable Factory getFactoryByFile(@NonNull File file) {
+        if (streaming && streamingFactory.accept(file)) {
+            return streamingFactory;
+        }
         for (Book.Factory o : BookFactoryLoader.get()) {
             if (o.canLoad() && o.accept(file)) {
                 return o;
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.spreadsheet.xlsx;
+
+import ec.util.spreadsheet.Book;
+import ec.util.spreadsheet.Sheet;
+import ec.util.spreadsheet.helpers.ArraySheet;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * A factory of read-only xlsx books that are parsed with SAX instead of being
+ * loaded in a workbook model. Opening a book only reads the list of its
+ * sheets, the shared strings and the styles; each sheet is parsed on demand
+ * (see {@link Book#getSheet(int)}), independently of the others, so that
+ * several sheets can be parsed in parallel and only the requested sheets are
+ * kept in memory.
+ *
+ * @author agent
+ * @since 2.2.3
+ */
+public class StreamingExcelBookFactory extends Book.Factory {
+
+    @Override
+    public String getName() {
+        return "Excel (streaming)";
+    }
+
+    @Override
+    public boolean accept(File pathname) {
+        String name = pathname.getName().toLowerCase(Locale.ROOT);
+        return name.endsWith(".xlsx") || name.endsWith(".xlsm");
+    }
+
+    @Override
+    public Book load(File file) throws IOException {
+        try {
+            return new StreamingBook(OPCPackage.open(file, PackageAccess.READ));
+        } catch (OpenXML4JException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Loads a book from a stream. Note that the whole package is read in memory
+     * (but not parsed); loading a file should be preferred.
+     *
+     * @param stream
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public Book load(InputStream stream) throws IOException {
+        try {
+            return new StreamingBook(OPCPackage.open(stream));
+        } catch (OpenXML4JException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    @Override
+    public boolean canStore() {
+        return false;
+    }
+
+    @Override
+    public void store(OutputStream stream, Book book) throws IOException {
+        throw new IOException("Not supported");
+    }
+
+    //<editor-fold defaultstate="collapsed" desc="Implementation details">
+    private static final class StreamingBook extends Book {
+
+        private final OPCPackage pkg;
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final boolean[] dateStyles;
+        private final boolean date1904;
+        private final List<String> sheetNames;
+        private final List<PackagePart> sheetParts;
+        private final SAXParserFactory saxFactory;
+
+        StreamingBook(OPCPackage pkg) throws IOException, OpenXML4JException {
+            this.pkg = pkg;
+            try {
+                XSSFReader reader = new XSSFReader(pkg);
+                // phonetic runs are not part of the text of a cell
+                this.sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+                this.dateStyles = getDateStyles(reader.getStylesTable());
+                this.saxFactory = SAXParserFactory.newInstance();
+                saxFactory.setNamespaceAware(true);
+                saxFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+                try (InputStream stream = reader.getWorkbookData()) {
+                    this.date1904 = isDate1904(saxFactory, stream);
+                }
+                this.sheetNames = new ArrayList<>();
+                this.sheetParts = new ArrayList<>();
+                XSSFReader.SheetIterator iter = (XSSFReader.SheetIterator) reader.getSheetsData();
+                while (iter.hasNext()) {
+                    iter.next().close();
+                    sheetNames.add(iter.getSheetName());
+                    sheetParts.add(iter.getSheetPart());
+                }
+            } catch (SAXException | ParserConfigurationException ex) {
+                pkg.revert();
+                throw new IOException(ex);
+            } catch (IOException | OpenXML4JException | RuntimeException ex) {
+                pkg.revert();
+                throw ex;
+            }
+        }
+
+        @Override
+        public int getSheetCount() {
+            return sheetParts.size();
+        }
+
+        @Override
+        public String getSheetName(int index) throws IndexOutOfBoundsException {
+            return sheetNames.get(index);
+        }
+
+        /**
+         * Parses a sheet. This method is thread-safe; each call parses the
+         * sheet again.
+         */
+        @Override
+        public Sheet getSheet(int index) throws IOException, IndexOutOfBoundsException {
+            PackagePart part = sheetParts.get(index);
+            SheetHandler handler = new SheetHandler(sheetNames.get(index), sharedStrings, dateStyles, date1904);
+            try (InputStream stream = getInputStream(part)) {
+                XMLReader reader = saxFactory.newSAXParser().getXMLReader();
+                reader.setContentHandler(handler);
+                reader.parse(new InputSource(stream));
+            } catch (SAXException | ParserConfigurationException ex) {
+                throw new IOException("Cannot parse sheet '" + sheetNames.get(index) + "'", ex);
+            }
+            return handler.build();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // read-only: nothing to save
+            pkg.revert();
+        }
+
+        private InputStream getInputStream(PackagePart part) throws IOException {
+            synchronized (pkg) {
+                return part.getInputStream();
+            }
+        }
+
+        private static boolean[] getDateStyles(StylesTable styles) {
+            boolean[] result = new boolean[styles.getNumCellStyles()];
+            for (int i = 0; i < result.length; i++) {
+                XSSFCellStyle style = styles.getStyleAt(i);
+                result[i] = style != null && DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+            }
+            return result;
+        }
+
+        private static boolean isDate1904(SAXParserFactory factory, InputStream stream) throws IOException, SAXException, ParserConfigurationException {
+            boolean[] result = {false};
+            XMLReader reader = factory.newSAXParser().getXMLReader();
+            reader.setContentHandler(new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    if ("workbookPr".equals(localName)) {
+                        String value = attributes.getValue("date1904");
+                        result[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                }
+            });
+            reader.parse(new InputSource(stream));
+            return result[0];
+        }
+    }
+
+    /**
+     * Collects the values of the cells of a worksheet part.
+     */
+    private static final class SheetHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final boolean[] dateStyles;
+        private final boolean date1904;
+        private final ArraySheet.Builder result;
+        private final StringBuilder text;
+        private int rowIdx;
+        private int columnIdx;
+        private String cellType;
+        private int cellStyle;
+        private boolean inValue;
+        private int phoneticDepth;
+
+        SheetHandler(String name, ReadOnlySharedStringsTable sharedStrings, boolean[] dateStyles, boolean date1904) {
+            this.sharedStrings = sharedStrings;
+            this.dateStyles = dateStyles;
+            this.date1904 = date1904;
+            this.result = ArraySheet.builder().name(name);
+            this.text = new StringBuilder();
+            this.rowIdx = -1;
+            this.columnIdx = -1;
+            this.inValue = false;
+            this.phoneticDepth = 0;
+        }
+
+        ArraySheet build() {
+            return result.build();
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row": {
+                    String ref = attributes.getValue("r");
+                    rowIdx = ref != null ? Integer.parseInt(ref) - 1 : rowIdx + 1;
+                    columnIdx = -1;
+                    break;
+                }
+                case "c": {
+                    String ref = attributes.getValue("r");
+                    columnIdx = ref != null ? new CellReference(ref).getCol() : columnIdx + 1;
+                    cellType = attributes.getValue("t");
+                    String style = attributes.getValue("s");
+                    // the default style of Excel is the first one
+                    cellStyle = style != null ? Integer.parseInt(style) : 0;
+                    text.setLength(0);
+                    break;
+                }
+                case "rPh":
+                    phoneticDepth++;
+                    break;
+                case "v":
+                case "t":
+                    inValue = phoneticDepth == 0;
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "rPh":
+                    phoneticDepth--;
+                    break;
+                case "v":
+                case "t":
+                    inValue = false;
+                    break;
+                case "c":
+                    Object value = getValue();
+                    if (value != null) {
+                        result.value(rowIdx, columnIdx, value);
+                    }
+                    break;
+            }
+        }
+
+        private Object getValue() {
+            if (text.length() == 0) {
+                return null;
+            }
+            String content = text.toString();
+            if (cellType == null || "n".equals(cellType)) {
+                double number = Double.parseDouble(content);
+                if (cellStyle >= 0 && cellStyle < dateStyles.length && dateStyles[cellStyle] && DateUtil.isValidExcelDate(number)) {
+                    return DateUtil.getJavaDate(number, date1904);
+                }
+                return number;
+            }
+            switch (cellType) {
+                case "s":
+                    return sharedStrings.getItemAt(Integer.parseInt(content)).getString();
+                case "inlineStr":
+                case "str":
+                    return content;
+                case "b":
+                    return "1".equals(content) || "true".equalsIgnoreCase(content);
+                default:
+                    // errors
+                    return null;
+            }
+        }
+    }
+    //</editor-fold>
+}
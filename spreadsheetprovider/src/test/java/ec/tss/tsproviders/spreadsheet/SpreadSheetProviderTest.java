@@ -123,6 +123,24 @@ public class SpreadSheetProviderTest {
         }
     }
 
+    @Test
+    public void testStreaming() {
+        try (SpreadSheetProvider cold = new SpreadSheetProvider(); SpreadSheetProvider streaming = new SpreadSheetProvider()) {
+            assertThat(streaming.isStreaming()).isFalse();
+            streaming.setStreaming(true);
+            DataSource dataSource = cold.encodeBean(getSampleBean(cold));
+            TsCollectionInformation expected = new TsCollectionInformation(cold.toMoniker(dataSource), TsInformationType.All);
+            TsCollectionInformation actual = new TsCollectionInformation(streaming.toMoniker(dataSource), TsInformationType.All);
+            assertThat(cold.get(expected)).isTrue();
+            assertThat(streaming.get(actual)).isTrue();
+            assertThat(actual.items).hasSameSizeAs(expected.items);
+            for (int i = 0; i < expected.items.size(); i++) {
+                assertThat(actual.items.get(i).name).isEqualTo(expected.items.get(i).name);
+                assertThat(actual.items.get(i).data).isEqualTo(expected.items.get(i).data);
+            }
+        }
+    }
+
     static final URL SAMPLE = SpreadSheetProviderTest.class.getResource("/Top5Browsers.xlsx");
     static final double[] VALUES = {0.0, 0.0, 1.03, 1.02, 0.93, 1.21, 1.38, 1.52, 1.73, 2.07, 2.42, 2.82, 3.01, 3.38, 3.69, 4.17, 4.66, 5.45, 6.04, 6.72, 7.29, 8.06, 8.61, 9.24, 9.88, 10.76, 11.54, 12.39, 13.35, 14.85, 15.68, 16.54, 17.37, 18.29, 19.36, 20.65, 22.14, 23.16, 23.61, 25.0, 25.65};
 
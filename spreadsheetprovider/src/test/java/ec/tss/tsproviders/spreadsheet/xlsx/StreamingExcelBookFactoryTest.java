@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 National Bank of Belgium
+ *
+ * Licensed under the EUPL, Version 1.1 or – as soon they will be approved
+ * by the European Commission - subsequent versions of the EUPL (the "Licence");
+ * You may not use this work except in compliance with the Licence.
+ * You may obtain a copy of the Licence at:
+ *
+ * http://ec.europa.eu/idabc/eupl
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the Licence is distributed on an "AS IS" basis,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the Licence for the specific language governing permissions and
+ * limitations under the Licence.
+ */
+package ec.tss.tsproviders.spreadsheet.xlsx;
+
+import ec.tss.tsproviders.IFileLoaderAssert;
+import ec.util.spreadsheet.Book;
+import ec.util.spreadsheet.Cell;
+import ec.util.spreadsheet.Sheet;
+import ec.util.spreadsheet.poi.ExcelBookFactory;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author agent
+ */
+public class StreamingExcelBookFactoryTest {
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testSample() throws IOException {
+        File file = IFileLoaderAssert.urlAsFile(StreamingExcelBookFactoryTest.class.getResource("/Top5Browsers.xlsx"));
+        assertSameContent(file);
+    }
+
+    @Test
+    public void testCellTypes() throws IOException {
+        File file = temp.newFile("cells.xlsx");
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            CellStyle dateStyle = wb.createCellStyle();
+            dateStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            org.apache.poi.ss.usermodel.Sheet sheet = wb.createSheet("first");
+            Row row = sheet.createRow(0);
+            row.createCell(0).setCellValue("text");
+            row.createCell(1).setCellValue(3.14);
+            row.createCell(2).setCellValue(true);
+            org.apache.poi.ss.usermodel.Cell date = row.createCell(4);
+            date.setCellValue(new Date(0));
+            date.setCellStyle(dateStyle);
+            wb.createSheet("empty");
+            try (OutputStream stream = new FileOutputStream(file)) {
+                wb.write(stream);
+            }
+        }
+        assertSameContent(file);
+    }
+
+    @Test
+    public void testAccept() {
+        StreamingExcelBookFactory factory = new StreamingExcelBookFactory();
+        assertThat(factory.accept(new File("test.xlsx"))).isTrue();
+        assertThat(factory.accept(new File("TEST.XLSM"))).isTrue();
+        assertThat(factory.accept(new File("test.xls"))).isFalse();
+        assertThat(factory.canStore()).isFalse();
+    }
+
+    private static void assertSameContent(File file) throws IOException {
+        try (Book expected = new ExcelBookFactory().load(file);
+                Book actual = new StreamingExcelBookFactory().load(file)) {
+            assertThat(actual.getSheetCount()).isEqualTo(expected.getSheetCount());
+            for (int s = 0; s < expected.getSheetCount(); s++) {
+                Sheet x = expected.getSheet(s);
+                Sheet y = actual.getSheet(s);
+                assertThat(actual.getSheetName(s)).isEqualTo(expected.getSheetName(s));
+                assertThat(y.getName()).isEqualTo(x.getName());
+                assertThat(y.getRowCount()).isEqualTo(x.getRowCount());
+                assertThat(y.getColumnCount()).isEqualTo(x.getColumnCount());
+                for (int i = 0; i < x.getRowCount(); i++) {
+                    for (int j = 0; j < x.getColumnCount(); j++) {
+                        assertSameCell(y.getCell(i, j), x.getCell(i, j));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertSameCell(Cell actual, Cell expected) {
+        if (expected == null || !(expected.isDate() || expected.isNumber() || expected.isString())) {
+            assertThat(actual == null || !(actual.isDate() || actual.isNumber() || actual.isString())).isTrue();
+            return;
+        }
+        assertThat(actual).isNotNull();
+        assertThat(actual.isDate()).isEqualTo(expected.isDate());
+        assertThat(actual.isNumber()).isEqualTo(expected.isNumber());
+        assertThat(actual.isString()).isEqualTo(expected.isString());
+        if (expected.isDate()) {
+            assertThat(actual.getDate()).isEqualTo(expected.getDate());
+        } else if (expected.isNumber()) {
+            assertThat(actual.getNumber().doubleValue()).isEqualTo(expected.getNumber().doubleValue());
+        } else {
+            assertThat(actual.getString()).isEqualTo(expected.getString());
+        }
+    }
+}